@@ -69,6 +69,15 @@ public @interface SchemaDialect {
 	 */
 	String validationQuery() default Globals.DEFAULT_VALUE_STRING;
 
+	/**
+	 * <h4 class="en-US">Query command to read the replication lag of secondary server</h4>
+	 * <h4 class="zh-CN">读取从服务器复制延迟的查询命令</h4>
+	 *
+	 * @return <span class="en-US">Query command, the first column of the result is the replication lag (Unit: seconds)</span>
+	 * <span class="zh-CN">查询命令，结果的第一列为复制延迟（单位：秒）</span>
+	 */
+	String lagQuery() default Globals.DEFAULT_VALUE_STRING;
+
 	/**
 	 * <h4 class="en-US">Data type definition annotation array</h4>
 	 * <h4 class="zh-CN">数据类型定义注解数组</h4>
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.brain.balance;
+
+import org.nervousync.brain.enumerations.balance.CircuitState;
+import org.nervousync.commons.Globals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <h2 class="en-US">Circuit breaker of database server</h2>
+ * <p class="en-US">
+ *     The circuit opens when the consecutive connect or execute failures reached the threshold, requests to the
+ *     open server were rejected immediately instead of waiting for the connect timeout. After the open time,
+ *     only the background probe switches the circuit to half open and tries to establish a connection,
+ *     the circuit closes if the probe succeeded, otherwise opens again.
+ * </p>
+ * <h2 class="zh-CN">数据库服务器的断路器</h2>
+ * <p class="zh-CN">
+ *     连续的连接或执行失败次数达到阈值时断路器断开，发往断开服务器的请求将被立即拒绝，而不是等待连接超时。
+ *     断开时间过后，仅由后台探测将断路器切换为半开并尝试建立连接，探测成功时断路器闭合，否则再次断开。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 13:08:41 $
+ */
+public final class CircuitBreaker {
+
+	/**
+	 * <span class="en-US">Circuit state</span>
+	 * <span class="zh-CN">断路器状态</span>
+	 */
+	private final AtomicReference<CircuitState> circuitState = new AtomicReference<>(CircuitState.CLOSED);
+	/**
+	 * <span class="en-US">Number of consecutive failures</span>
+	 * <span class="zh-CN">连续失败次数</span>
+	 */
+	private final AtomicInteger failureCount = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+	/**
+	 * <span class="en-US">Timestamp of the circuit opened</span>
+	 * <span class="zh-CN">断路器断开的时间戳</span>
+	 */
+	private volatile long openedTime = 0L;
+
+	/**
+	 * <h4 class="en-US">Getter method for circuit state</h4>
+	 * <h4 class="zh-CN">断路器状态的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Circuit state</span>
+	 * <span class="zh-CN">断路器状态</span>
+	 */
+	public CircuitState getCircuitState() {
+		return this.circuitState.get();
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for number of consecutive failures</h4>
+	 * <h4 class="zh-CN">连续失败次数的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Number of consecutive failures</span>
+	 * <span class="zh-CN">连续失败次数</span>
+	 */
+	public int getFailureCount() {
+		return this.failureCount.get();
+	}
+
+	/**
+	 * <h4 class="en-US">Check the requests can be routed to the server</h4>
+	 * <h4 class="zh-CN">检查请求是否可以路由到服务器</h4>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	public boolean allowRequest() {
+		return CircuitState.CLOSED.equals(this.circuitState.get());
+	}
+
+	/**
+	 * <h4 class="en-US">Record a succeed request, the consecutive failures will be reset</h4>
+	 * <h4 class="zh-CN">记录成功的请求，连续失败次数将被重置</h4>
+	 */
+	public void recordSuccess() {
+		//  Read before write, avoid the cache line contention on the hot path
+		if (this.failureCount.get() > 0) {
+			this.failureCount.set(Globals.INITIALIZE_INT_VALUE);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Record a failed request</h4>
+	 * <h4 class="zh-CN">记录失败的请求</h4>
+	 *
+	 * @param currentTime <span class="en-US">Current time</span>
+	 *                    <span class="zh-CN">当前时间</span>
+	 * @param threshold   <span class="en-US">Consecutive failures threshold, 0 for disabled</span>
+	 *                    <span class="zh-CN">连续失败次数阈值，0为禁用</span>
+	 * @return <span class="en-US">The circuit was opened by current invocation</span>
+	 * <span class="zh-CN">断路器由本次调用断开</span>
+	 */
+	public boolean recordFailure(final long currentTime, final int threshold) {
+		if (threshold <= 0 || !this.allowRequest()) {
+			return Boolean.FALSE;
+		}
+		if (this.failureCount.incrementAndGet() >= threshold
+				&& this.circuitState.compareAndSet(CircuitState.CLOSED, CircuitState.OPEN)) {
+			this.openedTime = currentTime;
+			return Boolean.TRUE;
+		}
+		return Boolean.FALSE;
+	}
+
+	/**
+	 * <h4 class="en-US">Switch the open circuit to half open if the open time elapsed</h4>
+	 * <h4 class="zh-CN">断开时间已过时将断开的断路器切换为半开</h4>
+	 *
+	 * @param currentTime <span class="en-US">Current time</span>
+	 *                    <span class="zh-CN">当前时间</span>
+	 * @param openTime    <span class="en-US">Open time before probing (Unit: milliseconds)</span>
+	 *                    <span class="zh-CN">探测前的断开时间（单位：毫秒）</span>
+	 * @return <span class="en-US">Current invocation should probe the server</span>
+	 * <span class="zh-CN">本次调用应探测服务器</span>
+	 */
+	public boolean tryProbe(final long currentTime, final long openTime) {
+		return CircuitState.OPEN.equals(this.circuitState.get())
+				&& (currentTime - this.openedTime) >= openTime
+				&& this.circuitState.compareAndSet(CircuitState.OPEN, CircuitState.HALF_OPEN);
+	}
+
+	/**
+	 * <h4 class="en-US">Close the circuit</h4>
+	 * <h4 class="zh-CN">闭合断路器</h4>
+	 */
+	public void closeCircuit() {
+		this.failureCount.set(Globals.INITIALIZE_INT_VALUE);
+		this.circuitState.set(CircuitState.CLOSED);
+	}
+
+	/**
+	 * <h4 class="en-US">Open the circuit again after the probe failed</h4>
+	 * <h4 class="zh-CN">探测失败后再次断开断路器</h4>
+	 *
+	 * @param currentTime <span class="en-US">Current time</span>
+	 *                    <span class="zh-CN">当前时间</span>
+	 */
+	public void openCircuit(final long currentTime) {
+		this.openedTime = currentTime;
+		this.circuitState.set(CircuitState.OPEN);
+	}
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.brain.balance;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.List;
+
+/**
+ * <h2 class="en-US">Read routing strategy interface</h2>
+ * <h2 class="zh-CN">读取路由策略接口</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 11:35:20 $
+ */
+public interface LoadBalancer {
+
+	/**
+	 * <h4 class="en-US">Select the server for current request</h4>
+	 * <h4 class="zh-CN">为当前请求选择服务器</h4>
+	 *
+	 * @param candidates <span class="en-US">Candidate server statistics list, not empty</span>
+	 *                   <span class="zh-CN">候选服务器统计信息列表，不为空</span>
+	 * @return <span class="en-US">Selected server statistics</span>
+	 * <span class="zh-CN">选中的服务器统计信息</span>
+	 */
+	ServerStats select(@Nonnull final List<ServerStats> candidates);
+}
@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.brain.balance;
+
+import org.nervousync.brain.configs.server.ServerInfo;
+import org.nervousync.commons.Globals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <h2 class="en-US">Server statistics using for read routing</h2>
+ * <p class="en-US">
+ *     The statistics were fed by the connection pools, a request begins when a connection was borrowed and ends when
+ *     the connection was returned, so the latency includes the execute time of the statements.
+ * </p>
+ * <h2 class="zh-CN">用于读取路由的服务器统计信息</h2>
+ * <p class="zh-CN">
+ *     统计信息由连接池更新，请求在借出连接时开始、归还连接时结束，因此延迟包含语句的执行时间。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 11:31:47 $
+ */
+public final class ServerStats {
+
+	/**
+	 * <span class="en-US">Divisor of the EWMA smoothing factor, each sample contributes 1/8 of the latency</span>
+	 * <span class="zh-CN">指数加权移动平均平滑系数的除数，每个样本贡献1/8的延迟</span>
+	 */
+	private static final int EWMA_DIVISOR = 8;
+
+	/**
+	 * <span class="en-US">Server information, null if the JDBC connection string was used directly</span>
+	 * <span class="zh-CN">服务器信息，直接使用JDBC连接字符串时为null</span>
+	 */
+	private final ServerInfo serverInfo;
+	/**
+	 * <span class="en-US">Number of outstanding requests</span>
+	 * <span class="zh-CN">未完成的请求数</span>
+	 */
+	private final AtomicInteger outstanding = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+	/**
+	 * <span class="en-US">EWMA latency (Unit: nanoseconds)</span>
+	 * <span class="zh-CN">指数加权移动平均延迟（单位：纳秒）</span>
+	 */
+	private final AtomicLong latency = new AtomicLong(0L);
+	/**
+	 * <span class="en-US">Number of completed requests</span>
+	 * <span class="zh-CN">已完成的请求数</span>
+	 */
+	private final LongAdder requestCount = new LongAdder();
+	/**
+	 * <span class="en-US">Circuit breaker of the server</span>
+	 * <span class="zh-CN">服务器的断路器</span>
+	 */
+	private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+	/**
+	 * <span class="en-US">Replication lag of the last probe, <code>Globals.DEFAULT_VALUE_LONG</code> if unknown (Unit: milliseconds)</span>
+	 * <span class="zh-CN">最后一次探测的复制延迟，未知时为<code>Globals.DEFAULT_VALUE_LONG</code>（单位：毫秒）</span>
+	 */
+	private volatile long replicaLag = Globals.DEFAULT_VALUE_LONG;
+	/**
+	 * <span class="en-US">The data written before this time was replayed by the server, 0 if unknown</span>
+	 * <span class="zh-CN">此时间之前写入的数据已被服务器重放，未知时为0</span>
+	 */
+	private volatile long replayedTime = 0L;
+
+	/**
+	 * <h4 class="en-US">Constructor method for server statistics</h4>
+	 * <h4 class="zh-CN">服务器统计信息的构造方法</h4>
+	 *
+	 * @param serverInfo <span class="en-US">Server information, null if the JDBC connection string was used directly</span>
+	 *                   <span class="zh-CN">服务器信息，直接使用JDBC连接字符串时为null</span>
+	 */
+	public ServerStats(final ServerInfo serverInfo) {
+		this.serverInfo = serverInfo;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for server information</h4>
+	 * <h4 class="zh-CN">服务器信息的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Server information</span>
+	 * <span class="zh-CN">服务器信息</span>
+	 */
+	public ServerInfo getServerInfo() {
+		return this.serverInfo;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for circuit breaker</h4>
+	 * <h4 class="zh-CN">断路器的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Circuit breaker of the server</span>
+	 * <span class="zh-CN">服务器的断路器</span>
+	 */
+	public CircuitBreaker getCircuitBreaker() {
+		return this.circuitBreaker;
+	}
+
+	/**
+	 * <h4 class="en-US">Check the read requests can be routed to the server</h4>
+	 * <h4 class="zh-CN">检查读取请求是否可以路由到服务器</h4>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	public boolean available() {
+		return this.circuitBreaker.allowRequest();
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for replication lag</h4>
+	 * <h4 class="zh-CN">复制延迟的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Replication lag of the last probe, <code>Globals.DEFAULT_VALUE_LONG</code> if unknown (Unit: milliseconds)</span>
+	 * <span class="zh-CN">最后一次探测的复制延迟，未知时为<code>Globals.DEFAULT_VALUE_LONG</code>（单位：毫秒）</span>
+	 */
+	public long getReplicaLag() {
+		return this.replicaLag;
+	}
+
+	/**
+	 * <h4 class="en-US">Update the replication lag</h4>
+	 * <h4 class="zh-CN">更新复制延迟</h4>
+	 *
+	 * @param probeTime  <span class="en-US">Begin time of the probe</span>
+	 *                   <span class="zh-CN">探测的开始时间</span>
+	 * @param replicaLag <span class="en-US">Replication lag, <code>Globals.DEFAULT_VALUE_LONG</code> if the probe failed (Unit: milliseconds)</span>
+	 *                   <span class="zh-CN">复制延迟，探测失败时为<code>Globals.DEFAULT_VALUE_LONG</code>（单位：毫秒）</span>
+	 */
+	public void updateLag(final long probeTime, final long replicaLag) {
+		this.replicaLag = replicaLag;
+		this.replayedTime = (replicaLag < 0L) ? 0L : probeTime - replicaLag;
+	}
+
+	/**
+	 * <h4 class="en-US">Check the replication lag of the server is known and not greater than the given lag</h4>
+	 * <h4 class="zh-CN">检查服务器的复制延迟已知且不大于给定的延迟</h4>
+	 *
+	 * @param maxLag <span class="en-US">Maximum replication lag (Unit: milliseconds)</span>
+	 *               <span class="zh-CN">最大复制延迟（单位：毫秒）</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	public boolean lagWithin(final long maxLag) {
+		long currentLag = this.replicaLag;
+		return currentLag >= 0L && currentLag <= maxLag;
+	}
+
+	/**
+	 * <h4 class="en-US">Check the server was confirmed to replay the data written at the given time</h4>
+	 * <p class="en-US">
+	 *     The server has replayed the data written before the probe time minus the replication lag,
+	 *     the lag was measured after the probe began, so the check is conservative.
+	 * </p>
+	 * <h4 class="zh-CN">检查服务器已确认重放给定时间写入的数据</h4>
+	 * <p class="zh-CN">
+	 *     服务器已重放探测时间减去复制延迟之前写入的数据，延迟在探测开始后测量，因此检查结果是保守的。
+	 * </p>
+	 *
+	 * @param writeTime <span class="en-US">Write time</span>
+	 *                  <span class="zh-CN">写入时间</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	public boolean caughtUp(final long writeTime) {
+		return writeTime <= this.replayedTime;
+	}
+
+	/**
+	 * <h4 class="en-US">Routing weight of the server, using the server level and at least 1</h4>
+	 * <h4 class="zh-CN">服务器的路由权重，使用服务器等级且最小为1</h4>
+	 *
+	 * @return <span class="en-US">Routing weight</span>
+	 * <span class="zh-CN">路由权重</span>
+	 */
+	public int getWeight() {
+		return (this.serverInfo == null) ? 1 : Math.max(1, this.serverInfo.getServerLevel());
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for number of outstanding requests</h4>
+	 * <h4 class="zh-CN">未完成请求数的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Number of outstanding requests</span>
+	 * <span class="zh-CN">未完成的请求数</span>
+	 */
+	public int getOutstanding() {
+		return this.outstanding.get();
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for EWMA latency</h4>
+	 * <h4 class="zh-CN">指数加权移动平均延迟的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">EWMA latency, 0 if no request completed (Unit: nanoseconds)</span>
+	 * <span class="zh-CN">指数加权移动平均延迟，没有已完成的请求时为0（单位：纳秒）</span>
+	 */
+	public long getLatency() {
+		return this.latency.get();
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for number of completed requests</h4>
+	 * <h4 class="zh-CN">已完成请求数的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Number of completed requests</span>
+	 * <span class="zh-CN">已完成的请求数</span>
+	 */
+	public long getRequestCount() {
+		return this.requestCount.sum();
+	}
+
+	/**
+	 * <h4 class="en-US">Request begin</h4>
+	 * <h4 class="zh-CN">请求开始</h4>
+	 */
+	public void begin() {
+		this.outstanding.incrementAndGet();
+	}
+
+	/**
+	 * <h4 class="en-US">Request end</h4>
+	 * <h4 class="zh-CN">请求结束</h4>
+	 *
+	 * @param elapsedTime <span class="en-US">Elapsed time (Unit: nanoseconds)</span>
+	 *                    <span class="zh-CN">耗费时间（单位：纳秒）</span>
+	 */
+	public void end(final long elapsedTime) {
+		this.outstanding.decrementAndGet();
+		this.requestCount.increment();
+		this.latency.accumulateAndGet(elapsedTime,
+				(current, sample) -> (current == 0L) ? sample : current + (sample - current) / EWMA_DIVISOR);
+	}
+}
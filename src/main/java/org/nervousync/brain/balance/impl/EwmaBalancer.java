@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.brain.balance.impl;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.brain.balance.LoadBalancer;
+import org.nervousync.brain.balance.ServerStats;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <h2 class="en-US">Read routing strategy of power of two choices by EWMA latency</h2>
+ * <p class="en-US">
+ *     Two different servers were picked randomly, and the server with lower cost was selected. The cost is the EWMA
+ *     latency multiplied by the outstanding requests, so the slow or busy servers receive less traffic, and the
+ *     servers without any completed request will be tried first.
+ * </p>
+ * <h2 class="zh-CN">按指数加权移动平均延迟二选一的读取路由策略</h2>
+ * <p class="zh-CN">
+ *     随机选取两个不同的服务器，选择成本较低的服务器。成本为指数加权移动平均延迟乘以未完成请求数，
+ *     因此较慢或繁忙的服务器接收较少的流量，没有已完成请求的服务器将被优先尝试。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 11:46:51 $
+ */
+public final class EwmaBalancer implements LoadBalancer {
+
+	@Override
+	public ServerStats select(@Nonnull final List<ServerStats> candidates) {
+		int size = candidates.size();
+		if (size == 1) {
+			return candidates.get(0);
+		}
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		int first = random.nextInt(size);
+		int second = random.nextInt(size - 1);
+		if (second >= first) {
+			second++;
+		}
+		ServerStats firstStats = candidates.get(first), secondStats = candidates.get(second);
+		return (cost(firstStats) <= cost(secondStats)) ? firstStats : secondStats;
+	}
+
+	/**
+	 * <h4 class="en-US">Calculate the routing cost of given server</h4>
+	 * <h4 class="zh-CN">计算给定服务器的路由成本</h4>
+	 *
+	 * @param serverStats <span class="en-US">Server statistics</span>
+	 *                    <span class="zh-CN">服务器统计信息</span>
+	 * @return <span class="en-US">Routing cost</span>
+	 * <span class="zh-CN">路由成本</span>
+	 */
+	private static long cost(@Nonnull final ServerStats serverStats) {
+		return (serverStats.getLatency() + 1L) * (serverStats.getOutstanding() + 1L);
+	}
+}
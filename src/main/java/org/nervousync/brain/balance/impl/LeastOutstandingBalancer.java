@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.brain.balance.impl;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.brain.balance.LoadBalancer;
+import org.nervousync.brain.balance.ServerStats;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <h2 class="en-US">Read routing strategy of least outstanding requests</h2>
+ * <p class="en-US">The scan begins at a random index, so the servers with the same outstanding requests share the traffic.</p>
+ * <h2 class="zh-CN">最少未完成请求的读取路由策略</h2>
+ * <p class="zh-CN">从随机索引开始扫描，使未完成请求数相同的服务器分担流量。</p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 11:43:05 $
+ */
+public final class LeastOutstandingBalancer implements LoadBalancer {
+
+	@Override
+	public ServerStats select(@Nonnull final List<ServerStats> candidates) {
+		int size = candidates.size();
+		int offset = ThreadLocalRandom.current().nextInt(size);
+		ServerStats selected = candidates.get(offset);
+		for (int i = 1; i < size; i++) {
+			ServerStats serverStats = candidates.get((offset + i) % size);
+			if (serverStats.getOutstanding() < selected.getOutstanding()) {
+				selected = serverStats;
+			}
+		}
+		return selected;
+	}
+}
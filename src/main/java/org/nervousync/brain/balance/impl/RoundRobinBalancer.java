@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.brain.balance.impl;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.brain.balance.LoadBalancer;
+import org.nervousync.brain.balance.ServerStats;
+import org.nervousync.commons.Globals;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <h2 class="en-US">Round robin read routing strategy</h2>
+ * <h2 class="zh-CN">轮询读取路由策略</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 11:38:12 $
+ */
+public final class RoundRobinBalancer implements LoadBalancer {
+
+	/**
+	 * <span class="en-US">Round robin sequence, the index was calculated by modulo so no reset is needed</span>
+	 * <span class="zh-CN">轮询序号，索引通过取模计算，无需重置</span>
+	 */
+	private final AtomicInteger sequence = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+
+	@Override
+	public ServerStats select(@Nonnull final List<ServerStats> candidates) {
+		return candidates.get(Math.floorMod(this.sequence.getAndIncrement(), candidates.size()));
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.brain.balance.impl;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.brain.balance.LoadBalancer;
+import org.nervousync.brain.balance.ServerStats;
+import org.nervousync.commons.Globals;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <h2 class="en-US">Read routing strategy of random weighted by server level</h2>
+ * <h2 class="zh-CN">按服务器等级加权随机的读取路由策略</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 11:40:36 $
+ */
+public final class WeightedBalancer implements LoadBalancer {
+
+	@Override
+	public ServerStats select(@Nonnull final List<ServerStats> candidates) {
+		int totalWeight = Globals.INITIALIZE_INT_VALUE;
+		for (ServerStats serverStats : candidates) {
+			totalWeight += serverStats.getWeight();
+		}
+		int random = ThreadLocalRandom.current().nextInt(totalWeight);
+		for (ServerStats serverStats : candidates) {
+			random -= serverStats.getWeight();
+			if (random < 0) {
+				return serverStats;
+			}
+		}
+		return candidates.get(candidates.size() - 1);
+	}
+}
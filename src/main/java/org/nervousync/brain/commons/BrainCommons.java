@@ -35,7 +35,7 @@ public final class BrainCommons {
 	 * <span class="en-US">Default maximum connection count</span>
 	 * <span class="zh-CN">默认的最大连接数</span>
 	 */
-	public static final int DEFAULT_MAX_CONNECTIONS = 2;
+	public static final int DEFAULT_MAX_CONNECTIONS = 10;
 	/**
 	 * <span class="en-US">Default maximum connection retry count</span>
 	 * <span class="zh-CN">默认的最大重试次数</span>
@@ -46,6 +46,111 @@ public final class BrainCommons {
 	 * <span class="zh-CN">默认的重试间隔时间（单位：毫秒）</span>
 	 */
 	public static final long DEFAULT_RETRY_PERIOD = 1000L;
+	/**
+	 * <span class="en-US">Default idle timeout of pooled connection (Unit: milliseconds)</span>
+	 * <span class="zh-CN">默认的池化连接空闲超时时间（单位：毫秒）</span>
+	 */
+	public static final long DEFAULT_IDLE_TIMEOUT = 10 * 60 * 1000L;
+	/**
+	 * <span class="en-US">Default maximum lifetime of pooled connection (Unit: milliseconds)</span>
+	 * <span class="zh-CN">默认的池化连接最大存活时间（单位：毫秒）</span>
+	 */
+	public static final long DEFAULT_MAX_LIFETIME = 30 * 60 * 1000L;
+	/**
+	 * <span class="en-US">Default idle time before the keepalive probe of pooled connection (Unit: milliseconds)</span>
+	 * <span class="zh-CN">默认的池化连接保活检测前的空闲时间（单位：毫秒）</span>
+	 */
+	public static final long DEFAULT_KEEPALIVE_TIME = 2 * 60 * 1000L;
+	/**
+	 * <span class="en-US">Default maximum number of connection pools warmed up in parallel</span>
+	 * <span class="zh-CN">默认的并行预热连接池最大数量</span>
+	 */
+	public static final int DEFAULT_WARM_UP_PARALLELISM = 8;
+	/**
+	 * <span class="en-US">Default sampling interval of the borrowing stack capture, one stack per given borrows</span>
+	 * <span class="zh-CN">默认的借用调用栈采样间隔，每给定次数的借用采集一次调用栈</span>
+	 */
+	public static final int DEFAULT_LEAK_STACK_SAMPLING = 10;
+	/**
+	 * <span class="en-US">Default consecutive failures before the server circuit opens</span>
+	 * <span class="zh-CN">默认的服务器断路器断开前的连续失败次数</span>
+	 */
+	public static final int DEFAULT_BREAKER_THRESHOLD = 5;
+	/**
+	 * <span class="en-US">Default open time of the server circuit before probing (Unit: milliseconds)</span>
+	 * <span class="zh-CN">默认的服务器断路器探测前的断开时间（单位：毫秒）</span>
+	 */
+	public static final long DEFAULT_BREAKER_OPEN_TIME = 30 * 1000L;
+	/**
+	 * <span class="en-US">Default maximum replication lag of the secondary server serving read requests (Unit: milliseconds)</span>
+	 * <span class="zh-CN">默认的从服务器提供读取服务的最大复制延迟（单位：毫秒）</span>
+	 */
+	public static final long DEFAULT_MAX_REPLICA_LAG = 5 * 1000L;
+	/**
+	 * <span class="en-US">Default period of the replication lag probe (Unit: milliseconds)</span>
+	 * <span class="zh-CN">默认的复制延迟探测周期（单位：毫秒）</span>
+	 */
+	public static final long DEFAULT_LAG_PROBE_PERIOD = 1000L;
+	/**
+	 * <span class="en-US">Default window of reading your writes after a write (Unit: milliseconds)</span>
+	 * <span class="zh-CN">默认的写入后读取自身写入的时间窗口（单位：毫秒）</span>
+	 */
+	public static final long DEFAULT_READ_YOUR_WRITES_WINDOW = 5 * 1000L;
+	/**
+	 * <span class="en-US">Default recovery log file path template of the coordinated transactional, formatted by the JNDI name</span>
+	 * <span class="zh-CN">协调事务的默认恢复日志文件路径模板，使用JNDI名称格式化</span>
+	 */
+	public static final String DEFAULT_RECOVERY_LOG = "brain_recovery_%s.log";
+	/**
+	 * <span class="en-US">Default mapped size of recovery log file</span>
+	 * <span class="zh-CN">恢复日志文件的默认映射大小</span>
+	 */
+	public static final int DEFAULT_RECOVERY_LOG_SIZE = 4 * 1024 * 1024;
+	/**
+	 * <span class="en-US">Default tick duration of transactional deadline watchdog (Unit: milliseconds)</span>
+	 * <span class="zh-CN">事务截止时间看门狗的默认时间刻度（单位：毫秒）</span>
+	 */
+	public static final long DEFAULT_WATCHDOG_TICK = 100L;
+	/**
+	 * <span class="en-US">Default initial backoff delay of retrying transactional (Unit: milliseconds)</span>
+	 * <span class="zh-CN">重试事务的默认初始退避延迟（单位：毫秒）</span>
+	 */
+	public static final long DEFAULT_RETRY_INITIAL_DELAY = 20L;
+	/**
+	 * <span class="en-US">Default maximum backoff delay of retrying transactional (Unit: milliseconds)</span>
+	 * <span class="zh-CN">重试事务的默认最大退避延迟（单位：毫秒）</span>
+	 */
+	public static final long DEFAULT_RETRY_MAX_DELAY = 2000L;
+	/**
+	 * <span class="en-US">Default maximum delay of coalescing the writes into one batch (Unit: microseconds)</span>
+	 * <span class="zh-CN">将写入合并为一个批次的默认最大延迟（单位：微秒）</span>
+	 */
+	public static final long DEFAULT_COALESCE_DELAY = 500L;
+	/**
+	 * <span class="en-US">Default maximum time of waiting the coalesced batch execution (Unit: milliseconds)</span>
+	 * <span class="zh-CN">等待合并批次执行的默认最长时间（单位：毫秒）</span>
+	 */
+	public static final long DEFAULT_COALESCE_WAIT_TIME = 30 * 1000L;
+	/**
+	 * <span class="en-US">Default mapped size of write-behind outbox segment file</span>
+	 * <span class="zh-CN">后写发件箱分段文件的默认映射大小</span>
+	 */
+	public static final int DEFAULT_OUTBOX_SEGMENT_SIZE = 16 * 1024 * 1024;
+	/**
+	 * <span class="en-US">Default maximum number of the writes applied in one drain of write-behind outbox</span>
+	 * <span class="zh-CN">后写发件箱一次排空中应用写入的默认最大数量</span>
+	 */
+	public static final int DEFAULT_OUTBOX_BATCH_SIZE = 256;
+	/**
+	 * <span class="en-US">Default interval between the drains of write-behind outbox (Unit: milliseconds)</span>
+	 * <span class="zh-CN">后写发件箱排空的默认间隔时间（单位：毫秒）</span>
+	 */
+	public static final long DEFAULT_OUTBOX_DRAIN_PERIOD = 100L;
+	/**
+	 * <span class="en-US">Default maximum backoff delay of draining the write-behind outbox after a failure (Unit: milliseconds)</span>
+	 * <span class="zh-CN">后写发件箱失败后排空的默认最大退避延迟（单位：毫秒）</span>
+	 */
+	public static final long DEFAULT_OUTBOX_MAX_BACKOFF = 30 * 1000L;
 
 	/**
 	 * <span class="en-US">White space string</span>
@@ -185,6 +290,11 @@ public final class BrainCommons {
 	 * <span class="zh-CN">DDL配置</span>
 	 */
 	public static final String PROPERTY_DDL_TYPE_KEY = "ddl";
+	/**
+	 * <span class="en-US">Recovery log configure</span>
+	 * <span class="zh-CN">恢复日志配置</span>
+	 */
+	public static final String PROPERTY_RECOVERY_LOG_KEY = "recovery";
 
 	/**
 	 * <span class="en-US">Default JNDI name</span>
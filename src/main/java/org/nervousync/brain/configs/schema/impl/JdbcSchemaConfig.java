@@ -21,6 +21,7 @@ import jakarta.xml.bind.annotation.*;
 import org.nervousync.brain.commons.BrainCommons;
 import org.nervousync.brain.configs.schema.SchemaConfig;
 import org.nervousync.brain.configs.server.ServerInfo;
+import org.nervousync.brain.enumerations.balance.BalanceType;
 import org.nervousync.commons.Globals;
 
 import java.io.Serial;
@@ -92,6 +93,115 @@ public final class JdbcSchemaConfig extends SchemaConfig {
 	 * <span class="zh-CN">在归还连接时检查连接是否有效</span>
 	 */
 	private boolean testOnReturn = Boolean.FALSE;
+	/**
+	 * <span class="en-US">Idle timeout of pooled connection, 0 for never evict (Unit: milliseconds)</span>
+	 * <span class="zh-CN">池化连接的空闲超时时间，0为永不回收（单位：毫秒）</span>
+	 */
+	@XmlElement(name = "idle_timeout")
+	private long idleTimeout = BrainCommons.DEFAULT_IDLE_TIMEOUT;
+	/**
+	 * <span class="en-US">Maximum lifetime of pooled connection, 0 for unlimited (Unit: milliseconds)</span>
+	 * <span class="zh-CN">池化连接的最大存活时间，0为不限制（单位：毫秒）</span>
+	 */
+	@XmlElement(name = "max_lifetime")
+	private long maxLifetime = BrainCommons.DEFAULT_MAX_LIFETIME;
+	/**
+	 * <span class="en-US">Idle time before the keepalive probe of pooled connection, 0 for disabled (Unit: milliseconds)</span>
+	 * <span class="zh-CN">池化连接保活检测前的空闲时间，0为禁用（单位：毫秒）</span>
+	 */
+	@XmlElement(name = "keepalive_time")
+	private long keepaliveTime = BrainCommons.DEFAULT_KEEPALIVE_TIME;
+	/**
+	 * <span class="en-US">Maximum number of connection pools warmed up in parallel</span>
+	 * <span class="zh-CN">并行预热连接池的最大数量</span>
+	 */
+	@XmlElement(name = "warm_up_parallelism")
+	private int warmUpParallelism = BrainCommons.DEFAULT_WARM_UP_PARALLELISM;
+	/**
+	 * <span class="en-US">Pre-prepare the CRUD statements of registered tables on the warmed up connections</span>
+	 * <span class="zh-CN">在预热的连接上预编译已注册数据表的增删改查语句</span>
+	 */
+	@XmlElement(name = "prepare_statements")
+	private boolean prepareStatements = Boolean.FALSE;
+	/**
+	 * <span class="en-US">Threshold of connection held time before reported as leaked, 0 for disabled (Unit: milliseconds)</span>
+	 * <span class="zh-CN">连接被报告为泄漏前的持有时间阈值，0为禁用（单位：毫秒）</span>
+	 */
+	@XmlElement(name = "leak_detection_threshold")
+	private long leakDetectionThreshold = 0L;
+	/**
+	 * <span class="en-US">Held time before the leaked connection was reclaimed, 0 for never reclaim (Unit: milliseconds)</span>
+	 * <span class="zh-CN">泄漏连接被回收前的持有时间，0为永不回收（单位：毫秒）</span>
+	 */
+	@XmlElement(name = "leak_reclaim_time")
+	private long leakReclaimTime = 0L;
+	/**
+	 * <span class="en-US">Sampling interval of the borrowing stack capture, 0 for disabled</span>
+	 * <span class="zh-CN">借用调用栈的采样间隔，0为禁用</span>
+	 */
+	@XmlElement(name = "leak_stack_sampling")
+	private int leakStackSampling = BrainCommons.DEFAULT_LEAK_STACK_SAMPLING;
+	/**
+	 * <span class="en-US">Read routing strategy of the secondary servers</span>
+	 * <span class="zh-CN">从服务器的读取路由策略</span>
+	 */
+	@XmlElement(name = "balance_type")
+	private BalanceType balanceType = BalanceType.ROUND_ROBIN;
+	/**
+	 * <span class="en-US">Consecutive failures before the server circuit opens, 0 for disabled</span>
+	 * <span class="zh-CN">服务器断路器断开前的连续失败次数，0为禁用</span>
+	 */
+	@XmlElement(name = "breaker_threshold")
+	private int breakerThreshold = BrainCommons.DEFAULT_BREAKER_THRESHOLD;
+	/**
+	 * <span class="en-US">Open time of the server circuit before probing (Unit: milliseconds)</span>
+	 * <span class="zh-CN">服务器断路器探测前的断开时间（单位：毫秒）</span>
+	 */
+	@XmlElement(name = "breaker_open_time")
+	private long breakerOpenTime = BrainCommons.DEFAULT_BREAKER_OPEN_TIME;
+	/**
+	 * <span class="en-US">Replication lag query command, using the query of dialect if empty</span>
+	 * <span class="zh-CN">复制延迟查询命令，为空时使用方言的查询命令</span>
+	 */
+	@XmlElement(name = "lag_query")
+	private String lagQuery = Globals.DEFAULT_VALUE_STRING;
+	/**
+	 * <span class="en-US">Maximum replication lag of the secondary server serving read requests, 0 for unlimited (Unit: milliseconds)</span>
+	 * <span class="zh-CN">从服务器提供读取服务的最大复制延迟，0为不限制（单位：毫秒）</span>
+	 */
+	@XmlElement(name = "max_replica_lag")
+	private long maxReplicaLag = BrainCommons.DEFAULT_MAX_REPLICA_LAG;
+	/**
+	 * <span class="en-US">Period of the replication lag probe (Unit: milliseconds)</span>
+	 * <span class="zh-CN">复制延迟探测周期（单位：毫秒）</span>
+	 */
+	@XmlElement(name = "lag_probe_period")
+	private long lagProbePeriod = BrainCommons.DEFAULT_LAG_PROBE_PERIOD;
+	/**
+	 * <span class="en-US">Window of reading your writes after a write, 0 for disabled (Unit: milliseconds)</span>
+	 * <span class="zh-CN">写入后读取自身写入的时间窗口，0为禁用（单位：毫秒）</span>
+	 */
+	@XmlElement(name = "read_your_writes_window")
+	private long readYourWritesWindow = BrainCommons.DEFAULT_READ_YOUR_WRITES_WINDOW;
+	/**
+	 * <span class="en-US">Maximum rows of the coalesced write batch, 0 or 1 for disabled</span>
+	 * <span class="zh-CN">合并写入批次的最大行数，0或1为禁用</span>
+	 */
+	@XmlElement(name = "coalesce_batch_size")
+	private int coalesceBatchSize = Globals.DEFAULT_VALUE_INT;
+	/**
+	 * <span class="en-US">Maximum delay of coalescing the writes into one batch (Unit: microseconds)</span>
+	 * <span class="zh-CN">将写入合并为一个批次的最大延迟（单位：微秒）</span>
+	 */
+	@XmlElement(name = "coalesce_delay")
+	private long coalesceDelay = BrainCommons.DEFAULT_COALESCE_DELAY;
+	/**
+	 * <span class="en-US">Names of the data tables using coalesced writes</span>
+	 * <span class="zh-CN">使用合并写入的数据表名称</span>
+	 */
+	@XmlElementWrapper(name = "coalesce_tables")
+	@XmlElement(name = "table_name")
+	private List<String> coalesceTables = new ArrayList<>();
 
 	/**
 	 * <h4 class="en-US">Constructor method for relational data source configuration information</h4>
@@ -275,4 +385,400 @@ public final class JdbcSchemaConfig extends SchemaConfig {
 	public void setTestOnReturn(final boolean testOnReturn) {
 		this.testOnReturn = testOnReturn;
 	}
+
+	/**
+	 * <h4 class="en-US">Getter method for idle timeout of pooled connection</h4>
+	 * <h4 class="zh-CN">池化连接的空闲超时时间的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Idle timeout of pooled connection, 0 for never evict (Unit: milliseconds)</span>
+	 * <span class="zh-CN">池化连接的空闲超时时间，0为永不回收（单位：毫秒）</span>
+	 */
+	public long getIdleTimeout() {
+		return this.idleTimeout;
+	}
+
+	/**
+	 * <h4 class="en-US">Setter method for idle timeout of pooled connection</h4>
+	 * <h4 class="zh-CN">池化连接的空闲超时时间的Setter方法</h4>
+	 *
+	 * @param idleTimeout <span class="en-US">Idle timeout of pooled connection, 0 for never evict (Unit: milliseconds)</span>
+	 *                    <span class="zh-CN">池化连接的空闲超时时间，0为永不回收（单位：毫秒）</span>
+	 */
+	public void setIdleTimeout(final long idleTimeout) {
+		this.idleTimeout = idleTimeout;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for maximum lifetime of pooled connection</h4>
+	 * <h4 class="zh-CN">池化连接的最大存活时间的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Maximum lifetime of pooled connection, 0 for unlimited (Unit: milliseconds)</span>
+	 * <span class="zh-CN">池化连接的最大存活时间，0为不限制（单位：毫秒）</span>
+	 */
+	public long getMaxLifetime() {
+		return this.maxLifetime;
+	}
+
+	/**
+	 * <h4 class="en-US">Setter method for maximum lifetime of pooled connection</h4>
+	 * <h4 class="zh-CN">池化连接的最大存活时间的Setter方法</h4>
+	 *
+	 * @param maxLifetime <span class="en-US">Maximum lifetime of pooled connection, 0 for unlimited (Unit: milliseconds)</span>
+	 *                    <span class="zh-CN">池化连接的最大存活时间，0为不限制（单位：毫秒）</span>
+	 */
+	public void setMaxLifetime(final long maxLifetime) {
+		this.maxLifetime = maxLifetime;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for idle time before the keepalive probe</h4>
+	 * <h4 class="zh-CN">保活检测前的空闲时间的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Idle time before the keepalive probe of pooled connection, 0 for disabled (Unit: milliseconds)</span>
+	 * <span class="zh-CN">池化连接保活检测前的空闲时间，0为禁用（单位：毫秒）</span>
+	 */
+	public long getKeepaliveTime() {
+		return this.keepaliveTime;
+	}
+
+	/**
+	 * <h4 class="en-US">Setter method for idle time before the keepalive probe</h4>
+	 * <h4 class="zh-CN">保活检测前的空闲时间的Setter方法</h4>
+	 *
+	 * @param keepaliveTime <span class="en-US">Idle time before the keepalive probe of pooled connection, 0 for disabled (Unit: milliseconds)</span>
+	 *                      <span class="zh-CN">池化连接保活检测前的空闲时间，0为禁用（单位：毫秒）</span>
+	 */
+	public void setKeepaliveTime(final long keepaliveTime) {
+		this.keepaliveTime = keepaliveTime;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for maximum number of connection pools warmed up in parallel</h4>
+	 * <h4 class="zh-CN">并行预热连接池最大数量的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Maximum number of connection pools warmed up in parallel</span>
+	 * <span class="zh-CN">并行预热连接池的最大数量</span>
+	 */
+	public int getWarmUpParallelism() {
+		return this.warmUpParallelism;
+	}
+
+	/**
+	 * <h4 class="en-US">Setter method for maximum number of connection pools warmed up in parallel</h4>
+	 * <h4 class="zh-CN">并行预热连接池最大数量的Setter方法</h4>
+	 *
+	 * @param warmUpParallelism <span class="en-US">Maximum number of connection pools warmed up in parallel</span>
+	 *                          <span class="zh-CN">并行预热连接池的最大数量</span>
+	 */
+	public void setWarmUpParallelism(final int warmUpParallelism) {
+		this.warmUpParallelism = warmUpParallelism;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for pre-prepare statements status</h4>
+	 * <h4 class="zh-CN">预编译语句状态的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Pre-prepare the CRUD statements of registered tables on the warmed up connections</span>
+	 * <span class="zh-CN">在预热的连接上预编译已注册数据表的增删改查语句</span>
+	 */
+	public boolean isPrepareStatements() {
+		return this.prepareStatements;
+	}
+
+	/**
+	 * <h4 class="en-US">Setter method for pre-prepare statements status</h4>
+	 * <h4 class="zh-CN">预编译语句状态的Setter方法</h4>
+	 *
+	 * @param prepareStatements <span class="en-US">Pre-prepare the CRUD statements of registered tables on the warmed up connections</span>
+	 *                          <span class="zh-CN">在预热的连接上预编译已注册数据表的增删改查语句</span>
+	 */
+	public void setPrepareStatements(final boolean prepareStatements) {
+		this.prepareStatements = prepareStatements;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for threshold of connection held time before reported as leaked</h4>
+	 * <h4 class="zh-CN">连接被报告为泄漏前的持有时间阈值的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Threshold of connection held time before reported as leaked, 0 for disabled (Unit: milliseconds)</span>
+	 * <span class="zh-CN">连接被报告为泄漏前的持有时间阈值，0为禁用（单位：毫秒）</span>
+	 */
+	public long getLeakDetectionThreshold() {
+		return this.leakDetectionThreshold;
+	}
+
+	/**
+	 * <h4 class="en-US">Setter method for threshold of connection held time before reported as leaked</h4>
+	 * <h4 class="zh-CN">连接被报告为泄漏前的持有时间阈值的Setter方法</h4>
+	 *
+	 * @param leakDetectionThreshold <span class="en-US">Threshold of connection held time before reported as leaked, 0 for disabled (Unit: milliseconds)</span>
+	 *                               <span class="zh-CN">连接被报告为泄漏前的持有时间阈值，0为禁用（单位：毫秒）</span>
+	 */
+	public void setLeakDetectionThreshold(final long leakDetectionThreshold) {
+		this.leakDetectionThreshold = leakDetectionThreshold;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for held time before the leaked connection was reclaimed</h4>
+	 * <h4 class="zh-CN">泄漏连接被回收前的持有时间的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Held time before the leaked connection was reclaimed, 0 for never reclaim (Unit: milliseconds)</span>
+	 * <span class="zh-CN">泄漏连接被回收前的持有时间，0为永不回收（单位：毫秒）</span>
+	 */
+	public long getLeakReclaimTime() {
+		return this.leakReclaimTime;
+	}
+
+	/**
+	 * <h4 class="en-US">Setter method for held time before the leaked connection was reclaimed</h4>
+	 * <h4 class="zh-CN">泄漏连接被回收前的持有时间的Setter方法</h4>
+	 *
+	 * @param leakReclaimTime <span class="en-US">Held time before the leaked connection was reclaimed, 0 for never reclaim (Unit: milliseconds)</span>
+	 *                        <span class="zh-CN">泄漏连接被回收前的持有时间，0为永不回收（单位：毫秒）</span>
+	 */
+	public void setLeakReclaimTime(final long leakReclaimTime) {
+		this.leakReclaimTime = leakReclaimTime;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for sampling interval of the borrowing stack capture</h4>
+	 * <h4 class="zh-CN">借用调用栈采样间隔的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Sampling interval of the borrowing stack capture, 0 for disabled</span>
+	 * <span class="zh-CN">借用调用栈的采样间隔，0为禁用</span>
+	 */
+	public int getLeakStackSampling() {
+		return this.leakStackSampling;
+	}
+
+	/**
+	 * <h4 class="en-US">Setter method for sampling interval of the borrowing stack capture</h4>
+	 * <h4 class="zh-CN">借用调用栈采样间隔的Setter方法</h4>
+	 *
+	 * @param leakStackSampling <span class="en-US">Sampling interval of the borrowing stack capture, 0 for disabled</span>
+	 *                          <span class="zh-CN">借用调用栈的采样间隔，0为禁用</span>
+	 */
+	public void setLeakStackSampling(final int leakStackSampling) {
+		this.leakStackSampling = leakStackSampling;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for read routing strategy</h4>
+	 * <h4 class="zh-CN">读取路由策略的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Read routing strategy of the secondary servers</span>
+	 * <span class="zh-CN">从服务器的读取路由策略</span>
+	 */
+	public BalanceType getBalanceType() {
+		return this.balanceType;
+	}
+
+	/**
+	 * <h4 class="en-US">Setter method for read routing strategy</h4>
+	 * <h4 class="zh-CN">读取路由策略的Setter方法</h4>
+	 *
+	 * @param balanceType <span class="en-US">Read routing strategy of the secondary servers</span>
+	 *                    <span class="zh-CN">从服务器的读取路由策略</span>
+	 */
+	public void setBalanceType(final BalanceType balanceType) {
+		this.balanceType = balanceType;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for consecutive failures before the server circuit opens</h4>
+	 * <h4 class="zh-CN">服务器断路器断开前连续失败次数的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Consecutive failures before the server circuit opens, 0 for disabled</span>
+	 * <span class="zh-CN">服务器断路器断开前的连续失败次数，0为禁用</span>
+	 */
+	public int getBreakerThreshold() {
+		return this.breakerThreshold;
+	}
+
+	/**
+	 * <h4 class="en-US">Setter method for consecutive failures before the server circuit opens</h4>
+	 * <h4 class="zh-CN">服务器断路器断开前连续失败次数的Setter方法</h4>
+	 *
+	 * @param breakerThreshold <span class="en-US">Consecutive failures before the server circuit opens, 0 for disabled</span>
+	 *                         <span class="zh-CN">服务器断路器断开前的连续失败次数，0为禁用</span>
+	 */
+	public void setBreakerThreshold(final int breakerThreshold) {
+		this.breakerThreshold = breakerThreshold;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for open time of the server circuit</h4>
+	 * <h4 class="zh-CN">服务器断路器断开时间的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Open time of the server circuit before probing (Unit: milliseconds)</span>
+	 * <span class="zh-CN">服务器断路器探测前的断开时间（单位：毫秒）</span>
+	 */
+	public long getBreakerOpenTime() {
+		return this.breakerOpenTime;
+	}
+
+	/**
+	 * <h4 class="en-US">Setter method for open time of the server circuit</h4>
+	 * <h4 class="zh-CN">服务器断路器断开时间的Setter方法</h4>
+	 *
+	 * @param breakerOpenTime <span class="en-US">Open time of the server circuit before probing (Unit: milliseconds)</span>
+	 *                        <span class="zh-CN">服务器断路器探测前的断开时间（单位：毫秒）</span>
+	 */
+	public void setBreakerOpenTime(final long breakerOpenTime) {
+		this.breakerOpenTime = breakerOpenTime;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for replication lag query command</h4>
+	 * <h4 class="zh-CN">复制延迟查询命令的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Replication lag query command, using the query of dialect if empty</span>
+	 * <span class="zh-CN">复制延迟查询命令，为空时使用方言的查询命令</span>
+	 */
+	public String getLagQuery() {
+		return this.lagQuery;
+	}
+
+	/**
+	 * <h4 class="en-US">Setter method for replication lag query command</h4>
+	 * <h4 class="zh-CN">复制延迟查询命令的Setter方法</h4>
+	 *
+	 * @param lagQuery <span class="en-US">Replication lag query command, using the query of dialect if empty</span>
+	 *                 <span class="zh-CN">复制延迟查询命令，为空时使用方言的查询命令</span>
+	 */
+	public void setLagQuery(final String lagQuery) {
+		this.lagQuery = lagQuery;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for maximum replication lag</h4>
+	 * <h4 class="zh-CN">最大复制延迟的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Maximum replication lag of the secondary server serving read requests, 0 for unlimited (Unit: milliseconds)</span>
+	 * <span class="zh-CN">从服务器提供读取服务的最大复制延迟，0为不限制（单位：毫秒）</span>
+	 */
+	public long getMaxReplicaLag() {
+		return this.maxReplicaLag;
+	}
+
+	/**
+	 * <h4 class="en-US">Setter method for maximum replication lag</h4>
+	 * <h4 class="zh-CN">最大复制延迟的Setter方法</h4>
+	 *
+	 * @param maxReplicaLag <span class="en-US">Maximum replication lag of the secondary server serving read requests, 0 for unlimited (Unit: milliseconds)</span>
+	 *                      <span class="zh-CN">从服务器提供读取服务的最大复制延迟，0为不限制（单位：毫秒）</span>
+	 */
+	public void setMaxReplicaLag(final long maxReplicaLag) {
+		this.maxReplicaLag = maxReplicaLag;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for period of the replication lag probe</h4>
+	 * <h4 class="zh-CN">复制延迟探测周期的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Period of the replication lag probe (Unit: milliseconds)</span>
+	 * <span class="zh-CN">复制延迟探测周期（单位：毫秒）</span>
+	 */
+	public long getLagProbePeriod() {
+		return this.lagProbePeriod;
+	}
+
+	/**
+	 * <h4 class="en-US">Setter method for period of the replication lag probe</h4>
+	 * <h4 class="zh-CN">复制延迟探测周期的Setter方法</h4>
+	 *
+	 * @param lagProbePeriod <span class="en-US">Period of the replication lag probe (Unit: milliseconds)</span>
+	 *                       <span class="zh-CN">复制延迟探测周期（单位：毫秒）</span>
+	 */
+	public void setLagProbePeriod(final long lagProbePeriod) {
+		this.lagProbePeriod = lagProbePeriod;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for window of reading your writes</h4>
+	 * <h4 class="zh-CN">读取自身写入的时间窗口的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Window of reading your writes after a write, 0 for disabled (Unit: milliseconds)</span>
+	 * <span class="zh-CN">写入后读取自身写入的时间窗口，0为禁用（单位：毫秒）</span>
+	 */
+	public long getReadYourWritesWindow() {
+		return this.readYourWritesWindow;
+	}
+
+	/**
+	 * <h4 class="en-US">Setter method for window of reading your writes</h4>
+	 * <h4 class="zh-CN">读取自身写入的时间窗口的Setter方法</h4>
+	 *
+	 * @param readYourWritesWindow <span class="en-US">Window of reading your writes after a write, 0 for disabled (Unit: milliseconds)</span>
+	 *                             <span class="zh-CN">写入后读取自身写入的时间窗口，0为禁用（单位：毫秒）</span>
+	 */
+	public void setReadYourWritesWindow(final long readYourWritesWindow) {
+		this.readYourWritesWindow = readYourWritesWindow;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for maximum rows of the coalesced write batch</h4>
+	 * <h4 class="zh-CN">合并写入批次的最大行数的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Maximum rows of the coalesced write batch, 0 or 1 for disabled</span>
+	 * <span class="zh-CN">合并写入批次的最大行数，0或1为禁用</span>
+	 */
+	public int getCoalesceBatchSize() {
+		return this.coalesceBatchSize;
+	}
+
+	/**
+	 * <h4 class="en-US">Setter method for maximum rows of the coalesced write batch</h4>
+	 * <h4 class="zh-CN">合并写入批次的最大行数的Setter方法</h4>
+	 *
+	 * @param coalesceBatchSize <span class="en-US">Maximum rows of the coalesced write batch, 0 or 1 for disabled</span>
+	 *                          <span class="zh-CN">合并写入批次的最大行数，0或1为禁用</span>
+	 */
+	public void setCoalesceBatchSize(final int coalesceBatchSize) {
+		this.coalesceBatchSize = coalesceBatchSize;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for maximum delay of coalescing the writes</h4>
+	 * <h4 class="zh-CN">合并写入的最大延迟的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Maximum delay of coalescing the writes into one batch (Unit: microseconds)</span>
+	 * <span class="zh-CN">将写入合并为一个批次的最大延迟（单位：微秒）</span>
+	 */
+	public long getCoalesceDelay() {
+		return this.coalesceDelay;
+	}
+
+	/**
+	 * <h4 class="en-US">Setter method for maximum delay of coalescing the writes</h4>
+	 * <h4 class="zh-CN">合并写入的最大延迟的Setter方法</h4>
+	 *
+	 * @param coalesceDelay <span class="en-US">Maximum delay of coalescing the writes into one batch (Unit: microseconds)</span>
+	 *                      <span class="zh-CN">将写入合并为一个批次的最大延迟（单位：微秒）</span>
+	 */
+	public void setCoalesceDelay(final long coalesceDelay) {
+		this.coalesceDelay = coalesceDelay;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for names of the data tables using coalesced writes</h4>
+	 * <h4 class="zh-CN">使用合并写入的数据表名称的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Names of the data tables using coalesced writes</span>
+	 * <span class="zh-CN">使用合并写入的数据表名称</span>
+	 */
+	public List<String> getCoalesceTables() {
+		return this.coalesceTables;
+	}
+
+	/**
+	 * <h4 class="en-US">Setter method for names of the data tables using coalesced writes</h4>
+	 * <h4 class="zh-CN">使用合并写入的数据表名称的Setter方法</h4>
+	 *
+	 * @param coalesceTables <span class="en-US">Names of the data tables using coalesced writes</span>
+	 *                       <span class="zh-CN">使用合并写入的数据表名称</span>
+	 */
+	public void setCoalesceTables(final List<String> coalesceTables) {
+		this.coalesceTables = coalesceTables;
+	}
 }
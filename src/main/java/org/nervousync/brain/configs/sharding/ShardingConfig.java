@@ -18,10 +18,12 @@
 package org.nervousync.brain.configs.sharding;
 
 import jakarta.annotation.Nonnull;
+import jdk.jfr.EventType;
 import org.nervousync.brain.defines.ColumnDefine;
 import org.nervousync.brain.defines.ShardingDefine;
 import org.nervousync.brain.defines.TableDefine;
 import org.nervousync.brain.enumerations.sharding.ShardingType;
+import org.nervousync.brain.events.ShardingRouteEvent;
 import org.nervousync.brain.exceptions.defines.TableDefineException;
 import org.nervousync.brain.sharding.Calculator;
 import org.nervousync.commons.Globals;
@@ -41,6 +43,16 @@ import java.util.Optional;
  */
 public final class ShardingConfig {
 
+	/**
+	 * <span class="en-US">JFR event type of sharding route</span>
+	 * <span class="zh-CN">分片路由的JFR事件类型</span>
+	 */
+	private static final EventType ROUTE_EVENT_TYPE = EventType.getEventType(ShardingRouteEvent.class);
+	/**
+	 * <span class="en-US">Data table name</span>
+	 * <span class="zh-CN">数据表名</span>
+	 */
+	private final String tableName;
 	/**
 	 * <span class="en-US">Database sharding configure details</span>
 	 * <span class="zh-CN">数据库分片配置详情</span>
@@ -67,6 +79,7 @@ public final class ShardingConfig {
 	 */
 	public ShardingConfig(@Nonnull final TableDefine tableDefine, final ShardingDefine<?> database,
 	                      final ShardingDefine<?> table) throws TableDefineException {
+		this.tableName = tableDefine.tableName();
 		if (database == null) {
 			this.shardingDatabase = null;
 		} else {
@@ -98,7 +111,12 @@ public final class ShardingConfig {
 	 */
 	public String shardingKey(@Nonnull final ShardingType shardingType,
 	                          @Nonnull final Map<String, Serializable> parameterMap) {
-		return switch (shardingType) {
+		ShardingRouteEvent routeEvent = null;
+		if (ROUTE_EVENT_TYPE.isEnabled()) {
+			routeEvent = new ShardingRouteEvent();
+			routeEvent.begin();
+		}
+		String shardingKey = switch (shardingType) {
 			case DATABASE -> (this.shardingDatabase == null)
 					? Globals.DEFAULT_VALUE_STRING
 					: this.shardingDatabase.shardingKey(parameterMap);
@@ -106,6 +124,16 @@ public final class ShardingConfig {
 					? Globals.DEFAULT_VALUE_STRING
 					: this.shardingTable.shardingKey(parameterMap);
 		};
+		if (routeEvent != null) {
+			routeEvent.end();
+			if (routeEvent.shouldCommit()) {
+				routeEvent.tableName = this.tableName;
+				routeEvent.shardingType = shardingType.name();
+				routeEvent.shardingKey = shardingKey;
+				routeEvent.commit();
+			}
+		}
+		return shardingKey;
 	}
 
 	/**
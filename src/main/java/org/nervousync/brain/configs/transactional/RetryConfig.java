@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.brain.configs.transactional;
+
+import org.nervousync.brain.commons.BrainCommons;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <h2 class="en-US">Retry configure information of transactional</h2>
+ * <p class="en-US">
+ *     The unit of work failed by deadlock, serialization failure or lock timeout was replayed in a new transactional,
+ *     the delay before each retry was chosen randomly between zero and the exponential backoff delay (full jitter),
+ *     so the conflicting transactional will not retry at the same time again.
+ * </p>
+ * <h2 class="zh-CN">事务的重试配置信息</h2>
+ * <p class="zh-CN">
+ *     因死锁、序列化失败或锁等待超时而失败的工作单元在新事务中重新执行，每次重试前的延迟在零到指数退避延迟之间随机选择（完全抖动），
+ *     避免冲突的事务再次同时重试。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 16:51:37 $
+ */
+public final class RetryConfig implements Serializable {
+	/**
+	 * <span class="en-US">Serial version UID</span>
+	 * <span class="zh-CN">序列化UID</span>
+	 */
+	@Serial
+	private static final long serialVersionUID = -2870468371205916283L;
+	/**
+	 * <span class="en-US">Maximum attempts of the unit of work, including the first execution</span>
+	 * <span class="zh-CN">工作单元的最大尝试次数，包含首次执行</span>
+	 */
+	private final int maxAttempts;
+	/**
+	 * <span class="en-US">Initial backoff delay (Unit: milliseconds)</span>
+	 * <span class="zh-CN">初始退避延迟（单位：毫秒）</span>
+	 */
+	private final long initialDelay;
+	/**
+	 * <span class="en-US">Maximum backoff delay (Unit: milliseconds)</span>
+	 * <span class="zh-CN">最大退避延迟（单位：毫秒）</span>
+	 */
+	private final long maxDelay;
+
+	/**
+	 * <h4 class="en-US">Private constructor method for retry configure information</h4>
+	 * <h4 class="zh-CN">重试配置信息的私有构造方法</h4>
+	 *
+	 * @param maxAttempts  <span class="en-US">Maximum attempts of the unit of work, including the first execution</span>
+	 *                     <span class="zh-CN">工作单元的最大尝试次数，包含首次执行</span>
+	 * @param initialDelay <span class="en-US">Initial backoff delay (Unit: milliseconds)</span>
+	 *                     <span class="zh-CN">初始退避延迟（单位：毫秒）</span>
+	 * @param maxDelay     <span class="en-US">Maximum backoff delay (Unit: milliseconds)</span>
+	 *                     <span class="zh-CN">最大退避延迟（单位：毫秒）</span>
+	 */
+	private RetryConfig(final int maxAttempts, final long initialDelay, final long maxDelay) {
+		this.maxAttempts = maxAttempts;
+		this.initialDelay = initialDelay;
+		this.maxDelay = maxDelay;
+	}
+
+	/**
+	 * <h4 class="en-US">Generate retry configure information instance using default backoff delays</h4>
+	 * <h4 class="zh-CN">使用默认退避延迟生成重试配置信息实例对象</h4>
+	 *
+	 * @param maxAttempts <span class="en-US">Maximum attempts of the unit of work, including the first execution</span>
+	 *                    <span class="zh-CN">工作单元的最大尝试次数，包含首次执行</span>
+	 * @return <span class="en-US">Generated retry configure information instance, or null if retry was disabled</span>
+	 * <span class="zh-CN">生成的重试配置信息实例对象，如果未启用重试则返回null</span>
+	 */
+	public static RetryConfig newInstance(final int maxAttempts) {
+		return newInstance(maxAttempts,
+				BrainCommons.DEFAULT_RETRY_INITIAL_DELAY, BrainCommons.DEFAULT_RETRY_MAX_DELAY);
+	}
+
+	/**
+	 * <h4 class="en-US">Generate retry configure information instance</h4>
+	 * <h4 class="zh-CN">生成重试配置信息实例对象</h4>
+	 *
+	 * @param maxAttempts  <span class="en-US">Maximum attempts of the unit of work, including the first execution</span>
+	 *                     <span class="zh-CN">工作单元的最大尝试次数，包含首次执行</span>
+	 * @param initialDelay <span class="en-US">Initial backoff delay (Unit: milliseconds)</span>
+	 *                     <span class="zh-CN">初始退避延迟（单位：毫秒）</span>
+	 * @param maxDelay     <span class="en-US">Maximum backoff delay (Unit: milliseconds)</span>
+	 *                     <span class="zh-CN">最大退避延迟（单位：毫秒）</span>
+	 * @return <span class="en-US">Generated retry configure information instance, or null if retry was disabled</span>
+	 * <span class="zh-CN">生成的重试配置信息实例对象，如果未启用重试则返回null</span>
+	 */
+	public static RetryConfig newInstance(final int maxAttempts, final long initialDelay, final long maxDelay) {
+		if (maxAttempts <= 1 || initialDelay <= 0L || maxDelay < initialDelay) {
+			return null;
+		}
+		return new RetryConfig(maxAttempts, initialDelay, maxDelay);
+	}
+
+	/**
+	 * <h4 class="en-US">Calculate the delay before the next attempt</h4>
+	 * <h4 class="zh-CN">计算下一次尝试前的延迟</h4>
+	 *
+	 * @param attempt <span class="en-US">Number of the attempts already failed</span>
+	 *                <span class="zh-CN">已失败的尝试次数</span>
+	 * @return <span class="en-US">Delay time (Unit: milliseconds)</span>
+	 * <span class="zh-CN">延迟时间（单位：毫秒）</span>
+	 */
+	public long backoff(final int attempt) {
+		long ceiling = this.initialDelay << Math.min(Math.max(attempt - 1, 0), 30);
+		if (ceiling <= 0L || ceiling > this.maxDelay) {
+			ceiling = this.maxDelay;
+		}
+		return ThreadLocalRandom.current().nextLong(ceiling + 1);
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for maximum attempts of the unit of work</h4>
+	 * <h4 class="zh-CN">工作单元的最大尝试次数的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Maximum attempts of the unit of work, including the first execution</span>
+	 * <span class="zh-CN">工作单元的最大尝试次数，包含首次执行</span>
+	 */
+	public int getMaxAttempts() {
+		return this.maxAttempts;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for initial backoff delay</h4>
+	 * <h4 class="zh-CN">初始退避延迟的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Initial backoff delay (Unit: milliseconds)</span>
+	 * <span class="zh-CN">初始退避延迟（单位：毫秒）</span>
+	 */
+	public long getInitialDelay() {
+		return this.initialDelay;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for maximum backoff delay</h4>
+	 * <h4 class="zh-CN">最大退避延迟的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Maximum backoff delay (Unit: milliseconds)</span>
+	 * <span class="zh-CN">最大退避延迟（单位：毫秒）</span>
+	 */
+	public long getMaxDelay() {
+		return this.maxDelay;
+	}
+}
@@ -95,6 +95,25 @@ public final class TransactionalConfig implements Serializable {
         return new TransactionalConfig(timeout, isolation, rollBackForClasses);
     }
 
+    /**
+     * <h4 class="en-US">Generate the transactional configure information of a new transactional</h4>
+     * <p class="en-US">
+     *     The configure information could be reused by concurrent or retried transactional, the copy has the same
+     *     configure values and a new transactional identify code, so the recovery log records and the prepared
+     *     transactional identifies of each transactional will not collide.
+     * </p>
+     * <h4 class="zh-CN">生成新事务的事务配置信息</h4>
+     * <p class="zh-CN">
+     *     配置信息可能被并发或重试的事务重复使用，副本具有相同的配置值和新的事务识别代码，因此各事务的恢复日志记录和预提交事务识别不会冲突。
+     * </p>
+     *
+     * @return <span class="en-US">Generated transactional configure information instance</span>
+     * <span class="zh-CN">生成的事务配置信息实例对象</span>
+     */
+    public TransactionalConfig newTransactional() {
+        return new TransactionalConfig(this.timeout, this.isolation, this.rollBackForClasses);
+    }
+
     /**
      * <h4 class="en-US">Getter method for transactional identify code</h4>
      * <h4 class="zh-CN">事务识别代码的Getter方法</h4>
@@ -19,6 +19,7 @@ package org.nervousync.brain.defines;
 
 import jakarta.annotation.Nonnull;
 import org.nervousync.brain.commons.BrainCommons;
+import org.nervousync.brain.enumerations.ddl.GenerationType;
 import org.nervousync.brain.exceptions.defines.TableDefineException;
 import org.nervousync.utils.StringUtils;
 
@@ -145,6 +146,22 @@ public record TableDefine(String tableName, String shardingTemplate, List<Column
 				.orElse(null);
 	}
 
+	/**
+	 * <h4 class="en-US">Find the optimistic lock version column</h4>
+	 * <h4 class="zh-CN">查找乐观锁版本数据列</h4>
+	 *
+	 * @return <span class="en-US">Data column define, or null if the table was not using optimistic lock</span>
+	 * <span class="zh-CN">数据列定义，如果数据表未使用乐观锁则返回null</span>
+	 */
+	public ColumnDefine versionColumn() {
+		return this.columnDefines
+				.stream()
+				.filter(columnDefine -> columnDefine.getGeneratorDefine() != null
+						&& GenerationType.VERSION.equals(columnDefine.getGeneratorDefine().getGenerationType()))
+				.findFirst()
+				.orElse(null);
+	}
+
 	/**
 	 * <h4 class="en-US">Verify whether the given data column definition information is consistent with the current definition information</h4>
 	 * <h4 class="zh-CN">验证给定的数据列定义信息与当前的定义信息是否一致</h4>
@@ -65,6 +65,11 @@ public abstract class BaseDialect implements Dialect {
 	 * <span class="zh-CN">连接验证查询命令</span>
 	 */
 	private final String validationQuery;
+	/**
+	 * <span class="en-US">Replication lag query command</span>
+	 * <span class="zh-CN">复制延迟查询命令</span>
+	 */
+	private final String lagQuery;
 	/**
 	 * <span class="en-US">Data type definition mapping table</span>
 	 * <span class="zh-CN">数据类型定义映射表</span>
@@ -85,6 +90,7 @@ public abstract class BaseDialect implements Dialect {
 		this.supportJoin = schemaDialect.supportJoin();
 		this.connectionPool = schemaDialect.connectionPool();
 		this.validationQuery = schemaDialect.validationQuery();
+		this.lagQuery = schemaDialect.lagQuery();
 		if (schemaDialect.types().length == 0) {
 			this.logger.warn("Dialect_Type_None", this.dialectName);
 		}
@@ -140,6 +146,17 @@ public abstract class BaseDialect implements Dialect {
 		return this.validationQuery;
 	}
 
+	/**
+	 * <h4 class="en-US">Getter method for replication lag query command</h4>
+	 * <h4 class="zh-CN">复制延迟查询命令的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Replication lag query command</span>
+	 * <span class="zh-CN">复制延迟查询命令</span>
+	 */
+	public final String getLagQuery() {
+		return this.lagQuery;
+	}
+
 	/**
 	 * <h4 class="en-US">Get the type definition of the data column based on the JDBC type value</h4>
 	 * <h4 class="zh-CN">根据JDBC类型值获取数据列的类型定义</h4>
@@ -30,6 +30,7 @@ import java.io.Serializable;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Flow;
 
 /**
  * <h2 class="en-US">Distribute database operator interface</h2>
@@ -73,6 +74,69 @@ public interface Operator {
 	 */
 	void commit(final TransactionalConfig transactionalConfig) throws Exception;
 
+	/**
+	 * <h4 class="en-US">Prepare transactional, the prepared transactional was finished by commit or rollback</h4>
+	 * <h4 class="zh-CN">预提交事务，预提交的事务由提交或回滚完成</h4>
+	 *
+	 * @param transactionalConfig <span class="en-US">Transactional configure information</span>
+	 *                            <span class="zh-CN">事务配置信息</span>
+	 * @throws Exception <span class="en-US">If an error occurs during execution</span>
+	 *                   <span class="zh-CN">如果执行过程中出错</span>
+	 */
+	void prepare(final TransactionalConfig transactionalConfig) throws Exception;
+
+	/**
+	 * <h4 class="en-US">Create the savepoint to begin the nested transactional</h4>
+	 * <h4 class="zh-CN">创建保存点以开始嵌套事务</h4>
+	 *
+	 * @param transactionalConfig <span class="en-US">Transactional configure information</span>
+	 *                            <span class="zh-CN">事务配置信息</span>
+	 * @param savepointName       <span class="en-US">Savepoint name</span>
+	 *                            <span class="zh-CN">保存点名称</span>
+	 * @throws Exception <span class="en-US">If an error occurs during execution</span>
+	 *                   <span class="zh-CN">如果执行过程中出错</span>
+	 */
+	void savepoint(final TransactionalConfig transactionalConfig, final String savepointName) throws Exception;
+
+	/**
+	 * <h4 class="en-US">Release the savepoint of the nested transactional</h4>
+	 * <h4 class="zh-CN">释放嵌套事务的保存点</h4>
+	 *
+	 * @param transactionalConfig <span class="en-US">Transactional configure information</span>
+	 *                            <span class="zh-CN">事务配置信息</span>
+	 * @param savepointName       <span class="en-US">Savepoint name</span>
+	 *                            <span class="zh-CN">保存点名称</span>
+	 * @throws Exception <span class="en-US">If an error occurs during execution</span>
+	 *                   <span class="zh-CN">如果执行过程中出错</span>
+	 */
+	void releaseSavepoint(final TransactionalConfig transactionalConfig, final String savepointName) throws Exception;
+
+	/**
+	 * <h4 class="en-US">Rollback to the savepoint of the nested transactional</h4>
+	 * <h4 class="zh-CN">回滚到嵌套事务的保存点</h4>
+	 *
+	 * @param transactionalConfig <span class="en-US">Transactional configure information</span>
+	 *                            <span class="zh-CN">事务配置信息</span>
+	 * @param savepointName       <span class="en-US">Savepoint name</span>
+	 *                            <span class="zh-CN">保存点名称</span>
+	 * @throws Exception <span class="en-US">If an error occurs during execution</span>
+	 *                   <span class="zh-CN">如果执行过程中出错</span>
+	 */
+	void rollbackSavepoint(final TransactionalConfig transactionalConfig, final String savepointName) throws Exception;
+
+	/**
+	 * <h4 class="en-US">Submit or rollback the in-doubt prepared transactional</h4>
+	 * <h4 class="zh-CN">提交或回滚未决的预提交事务</h4>
+	 *
+	 * @param transactionalCode <span class="en-US">Transactional identify code</span>
+	 *                          <span class="zh-CN">事务识别代码</span>
+	 * @param commit            <span class="en-US">Submit the transactional, or rollback if false</span>
+	 *                          <span class="zh-CN">提交事务，为false时回滚</span>
+	 * @throws Exception <span class="en-US">If an error occurs during execution</span>
+	 *                   <span class="zh-CN">如果执行过程中出错</span>
+	 */
+	void recover(final long transactionalCode, final boolean commit) throws Exception;
+
 	/**
 	 * <h4 class="en-US">Truncate all data table</h4>
 	 * <h4 class="zh-CN">清空所有数据表</h4>
@@ -190,6 +254,42 @@ public interface Operator {
 	int delete(@Nonnull final TableDefine tableDefine,
 	           @Nonnull final Map<String, Serializable> filterMap) throws Exception;
 
+	/**
+	 * <h4 class="en-US">Execute insert record command, update the record if the record conflicts</h4>
+	 * <h4 class="zh-CN">执行插入数据命令，记录冲突时更新记录</h4>
+	 *
+	 * @param tableDefine     <span class="en-US">Table define information</span>
+	 *                        <span class="zh-CN">数据表定义信息</span>
+	 * @param dataMap         <span class="en-US">Insert or update data mapping</span>
+	 *                        <span class="zh-CN">插入或更新数据映射表</span>
+	 * @param conflictColumns <span class="en-US">Conflict column names, using primary key columns if empty</span>
+	 *                        <span class="zh-CN">冲突列名，为空时使用主键列</span>
+	 * @return <span class="en-US">Affected records count</span>
+	 * <span class="zh-CN">影响记录条数</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	int upsert(@Nonnull final TableDefine tableDefine, @Nonnull final Map<String, Serializable> dataMap,
+	           final List<String> conflictColumns) throws Exception;
+
+	/**
+	 * <h4 class="en-US">Execute insert record commands in batch, update the records if the records conflict</h4>
+	 * <h4 class="zh-CN">批量执行插入数据命令，记录冲突时更新记录</h4>
+	 *
+	 * @param tableDefine     <span class="en-US">Table define information</span>
+	 *                        <span class="zh-CN">数据表定义信息</span>
+	 * @param dataList        <span class="en-US">Insert or update data mapping list</span>
+	 *                        <span class="zh-CN">插入或更新数据映射表列表</span>
+	 * @param conflictColumns <span class="en-US">Conflict column names, using primary key columns if empty</span>
+	 *                        <span class="zh-CN">冲突列名，为空时使用主键列</span>
+	 * @return <span class="en-US">Affected records count</span>
+	 * <span class="zh-CN">影响记录条数</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	int upsertBatch(@Nonnull final TableDefine tableDefine, @Nonnull final List<Map<String, Serializable>> dataList,
+	                final List<String> conflictColumns) throws Exception;
+
 	/**
 	 * <h4 class="en-US">Execute query record command</h4>
 	 * <h4 class="zh-CN">执行数据检索命令</h4>
@@ -203,6 +303,19 @@ public interface Operator {
 	 */
 	List<Map<String, String>> query(@Nonnull final QueryInfo queryInfo) throws Exception;
 
+	/**
+	 * <h4 class="en-US">Execute query record command and publish the records on demand</h4>
+	 * <h4 class="zh-CN">执行数据检索命令并按需发布记录</h4>
+	 *
+	 * @param queryInfo <span class="en-US">Query record information</span>
+	 *                  <span class="zh-CN">数据检索信息</span>
+	 * @return <span class="en-US">Publisher of the data mapping tables for queried records</span>
+	 * <span class="zh-CN">查询到记录的数据映射表发布者</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	Flow.Publisher<Map<String, String>> publish(@Nonnull final QueryInfo queryInfo) throws Exception;
+
 	/**
 	 * <h4 class="en-US">Execute query commands for data updates</h4>
 	 * <h4 class="zh-CN">执行用于数据更新的查询命令</h4>
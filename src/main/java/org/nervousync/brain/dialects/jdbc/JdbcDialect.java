@@ -26,10 +26,12 @@ import org.nervousync.brain.defines.IndexDefine;
 import org.nervousync.brain.defines.TableDefine;
 import org.nervousync.brain.dialects.core.BaseDialect;
 import org.nervousync.brain.enumerations.ddl.DropOption;
-import org.nervousync.brain.enumerations.ddl.GenerationType;
 import org.nervousync.brain.enumerations.query.LockOption;
+import org.nervousync.brain.enumerations.query.UpsertType;
+import org.nervousync.brain.enumerations.transactional.RetryType;
 import org.nervousync.brain.exceptions.dialects.DialectException;
 import org.nervousync.brain.exceptions.sql.MultilingualSQLException;
+import org.nervousync.brain.lob.LobValue;
 import org.nervousync.brain.query.QueryInfo;
 import org.nervousync.brain.query.condition.Condition;
 import org.nervousync.brain.query.condition.impl.ColumnCondition;
@@ -54,7 +56,12 @@ import org.nervousync.utils.IDUtils;
 import org.nervousync.utils.ObjectUtils;
 import org.nervousync.utils.StringUtils;
 
-import java.io.Serializable;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.sql.*;
 import java.util.*;
 
@@ -215,6 +222,76 @@ public abstract class JdbcDialect extends BaseDialect {
 	 * <span class="zh-CN">设置记录值命令</span>
 	 */
 	private static final String COMMAND_SET = " SET ";
+	/**
+	 * <span class="en-US">Increase the optimistic lock version</span>
+	 * <span class="zh-CN">递增乐观锁版本</span>
+	 */
+	private static final String VERSION_INCREASE = " + 1 ";
+	/**
+	 * <span class="en-US">Conflict clause of the insert or update command</span>
+	 * <span class="zh-CN">插入或更新命令的冲突子句</span>
+	 */
+	private static final String UPSERT_ON_CONFLICT = " ON CONFLICT ";
+	/**
+	 * <span class="en-US">Update action of the conflict clause</span>
+	 * <span class="zh-CN">冲突子句的更新动作</span>
+	 */
+	private static final String UPSERT_DO_UPDATE = " DO UPDATE SET ";
+	/**
+	 * <span class="en-US">Empty action of the conflict clause</span>
+	 * <span class="zh-CN">冲突子句的空动作</span>
+	 */
+	private static final String UPSERT_DO_NOTHING = " DO NOTHING";
+	/**
+	 * <span class="en-US">Qualifier of the conflicting insert values</span>
+	 * <span class="zh-CN">冲突插入值的限定符</span>
+	 */
+	private static final String UPSERT_EXCLUDED = "EXCLUDED.";
+	/**
+	 * <span class="en-US">Duplicate key clause of the insert or update command</span>
+	 * <span class="zh-CN">插入或更新命令的重复键子句</span>
+	 */
+	private static final String UPSERT_ON_DUPLICATE_KEY = " ON DUPLICATE KEY UPDATE ";
+	/**
+	 * <span class="en-US">Function of reading the duplicate insert values</span>
+	 * <span class="zh-CN">读取重复插入值的函数</span>
+	 */
+	private static final String UPSERT_VALUES = "VALUES";
+	/**
+	 * <span class="en-US">Merge record command</span>
+	 * <span class="zh-CN">合并记录命令</span>
+	 */
+	private static final String MERGE_INTO = "MERGE INTO ";
+	/**
+	 * <span class="en-US">Source clause of merge command</span>
+	 * <span class="zh-CN">合并命令的来源子句</span>
+	 */
+	private static final String MERGE_USING = " USING ";
+	/**
+	 * <span class="en-US">Conjunction of the merge match condition</span>
+	 * <span class="zh-CN">合并匹配条件的连接词</span>
+	 */
+	private static final String MERGE_AND = " AND ";
+	/**
+	 * <span class="en-US">Update action of the matched record</span>
+	 * <span class="zh-CN">匹配记录的更新动作</span>
+	 */
+	private static final String MERGE_MATCHED = " WHEN MATCHED THEN UPDATE SET ";
+	/**
+	 * <span class="en-US">Insert action of the not matched record</span>
+	 * <span class="zh-CN">不匹配记录的插入动作</span>
+	 */
+	private static final String MERGE_NOT_MATCHED = " WHEN NOT MATCHED THEN INSERT ";
+	/**
+	 * <span class="en-US">Alias of the merge target table</span>
+	 * <span class="zh-CN">合并目标数据表的别名</span>
+	 */
+	private static final String MERGE_TARGET = "TGT";
+	/**
+	 * <span class="en-US">Alias of the merge source values</span>
+	 * <span class="zh-CN">合并来源值的别名</span>
+	 */
+	private static final String MERGE_SOURCE = "SRC";
 	/**
 	 * <span class="en-US">Delete record command</span>
 	 * <span class="zh-CN">删除记录命令</span>
@@ -245,6 +322,16 @@ public abstract class JdbcDialect extends BaseDialect {
 	 * <span class="zh-CN">右连接</span>
 	 */
 	private static final String COMMAND_JOIN_RIGHT = " RIGHT JOIN ";
+	/**
+	 * <span class="en-US">Maximum bytes count of each transfer when transfer LOB data into file channel</span>
+	 * <span class="zh-CN">传输大对象数据到文件通道时每次传输的最大字节数</span>
+	 */
+	private static final long LOB_TRANSFER_SIZE = 8L * 1024 * 1024;
+	/**
+	 * <span class="en-US">Direct buffer size when transfer LOB data into channel</span>
+	 * <span class="zh-CN">传输大对象数据到通道时的直接缓冲区大小</span>
+	 */
+	private static final int LOB_BUFFER_SIZE = 64 * 1024;
 
 	/**
 	 * <h4 class="en-US">Constructor method for JDBC database dialect abstract class</h4>
@@ -367,14 +454,9 @@ public abstract class JdbcDialect extends BaseDialect {
 	 * <span class="zh-CN">读取的二进制数据</span>
 	 */
 	public byte[] readBlob(final ResultSet resultSet, final int columnIndex) {
-		try {
-			Blob blob = resultSet.getBlob(columnIndex);
-			if (blob != null) {
-				byte[] buffer = new byte[(int) blob.length()];
-				int readLength = blob.getBinaryStream().read(buffer, 0, buffer.length);
-				if (readLength == buffer.length) {
-					return buffer;
-				}
+		try (InputStream inputStream = this.blobStream(resultSet, columnIndex)) {
+			if (inputStream != null) {
+				return inputStream.readAllBytes();
 			}
 		} catch (Exception e) {
 			this.logger.warn("Read_Lob_Error", "BLOB");
@@ -397,14 +479,11 @@ public abstract class JdbcDialect extends BaseDialect {
 	 * <span class="zh-CN">读取的字节数据</span>
 	 */
 	public char[] readClob(ResultSet resultSet, int columnIndex) {
-		try {
-			Clob clob = resultSet.getClob(columnIndex);
-			if (clob != null) {
-				char[] buffer = new char[(int) clob.length()];
-				int readLength = clob.getCharacterStream().read(buffer, 0, buffer.length);
-				if (readLength == buffer.length) {
-					return buffer;
-				}
+		try (Reader reader = this.clobReader(resultSet, columnIndex)) {
+			if (reader != null) {
+				CharArrayWriter charArrayWriter = new CharArrayWriter();
+				reader.transferTo(charArrayWriter);
+				return charArrayWriter.toCharArray();
 			}
 		} catch (Exception e) {
 			this.logger.warn("Read_Lob_Error", "CLOB");
@@ -415,6 +494,123 @@ public abstract class JdbcDialect extends BaseDialect {
 		return new char[0];
 	}
 
+	/**
+	 * <h4 class="en-US">Open input stream of type Blob, the stream is valid until the cursor moved or closed</h4>
+	 * <h4 class="zh-CN">打开Blob类型的输入流，数据流在游标移动或关闭前有效</h4>
+	 *
+	 * @param resultSet   <span class="en-US">Query results to parse</span>
+	 *                    <span class="zh-CN">要解析的查询结果</span>
+	 * @param columnIndex <span class="en-US">Data column index value</span>
+	 *                    <span class="zh-CN">数据列索引值</span>
+	 * @return <span class="en-US">Binary data input stream, or null if the column value is null</span>
+	 * <span class="zh-CN">二进制数据输入流，如果数据列的值为null则返回null</span>
+	 * @throws SQLException <span class="en-US">If the column index is not valid or a database access error occurs</span>
+	 *                      <span class="zh-CN">如果数据列索引值无效或数据库访问出错</span>
+	 */
+	public InputStream blobStream(@Nonnull final ResultSet resultSet, final int columnIndex) throws SQLException {
+		return resultSet.getBinaryStream(columnIndex);
+	}
+
+	/**
+	 * <h4 class="en-US">Open reader of type Clob, the reader is valid until the cursor moved or closed</h4>
+	 * <h4 class="zh-CN">打开Clob类型的读取器，读取器在游标移动或关闭前有效</h4>
+	 *
+	 * @param resultSet   <span class="en-US">Query results to parse</span>
+	 *                    <span class="zh-CN">要解析的查询结果</span>
+	 * @param columnIndex <span class="en-US">Data column index value</span>
+	 *                    <span class="zh-CN">数据列索引值</span>
+	 * @return <span class="en-US">Character data reader, or null if the column value is null</span>
+	 * <span class="zh-CN">字符数据读取器，如果数据列的值为null则返回null</span>
+	 * @throws SQLException <span class="en-US">If the column index is not valid or a database access error occurs</span>
+	 *                      <span class="zh-CN">如果数据列索引值无效或数据库访问出错</span>
+	 */
+	public Reader clobReader(@Nonnull final ResultSet resultSet, final int columnIndex) throws SQLException {
+		return resultSet.getCharacterStream(columnIndex);
+	}
+
+	/**
+	 * <h4 class="en-US">Transfer data of type Blob into the target channel</h4>
+	 * <h4 class="zh-CN">将Blob类型的数据传输到目标通道</h4>
+	 * <p>
+	 * <span class="en-US">If the target channel is a FileChannel, using FileChannel.transferFrom to avoid copy the data into heap memory, otherwise using a direct buffer</span>
+	 * <span class="zh-CN">如果目标通道是FileChannel，使用FileChannel.transferFrom以避免将数据复制到堆内存中，否则使用直接缓冲区</span>
+	 * </p>
+	 *
+	 * @param resultSet     <span class="en-US">Query results to parse</span>
+	 *                      <span class="zh-CN">要解析的查询结果</span>
+	 * @param columnIndex   <span class="en-US">Data column index value</span>
+	 *                      <span class="zh-CN">数据列索引值</span>
+	 * @param targetChannel <span class="en-US">Target channel</span>
+	 *                      <span class="zh-CN">目标通道</span>
+	 * @return <span class="en-US">Transferred bytes count</span>
+	 * <span class="zh-CN">传输的字节数</span>
+	 * @throws SQLException <span class="en-US">If the column index is not valid or a database access error occurs</span>
+	 *                      <span class="zh-CN">如果数据列索引值无效或数据库访问出错</span>
+	 * @throws IOException  <span class="en-US">If an I/O error occurs when write to the target channel</span>
+	 *                      <span class="zh-CN">写入目标通道时出现I/O错误</span>
+	 */
+	public long transferBlob(@Nonnull final ResultSet resultSet, final int columnIndex,
+	                         @Nonnull final WritableByteChannel targetChannel) throws SQLException, IOException {
+		try (InputStream inputStream = this.blobStream(resultSet, columnIndex)) {
+			if (inputStream == null) {
+				return Globals.INITIALIZE_INT_VALUE;
+			}
+			ReadableByteChannel sourceChannel = Channels.newChannel(inputStream);
+			long transferred = Globals.INITIALIZE_INT_VALUE;
+			if (targetChannel instanceof FileChannel fileChannel) {
+				long position = fileChannel.position(), count;
+				while ((count = fileChannel.transferFrom(sourceChannel, position + transferred, LOB_TRANSFER_SIZE)) > 0) {
+					transferred += count;
+				}
+				fileChannel.position(position + transferred);
+			} else {
+				ByteBuffer byteBuffer = ByteBuffer.allocateDirect(LOB_BUFFER_SIZE);
+				while (sourceChannel.read(byteBuffer) >= 0) {
+					byteBuffer.flip();
+					while (byteBuffer.hasRemaining()) {
+						transferred += targetChannel.write(byteBuffer);
+					}
+					byteBuffer.clear();
+				}
+			}
+			return transferred;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Bind parameter value to the statement, streaming LOB value will be bound as stream</h4>
+	 * <h4 class="zh-CN">绑定参数值到查询分析器，流式大对象数据值将以数据流方式绑定</h4>
+	 *
+	 * @param statement      <span class="en-US">Prepared statement instance object</span>
+	 *                       <span class="zh-CN">查询分析器实例对象</span>
+	 * @param parameterIndex <span class="en-US">Parameter index (begin with 1)</span>
+	 *                       <span class="zh-CN">参数索引值（从1开始）</span>
+	 * @param value          <span class="en-US">Parameter value</span>
+	 *                       <span class="zh-CN">参数值</span>
+	 * @throws SQLException <span class="en-US">If a database access error occurs</span>
+	 *                      <span class="zh-CN">如果数据库访问出错</span>
+	 */
+	public void bindValue(@Nonnull final PreparedStatement statement, final int parameterIndex,
+	                      final Object value) throws SQLException {
+		if (value instanceof LobValue lobValue) {
+			if (lobValue.isBinary()) {
+				if (lobValue.lengthKnown()) {
+					statement.setBinaryStream(parameterIndex, lobValue.getBinaryStream(), lobValue.getLength());
+				} else {
+					statement.setBinaryStream(parameterIndex, lobValue.getBinaryStream());
+				}
+			} else {
+				if (lobValue.lengthKnown()) {
+					statement.setCharacterStream(parameterIndex, lobValue.getCharacterStream(), lobValue.getLength());
+				} else {
+					statement.setCharacterStream(parameterIndex, lobValue.getCharacterStream());
+				}
+			}
+		} else {
+			statement.setObject(parameterIndex, value);
+		}
+	}
+
 	/**
 	 * <h4 class="en-US">Create sharded database command</h4>
 	 * <h4 class="zh-CN">创建分片数据库命令</h4>
@@ -681,6 +877,156 @@ public abstract class JdbcDialect extends BaseDialect {
 		return "TRUNCATE TABLE " + tableName;
 	}
 
+	/**
+	 * <h4 class="en-US">Check the database supports preparing transactional</h4>
+	 * <p class="en-US">
+	 *     The dialect supports preparing transactional must override the methods to generate the prepare,
+	 *     commit prepared and rollback prepared commands, e.g. PREPARE TRANSACTION of PostgreSQL.
+	 * </p>
+	 * <h4 class="zh-CN">检查数据库是否支持预提交事务</h4>
+	 * <p class="zh-CN">
+	 *     支持预提交事务的方言必须覆盖生成预提交、提交预提交事务和回滚预提交事务命令的方法，例如PostgreSQL的PREPARE TRANSACTION。
+	 * </p>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	public boolean supportPrepare() {
+		return Boolean.FALSE;
+	}
+
+	/**
+	 * <h4 class="en-US">Generate SQL commands to prepare current transactional</h4>
+	 * <h4 class="zh-CN">生成预提交当前事务的SQL命令</h4>
+	 *
+	 * @param transactionalId <span class="en-US">Global identify of prepared transactional</span>
+	 *                        <span class="zh-CN">预提交事务的全局识别</span>
+	 * @return <span class="en-US">Generated SQL command</span>
+	 * <span class="zh-CN">生成的SQL命令</span>
+	 */
+	public String prepareTransaction(@Nonnull final String transactionalId) {
+		return Globals.DEFAULT_VALUE_STRING;
+	}
+
+	/**
+	 * <h4 class="en-US">Generate SQL commands to submit the prepared transactional</h4>
+	 * <h4 class="zh-CN">生成提交预提交事务的SQL命令</h4>
+	 *
+	 * @param transactionalId <span class="en-US">Global identify of prepared transactional</span>
+	 *                        <span class="zh-CN">预提交事务的全局识别</span>
+	 * @return <span class="en-US">Generated SQL command</span>
+	 * <span class="zh-CN">生成的SQL命令</span>
+	 */
+	public String commitPrepared(@Nonnull final String transactionalId) {
+		return Globals.DEFAULT_VALUE_STRING;
+	}
+
+	/**
+	 * <h4 class="en-US">Generate SQL commands to rollback the prepared transactional</h4>
+	 * <h4 class="zh-CN">生成回滚预提交事务的SQL命令</h4>
+	 *
+	 * @param transactionalId <span class="en-US">Global identify of prepared transactional</span>
+	 *                        <span class="zh-CN">预提交事务的全局识别</span>
+	 * @return <span class="en-US">Generated SQL command</span>
+	 * <span class="zh-CN">生成的SQL命令</span>
+	 */
+	public String rollbackPrepared(@Nonnull final String transactionalId) {
+		return Globals.DEFAULT_VALUE_STRING;
+	}
+
+	/**
+	 * <h4 class="en-US">Check the SQL exception means the prepared transactional does not exist</h4>
+	 * <p class="en-US">
+	 *     Used when recovering the in-doubt transactional, the branch was not prepared or was finished already.
+	 *     The default implementation recognizes the SQLState 42704 of PostgreSQL and the XA state XAE04 (XAER_NOTA),
+	 *     any other exception leaves the transactional in-doubt.
+	 * </p>
+	 * <h4 class="zh-CN">检查SQL异常是否表示预提交事务不存在</h4>
+	 * <p class="zh-CN">
+	 *     用于恢复未决事务，分支未预提交或已完成。默认实现识别PostgreSQL的SQLState 42704和XA状态XAE04（XAER_NOTA），
+	 *     其他异常均使事务保持未决状态。
+	 * </p>
+	 *
+	 * @param sqlException <span class="en-US">SQL exception instance</span>
+	 *                     <span class="zh-CN">SQL异常实例对象</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	public boolean preparedNotFound(@Nonnull final SQLException sqlException) {
+		return "42704".equals(sqlException.getSQLState()) || "XAE04".equals(sqlException.getSQLState());
+	}
+
+	/**
+	 * <h4 class="en-US">Classify the SQL exception for retrying the transactional</h4>
+	 * <p class="en-US">
+	 *     The default implementation recognizes the standard SQLState 40001 (serialization failure),
+	 *     40P01 (deadlock detected) and 55P03 (lock not available). The dialect reports deadlock or lock timeout
+	 *     by vendor error code must override this method, e.g. MySQL 1213/1205, Oracle 60/30006 or SQL Server 1205/1222.
+	 * </p>
+	 * <h4 class="zh-CN">为重试事务分类SQL异常</h4>
+	 * <p class="zh-CN">
+	 *     默认实现识别标准SQLState 40001（序列化失败）、40P01（检测到死锁）和55P03（锁不可用）。
+	 *     使用厂商错误代码报告死锁或锁等待超时的方言必须覆盖此方法，例如MySQL 1213/1205、Oracle 60/30006或SQL Server 1205/1222。
+	 * </p>
+	 *
+	 * @param sqlException <span class="en-US">SQL exception instance</span>
+	 *                     <span class="zh-CN">SQL异常实例对象</span>
+	 * @return <span class="en-US">Enumeration value of the retryable failure</span>
+	 * <span class="zh-CN">可重试失败的枚举值</span>
+	 */
+	public RetryType retryType(@Nonnull final SQLException sqlException) {
+		String sqlState = sqlException.getSQLState();
+		if (sqlState == null) {
+			return RetryType.NONE;
+		}
+		return switch (sqlState) {
+			case "40001" -> RetryType.SERIALIZATION;
+			case "40P01" -> RetryType.DEADLOCK;
+			case "55P03" -> RetryType.LOCK_TIMEOUT;
+			default -> RetryType.NONE;
+		};
+	}
+
+	/**
+	 * <h4 class="en-US">Syntax of the insert or update command supported by the database</h4>
+	 * <p class="en-US">
+	 *     The default implementation uses the standard MERGE command, the dialect of PostgreSQL or SQLite must return
+	 *     ON_CONFLICT, and the dialect of MySQL or MariaDB must return ON_DUPLICATE_KEY.
+	 * </p>
+	 * <h4 class="zh-CN">数据库支持的插入或更新命令语法</h4>
+	 * <p class="zh-CN">
+	 *     默认实现使用标准MERGE命令，PostgreSQL或SQLite的方言必须返回ON_CONFLICT，MySQL或MariaDB的方言必须返回ON_DUPLICATE_KEY。
+	 * </p>
+	 *
+	 * @return <span class="en-US">Enumeration value of the insert or update command syntax</span>
+	 * <span class="zh-CN">插入或更新命令语法的枚举值</span>
+	 */
+	public UpsertType upsertType() {
+		return UpsertType.MERGE;
+	}
+
+	/**
+	 * <h4 class="en-US">Table clause of selecting the constant values, e.g. FROM DUAL of Oracle</h4>
+	 * <h4 class="zh-CN">选择常量值的数据表子句，例如Oracle的FROM DUAL</h4>
+	 *
+	 * @return <span class="en-US">Generated SQL command</span>
+	 * <span class="zh-CN">生成的SQL命令</span>
+	 */
+	protected String dualTable() {
+		return Globals.DEFAULT_VALUE_STRING;
+	}
+
+	/**
+	 * <h4 class="en-US">Terminator of the MERGE command, e.g. the semicolon required by SQL Server</h4>
+	 * <h4 class="zh-CN">MERGE命令的终止符，例如SQL Server要求的分号</h4>
+	 *
+	 * @return <span class="en-US">Generated SQL command</span>
+	 * <span class="zh-CN">生成的SQL命令</span>
+	 */
+	protected String mergeTerminator() {
+		return Globals.DEFAULT_VALUE_STRING;
+	}
+
 	/**
 	 * <h4 class="en-US">Generate SQL commands to drop data tables</h4>
 	 * <h4 class="zh-CN">生成删除数据表的SQL命令</h4>
@@ -757,6 +1103,8 @@ public abstract class JdbcDialect extends BaseDialect {
 		return switch (lockOption) {
 			case PESSIMISTIC_UPGRADE -> WHERE_COMMAND + whereClause + "FOR UPDATE ";
 			case PESSIMISTIC_UPGRADE_NOWAIT -> WHERE_COMMAND + whereClause + "FOR UPDATE NOWAIT ";
+			//  No row lock, the version column was checked when updating or deleting the record
+			case OPTIMISTIC_UPGRADE -> WHERE_COMMAND + whereClause;
 			default -> WHERE_COMMAND + whereClause;
 		};
 	}
@@ -819,59 +1167,105 @@ public abstract class JdbcDialect extends BaseDialect {
 		if (dataMap.isEmpty()) {
 			throw new SQLException("Insert parameter map is empty!");
 		}
-		StringBuilder columnBuilder = new StringBuilder();
-		StringBuilder valueBuilder = new StringBuilder();
+		Map<String, String> valueItems = new LinkedHashMap<>();
 		List<Object> values = new ArrayList<>();
+		this.insertValues(tableDefine, dataMap, valueItems, values);
+		if (valueItems.isEmpty()) {
+			throw new MultilingualSQLException(0x00DB00000007L);
+		}
+		return new SQLCommand(this.insertClause(this.nameCase(tableName), valueItems), values);
+	}
+
+	/**
+	 * <h4 class="en-US">Generate the value items of insert command</h4>
+	 * <h4 class="zh-CN">生成插入命令的值项</h4>
+	 *
+	 * @param tableDefine <span class="en-US">Table define information</span>
+	 *                    <span class="zh-CN">数据表定义信息</span>
+	 * @param dataMap     <span class="en-US">Insert data mapping</span>
+	 *                    <span class="zh-CN">写入数据映射表</span>
+	 * @param valueItems  <span class="en-US">Value items mapping, key is column name, value is placeholder or generated expression</span>
+	 *                    <span class="zh-CN">值项映射表，键值为列名，值为占位符或生成表达式</span>
+	 * @param values      <span class="en-US">Parameter values list</span>
+	 *                    <span class="zh-CN">参数值列表</span>
+	 */
+	private void insertValues(@Nonnull final TableDefine tableDefine, @Nonnull final Map<String, Serializable> dataMap,
+	                          @Nonnull final Map<String, String> valueItems, @Nonnull final List<Object> values) {
 		for (Map.Entry<String, Serializable> entry : dataMap.entrySet()) {
 			String columnName = entry.getKey();
 			GeneratorDefine generatorDefine = tableDefine.generatorDefine(columnName);
 			if (generatorDefine == null) {
-				columnBuilder.append(BrainCommons.DEFAULT_SPLIT_CHARACTER).append(this.nameCase(columnName));
-				valueBuilder.append(BrainCommons.DEFAULT_SPLIT_CHARACTER)
-						.append(BrainCommons.DEFAULT_PLACE_HOLDER);
+				valueItems.put(columnName, BrainCommons.DEFAULT_PLACE_HOLDER);
 				values.add(entry.getValue());
 			} else {
 				switch (generatorDefine.getGenerationType()) {
 					case ASSIGNED:
-						valueBuilder.append(BrainCommons.DEFAULT_SPLIT_CHARACTER)
-								.append(BrainCommons.DEFAULT_PLACE_HOLDER);
+						valueItems.put(columnName, BrainCommons.DEFAULT_PLACE_HOLDER);
 						values.add(entry.getValue());
 						break;
 					case GENERATE:
-						valueBuilder.append(BrainCommons.DEFAULT_SPLIT_CHARACTER)
-								.append(BrainCommons.DEFAULT_PLACE_HOLDER);
+						valueItems.put(columnName, BrainCommons.DEFAULT_PLACE_HOLDER);
 						values.add(IDUtils.generate(generatorDefine.getGeneratorName(), new byte[0]));
 						break;
 					case SEQUENCE:
-						valueBuilder.append(BrainCommons.DEFAULT_SPLIT_CHARACTER)
-								.append(this.nextVal(generatorDefine.getGeneratorName()));
+						valueItems.put(columnName, this.nextVal(generatorDefine.getGeneratorName()));
 						break;
 					case CURRENT_DATE:
-						valueBuilder.append(BrainCommons.DEFAULT_SPLIT_CHARACTER).append(this.currentDate());
+						valueItems.put(columnName, this.currentDate());
 						break;
 					case CURRENT_TIME:
-						valueBuilder.append(BrainCommons.DEFAULT_SPLIT_CHARACTER).append(this.currentTime());
+						valueItems.put(columnName, this.currentTime());
 						break;
 					case CURRENT_TIMESTAMP:
-						valueBuilder.append(BrainCommons.DEFAULT_SPLIT_CHARACTER).append(this.currentTimestamp());
+						valueItems.put(columnName, this.currentTimestamp());
+						break;
+					case VERSION:
+						valueItems.put(columnName, BrainCommons.DEFAULT_PLACE_HOLDER);
+						values.add((entry.getValue() == null) ? Globals.INITIALIZE_INT_VALUE : entry.getValue());
 						break;
-				}
-				if (!GenerationType.AUTO_INCREMENT.equals(generatorDefine.getGenerationType())) {
-					columnBuilder.append(BrainCommons.DEFAULT_SPLIT_CHARACTER).append(this.nameCase(columnName));
 				}
 			}
 		}
-		StringBuilder sqlBuilder = new StringBuilder(COMMAND_INSERT).append(this.nameCase(tableName));
-		if (columnBuilder.isEmpty()) {
-			throw new MultilingualSQLException(0x00DB00000007L);
-		}
-		sqlBuilder.append(columnBuilder).append(COMMAND_VALUES).append(valueBuilder);
-		return new SQLCommand(sqlBuilder.toString(), values);
+	}
+
+	/**
+	 * <h4 class="en-US">Generate the insert clause by given value items</h4>
+	 * <h4 class="zh-CN">根据给定的值项生成插入子句</h4>
+	 *
+	 * @param tableName  <span class="en-US">Table name in the database name case</span>
+	 *                   <span class="zh-CN">数据库名称大小写的数据表名</span>
+	 * @param valueItems <span class="en-US">Value items mapping, key is column name, value is placeholder or generated expression</span>
+	 *                   <span class="zh-CN">值项映射表，键值为列名，值为占位符或生成表达式</span>
+	 * @return <span class="en-US">Generated insert clause</span>
+	 * <span class="zh-CN">生成的插入子句</span>
+	 */
+	private String insertClause(@Nonnull final String tableName, @Nonnull final Map<String, String> valueItems) {
+		StringBuilder columnBuilder = new StringBuilder();
+		StringBuilder valueBuilder = new StringBuilder();
+		valueItems.forEach((columnName, valueItem) -> {
+			columnBuilder.append(BrainCommons.DEFAULT_SPLIT_CHARACTER).append(this.nameCase(columnName));
+			valueBuilder.append(BrainCommons.DEFAULT_SPLIT_CHARACTER).append(valueItem);
+		});
+		return COMMAND_INSERT + tableName
+				+ BrainCommons.BRACKETS_BEGIN
+				+ columnBuilder.substring(BrainCommons.DEFAULT_SPLIT_CHARACTER.length())
+				+ BrainCommons.BRACKETS_END
+				+ COMMAND_VALUES
+				+ BrainCommons.BRACKETS_BEGIN
+				+ valueBuilder.substring(BrainCommons.DEFAULT_SPLIT_CHARACTER.length())
+				+ BrainCommons.BRACKETS_END;
 	}
 
 	/**
 	 * <h4 class="en-US">Generate SQL commands to update record</h4>
+	 * <p class="en-US">
+	 *     If the table defines the optimistic lock version column, the version was increased by the command,
+	 *     and the version value in data mapping was used as the expected version in where clause.
+	 * </p>
 	 * <h4 class="zh-CN">生成更新记录的SQL命令</h4>
+	 * <p class="zh-CN">
+	 *     如果数据表定义了乐观锁版本列，命令将递增版本值，并将数据映射表中的版本值作为Where子句中的期望版本。
+	 * </p>
 	 *
 	 * @param tableDefine <span class="en-US">Table define information</span>
 	 *                    <span class="zh-CN">数据表定义信息</span>
@@ -894,8 +1288,15 @@ public abstract class JdbcDialect extends BaseDialect {
 		}
 		StringBuilder columnBuilder = new StringBuilder();
 		List<Object> values = new ArrayList<>();
+		Serializable expectedVersion = null;
+		ColumnDefine versionColumn = tableDefine.versionColumn();
 		for (Map.Entry<String, Serializable> entry : dataMap.entrySet()) {
 			String columnName = entry.getKey();
+			if (versionColumn != null && versionColumn.getColumnName().equalsIgnoreCase(columnName)) {
+				//  The given value is the version read before, the column will be increased after the loop
+				expectedVersion = entry.getValue();
+				continue;
+			}
 			columnBuilder.append(BrainCommons.DEFAULT_SPLIT_CHARACTER)
 					.append(this.nameCase(columnName))
 					.append(BrainCommons.OPERATOR_EQUAL);
@@ -929,14 +1330,221 @@ public abstract class JdbcDialect extends BaseDialect {
 
 		StringBuilder sqlBuilder =
 				new StringBuilder(COMMAND_UPDATE).append(this.nameCase(tableName));
+		if (versionColumn != null) {
+			String versionName = this.nameCase(versionColumn.getColumnName());
+			columnBuilder.append(BrainCommons.DEFAULT_SPLIT_CHARACTER)
+					.append(versionName)
+					.append(BrainCommons.OPERATOR_EQUAL)
+					.append(versionName)
+					.append(VERSION_INCREASE);
+		}
 		if (columnBuilder.isEmpty()) {
 			throw new MultilingualSQLException(0x00DB00000008L);
 		}
 		sqlBuilder.append(COMMAND_SET).append(columnBuilder).append(WHERE_COMMAND)
 				.append(BrainCommons.DEFAULT_WHERE_CLAUSE).append(this.whereClause(filterMap, values));
+		if (expectedVersion != null) {
+			sqlBuilder.append(this.whereClause(Map.of(versionColumn.getColumnName(), expectedVersion), values));
+		}
 		return new SQLCommand(sqlBuilder.toString(), values);
 	}
 
+	/**
+	 * <h4 class="en-US">Generate SQL commands to insert the record or update it if the record conflicts</h4>
+	 * <p class="en-US">
+	 *     The command syntax was chosen by the upsertType method of the dialect. The conflict columns default to the
+	 *     primary key columns. The conflict columns, the primary key columns and the generated identify columns were
+	 *     not updated, the optimistic lock version was increased when the record was updated.
+	 * </p>
+	 * <h4 class="zh-CN">生成插入记录或在记录冲突时更新记录的SQL命令</h4>
+	 * <p class="zh-CN">
+	 *     命令语法由方言的upsertType方法选择。冲突列默认为主键列。冲突列、主键列和生成的标识列不被更新，更新记录时递增乐观锁版本。
+	 * </p>
+	 *
+	 * @param tableDefine     <span class="en-US">Table define information</span>
+	 *                        <span class="zh-CN">数据表定义信息</span>
+	 * @param tableName       <span class="en-US">Query table name</span>
+	 *                        <span class="zh-CN">查询数据表名</span>
+	 * @param dataMap         <span class="en-US">Insert or update data mapping</span>
+	 *                        <span class="zh-CN">插入或更新数据映射表</span>
+	 * @param conflictColumns <span class="en-US">Conflict column names, using primary key columns if empty</span>
+	 *                        <span class="zh-CN">冲突列名，为空时使用主键列</span>
+	 * @return <span class="en-US">Generated SQL command</span>
+	 * <span class="zh-CN">生成的SQL命令</span>
+	 * @throws SQLException <span class="en-US">An error occurred while generating the SQL command</span>
+	 *                      <span class="zh-CN">生成的SQL命令时出现错误</span>
+	 */
+	public final SQLCommand upsertCommand(@Nonnull final TableDefine tableDefine, final String tableName,
+	                                      @Nonnull final Map<String, Serializable> dataMap,
+	                                      final List<String> conflictColumns) throws SQLException {
+		if (dataMap.isEmpty()) {
+			throw new SQLException("Upsert parameter map is empty!");
+		}
+		Map<String, String> valueItems = new LinkedHashMap<>();
+		List<Object> values = new ArrayList<>();
+		this.insertValues(tableDefine, dataMap, valueItems, values);
+		if (valueItems.isEmpty()) {
+			throw new MultilingualSQLException(0x00DB00000007L);
+		}
+		List<String> conflictList = new ArrayList<>();
+		if (conflictColumns == null || conflictColumns.isEmpty()) {
+			tableDefine.columnDefines()
+					.stream()
+					.filter(ColumnDefine::isPrimaryKey)
+					.map(ColumnDefine::getColumnName)
+					.forEach(conflictList::add);
+		} else {
+			conflictList.addAll(conflictColumns);
+		}
+		List<String> updateColumns = valueItems.keySet()
+				.stream()
+				.filter(columnName -> updatable(tableDefine, columnName, conflictList))
+				.toList();
+		String targetName = this.nameCase(tableName);
+		ColumnDefine versionColumn = tableDefine.versionColumn();
+		List<String> updateItems = new ArrayList<>();
+		StringBuilder sqlBuilder = new StringBuilder();
+		switch (this.upsertType()) {
+			case ON_CONFLICT -> {
+				if (conflictList.isEmpty()) {
+					throw new MultilingualSQLException(0x00DB0000003FL, tableName);
+				}
+				updateColumns.forEach(columnName ->
+						updateItems.add(this.nameCase(columnName) + BrainCommons.OPERATOR_EQUAL
+								+ UPSERT_EXCLUDED + this.nameCase(columnName)));
+				if (versionColumn != null) {
+					updateItems.add(this.versionIncrease(versionColumn, targetName + "."));
+				}
+				sqlBuilder.append(this.insertClause(targetName, valueItems))
+						.append(UPSERT_ON_CONFLICT)
+						.append(BrainCommons.BRACKETS_BEGIN)
+						.append(String.join(BrainCommons.DEFAULT_SPLIT_CHARACTER,
+								conflictList.stream().map(this::nameCase).toList()))
+						.append(BrainCommons.BRACKETS_END)
+						.append(updateItems.isEmpty()
+								? UPSERT_DO_NOTHING
+								: UPSERT_DO_UPDATE + String.join(BrainCommons.DEFAULT_SPLIT_CHARACTER, updateItems));
+			}
+			case ON_DUPLICATE_KEY -> {
+				updateColumns.forEach(columnName ->
+						updateItems.add(this.nameCase(columnName) + BrainCommons.OPERATOR_EQUAL
+								+ UPSERT_VALUES + BrainCommons.BRACKETS_BEGIN + this.nameCase(columnName)
+								+ BrainCommons.BRACKETS_END));
+				if (versionColumn != null) {
+					updateItems.add(this.versionIncrease(versionColumn, Globals.DEFAULT_VALUE_STRING));
+				}
+				if (updateItems.isEmpty()) {
+					//  Nothing to update, the assignment of the same value keeps the existing record
+					String columnName = this.nameCase(valueItems.keySet().iterator().next());
+					updateItems.add(columnName + BrainCommons.OPERATOR_EQUAL + columnName);
+				}
+				sqlBuilder.append(this.insertClause(targetName, valueItems))
+						.append(UPSERT_ON_DUPLICATE_KEY)
+						.append(String.join(BrainCommons.DEFAULT_SPLIT_CHARACTER, updateItems));
+			}
+			case MERGE -> {
+				if (conflictList.isEmpty()
+						|| !conflictList.stream().allMatch(columnName -> valueItems.keySet()
+						.stream()
+						.anyMatch(columnName::equalsIgnoreCase))) {
+					throw new MultilingualSQLException(0x00DB0000003FL, tableName);
+				}
+				StringBuilder sourceBuilder = new StringBuilder();
+				StringBuilder columnBuilder = new StringBuilder();
+				StringBuilder valueBuilder = new StringBuilder();
+				valueItems.forEach((columnName, valueItem) -> {
+					String itemName = this.nameCase(columnName);
+					sourceBuilder.append(BrainCommons.DEFAULT_SPLIT_CHARACTER)
+							.append(valueItem).append(this.aliasCommand()).append(itemName);
+					columnBuilder.append(BrainCommons.DEFAULT_SPLIT_CHARACTER).append(itemName);
+					valueBuilder.append(BrainCommons.DEFAULT_SPLIT_CHARACTER)
+							.append(MERGE_SOURCE).append(".").append(itemName);
+				});
+				List<String> matchItems = new ArrayList<>();
+				conflictList.forEach(columnName ->
+						matchItems.add(MERGE_TARGET + "." + this.nameCase(columnName) + BrainCommons.OPERATOR_EQUAL
+								+ MERGE_SOURCE + "." + this.nameCase(columnName)));
+				updateColumns.forEach(columnName ->
+						updateItems.add(this.nameCase(columnName) + BrainCommons.OPERATOR_EQUAL
+								+ MERGE_SOURCE + "." + this.nameCase(columnName)));
+				if (versionColumn != null) {
+					updateItems.add(this.versionIncrease(versionColumn, MERGE_TARGET + "."));
+				}
+				int prefixLength = BrainCommons.DEFAULT_SPLIT_CHARACTER.length();
+				sqlBuilder.append(MERGE_INTO).append(targetName).append(" ").append(MERGE_TARGET)
+						.append(MERGE_USING).append(BrainCommons.BRACKETS_BEGIN)
+						.append(SELECT_COMMAND).append(sourceBuilder.substring(prefixLength)).append(this.dualTable())
+						.append(BrainCommons.BRACKETS_END).append(" ").append(MERGE_SOURCE)
+						.append(DEFAULT_COMMAND_ON).append(BrainCommons.BRACKETS_BEGIN)
+						.append(String.join(MERGE_AND, matchItems))
+						.append(BrainCommons.BRACKETS_END);
+				if (!updateItems.isEmpty()) {
+					sqlBuilder.append(MERGE_MATCHED)
+							.append(String.join(BrainCommons.DEFAULT_SPLIT_CHARACTER, updateItems));
+				}
+				sqlBuilder.append(MERGE_NOT_MATCHED)
+						.append(BrainCommons.BRACKETS_BEGIN).append(columnBuilder.substring(prefixLength))
+						.append(BrainCommons.BRACKETS_END)
+						.append(COMMAND_VALUES)
+						.append(BrainCommons.BRACKETS_BEGIN).append(valueBuilder.substring(prefixLength))
+						.append(BrainCommons.BRACKETS_END)
+						.append(this.mergeTerminator());
+			}
+		}
+		return new SQLCommand(sqlBuilder.toString(), values);
+	}
+
+	/**
+	 * <h4 class="en-US">Check the column was updated when the upsert command conflicts</h4>
+	 * <h4 class="zh-CN">检查插入或更新命令冲突时是否更新该列</h4>
+	 *
+	 * @param tableDefine  <span class="en-US">Table define information</span>
+	 *                     <span class="zh-CN">数据表定义信息</span>
+	 * @param columnName   <span class="en-US">Data column name</span>
+	 *                     <span class="zh-CN">数据列名</span>
+	 * @param conflictList <span class="en-US">Conflict column names</span>
+	 *                     <span class="zh-CN">冲突列名</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	private static boolean updatable(@Nonnull final TableDefine tableDefine, @Nonnull final String columnName,
+	                                 @Nonnull final List<String> conflictList) {
+		if (conflictList.stream().anyMatch(columnName::equalsIgnoreCase)) {
+			return Boolean.FALSE;
+		}
+		boolean primaryKey = tableDefine.columnDefines()
+				.stream()
+				.anyMatch(columnDefine -> columnDefine.isPrimaryKey()
+						&& columnDefine.getColumnName().equalsIgnoreCase(columnName));
+		if (primaryKey) {
+			return Boolean.FALSE;
+		}
+		GeneratorDefine generatorDefine = tableDefine.generatorDefine(columnName);
+		if (generatorDefine == null) {
+			return Boolean.TRUE;
+		}
+		return switch (generatorDefine.getGenerationType()) {
+			case ASSIGNED, GENERATE, SEQUENCE, AUTO_INCREMENT, VERSION -> Boolean.FALSE;
+			default -> Boolean.TRUE;
+		};
+	}
+
+	/**
+	 * <h4 class="en-US">Generate the assignment of increasing the optimistic lock version</h4>
+	 * <h4 class="zh-CN">生成递增乐观锁版本的赋值语句</h4>
+	 *
+	 * @param versionColumn <span class="en-US">Optimistic lock version column define</span>
+	 *                      <span class="zh-CN">乐观锁版本列定义</span>
+	 * @param prefix        <span class="en-US">Qualifier prefix of the existing version value</span>
+	 *                      <span class="zh-CN">现有版本值的限定前缀</span>
+	 * @return <span class="en-US">Generated assignment</span>
+	 * <span class="zh-CN">生成的赋值语句</span>
+	 */
+	private String versionIncrease(@Nonnull final ColumnDefine versionColumn, @Nonnull final String prefix) {
+		String versionName = this.nameCase(versionColumn.getColumnName());
+		return versionName + BrainCommons.OPERATOR_EQUAL + prefix + versionName + VERSION_INCREASE;
+	}
+
 	/**
 	 * <h4 class="en-US">Generate SQL commands to delete record</h4>
 	 * <h4 class="zh-CN">生成删除记录的SQL命令</h4>
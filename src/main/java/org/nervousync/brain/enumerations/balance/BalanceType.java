@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.brain.enumerations.balance;
+
+import jakarta.xml.bind.annotation.XmlEnum;
+
+/**
+ * <h2 class="en-US">Enumeration value of read routing strategy</h2>
+ * <h2 class="zh-CN">读取路由策略的枚举值</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 11:28:04 $
+ */
+@XmlEnum
+public enum BalanceType {
+	/**
+	 * <span class="en-US">Round robin</span>
+	 * <span class="zh-CN">轮询</span>
+	 */
+	ROUND_ROBIN,
+	/**
+	 * <span class="en-US">Random weighted by server level</span>
+	 * <span class="zh-CN">按服务器等级加权随机</span>
+	 */
+	WEIGHTED,
+	/**
+	 * <span class="en-US">Least outstanding requests</span>
+	 * <span class="zh-CN">最少未完成请求</span>
+	 */
+	LEAST_OUTSTANDING,
+	/**
+	 * <span class="en-US">Power of two choices by EWMA latency and outstanding requests</span>
+	 * <span class="zh-CN">按指数加权移动平均延迟及未完成请求进行二选一</span>
+	 */
+	EWMA
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.brain.enumerations.balance;
+
+/**
+ * <h2 class="en-US">Enumeration value of server circuit breaker state</h2>
+ * <h2 class="zh-CN">服务器断路器状态的枚举值</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 13:05:22 $
+ */
+public enum CircuitState {
+	/**
+	 * <span class="en-US">Closed, requests were routed to the server</span>
+	 * <span class="zh-CN">闭合，请求被路由到服务器</span>
+	 */
+	CLOSED,
+	/**
+	 * <span class="en-US">Open, requests were rejected immediately</span>
+	 * <span class="zh-CN">断开，请求被立即拒绝</span>
+	 */
+	OPEN,
+	/**
+	 * <span class="en-US">Half open, the server was being probed in the background</span>
+	 * <span class="zh-CN">半开，正在后台探测服务器</span>
+	 */
+	HALF_OPEN
+}
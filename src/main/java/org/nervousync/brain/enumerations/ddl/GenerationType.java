@@ -62,5 +62,10 @@ public enum GenerationType {
      * <span class="en-US">Current timestamp</span>
      * <span class="zh-CN">当前时间戳</span>
      */
-    CURRENT_TIMESTAMP
+    CURRENT_TIMESTAMP,
+    /**
+     * <span class="en-US">Optimistic lock version, increased on every update and checked by the expected value</span>
+     * <span class="zh-CN">乐观锁版本，每次更新时递增并使用期望值检查</span>
+     */
+    VERSION
 }
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.brain.enumerations.execution;
+
+/**
+ * <h2 class="en-US">Enumeration of execution phase</h2>
+ * <h2 class="zh-CN">执行阶段的枚举类</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 09:12:27 $
+ */
+public enum ExecutionPhase {
+    /**
+     * <span class="en-US">Borrow connection from connection pool</span>
+     * <span class="zh-CN">从连接池中获取连接</span>
+     */
+	BORROW,
+    /**
+     * <span class="en-US">Prepare statement</span>
+     * <span class="zh-CN">创建查询分析器</span>
+     */
+	PREPARE,
+    /**
+     * <span class="en-US">Execute statement</span>
+     * <span class="zh-CN">执行查询分析器</span>
+     */
+	EXECUTE,
+    /**
+     * <span class="en-US">Fetch and decode result set</span>
+     * <span class="zh-CN">读取并解析查询结果集</span>
+     */
+	FETCH,
+    /**
+     * <span class="en-US">Commit transactional</span>
+     * <span class="zh-CN">提交事务</span>
+     */
+	COMMIT,
+    /**
+     * <span class="en-US">Rollback transactional</span>
+     * <span class="zh-CN">回滚事务</span>
+     */
+	ROLLBACK
+}
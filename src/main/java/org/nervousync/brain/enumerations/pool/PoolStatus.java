@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.brain.enumerations.pool;
+
+/**
+ * <h2 class="en-US">Enumeration value of connection pool readiness status</h2>
+ * <h2 class="zh-CN">连接池就绪状态的枚举值</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 10:12:36 $
+ */
+public enum PoolStatus {
+	/**
+	 * <span class="en-US">The connection pool is warming up</span>
+	 * <span class="zh-CN">连接池正在预热</span>
+	 */
+	WARMING,
+	/**
+	 * <span class="en-US">The connection pool was warmed up and ready for traffic</span>
+	 * <span class="zh-CN">连接池已完成预热，可以接收请求</span>
+	 */
+	READY,
+	/**
+	 * <span class="en-US">The connection pool failed to warm up</span>
+	 * <span class="zh-CN">连接池预热失败</span>
+	 */
+	FAILED
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.brain.enumerations.query;
+
+/**
+ * <h2 class="en-US">Enumeration value of the insert or update command syntax</h2>
+ * <h2 class="zh-CN">插入或更新命令语法的枚举值</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 20:08:32 $
+ */
+public enum UpsertType {
+	/**
+	 * <span class="en-US">INSERT ... ON CONFLICT (...) DO UPDATE, e.g. PostgreSQL or SQLite</span>
+	 * <span class="zh-CN">INSERT ... ON CONFLICT (...) DO UPDATE，例如PostgreSQL或SQLite</span>
+	 */
+	ON_CONFLICT,
+	/**
+	 * <span class="en-US">INSERT ... ON DUPLICATE KEY UPDATE, e.g. MySQL or MariaDB</span>
+	 * <span class="zh-CN">INSERT ... ON DUPLICATE KEY UPDATE，例如MySQL或MariaDB</span>
+	 */
+	ON_DUPLICATE_KEY,
+	/**
+	 * <span class="en-US">Standard MERGE INTO ... USING, e.g. Oracle, SQL Server or DB2</span>
+	 * <span class="zh-CN">标准MERGE INTO ... USING，例如Oracle、SQL Server或DB2</span>
+	 */
+	MERGE
+}
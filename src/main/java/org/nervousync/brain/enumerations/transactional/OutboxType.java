@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.brain.enumerations.transactional;
+
+/**
+ * <h2 class="en-US">Enumeration value of the write-behind operation</h2>
+ * <h2 class="zh-CN">后写操作的枚举值</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 19:12:06 $
+ */
+public enum OutboxType {
+	/**
+	 * <span class="en-US">Insert record</span>
+	 * <span class="zh-CN">插入记录</span>
+	 */
+	INSERT,
+	/**
+	 * <span class="en-US">Update record</span>
+	 * <span class="zh-CN">更新记录</span>
+	 */
+	UPDATE,
+	/**
+	 * <span class="en-US">Delete record</span>
+	 * <span class="zh-CN">删除记录</span>
+	 */
+	DELETE
+}
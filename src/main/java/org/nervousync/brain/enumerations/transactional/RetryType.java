@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.brain.enumerations.transactional;
+
+/**
+ * <h2 class="en-US">Enumeration value of the retryable transactional failure</h2>
+ * <h2 class="zh-CN">可重试事务失败的枚举值</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 16:42:18 $
+ */
+public enum RetryType {
+	/**
+	 * <span class="en-US">Not retryable</span>
+	 * <span class="zh-CN">不可重试</span>
+	 */
+	NONE,
+	/**
+	 * <span class="en-US">Deadlock detected, the transactional was chosen as the victim</span>
+	 * <span class="zh-CN">检测到死锁，事务被选为牺牲者</span>
+	 */
+	DEADLOCK,
+	/**
+	 * <span class="en-US">Serialization failure, the transactional conflicts with concurrent transactional</span>
+	 * <span class="zh-CN">序列化失败，事务与并发事务冲突</span>
+	 */
+	SERIALIZATION,
+	/**
+	 * <span class="en-US">Timeout while waiting for the record lock</span>
+	 * <span class="zh-CN">等待记录锁超时</span>
+	 */
+	LOCK_TIMEOUT
+}
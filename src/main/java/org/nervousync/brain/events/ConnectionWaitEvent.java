@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.brain.events;
+
+import jdk.jfr.*;
+
+/**
+ * <h2 class="en-US">JFR event of waiting for available connection</h2>
+ * <h2 class="zh-CN">等待可用连接的JFR事件</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 11:05:38 $
+ */
+@Name("org.nervousync.brain.ConnectionWait")
+@Label("Connection Wait")
+@Description("Waiting for available connection of JDBC connection pool")
+@Category({"Nervousync", "Brain", "Connection Pool"})
+@Threshold("1 ms")
+@StackTrace(false)
+public final class ConnectionWaitEvent extends Event {
+
+	/**
+	 * <span class="en-US">Database JDBC connection string</span>
+	 * <span class="zh-CN">数据库JDBC连接字符串</span>
+	 */
+	@Label("JDBC URL")
+	public String jdbcUrl;
+	/**
+	 * <span class="en-US">Number of clients waiting to get a connection</span>
+	 * <span class="zh-CN">等待获得连接的客户端数量</span>
+	 */
+	@Label("Wait Count")
+	public int waitCount;
+	/**
+	 * <span class="en-US">Wait timeout</span>
+	 * <span class="zh-CN">等待超时</span>
+	 */
+	@Label("Timeout")
+	public boolean timeout;
+}
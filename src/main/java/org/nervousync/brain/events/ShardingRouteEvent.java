@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.brain.events;
+
+import jdk.jfr.*;
+
+/**
+ * <h2 class="en-US">JFR event of sharding route decision</h2>
+ * <h2 class="zh-CN">分片路由决策的JFR事件</h2>
+ * <p>
+ * <span class="en-US">Disabled by default because every data operation generates this event</span>
+ * <span class="zh-CN">默认禁用，因为每个数据操作都会产生此事件</span>
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 11:14:22 $
+ */
+@Name("org.nervousync.brain.ShardingRoute")
+@Label("Sharding Route")
+@Description("Sharding key calculated for data operation")
+@Category({"Nervousync", "Brain", "Sharding"})
+@Enabled(false)
+@Threshold("0 ms")
+@StackTrace(false)
+public final class ShardingRouteEvent extends Event {
+
+	/**
+	 * <span class="en-US">Data table name</span>
+	 * <span class="zh-CN">数据表名</span>
+	 */
+	@Label("Table Name")
+	public String tableName;
+	/**
+	 * <span class="en-US">Sharding type</span>
+	 * <span class="zh-CN">分片类型</span>
+	 */
+	@Label("Sharding Type")
+	public String shardingType;
+	/**
+	 * <span class="en-US">Calculated sharding key</span>
+	 * <span class="zh-CN">计算的分片值</span>
+	 */
+	@Label("Sharding Key")
+	public String shardingKey;
+}
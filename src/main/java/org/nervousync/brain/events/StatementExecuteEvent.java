@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.brain.events;
+
+import jdk.jfr.*;
+
+import java.util.regex.Pattern;
+
+/**
+ * <h2 class="en-US">JFR event of statement execute</h2>
+ * <h2 class="zh-CN">查询分析器执行的JFR事件</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 11:21:36 $
+ */
+@Name("org.nervousync.brain.StatementExecute")
+@Label("Statement Execute")
+@Description("Execute prepared statement or callable statement")
+@Category({"Nervousync", "Brain", "Statement"})
+@Threshold("20 ms")
+@StackTrace(false)
+public final class StatementExecuteEvent extends Event {
+
+	/**
+	 * <span class="en-US">Regular expression of string literal</span>
+	 * <span class="zh-CN">字符串常量的正则表达式</span>
+	 */
+	private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+	/**
+	 * <span class="en-US">Regular expression of numeric literal</span>
+	 * <span class="zh-CN">数字常量的正则表达式</span>
+	 */
+	private static final Pattern NUMERIC_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+	/**
+	 * <span class="en-US">Regular expression of whitespace characters</span>
+	 * <span class="zh-CN">空白字符的正则表达式</span>
+	 */
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	/**
+	 * <span class="en-US">SQL fingerprint, literals replaced by placeholder and whitespace collapsed</span>
+	 * <span class="zh-CN">SQL指纹，常量替换为占位符并合并空白字符</span>
+	 */
+	@Label("SQL Fingerprint")
+	public String fingerprint;
+	/**
+	 * <span class="en-US">Affected or returned row count, -1 if unknown</span>
+	 * <span class="zh-CN">影响或返回的记录数，未知时为-1</span>
+	 */
+	@Label("Row Count")
+	public long rowCount;
+	/**
+	 * <span class="en-US">Execute succeed</span>
+	 * <span class="zh-CN">执行成功</span>
+	 */
+	@Label("Succeed")
+	public boolean succeed;
+
+	/**
+	 * <h4 class="en-US">Generate SQL fingerprint</h4>
+	 * <h4 class="zh-CN">生成SQL指纹</h4>
+	 *
+	 * @param sql <span class="en-US">SQL command</span>
+	 *            <span class="zh-CN">SQL命令</span>
+	 * @return <span class="en-US">SQL fingerprint</span>
+	 * <span class="zh-CN">SQL指纹</span>
+	 */
+	public static String fingerprint(final String sql) {
+		if (sql == null) {
+			return null;
+		}
+		String fingerprint = STRING_LITERAL.matcher(sql).replaceAll("?");
+		fingerprint = NUMERIC_LITERAL.matcher(fingerprint).replaceAll("?");
+		return WHITESPACE.matcher(fingerprint).replaceAll(" ").trim();
+	}
+}
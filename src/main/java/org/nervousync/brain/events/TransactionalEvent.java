@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.brain.events;
+
+import jdk.jfr.*;
+
+/**
+ * <h2 class="en-US">JFR event of transactional commit or rollback across schemas</h2>
+ * <h2 class="zh-CN">跨数据源提交或回滚事务的JFR事件</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 11:17:55 $
+ */
+@Name("org.nervousync.brain.Transactional")
+@Label("Transactional")
+@Description("Commit or rollback transactional across schemas")
+@Category({"Nervousync", "Brain", "Transactional"})
+@Threshold("10 ms")
+@StackTrace(false)
+public final class TransactionalEvent extends Event {
+
+	/**
+	 * <span class="en-US">Operate type, COMMIT or ROLLBACK</span>
+	 * <span class="zh-CN">操作类型，COMMIT或ROLLBACK</span>
+	 */
+	@Label("Operate")
+	public String operate;
+	/**
+	 * <span class="en-US">Number of schemas</span>
+	 * <span class="zh-CN">数据源数量</span>
+	 */
+	@Label("Schema Count")
+	public int schemaCount;
+	/**
+	 * <span class="en-US">Operate succeed</span>
+	 * <span class="zh-CN">操作成功</span>
+	 */
+	@Label("Succeed")
+	public boolean succeed;
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.brain.exceptions.sql;
+
+import org.nervousync.commons.Globals;
+import org.nervousync.utils.MultilingualUtils;
+
+import java.io.Serial;
+import java.sql.SQLException;
+
+/**
+ * <h2 class="en-US">Optimistic lock conflict exception</h2>
+ * <span class="en-US">Throws when the record was modified or deleted by another transactional after it was read.</span>
+ * <h2 class="zh-CN">乐观锁冲突异常</h2>
+ * <span class="zh-CN">当记录在读取后被其他事务修改或删除时抛出。</span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 17:26:40 $
+ */
+public final class OptimisticLockException extends SQLException {
+
+	/**
+	 * <span class="en-US">Serial version UID</span>
+	 * <span class="zh-CN">序列化UID</span>
+	 */
+	@Serial
+	private static final long serialVersionUID = -3406625177834219075L;
+
+	/**
+	 * <span class="en-US">Internationalization information agent</span>
+	 * <span class="zh-CN">国际化信息代理</span>
+	 */
+	private final MultilingualUtils.Agent multiAgent = MultilingualUtils.newAgent(this.getClass());
+	/**
+	 * <span class="en-US">Details message of error</span>
+	 * <span class="zh-CN">错误详细信息</span>
+	 */
+	private final String detailMessage;
+
+	/**
+	 * <h4 class="en-US">Constructor method for OptimisticLockException</h4>
+	 * <span class="en-US">Create a new OptimisticLockException with the specified message.</span>
+	 * <h4 class="zh-CN">OptimisticLockException构造方法</h4>
+	 * <span class="zh-CN">使用特定的信息创建OptimisticLockException实例对象。</span>
+	 *
+	 * @param errorCode   <span class="en-US">Error identified code</span>
+	 *                    <span class="zh-CN">错误识别代码</span>
+	 * @param collections <span class="en-US">given parameters of information formatter</span>
+	 *                    <span class="zh-CN">用于资源信息格式化的参数</span>
+	 */
+	public OptimisticLockException(final long errorCode, final Object... collections) {
+		super(Globals.DEFAULT_VALUE_STRING);
+		this.detailMessage = this.multiAgent.errorMessage(errorCode, collections);
+	}
+
+	@Override
+	public String getMessage() {
+		return detailMessage;
+	}
+}
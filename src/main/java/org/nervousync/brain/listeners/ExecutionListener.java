@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.brain.listeners;
+
+import org.nervousync.brain.enumerations.execution.ExecutionPhase;
+
+/**
+ * <h2 class="en-US">Execution listener interface</h2>
+ * <h2 class="zh-CN">执行监听器接口</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 09:15:42 $
+ */
+public interface ExecutionListener {
+
+	/**
+	 * <h4 class="en-US">Execution phase begin</h4>
+	 * <h4 class="zh-CN">执行阶段开始</h4>
+	 *
+	 * @param phase    <span class="en-US">Execution phase</span>
+	 *                 <span class="zh-CN">执行阶段</span>
+	 * @param identify <span class="en-US">Identify information (JDBC connection string or SQL command)</span>
+	 *                 <span class="zh-CN">识别信息（JDBC连接字符串或SQL命令）</span>
+	 */
+	void begin(final ExecutionPhase phase, final String identify);
+
+	/**
+	 * <h4 class="en-US">Execution phase end</h4>
+	 * <h4 class="zh-CN">执行阶段结束</h4>
+	 *
+	 * @param phase       <span class="en-US">Execution phase</span>
+	 *                    <span class="zh-CN">执行阶段</span>
+	 * @param identify    <span class="en-US">Identify information (JDBC connection string or SQL command)</span>
+	 *                    <span class="zh-CN">识别信息（JDBC连接字符串或SQL命令）</span>
+	 * @param elapsedTime <span class="en-US">Elapsed time (Unit: nanoseconds)</span>
+	 *                    <span class="zh-CN">耗费时间（单位：纳秒）</span>
+	 * @param cause       <span class="en-US">Error instance if execution failed, or null if succeed</span>
+	 *                    <span class="zh-CN">执行失败时的异常实例对象，执行成功时为null</span>
+	 */
+	void end(final ExecutionPhase phase, final String identify, final long elapsedTime, final Throwable cause);
+}
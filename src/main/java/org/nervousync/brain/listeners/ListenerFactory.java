@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.brain.listeners;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.brain.enumerations.execution.ExecutionPhase;
+import org.nervousync.commons.Globals;
+import org.nervousync.utils.LoggerUtils;
+
+import java.util.Arrays;
+import java.util.ServiceLoader;
+
+/**
+ * <h2 class="en-US">Execution listener factory, running in singleton mode</h2>
+ * <h2 class="zh-CN">执行监听器工厂，使用单例模式运行</h2>
+ * <p>
+ * <span class="en-US">When no listener is registered, the notify methods only check the length of the registered array, no objects are allocated and no timestamp is read</span>
+ * <span class="zh-CN">当没有注册监听器时，通知方法仅检查已注册数组的长度，不会分配任何对象也不会读取时间戳</span>
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 09:21:08 $
+ */
+public final class ListenerFactory {
+
+	/**
+	 * <span class="en-US">Logger instance</span>
+	 * <span class="zh-CN">日志实例</span>
+	 */
+	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(ListenerFactory.class);
+
+	/**
+	 * <span class="en-US">Registered execution listener instance objects</span>
+	 * <span class="zh-CN">已注册的执行监听器实例对象</span>
+	 */
+	private static volatile ExecutionListener[] REGISTERED_LISTENERS = new ExecutionListener[0];
+
+	static {
+		//  Load execution listener implementation class by Java SPI
+		ServiceLoader.load(ExecutionListener.class).forEach(ListenerFactory::register);
+	}
+
+	/**
+	 * <h4 class="en-US">Register the execution listener instance</h4>
+	 * <h4 class="zh-CN">注册执行监听器实例对象</h4>
+	 *
+	 * @param listener <span class="en-US">Execution listener instance object</span>
+	 *                 <span class="zh-CN">执行监听器实例对象</span>
+	 */
+	public static synchronized void register(@Nonnull final ExecutionListener listener) {
+		if (Arrays.asList(REGISTERED_LISTENERS).contains(listener)) {
+			return;
+		}
+		ExecutionListener[] listeners = Arrays.copyOf(REGISTERED_LISTENERS, REGISTERED_LISTENERS.length + 1);
+		listeners[REGISTERED_LISTENERS.length] = listener;
+		REGISTERED_LISTENERS = listeners;
+	}
+
+	/**
+	 * <h4 class="en-US">Deregister the execution listener instance</h4>
+	 * <h4 class="zh-CN">取消注册执行监听器实例对象</h4>
+	 *
+	 * @param listener <span class="en-US">Execution listener instance object</span>
+	 *                 <span class="zh-CN">执行监听器实例对象</span>
+	 */
+	public static synchronized void deregister(@Nonnull final ExecutionListener listener) {
+		REGISTERED_LISTENERS = Arrays.stream(REGISTERED_LISTENERS)
+				.filter(registeredListener -> registeredListener != listener)
+				.toArray(ExecutionListener[]::new);
+	}
+
+	/**
+	 * <h4 class="en-US">Check any execution listener was registered</h4>
+	 * <h4 class="zh-CN">检查是否注册了执行监听器</h4>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	public static boolean enabled() {
+		return REGISTERED_LISTENERS.length > 0;
+	}
+
+	/**
+	 * <h4 class="en-US">Notify registered listeners that the execution phase begins</h4>
+	 * <h4 class="zh-CN">通知已注册的监听器执行阶段开始</h4>
+	 *
+	 * @param phase    <span class="en-US">Execution phase</span>
+	 *                 <span class="zh-CN">执行阶段</span>
+	 * @param identify <span class="en-US">Identify information</span>
+	 *                 <span class="zh-CN">识别信息</span>
+	 * @return <span class="en-US">Begin time (Unit: nanoseconds), or <code>Globals.DEFAULT_VALUE_LONG</code> if no listener was registered</span>
+	 * <span class="zh-CN">开始时间（单位：纳秒），如果没有注册监听器则返回<code>Globals.DEFAULT_VALUE_LONG</code></span>
+	 */
+	public static long begin(@Nonnull final ExecutionPhase phase, final String identify) {
+		ExecutionListener[] listeners = REGISTERED_LISTENERS;
+		if (listeners.length == 0) {
+			return Globals.DEFAULT_VALUE_LONG;
+		}
+		for (ExecutionListener listener : listeners) {
+			try {
+				listener.begin(phase, identify);
+			} catch (RuntimeException e) {
+				LOGGER.error("Execution_Listener_Error", listener.getClass().getName());
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Stack_Message_Error", e);
+				}
+			}
+		}
+		return System.nanoTime();
+	}
+
+	/**
+	 * <h4 class="en-US">Notify registered listeners that the execution phase ends</h4>
+	 * <h4 class="zh-CN">通知已注册的监听器执行阶段结束</h4>
+	 *
+	 * @param phase     <span class="en-US">Execution phase</span>
+	 *                  <span class="zh-CN">执行阶段</span>
+	 * @param identify  <span class="en-US">Identify information</span>
+	 *                  <span class="zh-CN">识别信息</span>
+	 * @param beginTime <span class="en-US">Begin time returned by method begin</span>
+	 *                  <span class="zh-CN">begin方法返回的开始时间</span>
+	 * @param cause     <span class="en-US">Error instance if execution failed, or null if succeed</span>
+	 *                  <span class="zh-CN">执行失败时的异常实例对象，执行成功时为null</span>
+	 */
+	public static void end(@Nonnull final ExecutionPhase phase, final String identify,
+	                       final long beginTime, final Throwable cause) {
+		ExecutionListener[] listeners = REGISTERED_LISTENERS;
+		if (beginTime == Globals.DEFAULT_VALUE_LONG || listeners.length == 0) {
+			return;
+		}
+		long elapsedTime = System.nanoTime() - beginTime;
+		for (ExecutionListener listener : listeners) {
+			try {
+				listener.end(phase, identify, elapsedTime, cause);
+			} catch (RuntimeException e) {
+				LOGGER.error("Execution_Listener_Error", listener.getClass().getName());
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Stack_Message_Error", e);
+				}
+			}
+		}
+	}
+}
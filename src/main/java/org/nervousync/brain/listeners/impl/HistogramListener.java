@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.brain.listeners.impl;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.brain.enumerations.execution.ExecutionPhase;
+import org.nervousync.brain.listeners.ExecutionListener;
+import org.nervousync.commons.Globals;
+
+import java.util.EnumMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <h2 class="en-US">Reference execution listener, aggregate elapsed time into histograms by execution phase</h2>
+ * <h2 class="zh-CN">参考执行监听器，按照执行阶段将耗费时间汇总到直方图中</h2>
+ * <p>
+ * <span class="en-US">Bucket N counts the elapsed time which less than 2^N microseconds, the last bucket counts all greater values</span>
+ * <span class="zh-CN">第N个桶统计耗费时间小于2^N微秒的次数，最后一个桶统计所有更大的值</span>
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 09:48:51 $
+ */
+public final class HistogramListener implements ExecutionListener {
+
+	/**
+	 * <span class="en-US">Bucket count of histogram</span>
+	 * <span class="zh-CN">直方图的桶数量</span>
+	 */
+	public static final int BUCKET_COUNT = 32;
+
+	/**
+	 * <span class="en-US">Histogram mapping by execution phase</span>
+	 * <span class="zh-CN">按照执行阶段的直方图映射表</span>
+	 */
+	private final EnumMap<ExecutionPhase, Histogram> histograms = new EnumMap<>(ExecutionPhase.class);
+
+	/**
+	 * <h4 class="en-US">Constructor method for histogram listener</h4>
+	 * <h4 class="zh-CN">直方图监听器的构造方法</h4>
+	 */
+	public HistogramListener() {
+		for (ExecutionPhase phase : ExecutionPhase.values()) {
+			this.histograms.put(phase, new Histogram());
+		}
+	}
+
+	@Override
+	public void begin(final ExecutionPhase phase, final String identify) {
+	}
+
+	@Override
+	public void end(final ExecutionPhase phase, final String identify, final long elapsedTime, final Throwable cause) {
+		this.histograms.get(phase).record(elapsedTime, cause != null);
+	}
+
+	/**
+	 * <h4 class="en-US">Read the execution count of given phase</h4>
+	 * <h4 class="zh-CN">读取给定执行阶段的执行次数</h4>
+	 *
+	 * @param phase <span class="en-US">Execution phase</span>
+	 *              <span class="zh-CN">执行阶段</span>
+	 * @return <span class="en-US">Execution count</span>
+	 * <span class="zh-CN">执行次数</span>
+	 */
+	public long count(@Nonnull final ExecutionPhase phase) {
+		return this.histograms.get(phase).count.sum();
+	}
+
+	/**
+	 * <h4 class="en-US">Read the failed execution count of given phase</h4>
+	 * <h4 class="zh-CN">读取给定执行阶段的失败次数</h4>
+	 *
+	 * @param phase <span class="en-US">Execution phase</span>
+	 *              <span class="zh-CN">执行阶段</span>
+	 * @return <span class="en-US">Failed execution count</span>
+	 * <span class="zh-CN">失败次数</span>
+	 */
+	public long errorCount(@Nonnull final ExecutionPhase phase) {
+		return this.histograms.get(phase).errorCount.sum();
+	}
+
+	/**
+	 * <h4 class="en-US">Read the total elapsed time of given phase</h4>
+	 * <h4 class="zh-CN">读取给定执行阶段的总耗费时间</h4>
+	 *
+	 * @param phase <span class="en-US">Execution phase</span>
+	 *              <span class="zh-CN">执行阶段</span>
+	 * @return <span class="en-US">Total elapsed time (Unit: nanoseconds)</span>
+	 * <span class="zh-CN">总耗费时间（单位：纳秒）</span>
+	 */
+	public long totalTime(@Nonnull final ExecutionPhase phase) {
+		return this.histograms.get(phase).totalTime.sum();
+	}
+
+	/**
+	 * <h4 class="en-US">Read the maximum elapsed time of given phase</h4>
+	 * <h4 class="zh-CN">读取给定执行阶段的最大耗费时间</h4>
+	 *
+	 * @param phase <span class="en-US">Execution phase</span>
+	 *              <span class="zh-CN">执行阶段</span>
+	 * @return <span class="en-US">Maximum elapsed time (Unit: nanoseconds)</span>
+	 * <span class="zh-CN">最大耗费时间（单位：纳秒）</span>
+	 */
+	public long maxTime(@Nonnull final ExecutionPhase phase) {
+		return this.histograms.get(phase).maxTime.get();
+	}
+
+	/**
+	 * <h4 class="en-US">Read the bucket counts snapshot of given phase</h4>
+	 * <h4 class="zh-CN">读取给定执行阶段的桶计数快照</h4>
+	 *
+	 * @param phase <span class="en-US">Execution phase</span>
+	 *              <span class="zh-CN">执行阶段</span>
+	 * @return <span class="en-US">Bucket counts array</span>
+	 * <span class="zh-CN">桶计数数组</span>
+	 */
+	public long[] buckets(@Nonnull final ExecutionPhase phase) {
+		Histogram histogram = this.histograms.get(phase);
+		long[] buckets = new long[BUCKET_COUNT];
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			buckets[i] = histogram.buckets.get(i);
+		}
+		return buckets;
+	}
+
+	/**
+	 * <h4 class="en-US">Estimate the elapsed time of given percentile</h4>
+	 * <h4 class="zh-CN">估算给定百分位的耗费时间</h4>
+	 *
+	 * @param phase      <span class="en-US">Execution phase</span>
+	 *                   <span class="zh-CN">执行阶段</span>
+	 * @param percentile <span class="en-US">Percentile value (0.0 - 1.0)</span>
+	 *                   <span class="zh-CN">百分位值（0.0 - 1.0）</span>
+	 * @return <span class="en-US">Upper bound of the bucket which contains the percentile (Unit: nanoseconds), or <code>Globals.DEFAULT_VALUE_LONG</code> if no data recorded</span>
+	 * <span class="zh-CN">包含百分位的桶上限值（单位：纳秒），如果没有记录数据则返回<code>Globals.DEFAULT_VALUE_LONG</code></span>
+	 */
+	public long percentile(@Nonnull final ExecutionPhase phase, final double percentile) {
+		long[] buckets = this.buckets(phase);
+		long total = Globals.INITIALIZE_INT_VALUE;
+		for (long bucket : buckets) {
+			total += bucket;
+		}
+		if (total == 0L) {
+			return Globals.DEFAULT_VALUE_LONG;
+		}
+		long threshold = (long) Math.ceil(total * Math.min(1.0d, Math.max(0.0d, percentile)));
+		long current = Globals.INITIALIZE_INT_VALUE;
+		for (int i = 0; i < BUCKET_COUNT - 1; i++) {
+			current += buckets[i];
+			if (current >= threshold) {
+				return (1L << i) * 1000L;
+			}
+		}
+		return this.maxTime(phase);
+	}
+
+	/**
+	 * <h4 class="en-US">Reset all histograms</h4>
+	 * <h4 class="zh-CN">重置所有直方图</h4>
+	 */
+	public void reset() {
+		this.histograms.values().forEach(Histogram::reset);
+	}
+
+	/**
+	 * <h2 class="en-US">Histogram of single execution phase</h2>
+	 * <h2 class="zh-CN">单一执行阶段的直方图</h2>
+	 */
+	private static final class Histogram {
+
+		/**
+		 * <span class="en-US">Bucket counts</span>
+		 * <span class="zh-CN">桶计数</span>
+		 */
+		private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+		/**
+		 * <span class="en-US">Execution count</span>
+		 * <span class="zh-CN">执行次数</span>
+		 */
+		private final LongAdder count = new LongAdder();
+		/**
+		 * <span class="en-US">Failed execution count</span>
+		 * <span class="zh-CN">失败次数</span>
+		 */
+		private final LongAdder errorCount = new LongAdder();
+		/**
+		 * <span class="en-US">Total elapsed time (Unit: nanoseconds)</span>
+		 * <span class="zh-CN">总耗费时间（单位：纳秒）</span>
+		 */
+		private final LongAdder totalTime = new LongAdder();
+		/**
+		 * <span class="en-US">Maximum elapsed time (Unit: nanoseconds)</span>
+		 * <span class="zh-CN">最大耗费时间（单位：纳秒）</span>
+		 */
+		private final LongAccumulator maxTime = new LongAccumulator(Math::max, 0L);
+
+		/**
+		 * <h4 class="en-US">Record elapsed time</h4>
+		 * <h4 class="zh-CN">记录耗费时间</h4>
+		 *
+		 * @param elapsedTime <span class="en-US">Elapsed time (Unit: nanoseconds)</span>
+		 *                    <span class="zh-CN">耗费时间（单位：纳秒）</span>
+		 * @param failed      <span class="en-US">Execution failed</span>
+		 *                    <span class="zh-CN">执行失败</span>
+		 */
+		void record(final long elapsedTime, final boolean failed) {
+			long microseconds = Math.max(0L, elapsedTime / 1000L);
+			int index = Math.min(BUCKET_COUNT - 1, Long.SIZE - Long.numberOfLeadingZeros(microseconds));
+			this.buckets.incrementAndGet(index);
+			this.count.increment();
+			this.totalTime.add(elapsedTime);
+			this.maxTime.accumulate(elapsedTime);
+			if (failed) {
+				this.errorCount.increment();
+			}
+		}
+
+		/**
+		 * <h4 class="en-US">Reset histogram</h4>
+		 * <h4 class="zh-CN">重置直方图</h4>
+		 */
+		void reset() {
+			for (int i = 0; i < BUCKET_COUNT; i++) {
+				this.buckets.set(i, 0L);
+			}
+			this.count.reset();
+			this.errorCount.reset();
+			this.totalTime.reset();
+			this.maxTime.reset();
+		}
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.brain.lob;
+
+/**
+ * <h2 class="en-US">Streaming LOB data consumer</h2>
+ * <h2 class="zh-CN">流式大对象数据消费者</h2>
+ * <p>
+ * <span class="en-US">The given stream is only valid while the consumer is running, the cursor, statement and connection will be released after the consumer returned</span>
+ * <span class="zh-CN">给定的数据流仅在消费者运行期间有效，消费者返回后游标、查询分析器和连接将被释放</span>
+ * </p>
+ *
+ * @param <T> <span class="en-US">Stream type, InputStream or Reader</span>
+ *            <span class="zh-CN">数据流类型，InputStream或Reader</span>
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 13:38:12 $
+ */
+@FunctionalInterface
+public interface LobConsumer<T> {
+
+	/**
+	 * <h4 class="en-US">Consume the LOB data stream</h4>
+	 * <h4 class="zh-CN">消费大对象数据流</h4>
+	 *
+	 * @param lobStream <span class="en-US">LOB data stream, null if the column value is null</span>
+	 *                  <span class="zh-CN">大对象数据流，如果数据列的值为null则为null</span>
+	 * @throws Exception <span class="en-US">If an error occurs when consume the stream</span>
+	 *                   <span class="zh-CN">消费数据流时出错</span>
+	 */
+	void accept(final T lobStream) throws Exception;
+}
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.brain.lob;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.commons.Globals;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * <h2 class="en-US">Streaming LOB value</h2>
+ * <h2 class="zh-CN">流式大对象数据值</h2>
+ * <p>
+ * <span class="en-US">Put the instance into the data mapping of insert or update, the data will be streamed into the database instead of buffered in memory. Only JDBC schema supports streaming LOB value, the stream is not serialized.</span>
+ * <span class="zh-CN">将实例对象放入插入或更新的数据映射表中，数据将以流的方式写入数据库而不会缓存在内存中。仅JDBC数据源支持流式大对象数据值，数据流不会被序列化。</span>
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 13:26:40 $
+ */
+public final class LobValue implements Serializable {
+
+	/**
+	 * <span class="en-US">Serial version UID</span>
+	 * <span class="zh-CN">序列化UID</span>
+	 */
+	@Serial
+	private static final long serialVersionUID = -6408371295032275642L;
+
+	/**
+	 * <span class="en-US">Binary data input stream</span>
+	 * <span class="zh-CN">二进制数据输入流</span>
+	 */
+	private final transient InputStream binaryStream;
+	/**
+	 * <span class="en-US">Character data reader</span>
+	 * <span class="zh-CN">字符数据读取器</span>
+	 */
+	private final transient Reader characterStream;
+	/**
+	 * <span class="en-US">Data length, Globals.DEFAULT_VALUE_LONG if unknown</span>
+	 * <span class="zh-CN">数据长度，未知时为Globals.DEFAULT_VALUE_LONG</span>
+	 */
+	private final long length;
+
+	/**
+	 * <h4 class="en-US">Private constructor method for streaming LOB value</h4>
+	 * <h4 class="zh-CN">流式大对象数据值的私有构造方法</h4>
+	 *
+	 * @param binaryStream    <span class="en-US">Binary data input stream</span>
+	 *                        <span class="zh-CN">二进制数据输入流</span>
+	 * @param characterStream <span class="en-US">Character data reader</span>
+	 *                        <span class="zh-CN">字符数据读取器</span>
+	 * @param length          <span class="en-US">Data length</span>
+	 *                        <span class="zh-CN">数据长度</span>
+	 */
+	private LobValue(final InputStream binaryStream, final Reader characterStream, final long length) {
+		this.binaryStream = binaryStream;
+		this.characterStream = characterStream;
+		this.length = length;
+	}
+
+	/**
+	 * <h4 class="en-US">Create binary streaming LOB value</h4>
+	 * <h4 class="zh-CN">创建二进制流式大对象数据值</h4>
+	 *
+	 * @param binaryStream <span class="en-US">Binary data input stream</span>
+	 *                     <span class="zh-CN">二进制数据输入流</span>
+	 * @param length       <span class="en-US">Data length, Globals.DEFAULT_VALUE_LONG if unknown</span>
+	 *                     <span class="zh-CN">数据长度，未知时为Globals.DEFAULT_VALUE_LONG</span>
+	 * @return <span class="en-US">Generated instance object</span>
+	 * <span class="zh-CN">生成的实例对象</span>
+	 */
+	public static LobValue binary(@Nonnull final InputStream binaryStream, final long length) {
+		return new LobValue(binaryStream, null, length);
+	}
+
+	/**
+	 * <h4 class="en-US">Create binary streaming LOB value from file</h4>
+	 * <h4 class="zh-CN">从文件创建二进制流式大对象数据值</h4>
+	 *
+	 * @param filePath <span class="en-US">File path</span>
+	 *                 <span class="zh-CN">文件路径</span>
+	 * @return <span class="en-US">Generated instance object</span>
+	 * <span class="zh-CN">生成的实例对象</span>
+	 * @throws IOException <span class="en-US">If an I/O error occurs when opening the file</span>
+	 *                     <span class="zh-CN">打开文件时出现I/O错误</span>
+	 */
+	public static LobValue binary(@Nonnull final Path filePath) throws IOException {
+		return new LobValue(Files.newInputStream(filePath), null, Files.size(filePath));
+	}
+
+	/**
+	 * <h4 class="en-US">Create character streaming LOB value</h4>
+	 * <h4 class="zh-CN">创建字符流式大对象数据值</h4>
+	 *
+	 * @param characterStream <span class="en-US">Character data reader</span>
+	 *                        <span class="zh-CN">字符数据读取器</span>
+	 * @param length          <span class="en-US">Data length, Globals.DEFAULT_VALUE_LONG if unknown</span>
+	 *                        <span class="zh-CN">数据长度，未知时为Globals.DEFAULT_VALUE_LONG</span>
+	 * @return <span class="en-US">Generated instance object</span>
+	 * <span class="zh-CN">生成的实例对象</span>
+	 */
+	public static LobValue character(@Nonnull final Reader characterStream, final long length) {
+		return new LobValue(null, characterStream, length);
+	}
+
+	/**
+	 * <h4 class="en-US">Check current value is binary data</h4>
+	 * <h4 class="zh-CN">检查当前值是否为二进制数据</h4>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	public boolean isBinary() {
+		return this.binaryStream != null;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for binary data input stream</h4>
+	 * <h4 class="zh-CN">二进制数据输入流的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Binary data input stream</span>
+	 * <span class="zh-CN">二进制数据输入流</span>
+	 */
+	public InputStream getBinaryStream() {
+		return this.binaryStream;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for character data reader</h4>
+	 * <h4 class="zh-CN">字符数据读取器的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Character data reader</span>
+	 * <span class="zh-CN">字符数据读取器</span>
+	 */
+	public Reader getCharacterStream() {
+		return this.characterStream;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for data length</h4>
+	 * <h4 class="zh-CN">数据长度的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Data length, Globals.DEFAULT_VALUE_LONG if unknown</span>
+	 * <span class="zh-CN">数据长度，未知时为Globals.DEFAULT_VALUE_LONG</span>
+	 */
+	public long getLength() {
+		return this.length;
+	}
+
+	/**
+	 * <h4 class="en-US">Check the data length is known</h4>
+	 * <h4 class="zh-CN">检查数据长度是否已知</h4>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	public boolean lengthKnown() {
+		return this.length != Globals.DEFAULT_VALUE_LONG && this.length >= 0L;
+	}
+}
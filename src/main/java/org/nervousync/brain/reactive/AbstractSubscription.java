@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.brain.reactive;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.commons.Globals;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h2 class="en-US">Abstract demand-driven subscription</h2>
+ * <p class="en-US">
+ *     The records are read on the thread which calls request or cancel. Concurrent and reentrant calls are
+ *     serialized by a work counter, so the subscriber signals never overlap and recursive requests from onNext
+ *     do not grow the stack.
+ * </p>
+ * <h2 class="zh-CN">由需求驱动的抽象订阅</h2>
+ * <p class="zh-CN">
+ *     记录在调用request或cancel的线程上读取。并发和重入的调用通过工作计数器串行化，
+ *     因此订阅者的信号不会重叠，并且在onNext中递归请求不会增加调用栈深度。
+ * </p>
+ *
+ * @param <T> <span class="en-US">Record type</span>
+ *            <span class="zh-CN">记录类型</span>
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 11:26:08 $
+ */
+public abstract class AbstractSubscription<T> implements Flow.Subscription {
+
+	/**
+	 * <span class="en-US">Subscriber instance object</span>
+	 * <span class="zh-CN">订阅者实例对象</span>
+	 */
+	private final Flow.Subscriber<? super T> subscriber;
+	/**
+	 * <span class="en-US">Outstanding demand count</span>
+	 * <span class="zh-CN">未满足的需求数量</span>
+	 */
+	private final AtomicLong requested = new AtomicLong(0L);
+	/**
+	 * <span class="en-US">Work counter for serializing the drain loop</span>
+	 * <span class="zh-CN">用于串行化读取循环的工作计数器</span>
+	 */
+	private final AtomicInteger workCount = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+	/**
+	 * <span class="en-US">Subscription cancelled status</span>
+	 * <span class="zh-CN">订阅取消状态</span>
+	 */
+	private volatile boolean cancelled = Boolean.FALSE;
+	/**
+	 * <span class="en-US">Invalid request error</span>
+	 * <span class="zh-CN">无效请求错误</span>
+	 */
+	private volatile Throwable requestError = null;
+	/**
+	 * <span class="en-US">Data source opened status</span>
+	 * <span class="zh-CN">数据源打开状态</span>
+	 */
+	private boolean opened = Boolean.FALSE;
+	/**
+	 * <span class="en-US">Subscription finished status</span>
+	 * <span class="zh-CN">订阅结束状态</span>
+	 */
+	private boolean finished = Boolean.FALSE;
+
+	/**
+	 * <h4 class="en-US">Constructor method for abstract subscription</h4>
+	 * <h4 class="zh-CN">抽象订阅的构造方法</h4>
+	 *
+	 * @param subscriber <span class="en-US">Subscriber instance object</span>
+	 *                   <span class="zh-CN">订阅者实例对象</span>
+	 */
+	protected AbstractSubscription(@Nonnull final Flow.Subscriber<? super T> subscriber) {
+		this.subscriber = subscriber;
+	}
+
+	@Override
+	public final void request(final long count) {
+		if (count <= 0L) {
+			this.requestError = new IllegalArgumentException("Request count must be positive: " + count);
+		} else {
+			this.requested.getAndUpdate(current -> {
+				long total = current + count;
+				return (total < 0L) ? Long.MAX_VALUE : total;
+			});
+		}
+		this.drain();
+	}
+
+	@Override
+	public final void cancel() {
+		this.cancelled = Boolean.TRUE;
+		this.drain();
+	}
+
+	/**
+	 * <h4 class="en-US">Open the data source, invoked before reading the first record</h4>
+	 * <h4 class="zh-CN">打开数据源，在读取第一条记录前调用</h4>
+	 *
+	 * @param demand <span class="en-US">Current demand count, can be used as the fetch size</span>
+	 *               <span class="zh-CN">当前需求数量，可用作读取大小</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	protected abstract void open(final long demand) throws Exception;
+
+	/**
+	 * <h4 class="en-US">Read the next record</h4>
+	 * <h4 class="zh-CN">读取下一条记录</h4>
+	 *
+	 * @return <span class="en-US">Record instance object, or null if no more records</span>
+	 * <span class="zh-CN">记录实例对象，没有更多记录时返回null</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	protected abstract T next() throws Exception;
+
+	/**
+	 * <h4 class="en-US">Release the data source, invoked once when the subscription completes, fails or cancelled</h4>
+	 * <h4 class="zh-CN">释放数据源，在订阅完成、出错或取消时调用一次</h4>
+	 *
+	 * @param cause <span class="en-US">Failure cause, or null if completed or cancelled</span>
+	 *              <span class="zh-CN">失败原因，完成或取消时为null</span>
+	 */
+	protected abstract void release(final Throwable cause);
+
+	/**
+	 * <h4 class="en-US">Emit records while there is outstanding demand</h4>
+	 * <h4 class="zh-CN">在存在未满足需求时发送记录</h4>
+	 */
+	private void drain() {
+		if (this.workCount.getAndIncrement() != 0) {
+			return;
+		}
+		int missed = 1;
+		do {
+			if (!this.finished) {
+				this.emit();
+			}
+			missed = this.workCount.addAndGet(-missed);
+		} while (missed != 0);
+	}
+
+	/**
+	 * <h4 class="en-US">Emit records for current demand, must be invoked inside the drain loop</h4>
+	 * <h4 class="zh-CN">按当前需求发送记录，必须在读取循环内调用</h4>
+	 */
+	private void emit() {
+		if (this.cancelled) {
+			this.finish(null);
+			return;
+		}
+		if (this.requestError != null) {
+			this.finish(this.requestError);
+			this.subscriber.onError(this.requestError);
+			return;
+		}
+		long demand = this.requested.get(), emitted = 0L;
+		if (demand == 0L) {
+			return;
+		}
+		try {
+			if (!this.opened) {
+				this.opened = Boolean.TRUE;
+				this.open(demand);
+			}
+			while (emitted < demand) {
+				if (this.cancelled) {
+					this.finish(null);
+					return;
+				}
+				T record = this.next();
+				if (record == null) {
+					this.finish(null);
+					this.subscriber.onComplete();
+					return;
+				}
+				this.subscriber.onNext(record);
+				emitted++;
+			}
+		} catch (Exception e) {
+			this.finish(e);
+			this.subscriber.onError(e);
+			return;
+		}
+		if (demand != Long.MAX_VALUE) {
+			this.requested.addAndGet(-emitted);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Mark the subscription finished and release the data source</h4>
+	 * <h4 class="zh-CN">标记订阅结束并释放数据源</h4>
+	 *
+	 * @param cause <span class="en-US">Failure cause, or null if completed or cancelled</span>
+	 *              <span class="zh-CN">失败原因，完成或取消时为null</span>
+	 */
+	private void finish(final Throwable cause) {
+		this.finished = Boolean.TRUE;
+		if (this.opened) {
+			this.release(cause);
+		}
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.brain.reactive;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Flow;
+
+/**
+ * <h2 class="en-US">Publisher of the records list</h2>
+ * <p class="en-US">
+ *     Used by the schemas which can not read the records on demand, the records list will be loaded
+ *     when the subscriber requests the first record, and loaded again for each subscriber.
+ * </p>
+ * <h2 class="zh-CN">记录列表的发布者</h2>
+ * <p class="zh-CN">
+ *     用于无法按需读取记录的数据源，记录列表在订阅者请求第一条记录时加载，每个订阅者单独加载。
+ * </p>
+ *
+ * @param <T> <span class="en-US">Record type</span>
+ *            <span class="zh-CN">记录类型</span>
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 11:48:27 $
+ */
+public final class ListPublisher<T> implements Flow.Publisher<T> {
+
+	/**
+	 * <span class="en-US">Records list loader</span>
+	 * <span class="zh-CN">记录列表加载器</span>
+	 */
+	private final Callable<List<T>> loader;
+
+	/**
+	 * <h4 class="en-US">Constructor method for publisher of the records list</h4>
+	 * <h4 class="zh-CN">记录列表发布者的构造方法</h4>
+	 *
+	 * @param loader <span class="en-US">Records list loader</span>
+	 *               <span class="zh-CN">记录列表加载器</span>
+	 */
+	public ListPublisher(@Nonnull final Callable<List<T>> loader) {
+		this.loader = loader;
+	}
+
+	@Override
+	public void subscribe(final Flow.Subscriber<? super T> subscriber) {
+		Objects.requireNonNull(subscriber);
+		subscriber.onSubscribe(new ListSubscription(subscriber));
+	}
+
+	/**
+	 * <h2 class="en-US">Subscription of the records list</h2>
+	 * <h2 class="zh-CN">记录列表的订阅</h2>
+	 */
+	private final class ListSubscription extends AbstractSubscription<T> {
+
+		/**
+		 * <span class="en-US">Records iterator</span>
+		 * <span class="zh-CN">记录迭代器</span>
+		 */
+		private Iterator<T> iterator = null;
+
+		/**
+		 * <h4 class="en-US">Constructor method for subscription of the records list</h4>
+		 * <h4 class="zh-CN">记录列表订阅的构造方法</h4>
+		 *
+		 * @param subscriber <span class="en-US">Subscriber instance object</span>
+		 *                   <span class="zh-CN">订阅者实例对象</span>
+		 */
+		ListSubscription(@Nonnull final Flow.Subscriber<? super T> subscriber) {
+			super(subscriber);
+		}
+
+		@Override
+		protected void open(final long demand) throws Exception {
+			List<T> recordList = loader.call();
+			this.iterator = (recordList == null) ? List.<T>of().iterator() : recordList.iterator();
+		}
+
+		@Override
+		protected T next() {
+			return this.iterator.hasNext() ? this.iterator.next() : null;
+		}
+
+		@Override
+		protected void release(final Throwable cause) {
+			this.iterator = null;
+		}
+	}
+}
@@ -30,6 +30,7 @@ import org.nervousync.brain.enumerations.ddl.DropOption;
 import org.nervousync.brain.enumerations.query.ConditionType;
 import org.nervousync.brain.enumerations.query.LockOption;
 import org.nervousync.brain.enumerations.sharding.ShardingType;
+import org.nervousync.brain.enumerations.transactional.RetryType;
 import org.nervousync.brain.exceptions.sql.MultilingualSQLException;
 import org.nervousync.brain.query.QueryInfo;
 import org.nervousync.brain.query.condition.Condition;
@@ -37,6 +38,7 @@ import org.nervousync.brain.query.condition.impl.ColumnCondition;
 import org.nervousync.brain.query.condition.impl.GroupCondition;
 import org.nervousync.brain.query.param.AbstractParameter;
 import org.nervousync.brain.query.param.impl.ConstantParameter;
+import org.nervousync.brain.transactional.TransactionCoordinator;
 import org.nervousync.commons.Globals;
 import org.nervousync.utils.ClassUtils;
 import org.nervousync.utils.LoggerUtils;
@@ -47,6 +49,7 @@ import java.io.Serializable;
 import java.sql.SQLException;
 import java.sql.Wrapper;
 import java.util.*;
+import java.util.concurrent.Flow;
 
 /**
  * <h2 class="en-US">Data source abstract implementation classes</h2>
@@ -63,6 +66,11 @@ public abstract class BaseSchema implements Wrapper, Closeable, BaseSchemaMBean
 	 */
 	protected transient final LoggerUtils.Logger logger = LoggerUtils.getLogger(this.getClass());
 
+	/**
+	 * <span class="en-US">Data schema name</span>
+	 * <span class="zh-CN">数据源名称</span>
+	 */
+	protected final String schemaName;
 	/**
 	 * <span class="en-US">Identity authentication configuration information</span>
 	 * <span class="zh-CN">身份认证配置信息</span>
@@ -113,6 +121,11 @@ public abstract class BaseSchema implements Wrapper, Closeable, BaseSchemaMBean
 	 * <span class="zh-CN">线程使用的事务配置信息</span>
 	 */
 	protected final ThreadLocal<TransactionalConfig> txConfig = new ThreadLocal<>();
+	/**
+	 * <span class="en-US">Transactional coordinator of the data source, null if not bound</span>
+	 * <span class="zh-CN">数据源的事务协调器，未绑定时为null</span>
+	 */
+	protected volatile TransactionCoordinator coordinator = null;
 
 	/**
 	 * <h4 class="en-US">Constructor method for data source abstract implementation classes</h4>
@@ -124,6 +137,7 @@ public abstract class BaseSchema implements Wrapper, Closeable, BaseSchemaMBean
 	 *                      <span class="zh-CN">数据库服务器信息未找到或分片配置出错</span>
 	 */
 	protected BaseSchema(@Nonnull final SchemaConfig schemaConfig) throws SQLException {
+		this.schemaName = schemaConfig.getSchemaName();
 		this.sharding = schemaConfig.isSharding();
 		this.authentication = schemaConfig.getAuthentication();
 		this.trustStore = schemaConfig.getTrustStore();
@@ -189,6 +203,17 @@ public abstract class BaseSchema implements Wrapper, Closeable, BaseSchemaMBean
 		return this.initialized;
 	}
 
+	/**
+	 * <h4 class="en-US">Bind the transactional coordinator of the data source</h4>
+	 * <h4 class="zh-CN">绑定数据源的事务协调器</h4>
+	 *
+	 * @param coordinator <span class="en-US">Transactional coordinator instance</span>
+	 *                    <span class="zh-CN">事务协调器实例对象</span>
+	 */
+	public final void bindCoordinator(final TransactionCoordinator coordinator) {
+		this.coordinator = coordinator;
+	}
+
 	/**
 	 * <h4 class="en-US">Calculate database sharding key</h4>
 	 * <h4 class="zh-CN">计算数据库分片值</h4>
@@ -403,6 +428,124 @@ public abstract class BaseSchema implements Wrapper, Closeable, BaseSchemaMBean
 	 */
 	public abstract void commit() throws Exception;
 
+	/**
+	 * <h4 class="en-US">Check the transactional of current thread was submitted by one resource in one phase</h4>
+	 * <p class="en-US">
+	 *     If the failed submission was in one phase, no resource has committed and the transactional can be replayed.
+	 * </p>
+	 * <h4 class="zh-CN">检查当前线程的事务是否由单一资源一阶段提交</h4>
+	 * <p class="zh-CN">如果失败的提交为一阶段提交，则没有资源已提交，事务可以重新执行。</p>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	public boolean onePhase() {
+		return Boolean.TRUE;
+	}
+
+	/**
+	 * <h4 class="en-US">Check the schema supports preparing transactional</h4>
+	 * <h4 class="zh-CN">检查数据源是否支持预提交事务</h4>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	public abstract boolean supportPrepare();
+
+	/**
+	 * <h4 class="en-US">Prepare transactional, the first phase of two-phase commit</h4>
+	 * <p class="en-US">
+	 *     After prepared, the method commit submits the prepared transactional and the method rollback
+	 *     rolls back the prepared transactional.
+	 * </p>
+	 * <h4 class="zh-CN">预提交事务，两阶段提交的第一阶段</h4>
+	 * <p class="zh-CN">
+	 *     预提交后，commit方法提交预提交的事务，rollback方法回滚预提交的事务。
+	 * </p>
+	 *
+	 * @throws Exception <span class="en-US">If an error occurs during execution</span>
+	 *                   <span class="zh-CN">如果执行过程中出错</span>
+	 */
+	public abstract void prepare() throws Exception;
+
+	/**
+	 * <h4 class="en-US">Names of the resource branches used by current thread transactional</h4>
+	 * <p class="en-US">
+	 *     The branch names were written to the recovery log, and given back by the method recover, so the schema
+	 *     could find the prepared branches again.
+	 * </p>
+	 * <h4 class="zh-CN">当前线程事务使用的资源分支名称</h4>
+	 * <p class="zh-CN">
+	 *     分支名称写入恢复日志，并由recover方法交还，以便数据源再次找到已预提交的分支。
+	 * </p>
+	 *
+	 * @return <span class="en-US">Branch name list, empty list if the schema has no branch to recover</span>
+	 * <span class="zh-CN">分支名称列表，数据源没有需要恢复的分支时为空列表</span>
+	 */
+	public List<String> branchNames() {
+		return List.of();
+	}
+
+	/**
+	 * <h4 class="en-US">Submit or rollback the in-doubt transactional left by the previous process</h4>
+	 * <h4 class="zh-CN">提交或回滚上一进程遗留的未决事务</h4>
+	 *
+	 * @param transactionalCode <span class="en-US">Transactional identify code</span>
+	 *                          <span class="zh-CN">事务识别代码</span>
+	 * @param branchNames       <span class="en-US">Branch names of the schema written to the recovery log</span>
+	 *                          <span class="zh-CN">写入恢复日志的数据源分支名称</span>
+	 * @param commit            <span class="en-US">Submit the transactional, or rollback if false</span>
+	 *                          <span class="zh-CN">提交事务，为false时回滚</span>
+	 * @throws Exception <span class="en-US">If an error occurs during execution, the transactional was left in-doubt</span>
+	 *                   <span class="zh-CN">如果执行过程中出错，事务保持未决状态</span>
+	 */
+	public abstract void recover(final long transactionalCode, @Nonnull final List<String> branchNames,
+	                             final boolean commit) throws Exception;
+
+	/**
+	 * <h4 class="en-US">Create the savepoint to begin the nested transactional</h4>
+	 * <h4 class="zh-CN">创建保存点以开始嵌套事务</h4>
+	 *
+	 * @param savepointName <span class="en-US">Savepoint name</span>
+	 *                      <span class="zh-CN">保存点名称</span>
+	 * @throws Exception <span class="en-US">If an error occurs during execution</span>
+	 *                   <span class="zh-CN">如果执行过程中出错</span>
+	 */
+	public abstract void savepoint(@Nonnull final String savepointName) throws Exception;
+
+	/**
+	 * <h4 class="en-US">Release the savepoint, the work of nested transactional was kept in the enclosing transactional</h4>
+	 * <h4 class="zh-CN">释放保存点，嵌套事务的工作保留在外层事务中</h4>
+	 *
+	 * @param savepointName <span class="en-US">Savepoint name</span>
+	 *                      <span class="zh-CN">保存点名称</span>
+	 * @throws Exception <span class="en-US">If the savepoint was not found or an error occurs during execution</span>
+	 *                   <span class="zh-CN">如果保存点未找到或执行过程中出错</span>
+	 */
+	public abstract void releaseSavepoint(@Nonnull final String savepointName) throws Exception;
+
+	/**
+	 * <h4 class="en-US">Rollback to the savepoint, only the work of nested transactional was discarded</h4>
+	 * <h4 class="zh-CN">回滚到保存点，只丢弃嵌套事务的工作</h4>
+	 *
+	 * @param savepointName <span class="en-US">Savepoint name</span>
+	 *                      <span class="zh-CN">保存点名称</span>
+	 * @throws Exception <span class="en-US">If the savepoint was not found or an error occurs during execution</span>
+	 *                   <span class="zh-CN">如果保存点未找到或执行过程中出错</span>
+	 */
+	public abstract void rollbackSavepoint(@Nonnull final String savepointName) throws Exception;
+
+	/**
+	 * <h4 class="en-US">Classify the exception thrown by the unit of work for retrying the transactional</h4>
+	 * <h4 class="zh-CN">为重试事务分类工作单元抛出的异常</h4>
+	 *
+	 * @param throwable <span class="en-US">Exception thrown by the unit of work</span>
+	 *                  <span class="zh-CN">工作单元抛出的异常</span>
+	 * @return <span class="en-US">Enumeration value of the retryable failure</span>
+	 * <span class="zh-CN">可重试失败的枚举值</span>
+	 */
+	public abstract RetryType retryType(@Nonnull final Throwable throwable);
+
 	/**
 	 * <h4 class="en-US">Truncate all data table</h4>
 	 * <h4 class="zh-CN">清空所有数据表</h4>
@@ -520,6 +663,51 @@ public abstract class BaseSchema implements Wrapper, Closeable, BaseSchemaMBean
 	public abstract int delete(@Nonnull final TableDefine tableDefine,
 	                           @Nonnull final Map<String, Serializable> filterMap) throws Exception;
 
+	/**
+	 * <h4 class="en-US">Execute insert record command, update the record if the record conflicts</h4>
+	 * <h4 class="zh-CN">执行插入数据命令，记录冲突时更新记录</h4>
+	 *
+	 * @param tableDefine     <span class="en-US">Table define information</span>
+	 *                        <span class="zh-CN">数据表定义信息</span>
+	 * @param dataMap         <span class="en-US">Insert or update data mapping</span>
+	 *                        <span class="zh-CN">插入或更新数据映射表</span>
+	 * @param conflictColumns <span class="en-US">Conflict column names, using primary key columns if empty</span>
+	 *                        <span class="zh-CN">冲突列名，为空时使用主键列</span>
+	 * @return <span class="en-US">Affected records count</span>
+	 * <span class="zh-CN">影响记录条数</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	public abstract int upsert(@Nonnull final TableDefine tableDefine, @Nonnull final Map<String, Serializable> dataMap,
+	                           final List<String> conflictColumns) throws Exception;
+
+	/**
+	 * <h4 class="en-US">Execute insert record commands in batch, update the records if the records conflict</h4>
+	 * <p class="en-US">The default implementation executes the command one by one, the schema supports batch should override it.</p>
+	 * <h4 class="zh-CN">批量执行插入数据命令，记录冲突时更新记录</h4>
+	 * <p class="zh-CN">默认实现逐条执行命令，支持批量执行的数据源应覆盖此方法。</p>
+	 *
+	 * @param tableDefine     <span class="en-US">Table define information</span>
+	 *                        <span class="zh-CN">数据表定义信息</span>
+	 * @param dataList        <span class="en-US">Insert or update data mapping list</span>
+	 *                        <span class="zh-CN">插入或更新数据映射表列表</span>
+	 * @param conflictColumns <span class="en-US">Conflict column names, using primary key columns if empty</span>
+	 *                        <span class="zh-CN">冲突列名，为空时使用主键列</span>
+	 * @return <span class="en-US">Affected records count</span>
+	 * <span class="zh-CN">影响记录条数</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	public int upsertBatch(@Nonnull final TableDefine tableDefine,
+	                       @Nonnull final List<Map<String, Serializable>> dataList,
+	                       final List<String> conflictColumns) throws Exception {
+		int affectedCount = 0;
+		for (Map<String, Serializable> dataMap : dataList) {
+			affectedCount += this.upsert(tableDefine, dataMap, conflictColumns);
+		}
+		return affectedCount;
+	}
+
 	/**
 	 * <h4 class="en-US">Execute query record command</h4>
 	 * <h4 class="zh-CN">执行数据检索命令</h4>
@@ -533,6 +721,19 @@ public abstract class BaseSchema implements Wrapper, Closeable, BaseSchemaMBean
 	 */
 	public abstract List<Map<String, String>> query(@Nonnull final QueryInfo queryInfo) throws Exception;
 
+	/**
+	 * <h4 class="en-US">Execute query record command and publish the records on demand</h4>
+	 * <h4 class="zh-CN">执行数据检索命令并按需发布记录</h4>
+	 *
+	 * @param queryInfo <span class="en-US">Query record information</span>
+	 *                  <span class="zh-CN">数据检索信息</span>
+	 * @return <span class="en-US">Publisher of the data mapping tables for queried records</span>
+	 * <span class="zh-CN">查询到记录的数据映射表发布者</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	public abstract Flow.Publisher<Map<String, String>> publish(@Nonnull final QueryInfo queryInfo) throws Exception;
+
 	/**
 	 * <h4 class="en-US">Execute query commands for data updates</h4>
 	 * <h4 class="zh-CN">执行用于数据更新的查询命令</h4>
@@ -566,6 +767,37 @@ public abstract class BaseSchema implements Wrapper, Closeable, BaseSchemaMBean
 		}
 	}
 
+	/**
+	 * <h4 class="en-US">Detach the transactional resources from current thread</h4>
+	 * <h4 class="zh-CN">从当前线程分离事务资源</h4>
+	 *
+	 * @return <span class="en-US">Detached transactional resources, will be attached by method resumeTransactional</span>
+	 * <span class="zh-CN">分离的事务资源，由resumeTransactional方法重新关联</span>
+	 */
+	public final Object suspendTransactional() {
+		Object resources = this.suspendResources();
+		this.txConfig.remove();
+		return resources;
+	}
+
+	/**
+	 * <h4 class="en-US">Attach the transactional resources to current thread</h4>
+	 * <h4 class="zh-CN">将事务资源关联到当前线程</h4>
+	 *
+	 * @param transactionalConfig <span class="en-US">Transactional configure information</span>
+	 *                            <span class="zh-CN">事务配置信息</span>
+	 * @param resources           <span class="en-US">Transactional resources detached by method suspendTransactional</span>
+	 *                            <span class="zh-CN">由suspendTransactional方法分离的事务资源</span>
+	 */
+	public final void resumeTransactional(final TransactionalConfig transactionalConfig, final Object resources) {
+		if (transactionalConfig == null) {
+			this.txConfig.remove();
+		} else {
+			this.txConfig.set(transactionalConfig);
+		}
+		this.resumeResources(resources);
+	}
+
 	/**
 	 * <h4 class="en-US">Initialize sharding connections</h4>
 	 * <h4 class="zh-CN">初始化分片连接</h4>
@@ -601,4 +833,22 @@ public abstract class BaseSchema implements Wrapper, Closeable, BaseSchemaMBean
 	 *                   <span class="zh-CN">执行过程中出错</span>
 	 */
 	protected abstract void clearTransactional() throws Exception;
+
+	/**
+	 * <h4 class="en-US">Remove the transactional resources bound to current thread and return them</h4>
+	 * <h4 class="zh-CN">移除当前线程绑定的事务资源并返回</h4>
+	 *
+	 * @return <span class="en-US">Transactional resources</span>
+	 * <span class="zh-CN">事务资源</span>
+	 */
+	protected abstract Object suspendResources();
+
+	/**
+	 * <h4 class="en-US">Bind the given transactional resources to current thread</h4>
+	 * <h4 class="zh-CN">将给定的事务资源绑定到当前线程</h4>
+	 *
+	 * @param resources <span class="en-US">Transactional resources</span>
+	 *                  <span class="zh-CN">事务资源</span>
+	 */
+	protected abstract void resumeResources(final Object resources);
 }
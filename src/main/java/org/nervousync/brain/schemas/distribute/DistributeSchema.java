@@ -29,6 +29,7 @@ import org.nervousync.brain.dialects.distribute.Operator;
 import org.nervousync.brain.enumerations.ddl.DDLType;
 import org.nervousync.brain.enumerations.ddl.DropOption;
 import org.nervousync.brain.enumerations.query.LockOption;
+import org.nervousync.brain.enumerations.transactional.RetryType;
 import org.nervousync.brain.exceptions.sql.MultilingualSQLException;
 import org.nervousync.brain.query.QueryInfo;
 import org.nervousync.brain.query.condition.Condition;
@@ -38,6 +39,7 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.Flow;
 
 /**
  * <h2 class="en-US">Distribute data source implementation class</h2>
@@ -130,6 +132,51 @@ public final class DistributeSchema extends BaseSchema implements DistributeSche
 		}
 	}
 
+	@Override
+	public boolean supportPrepare() {
+		return Boolean.TRUE;
+	}
+
+	@Override
+	public void prepare() throws Exception {
+		if (this.txConfig.get() != null) {
+			this.operatorThreadLocal.get().prepare(this.txConfig.get());
+		}
+	}
+
+	@Override
+	public void recover(final long transactionalCode, @NotNull final List<String> branchNames,
+	                    final boolean commit) throws Exception {
+		this.distributeClient.newOperator().recover(transactionalCode, commit);
+	}
+
+	@Override
+	public void savepoint(@NotNull final String savepointName) throws Exception {
+		if (this.txConfig.get() != null) {
+			this.operatorThreadLocal.get().savepoint(this.txConfig.get(), savepointName);
+		}
+	}
+
+	@Override
+	public void releaseSavepoint(@NotNull final String savepointName) throws Exception {
+		if (this.txConfig.get() != null) {
+			this.operatorThreadLocal.get().releaseSavepoint(this.txConfig.get(), savepointName);
+		}
+	}
+
+	@Override
+	public void rollbackSavepoint(@NotNull final String savepointName) throws Exception {
+		if (this.txConfig.get() != null) {
+			this.operatorThreadLocal.get().rollbackSavepoint(this.txConfig.get(), savepointName);
+		}
+	}
+
+	@Override
+	public RetryType retryType(@NotNull final Throwable throwable) {
+		//  The SQLState was not transferred from the remote endpoint
+		return RetryType.NONE;
+	}
+
 	@Override
 	public void truncateTables() throws Exception {
 		this.operatorThreadLocal.get().truncateTables();
@@ -176,11 +223,29 @@ public final class DistributeSchema extends BaseSchema implements DistributeSche
 		return this.operatorThreadLocal.get().delete(tableDefine, filterMap);
 	}
 
+	@Override
+	public int upsert(@NotNull final TableDefine tableDefine, @NotNull final Map<String, Serializable> dataMap,
+	                  final List<String> conflictColumns) throws Exception {
+		return this.operatorThreadLocal.get().upsert(tableDefine, dataMap, conflictColumns);
+	}
+
+	@Override
+	public int upsertBatch(@NotNull final TableDefine tableDefine,
+	                       @NotNull final List<Map<String, Serializable>> dataList,
+	                       final List<String> conflictColumns) throws Exception {
+		return this.operatorThreadLocal.get().upsertBatch(tableDefine, dataList, conflictColumns);
+	}
+
 	@Override
 	public List<Map<String, String>> query(@NotNull final QueryInfo queryInfo) throws Exception {
 		return this.operatorThreadLocal.get().query(queryInfo);
 	}
 
+	@Override
+	public Flow.Publisher<Map<String, String>> publish(@NotNull final QueryInfo queryInfo) throws Exception {
+		return this.operatorThreadLocal.get().publish(queryInfo);
+	}
+
 	@Override
 	public List<Map<String, String>> queryForUpdate(@NotNull final TableDefine tableDefine,
 	                                                final List<Condition> conditionList, final LockOption lockOption)
@@ -203,6 +268,20 @@ public final class DistributeSchema extends BaseSchema implements DistributeSche
 		this.operatorThreadLocal.remove();
 	}
 
+	@Override
+	protected Object suspendResources() {
+		Operator operator = this.operatorThreadLocal.get();
+		this.operatorThreadLocal.remove();
+		return operator;
+	}
+
+	@Override
+	protected void resumeResources(final Object resources) {
+		if (resources instanceof Operator) {
+			this.operatorThreadLocal.set((Operator) resources);
+		}
+	}
+
 	@Override
 	public void close() throws IOException {
 		this.distributeClient.close();
@@ -0,0 +1,375 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.brain.schemas.jdbc;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.brain.transactional.DeadlineWatchdog;
+import org.nervousync.utils.StringUtils;
+
+import java.sql.Savepoint;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <h2 class="en-US">Transactional connection mapping of current thread</h2>
+ * <p class="en-US">
+ *     Open addressing hash table with linear probing, key is the connection pool identify key.
+ *     The mapping was modified by the owner thread only and the connections were never removed during the
+ *     transactional, so no tombstone was needed. The connections were iterated in the order of joining.
+ *     Joining, aborting by the watchdog and closing were guarded by the lock, no database I/O was performed
+ *     while holding the lock.
+ * </p>
+ * <h2 class="zh-CN">当前线程的事务连接映射表</h2>
+ * <p class="zh-CN">
+ *     使用线性探测的开放寻址哈希表，键值为连接池识别键。映射表只由所属线程修改，事务期间连接不会被移除，
+ *     因此不需要删除标记。连接按加入顺序迭代。加入、看门狗中止和关闭由锁保护，持有锁期间不执行数据库I/O。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 13:21:06 $
+ */
+final class ConnectionMap implements Iterable<JdbcConnection> {
+
+	/**
+	 * <span class="en-US">Initialize capacity of slots, must be power of two</span>
+	 * <span class="zh-CN">槽位的初始容量，必须为2的幂</span>
+	 */
+	private static final int INITIAL_CAPACITY = 8;
+
+	/**
+	 * <span class="en-US">Connection pool identify key of slots</span>
+	 * <span class="zh-CN">槽位的连接池识别键</span>
+	 */
+	private PoolKey[] keys = new PoolKey[INITIAL_CAPACITY];
+	/**
+	 * <span class="en-US">Database connection of slots</span>
+	 * <span class="zh-CN">槽位的数据库连接</span>
+	 */
+	private JdbcConnection[] values = new JdbcConnection[INITIAL_CAPACITY];
+	/**
+	 * <span class="en-US">Database connections in the order of joining</span>
+	 * <span class="zh-CN">按加入顺序排列的数据库连接</span>
+	 */
+	private JdbcConnection[] ordered = new JdbcConnection[INITIAL_CAPACITY];
+	/**
+	 * <span class="en-US">Count of mapped connections</span>
+	 * <span class="zh-CN">映射的连接数量</span>
+	 */
+	private int size = 0;
+	/**
+	 * <span class="en-US">Deadline of the transactional, null if no timeout</span>
+	 * <span class="zh-CN">事务的截止时间，无超时时为null</span>
+	 */
+	private DeadlineWatchdog.Deadline deadline = null;
+	/**
+	 * <span class="en-US">The connections were released</span>
+	 * <span class="zh-CN">连接已释放</span>
+	 */
+	private volatile boolean closed = Boolean.FALSE;
+	/**
+	 * <span class="en-US">Savepoints of the nested transactional in the order of creating, key is savepoint name</span>
+	 * <span class="zh-CN">按创建顺序排列的嵌套事务保存点，键值为保存点名称</span>
+	 */
+	private final LinkedHashMap<String, Map<PoolKey, Savepoint>> savepoints = new LinkedHashMap<>();
+	/**
+	 * <span class="en-US">Lock of joining, aborting and closing</span>
+	 * <span class="zh-CN">加入、中止和关闭的锁</span>
+	 */
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/**
+	 * <h4 class="en-US">Retrieve the connection of given connection pool identify key</h4>
+	 * <h4 class="zh-CN">获取给定连接池识别键的连接</h4>
+	 *
+	 * @param poolKey <span class="en-US">Connection pool identify key</span>
+	 *                <span class="zh-CN">连接池识别键</span>
+	 * @return <span class="en-US">Mapped connection, null if not found</span>
+	 * <span class="zh-CN">映射的连接，未找到时返回null</span>
+	 */
+	JdbcConnection get(@Nonnull final PoolKey poolKey) {
+		int mask = this.keys.length - 1;
+		int index = spread(poolKey.hashCode()) & mask;
+		PoolKey current;
+		while ((current = this.keys[index]) != null) {
+			if (current.equals(poolKey)) {
+				return this.values[index];
+			}
+			index = (index + 1) & mask;
+		}
+		return null;
+	}
+
+	/**
+	 * <h4 class="en-US">Add the connection to the mapping, key is the connection pool identify key of connection</h4>
+	 * <h4 class="zh-CN">将连接加入映射表，键值为连接的连接池识别键</h4>
+	 *
+	 * @param connection <span class="en-US">Database connection</span>
+	 *                   <span class="zh-CN">数据库连接</span>
+	 */
+	void put(@Nonnull final JdbcConnection connection) {
+		this.lock.lock();
+		try {
+			PoolKey poolKey = connection.poolKey();
+			if ((this.size + 1) * 4 > this.keys.length * 3) {
+				this.resize();
+			}
+			int index = this.slot(this.keys, poolKey);
+			if (this.keys[index] == null) {
+				this.keys[index] = poolKey;
+				this.ordered[this.size++] = connection;
+			} else {
+				for (int i = 0; i < this.size; i++) {
+					if (this.ordered[i] == this.values[index]) {
+						this.ordered[i] = connection;
+					}
+				}
+			}
+			this.values[index] = connection;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for count of mapped connections</h4>
+	 * <h4 class="zh-CN">映射连接数量的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Count of mapped connections</span>
+	 * <span class="zh-CN">映射的连接数量</span>
+	 */
+	int size() {
+		return this.size;
+	}
+
+	/**
+	 * <h4 class="en-US">Bind the deadline of the transactional</h4>
+	 * <h4 class="zh-CN">绑定事务的截止时间</h4>
+	 *
+	 * @param deadline <span class="en-US">Deadline instance</span>
+	 *                 <span class="zh-CN">截止时间实例对象</span>
+	 */
+	void watch(@Nonnull final DeadlineWatchdog.Deadline deadline) {
+		this.deadline = deadline;
+	}
+
+	/**
+	 * <h4 class="en-US">Check the deadline of the transactional was passed</h4>
+	 * <h4 class="zh-CN">检查事务的截止时间是否已过</h4>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	boolean expired() {
+		return this.deadline != null && this.deadline.expired();
+	}
+
+	/**
+	 * <h4 class="en-US">Abort the connections not prepared, invoked by the watchdog when the deadline was passed</h4>
+	 * <p class="en-US">
+	 *     The prepared connections were completed by the coordinator decision.
+	 *     Aborting was thread safe and returns immediately, the aborted connections were removed from the pool,
+	 *     so the connections were released even if the owner thread was stuck.
+	 * </p>
+	 * <h4 class="zh-CN">中止未预提交的连接，截止时间已过时由看门狗调用</h4>
+	 * <p class="zh-CN">
+	 *     已预提交的连接由协调器的决定完成。中止操作是线程安全的并立即返回，被中止的连接从连接池中移除，
+	 *     因此即使所属线程卡住连接也会被释放。
+	 * </p>
+	 *
+	 * @param executor <span class="en-US">Executor of the abort operation</span>
+	 *                 <span class="zh-CN">中止操作的执行器</span>
+	 * @return <span class="en-US"><code>false</code> if the connections were already released</span>
+	 * <span class="zh-CN">连接已释放时返回<code>false</code></span>
+	 */
+	boolean abort(@Nonnull final Executor executor) {
+		this.lock.lock();
+		try {
+			if (this.closed) {
+				return Boolean.FALSE;
+			}
+			for (int i = 0; i < this.size; i++) {
+				if (StringUtils.isEmpty(this.ordered[i].preparedId())) {
+					this.ordered[i].forceAbort(executor);
+				}
+			}
+			return Boolean.TRUE;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Cancel the deadline and mark the connections were released</h4>
+	 * <p class="en-US">Wait for the watchdog finished aborting before the connections were returned to the pool.</p>
+	 * <h4 class="zh-CN">取消截止时间并标记连接已释放</h4>
+	 * <p class="zh-CN">在连接归还到连接池之前等待看门狗完成中止。</p>
+	 */
+	void close() {
+		this.lock.lock();
+		try {
+			if (this.deadline != null) {
+				this.deadline.cancel();
+			}
+			this.closed = Boolean.TRUE;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Check the connections were released</h4>
+	 * <h4 class="zh-CN">检查连接是否已释放</h4>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	boolean isClosed() {
+		return this.closed;
+	}
+
+	/**
+	 * <h4 class="en-US">Register the savepoints of the nested transactional</h4>
+	 * <h4 class="zh-CN">登记嵌套事务的保存点</h4>
+	 *
+	 * @param savepointName <span class="en-US">Savepoint name</span>
+	 *                      <span class="zh-CN">保存点名称</span>
+	 * @param savepointMap  <span class="en-US">Savepoint mapping, key is the connection pool identify key</span>
+	 *                      <span class="zh-CN">保存点映射表，键值为连接池识别键</span>
+	 */
+	void savepoint(@Nonnull final String savepointName, @Nonnull final Map<PoolKey, Savepoint> savepointMap) {
+		this.savepoints.remove(savepointName);
+		this.savepoints.put(savepointName, savepointMap);
+	}
+
+	/**
+	 * <h4 class="en-US">Remove the savepoints of given name and all savepoints created after it</h4>
+	 * <p class="en-US">
+	 *     Rollback to or release a savepoint also discards the savepoints created after it,
+	 *     the same as the database does.
+	 * </p>
+	 * <h4 class="zh-CN">移除给定名称的保存点以及其后创建的所有保存点</h4>
+	 * <p class="zh-CN">
+	 *     与数据库的行为一致，回滚到或释放保存点时同时丢弃其后创建的保存点。
+	 * </p>
+	 *
+	 * @param savepointName <span class="en-US">Savepoint name</span>
+	 *                      <span class="zh-CN">保存点名称</span>
+	 * @return <span class="en-US">Savepoint mapping, or null if the savepoint was not found</span>
+	 * <span class="zh-CN">保存点映射表，如果保存点未找到则返回null</span>
+	 */
+	Map<PoolKey, Savepoint> removeSavepoint(@Nonnull final String savepointName) {
+		if (!this.savepoints.containsKey(savepointName)) {
+			return null;
+		}
+		Map<PoolKey, Savepoint> savepointMap = null;
+		Iterator<Map.Entry<String, Map<PoolKey, Savepoint>>> iterator = this.savepoints.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<String, Map<PoolKey, Savepoint>> entry = iterator.next();
+			if (savepointMap == null && entry.getKey().equals(savepointName)) {
+				savepointMap = entry.getValue();
+			}
+			if (savepointMap != null) {
+				iterator.remove();
+			}
+		}
+		return savepointMap;
+	}
+
+	@Override
+	public Iterator<JdbcConnection> iterator() {
+		return new Iterator<>() {
+
+			/**
+			 * <span class="en-US">Index of next connection</span>
+			 * <span class="zh-CN">下一个连接的索引</span>
+			 */
+			private int index = 0;
+
+			@Override
+			public boolean hasNext() {
+				return this.index < ConnectionMap.this.size;
+			}
+
+			@Override
+			public JdbcConnection next() {
+				if (this.index >= ConnectionMap.this.size) {
+					throw new NoSuchElementException();
+				}
+				return ConnectionMap.this.ordered[this.index++];
+			}
+		};
+	}
+
+	/**
+	 * <h4 class="en-US">Double the capacity and rehash the mapped connections</h4>
+	 * <h4 class="zh-CN">容量加倍并重新散列映射的连接</h4>
+	 */
+	private void resize() {
+		int capacity = this.keys.length << 1;
+		PoolKey[] newKeys = new PoolKey[capacity];
+		JdbcConnection[] newValues = new JdbcConnection[capacity];
+		for (int i = 0; i < this.keys.length; i++) {
+			if (this.keys[i] != null) {
+				int index = this.slot(newKeys, this.keys[i]);
+				newKeys[index] = this.keys[i];
+				newValues[index] = this.values[i];
+			}
+		}
+		this.keys = newKeys;
+		this.values = newValues;
+		this.ordered = Arrays.copyOf(this.ordered, capacity);
+	}
+
+	/**
+	 * <h4 class="en-US">Find the slot of given key, the slot is empty if the key not exists</h4>
+	 * <h4 class="zh-CN">查找给定键的槽位，键不存在时返回空槽位</h4>
+	 *
+	 * @param slotKeys <span class="en-US">Key array of slots</span>
+	 *                 <span class="zh-CN">槽位的键数组</span>
+	 * @param poolKey  <span class="en-US">Connection pool identify key</span>
+	 *                 <span class="zh-CN">连接池识别键</span>
+	 * @return <span class="en-US">Index of slot</span>
+	 * <span class="zh-CN">槽位索引</span>
+	 */
+	private int slot(@Nonnull final PoolKey[] slotKeys, @Nonnull final PoolKey poolKey) {
+		int mask = slotKeys.length - 1;
+		int index = spread(poolKey.hashCode()) & mask;
+		while (slotKeys[index] != null && !slotKeys[index].equals(poolKey)) {
+			index = (index + 1) & mask;
+		}
+		return index;
+	}
+
+	/**
+	 * <h4 class="en-US">Spread the higher bits of hash code to the lower bits</h4>
+	 * <h4 class="zh-CN">将哈希值的高位扩散到低位</h4>
+	 *
+	 * @param hashCode <span class="en-US">Hash code value</span>
+	 *                 <span class="zh-CN">哈希值</span>
+	 * @return <span class="en-US">Spread hash code</span>
+	 * <span class="zh-CN">扩散后的哈希值</span>
+	 */
+	private static int spread(final int hashCode) {
+		return hashCode ^ (hashCode >>> 16);
+	}
+}
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.brain.schemas.jdbc;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.brain.dialects.jdbc.JdbcDialect;
+import org.nervousync.brain.transactional.TransactionalParticipant;
+import org.nervousync.commons.Globals;
+import org.nervousync.utils.StringUtils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * <h2 class="en-US">Transactional participant of the database connection</h2>
+ * <p class="en-US">
+ *     The connection was prepared by the prepare command of dialect, the global identify of prepared transactional
+ *     was generated by the transactional code, the schema name and the index of the connection in the sorted branch
+ *     names written to the recovery log, so the in-doubt transactional could be found again by the schema when
+ *     recovering, and the branches of different connections never share the same global identify.
+ * </p>
+ * <h2 class="zh-CN">数据库连接的事务参与者</h2>
+ * <p class="zh-CN">
+ *     连接通过方言的预提交命令预提交，预提交事务的全局识别由事务代码、数据源名称和连接在写入恢复日志的已排序分支名称中的索引生成，
+ *     数据源恢复时可以再次找到未决事务，不同连接的分支不会使用相同的全局识别。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 10:41:27 $
+ */
+final class ConnectionParticipant implements TransactionalParticipant {
+
+	/**
+	 * <span class="en-US">Prefix of the global identify of prepared transactional</span>
+	 * <span class="zh-CN">预提交事务全局识别的前缀</span>
+	 */
+	private static final String TRANSACTIONAL_ID_PREFIX = "brain_";
+
+	/**
+	 * <span class="en-US">Data schema name</span>
+	 * <span class="zh-CN">数据源名称</span>
+	 */
+	private final String schemaName;
+	/**
+	 * <span class="en-US">Database dialect instance object</span>
+	 * <span class="zh-CN">数据库方言实例对象</span>
+	 */
+	private final JdbcDialect dialect;
+	/**
+	 * <span class="en-US">Database connection of transactional</span>
+	 * <span class="zh-CN">事务的数据库连接</span>
+	 */
+	private final JdbcConnection connection;
+	/**
+	 * <span class="en-US">Branch name of the connection</span>
+	 * <span class="zh-CN">连接的分支名称</span>
+	 */
+	private final String branchName;
+	/**
+	 * <span class="en-US">Global identify of prepared transactional</span>
+	 * <span class="zh-CN">预提交事务的全局识别</span>
+	 */
+	private final String transactionalId;
+
+	/**
+	 * <h4 class="en-US">Constructor method for transactional participant of the database connection</h4>
+	 * <h4 class="zh-CN">数据库连接事务参与者的构造方法</h4>
+	 *
+	 * @param schemaName        <span class="en-US">Data schema name</span>
+	 *                          <span class="zh-CN">数据源名称</span>
+	 * @param dialect           <span class="en-US">Database dialect instance object</span>
+	 *                          <span class="zh-CN">数据库方言实例对象</span>
+	 * @param connection        <span class="en-US">Database connection of transactional</span>
+	 *                          <span class="zh-CN">事务的数据库连接</span>
+	 * @param transactionalCode <span class="en-US">Transactional identify code</span>
+	 *                          <span class="zh-CN">事务识别代码</span>
+	 * @param branchIndex       <span class="en-US">Index of the connection in the sorted branch names of the schema</span>
+	 *                          <span class="zh-CN">连接在数据源已排序分支名称中的索引</span>
+	 */
+	ConnectionParticipant(@Nonnull final String schemaName, @Nonnull final JdbcDialect dialect,
+	                      @Nonnull final JdbcConnection connection, final long transactionalCode,
+	                      final int branchIndex) {
+		this.schemaName = schemaName;
+		this.dialect = dialect;
+		this.connection = connection;
+		this.branchName = connection.poolKey().branchName();
+		this.transactionalId = transactionalId(transactionalCode, schemaName, branchIndex);
+	}
+
+	/**
+	 * <h4 class="en-US">Generate the global identify of prepared transactional</h4>
+	 * <p class="en-US">
+	 *     The characters of schema name other than letters and digits were escaped as the underscore and the
+	 *     hexadecimal character code, so the different schema names never generate the same global identify.
+	 * </p>
+	 * <h4 class="zh-CN">生成预提交事务的全局识别</h4>
+	 * <p class="zh-CN">
+	 *     数据源名称中字母和数字以外的字符转义为下划线加十六进制字符代码，因此不同的数据源名称不会生成相同的全局识别。
+	 * </p>
+	 *
+	 * @param transactionalCode <span class="en-US">Transactional identify code</span>
+	 *                          <span class="zh-CN">事务识别代码</span>
+	 * @param schemaName        <span class="en-US">Data schema name</span>
+	 *                          <span class="zh-CN">数据源名称</span>
+	 * @param branchIndex       <span class="en-US">Index of the branch in the sorted branch names of the schema</span>
+	 *                          <span class="zh-CN">分支在数据源已排序分支名称中的索引</span>
+	 * @return <span class="en-US">Generated global identify</span>
+	 * <span class="zh-CN">生成的全局识别</span>
+	 */
+	static String transactionalId(final long transactionalCode, @Nonnull final String schemaName,
+	                              final int branchIndex) {
+		StringBuilder stringBuilder = new StringBuilder(TRANSACTIONAL_ID_PREFIX).append(transactionalCode).append('_');
+		schemaName.chars().forEach(character -> {
+			if (character < 0x80 && Character.isLetterOrDigit(character)) {
+				stringBuilder.append((char) character);
+			} else {
+				stringBuilder.append('_').append(Integer.toHexString(character)).append('_');
+			}
+		});
+		return stringBuilder.append('_').append(branchIndex).toString();
+	}
+
+	/**
+	 * <h4 class="en-US">Execute the transactional command on given connection</h4>
+	 * <h4 class="zh-CN">在给定的连接上执行事务命令</h4>
+	 *
+	 * @param connection <span class="en-US">Database connection</span>
+	 *                   <span class="zh-CN">数据库连接</span>
+	 * @param command    <span class="en-US">Transactional command</span>
+	 *                   <span class="zh-CN">事务命令</span>
+	 * @throws SQLException <span class="en-US">An error occurred during execution</span>
+	 *                      <span class="zh-CN">执行过程中出错</span>
+	 */
+	static void execute(@Nonnull final Connection connection, @Nonnull final String command) throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute(command);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Check the connection was prepared</h4>
+	 * <h4 class="zh-CN">检查连接是否已预提交</h4>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	boolean prepared() {
+		return StringUtils.notBlank(this.connection.preparedId());
+	}
+
+	@Override
+	public String participantName() {
+		return this.schemaName;
+	}
+
+	@Override
+	public List<String> branchNames() {
+		return List.of(this.branchName);
+	}
+
+	@Override
+	public boolean preparable() {
+		return this.dialect.supportPrepare();
+	}
+
+	@Override
+	public void prepare() throws Exception {
+		execute(this.connection, this.dialect.prepareTransaction(this.transactionalId));
+		this.connection.markPrepared(this.transactionalId);
+	}
+
+	@Override
+	public void commit() throws Exception {
+		if (this.prepared()) {
+			//  The prepared transactional was finished outside the transaction block
+			this.connection.setAutoCommit(Boolean.TRUE);
+			execute(this.connection, this.dialect.commitPrepared(this.connection.preparedId()));
+			this.connection.markPrepared(Globals.DEFAULT_VALUE_STRING);
+		} else {
+			this.connection.commit();
+		}
+	}
+
+	@Override
+	public void rollback() throws Exception {
+		if (this.prepared()) {
+			this.connection.setAutoCommit(Boolean.TRUE);
+			execute(this.connection, this.dialect.rollbackPrepared(this.connection.preparedId()));
+			this.connection.markPrepared(Globals.DEFAULT_VALUE_STRING);
+		} else {
+			this.connection.rollback();
+		}
+	}
+}
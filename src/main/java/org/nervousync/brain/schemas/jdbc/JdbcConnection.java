@@ -17,6 +17,8 @@
 
 package org.nervousync.brain.schemas.jdbc;
 
+import org.nervousync.brain.enumerations.execution.ExecutionPhase;
+import org.nervousync.brain.listeners.ListenerFactory;
 import org.nervousync.commons.Globals;
 import org.nervousync.utils.*;
 
@@ -64,6 +66,146 @@ public class JdbcConnection implements Connection {
 	 * <span class="zh-CN">缓存的查询分析器映射表</span>
 	 */
 	private final List<StatementWrapper<?>> cachedStatements;
+	/**
+	 * <span class="en-US">Connection create time</span>
+	 * <span class="zh-CN">连接创建时间</span>
+	 */
+	private final long createTime;
+	/**
+	 * <span class="en-US">Connection retire time, Globals.DEFAULT_VALUE_LONG for unlimited</span>
+	 * <span class="zh-CN">连接退役时间，Globals.DEFAULT_VALUE_LONG为不限制</span>
+	 */
+	private final long retireTime;
+	/**
+	 * <span class="en-US">Last time the connection was returned to the pool</span>
+	 * <span class="zh-CN">连接最后一次归还到连接池的时间</span>
+	 */
+	private volatile long lastUsedTime;
+	/**
+	 * <span class="en-US">Last time the connection was checked by keepalive probe</span>
+	 * <span class="zh-CN">连接最后一次保活检测的时间</span>
+	 */
+	private volatile long lastCheckTime;
+	/**
+	 * <span class="en-US">Last time the connection was borrowed from the pool</span>
+	 * <span class="zh-CN">连接最后一次从连接池借出的时间</span>
+	 */
+	private volatile long borrowTime;
+	/**
+	 * <span class="en-US">Nano time the connection was borrowed from the pool</span>
+	 * <span class="zh-CN">连接从连接池借出时的纳秒时间</span>
+	 */
+	private volatile long borrowNanos;
+	/**
+	 * <span class="en-US">Sampled borrowing stack, empty string if not sampled</span>
+	 * <span class="zh-CN">采样的借用调用栈，未采样时为空字符串</span>
+	 */
+	private volatile String borrowStack = Globals.DEFAULT_VALUE_STRING;
+	/**
+	 * <span class="en-US">The leak of current borrowing was reported</span>
+	 * <span class="zh-CN">本次借用的泄漏已报告</span>
+	 */
+	private volatile boolean leakReported = Boolean.FALSE;
+	/**
+	 * <span class="en-US">Current borrowing was used for writing</span>
+	 * <span class="zh-CN">本次借用用于写入</span>
+	 */
+	private boolean written = Boolean.FALSE;
+	/**
+	 * <span class="en-US">Global identify of the prepared transactional, empty string if not prepared</span>
+	 * <span class="zh-CN">预提交事务的全局识别，未预提交时为空字符串</span>
+	 */
+	private volatile String preparedId = Globals.DEFAULT_VALUE_STRING;
+	/**
+	 * <span class="en-US">Statement executing on the connection, null if no statement executing</span>
+	 * <span class="zh-CN">连接上正在执行的查询，没有正在执行的查询时为null</span>
+	 */
+	private volatile Statement runningStatement = null;
+	/**
+	 * <span class="en-US">Dirty flag of auto-commit mode</span>
+	 * <span class="zh-CN">自动提交模式的修改标记</span>
+	 */
+	private static final int DIRTY_AUTO_COMMIT = 1;
+	/**
+	 * <span class="en-US">Dirty flag of transaction isolation</span>
+	 * <span class="zh-CN">事务隔离级别的修改标记</span>
+	 */
+	private static final int DIRTY_ISOLATION = 1 << 1;
+	/**
+	 * <span class="en-US">Dirty flag of read-only mode</span>
+	 * <span class="zh-CN">只读模式的修改标记</span>
+	 */
+	private static final int DIRTY_READ_ONLY = 1 << 2;
+	/**
+	 * <span class="en-US">Dirty flag of catalog name</span>
+	 * <span class="zh-CN">目录名称的修改标记</span>
+	 */
+	private static final int DIRTY_CATALOG = 1 << 3;
+	/**
+	 * <span class="en-US">Dirty flag of schema name</span>
+	 * <span class="zh-CN">模式名称的修改标记</span>
+	 */
+	private static final int DIRTY_SCHEMA = 1 << 4;
+	/**
+	 * <span class="en-US">Default auto-commit mode when the connection was established</span>
+	 * <span class="zh-CN">连接建立时的默认自动提交模式</span>
+	 */
+	private final boolean defaultAutoCommit;
+	/**
+	 * <span class="en-US">Default transaction isolation when the connection was established</span>
+	 * <span class="zh-CN">连接建立时的默认事务隔离级别</span>
+	 */
+	private final int defaultIsolation;
+	/**
+	 * <span class="en-US">Default read-only mode when the connection was established</span>
+	 * <span class="zh-CN">连接建立时的默认只读模式</span>
+	 */
+	private final boolean defaultReadOnly;
+	/**
+	 * <span class="en-US">Default catalog name when the connection was established, null if unknown</span>
+	 * <span class="zh-CN">连接建立时的默认目录名称，未知时为null</span>
+	 */
+	private final String defaultCatalog;
+	/**
+	 * <span class="en-US">Default schema name when the connection was established, null if unknown</span>
+	 * <span class="zh-CN">连接建立时的默认模式名称，未知时为null</span>
+	 */
+	private final String defaultSchema;
+	/**
+	 * <span class="en-US">Current auto-commit mode</span>
+	 * <span class="zh-CN">当前的自动提交模式</span>
+	 */
+	private boolean autoCommit;
+	/**
+	 * <span class="en-US">Current transaction isolation</span>
+	 * <span class="zh-CN">当前的事务隔离级别</span>
+	 */
+	private int isolation;
+	/**
+	 * <span class="en-US">Current read-only mode</span>
+	 * <span class="zh-CN">当前的只读模式</span>
+	 */
+	private boolean readOnly;
+	/**
+	 * <span class="en-US">Current catalog name</span>
+	 * <span class="zh-CN">当前的目录名称</span>
+	 */
+	private String catalog;
+	/**
+	 * <span class="en-US">Current schema name</span>
+	 * <span class="zh-CN">当前的模式名称</span>
+	 */
+	private String schema;
+	/**
+	 * <span class="en-US">Dirty flags of the session state</span>
+	 * <span class="zh-CN">会话状态的修改标记</span>
+	 */
+	private int dirtyFlags = Globals.INITIALIZE_INT_VALUE;
+	/**
+	 * <span class="en-US">The connection was enlisted in a transaction, it will be returned when the transaction ends</span>
+	 * <span class="zh-CN">连接已加入事务，将在事务结束时归还</span>
+	 */
+	private volatile boolean transactional = Boolean.FALSE;
 
 	/**
 	 * <h4 class="en-US">Constructor method for data source creates a wrapper class for the connection</h4>
@@ -77,25 +219,44 @@ public class JdbcConnection implements Connection {
 	 *                        <span class="zh-CN">慢查询的临界时间（单位：毫秒）</span>
 	 * @param cachedLimitSize <span class="en-US">Maximum size of prepared statement</span>
 	 *                        <span class="zh-CN">查询分析器的最大缓存结果</span>
+	 * @param lifetime        <span class="en-US">Connection lifetime, 0 for unlimited (Unit: milliseconds)</span>
+	 *                        <span class="zh-CN">连接存活时间，0为不限制（单位：毫秒）</span>
+	 * @throws SQLException <span class="en-US">An error occurred while reading the session state</span>
+	 *                      <span class="zh-CN">读取会话状态时出错</span>
 	 */
 	JdbcConnection(final JdbcConnectionPool connectionPool, final Connection connection,
-	               final long lowQueryTimeout, final int cachedLimitSize) {
+	               final long lowQueryTimeout, final int cachedLimitSize, final long lifetime)
+			throws SQLException {
 		this.connectionPool = connectionPool;
 		this.connection = connection;
 		this.lowQueryTimeout = lowQueryTimeout;
 		this.cachedLimitSize = cachedLimitSize;
 		this.cachedStatements = new ArrayList<>();
+		this.createTime = DateTimeUtils.currentUTCTimeMillis();
+		this.retireTime = (lifetime > 0L) ? this.createTime + lifetime : Globals.DEFAULT_VALUE_LONG;
+		this.lastUsedTime = this.createTime;
+		this.lastCheckTime = this.createTime;
+		this.defaultAutoCommit = connection.getAutoCommit();
+		this.defaultIsolation = connection.getTransactionIsolation();
+		this.defaultReadOnly = connection.isReadOnly();
+		this.defaultCatalog = defaultCatalog(connection);
+		this.defaultSchema = defaultSchema(connection);
+		this.autoCommit = this.defaultAutoCommit;
+		this.isolation = this.defaultIsolation;
+		this.readOnly = this.defaultReadOnly;
+		this.catalog = this.defaultCatalog;
+		this.schema = this.defaultSchema;
 	}
 
 	/**
-	 * <h4 class="en-US">Getter method for connection pool identify code</h4>
-	 * <h4 class="zh-CN">连接池识别代码的Getter方法</h4>
+	 * <h4 class="en-US">Getter method for connection pool identify key</h4>
+	 * <h4 class="zh-CN">连接池识别键的Getter方法</h4>
 	 *
-	 * @return <span class="en-US">Connection pool identify code</span>
-	 * <span class="zh-CN">连接池识别代码</span>
+	 * @return <span class="en-US">Connection pool identify key</span>
+	 * <span class="zh-CN">连接池识别键</span>
 	 */
-	public int identifyCode() {
-		return this.connectionPool.getIdentifyCode();
+	PoolKey poolKey() {
+		return this.connectionPool.getPoolKey();
 	}
 
 	/**
@@ -109,9 +270,305 @@ public class JdbcConnection implements Connection {
 		this.cachedLimitSize = cachedLimitSize;
 	}
 
+	/**
+	 * <h4 class="en-US">Getter method for connection create time</h4>
+	 * <h4 class="zh-CN">连接创建时间的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Connection create time</span>
+	 * <span class="zh-CN">连接创建时间</span>
+	 */
+	public long getCreateTime() {
+		return this.createTime;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for last time the connection was returned to the pool</h4>
+	 * <h4 class="zh-CN">连接最后一次归还到连接池的时间的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Last time the connection was returned to the pool</span>
+	 * <span class="zh-CN">连接最后一次归还到连接池的时间</span>
+	 */
+	public long getLastUsedTime() {
+		return this.lastUsedTime;
+	}
+
+	/**
+	 * <h4 class="en-US">Check the connection reached its lifetime</h4>
+	 * <h4 class="zh-CN">检查连接是否已达到存活时间</h4>
+	 *
+	 * @param currentTime <span class="en-US">Current time</span>
+	 *                    <span class="zh-CN">当前时间</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	boolean retired(final long currentTime) {
+		return this.retireTime != Globals.DEFAULT_VALUE_LONG && currentTime >= this.retireTime;
+	}
+
+	/**
+	 * <h4 class="en-US">Check the connection idle longer than the given time</h4>
+	 * <h4 class="zh-CN">检查连接空闲时间是否超过给定时间</h4>
+	 *
+	 * @param currentTime <span class="en-US">Current time</span>
+	 *                    <span class="zh-CN">当前时间</span>
+	 * @param idleTime    <span class="en-US">Idle time (Unit: milliseconds)</span>
+	 *                    <span class="zh-CN">空闲时间（单位：毫秒）</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	boolean idleTimeout(final long currentTime, final long idleTime) {
+		return idleTime > 0L && (currentTime - this.lastUsedTime) > idleTime;
+	}
+
+	/**
+	 * <h4 class="en-US">Check the connection needs keepalive probe</h4>
+	 * <h4 class="zh-CN">检查连接是否需要保活检测</h4>
+	 *
+	 * @param currentTime   <span class="en-US">Current time</span>
+	 *                      <span class="zh-CN">当前时间</span>
+	 * @param keepaliveTime <span class="en-US">Idle time before the keepalive probe (Unit: milliseconds)</span>
+	 *                      <span class="zh-CN">保活检测前的空闲时间（单位：毫秒）</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	boolean keepalive(final long currentTime, final long keepaliveTime) {
+		return keepaliveTime > 0L
+				&& (currentTime - Math.max(this.lastUsedTime, this.lastCheckTime)) > keepaliveTime;
+	}
+
+	/**
+	 * <h4 class="en-US">Update the last time the connection was returned to the pool</h4>
+	 * <h4 class="zh-CN">更新连接最后一次归还到连接池的时间</h4>
+	 */
+	void markUsed() {
+		this.lastUsedTime = DateTimeUtils.currentUTCTimeMillis();
+	}
+
+	/**
+	 * <h4 class="en-US">Record the borrowing time and the sampled borrowing stack</h4>
+	 * <h4 class="zh-CN">记录借出时间及采样的借用调用栈</h4>
+	 *
+	 * @param borrowStack <span class="en-US">Sampled borrowing stack, empty string if not sampled</span>
+	 *                    <span class="zh-CN">采样的借用调用栈，未采样时为空字符串</span>
+	 */
+	void markBorrowed(final String borrowStack) {
+		this.borrowTime = DateTimeUtils.currentUTCTimeMillis();
+		this.borrowNanos = System.nanoTime();
+		this.borrowStack = borrowStack;
+		this.leakReported = Boolean.FALSE;
+		this.written = Boolean.FALSE;
+		this.preparedId = Globals.DEFAULT_VALUE_STRING;
+	}
+
+	/**
+	 * <h4 class="en-US">Mark current borrowing was used for writing</h4>
+	 * <h4 class="zh-CN">标记本次借用用于写入</h4>
+	 */
+	void markWritten() {
+		this.written = Boolean.TRUE;
+	}
+
+	/**
+	 * <h4 class="en-US">Check current borrowing was used for writing</h4>
+	 * <h4 class="zh-CN">检查本次借用是否用于写入</h4>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	boolean written() {
+		return this.written;
+	}
+
+	/**
+	 * <h4 class="en-US">Mark the transactional of current borrowing was prepared</h4>
+	 * <h4 class="zh-CN">标记本次借用的事务已预提交</h4>
+	 *
+	 * @param preparedId <span class="en-US">Global identify of the prepared transactional, empty string if finished</span>
+	 *                   <span class="zh-CN">预提交事务的全局识别，已完成时为空字符串</span>
+	 */
+	void markPrepared(final String preparedId) {
+		this.preparedId = preparedId;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for global identify of the prepared transactional</h4>
+	 * <h4 class="zh-CN">预提交事务全局识别的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Global identify of the prepared transactional, empty string if not prepared</span>
+	 * <span class="zh-CN">预提交事务的全局识别，未预提交时为空字符串</span>
+	 */
+	String preparedId() {
+		return this.preparedId;
+	}
+
+	/**
+	 * <h4 class="en-US">Record the statement executing on the connection</h4>
+	 * <h4 class="zh-CN">记录连接上正在执行的查询</h4>
+	 *
+	 * @param statement <span class="en-US">Executing statement, null if the execution finished</span>
+	 *                  <span class="zh-CN">正在执行的查询，执行完成时为null</span>
+	 */
+	void running(final Statement statement) {
+		this.runningStatement = statement;
+	}
+
+	/**
+	 * <h4 class="en-US">Cancel the statement executing on the connection</h4>
+	 * <h4 class="zh-CN">取消连接上正在执行的查询</h4>
+	 */
+	void cancelRunning() {
+		Statement statement = this.runningStatement;
+		if (statement != null) {
+			try {
+				statement.cancel();
+			} catch (SQLException e) {
+				LOGGER.error("Cancel_Statement_Error");
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Stack_Message_Error", e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for last time the connection was borrowed from the pool</h4>
+	 * <h4 class="zh-CN">连接最后一次从连接池借出时间的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Last time the connection was borrowed from the pool</span>
+	 * <span class="zh-CN">连接最后一次从连接池借出的时间</span>
+	 */
+	public long getBorrowTime() {
+		return this.borrowTime;
+	}
+
+	/**
+	 * <h4 class="en-US">Time elapsed since the connection was borrowed</h4>
+	 * <h4 class="zh-CN">连接借出后经过的时间</h4>
+	 *
+	 * @return <span class="en-US">Held time (Unit: nanoseconds)</span>
+	 * <span class="zh-CN">持有时间（单位：纳秒）</span>
+	 */
+	long heldTime() {
+		return System.nanoTime() - this.borrowNanos;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for sampled borrowing stack</h4>
+	 * <h4 class="zh-CN">采样的借用调用栈的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Sampled borrowing stack, empty string if not sampled</span>
+	 * <span class="zh-CN">采样的借用调用栈，未采样时为空字符串</span>
+	 */
+	public String getBorrowStack() {
+		return this.borrowStack;
+	}
+
+	/**
+	 * <h4 class="en-US">Check the connection was held longer than the given time</h4>
+	 * <h4 class="zh-CN">检查连接的持有时间是否超过给定的时间</h4>
+	 *
+	 * @param currentTime <span class="en-US">Current time</span>
+	 *                    <span class="zh-CN">当前时间</span>
+	 * @param heldTime    <span class="en-US">Held time, 0 for disabled (Unit: milliseconds)</span>
+	 *                    <span class="zh-CN">持有时间，0为禁用（单位：毫秒）</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	boolean leaked(final long currentTime, final long heldTime) {
+		return heldTime > 0L && (currentTime - this.borrowTime) > heldTime;
+	}
+
+	/**
+	 * <h4 class="en-US">Mark the leak of current borrowing was reported</h4>
+	 * <h4 class="zh-CN">标记本次借用的泄漏已报告</h4>
+	 *
+	 * @return <span class="en-US"><code>true</code> if the leak was not reported before</span>
+	 * <span class="zh-CN">泄漏此前未报告时返回<code>true</code></span>
+	 */
+	boolean reportLeak() {
+		if (this.leakReported) {
+			return Boolean.FALSE;
+		}
+		this.leakReported = Boolean.TRUE;
+		return Boolean.TRUE;
+	}
+
+	/**
+	 * <h4 class="en-US">Update the last time the connection was checked by keepalive probe</h4>
+	 * <h4 class="zh-CN">更新连接最后一次保活检测的时间</h4>
+	 */
+	void markChecked() {
+		this.lastCheckTime = DateTimeUtils.currentUTCTimeMillis();
+	}
+
+	/**
+	 * <h4 class="en-US">Enlist the connection in a transaction</h4>
+	 * <p class="en-US">Only the session state actually changed will be sent to the database server.</p>
+	 * <h4 class="zh-CN">将连接加入事务</h4>
+	 * <p class="zh-CN">仅发送实际发生变化的会话状态到数据库服务器。</p>
+	 *
+	 * @param isolation <span class="en-US">Transactional isolation</span>
+	 *                  <span class="zh-CN">事务隔离级别</span>
+	 * @throws SQLException <span class="en-US">An error occurred while changing the session state</span>
+	 *                      <span class="zh-CN">修改会话状态时出错</span>
+	 */
+	void enlist(final int isolation) throws SQLException {
+		this.setAutoCommit(Boolean.FALSE);
+		this.setTransactionIsolation(isolation);
+		this.transactional = Boolean.TRUE;
+	}
+
+	/**
+	 * <h4 class="en-US">Reset the changed session state to the default values</h4>
+	 * <p class="en-US">
+	 *     Uncommitted changes will be rolled back before the auto-commit mode was restored. Nothing will be sent
+	 *     to the database server if the session state was not changed.
+	 * </p>
+	 * <h4 class="zh-CN">将修改过的会话状态重置为默认值</h4>
+	 * <p class="zh-CN">
+	 *     恢复自动提交模式前回滚未提交的修改。如果会话状态未被修改，不会向数据库服务器发送任何请求。
+	 * </p>
+	 *
+	 * @return <span class="en-US"><code>false</code> if the session state could not be restored</span>
+	 * <span class="zh-CN">会话状态无法恢复时返回<code>false</code></span>
+	 * @throws SQLException <span class="en-US">An error occurred while resetting the session state</span>
+	 *                      <span class="zh-CN">重置会话状态时出错</span>
+	 */
+	boolean resetSession() throws SQLException {
+		this.transactional = Boolean.FALSE;
+		if (this.dirtyFlags == Globals.INITIALIZE_INT_VALUE) {
+			return Boolean.TRUE;
+		}
+		if (!this.autoCommit) {
+			this.connection.rollback();
+		}
+		if ((this.dirtyFlags & DIRTY_ISOLATION) != 0) {
+			this.setTransactionIsolation(this.defaultIsolation);
+		}
+		if ((this.dirtyFlags & DIRTY_READ_ONLY) != 0) {
+			this.setReadOnly(this.defaultReadOnly);
+		}
+		if ((this.dirtyFlags & DIRTY_CATALOG) != 0) {
+			if (this.defaultCatalog == null) {
+				return Boolean.FALSE;
+			}
+			this.setCatalog(this.defaultCatalog);
+		}
+		if ((this.dirtyFlags & DIRTY_SCHEMA) != 0) {
+			if (this.defaultSchema == null) {
+				return Boolean.FALSE;
+			}
+			this.setSchema(this.defaultSchema);
+		}
+		if ((this.dirtyFlags & DIRTY_AUTO_COMMIT) != 0) {
+			this.setAutoCommit(this.defaultAutoCommit);
+		}
+		return this.dirtyFlags == Globals.INITIALIZE_INT_VALUE;
+	}
+
 	@Override
 	public void close() throws SQLException {
-		if (this.connection.getTransactionIsolation() == Connection.TRANSACTION_NONE) {
+		if (!this.transactional) {
 			this.forceClose();
 		}
 	}
@@ -127,6 +584,19 @@ public class JdbcConnection implements Connection {
 		this.connectionPool.closeConnection(this);
 	}
 
+	/**
+	 * <h4 class="en-US">Abort current connection and remove it from the connection pool</h4>
+	 * <p class="en-US">Thread safe, the connection pool will establish a new connection to replace it.</p>
+	 * <h4 class="zh-CN">中止当前连接并将其从连接池中移除</h4>
+	 * <p class="zh-CN">线程安全，连接池将建立新的连接替换它。</p>
+	 *
+	 * @param executor <span class="en-US">Executor of the abort operation</span>
+	 *                 <span class="zh-CN">中止操作的执行器</span>
+	 */
+	void forceAbort(final Executor executor) {
+		this.connectionPool.abortConnection(this, executor);
+	}
+
 	/**
 	 * <h4 class="en-US">Destroy current connection</h4>
 	 * <h4 class="zh-CN">销毁当前连接</h4>
@@ -164,7 +634,7 @@ public class JdbcConnection implements Connection {
 	public PreparedStatement prepareStatement(String sql) throws SQLException {
 		return this.obtainStatement(KeyType.SQL_ONLY, sql, Globals.DEFAULT_VALUE_INT,
 				Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_INT,
-				new int[0], new String[0]).unwrap(CallableStatement.class);
+				new int[0], new String[0]).unwrap(PreparedStatement.class);
 	}
 
 	@Override
@@ -247,22 +717,40 @@ public class JdbcConnection implements Connection {
 
 	@Override
 	public void setAutoCommit(boolean autoCommit) throws SQLException {
-		this.connection.setAutoCommit(autoCommit);
+		if (this.autoCommit != autoCommit) {
+			this.connection.setAutoCommit(autoCommit);
+			this.autoCommit = autoCommit;
+			this.markDirty(DIRTY_AUTO_COMMIT, autoCommit != this.defaultAutoCommit);
+		}
 	}
 
 	@Override
-	public boolean getAutoCommit() throws SQLException {
-		return this.connection.getAutoCommit();
+	public boolean getAutoCommit() {
+		return this.autoCommit;
 	}
 
 	@Override
 	public void commit() throws SQLException {
-		this.connection.commit();
+		long beginTime = ListenerFactory.begin(ExecutionPhase.COMMIT, this.connectionPool.getJdbcUrl());
+		try {
+			this.connection.commit();
+			ListenerFactory.end(ExecutionPhase.COMMIT, this.connectionPool.getJdbcUrl(), beginTime, null);
+		} catch (SQLException e) {
+			ListenerFactory.end(ExecutionPhase.COMMIT, this.connectionPool.getJdbcUrl(), beginTime, e);
+			throw e;
+		}
 	}
 
 	@Override
 	public void rollback() throws SQLException {
-		this.connection.rollback();
+		long beginTime = ListenerFactory.begin(ExecutionPhase.ROLLBACK, this.connectionPool.getJdbcUrl());
+		try {
+			this.connection.rollback();
+			ListenerFactory.end(ExecutionPhase.ROLLBACK, this.connectionPool.getJdbcUrl(), beginTime, null);
+		} catch (SQLException e) {
+			ListenerFactory.end(ExecutionPhase.ROLLBACK, this.connectionPool.getJdbcUrl(), beginTime, e);
+			throw e;
+		}
 	}
 
 	@Override
@@ -277,32 +765,44 @@ public class JdbcConnection implements Connection {
 
 	@Override
 	public void setReadOnly(boolean readOnly) throws SQLException {
-		this.connection.setReadOnly(readOnly);
+		if (this.readOnly != readOnly) {
+			this.connection.setReadOnly(readOnly);
+			this.readOnly = readOnly;
+			this.markDirty(DIRTY_READ_ONLY, readOnly != this.defaultReadOnly);
+		}
 	}
 
 	@Override
-	public boolean isReadOnly() throws SQLException {
-		return this.connection.isReadOnly();
+	public boolean isReadOnly() {
+		return this.readOnly;
 	}
 
 	@Override
 	public void setCatalog(String catalog) throws SQLException {
-		this.connection.setCatalog(catalog);
+		if (!ObjectUtils.nullSafeEquals(this.catalog, catalog)) {
+			this.connection.setCatalog(catalog);
+			this.catalog = catalog;
+			this.markDirty(DIRTY_CATALOG, !ObjectUtils.nullSafeEquals(catalog, this.defaultCatalog));
+		}
 	}
 
 	@Override
 	public String getCatalog() throws SQLException {
-		return this.connection.getCatalog();
+		return (this.catalog == null) ? this.connection.getCatalog() : this.catalog;
 	}
 
 	@Override
 	public void setTransactionIsolation(int level) throws SQLException {
-		this.connection.setTransactionIsolation(level);
+		if (this.isolation != level) {
+			this.connection.setTransactionIsolation(level);
+			this.isolation = level;
+			this.markDirty(DIRTY_ISOLATION, level != this.defaultIsolation);
+		}
 	}
 
 	@Override
-	public int getTransactionIsolation() throws SQLException {
-		return this.connection.getTransactionIsolation();
+	public int getTransactionIsolation() {
+		return this.isolation;
 	}
 
 	@Override
@@ -347,7 +847,14 @@ public class JdbcConnection implements Connection {
 
 	@Override
 	public void rollback(Savepoint savepoint) throws SQLException {
-		this.connection.rollback(savepoint);
+		long beginTime = ListenerFactory.begin(ExecutionPhase.ROLLBACK, this.connectionPool.getJdbcUrl());
+		try {
+			this.connection.rollback(savepoint);
+			ListenerFactory.end(ExecutionPhase.ROLLBACK, this.connectionPool.getJdbcUrl(), beginTime, null);
+		} catch (SQLException e) {
+			ListenerFactory.end(ExecutionPhase.ROLLBACK, this.connectionPool.getJdbcUrl(), beginTime, e);
+			throw e;
+		}
 	}
 
 	@Override
@@ -420,12 +927,16 @@ public class JdbcConnection implements Connection {
 
 	@Override
 	public void setSchema(String schema) throws SQLException {
-		this.connection.setSchema(schema);
+		if (!ObjectUtils.nullSafeEquals(this.schema, schema)) {
+			this.connection.setSchema(schema);
+			this.schema = schema;
+			this.markDirty(DIRTY_SCHEMA, !ObjectUtils.nullSafeEquals(schema, this.defaultSchema));
+		}
 	}
 
 	@Override
 	public String getSchema() throws SQLException {
-		return this.connection.getSchema();
+		return (this.schema == null) ? this.connection.getSchema() : this.schema;
 	}
 
 	@Override
@@ -443,6 +954,57 @@ public class JdbcConnection implements Connection {
 		return this.connection.getNetworkTimeout();
 	}
 
+	/**
+	 * <h4 class="en-US">Set or clear the given dirty flag</h4>
+	 * <h4 class="zh-CN">设置或清除给定的修改标记</h4>
+	 *
+	 * @param dirtyFlag <span class="en-US">Dirty flag</span>
+	 *                  <span class="zh-CN">修改标记</span>
+	 * @param dirty     <span class="en-US">The session state was different from the default value</span>
+	 *                  <span class="zh-CN">会话状态与默认值不同</span>
+	 */
+	private void markDirty(final int dirtyFlag, final boolean dirty) {
+		if (dirty) {
+			this.dirtyFlags |= dirtyFlag;
+		} else {
+			this.dirtyFlags &= ~dirtyFlag;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Read the default catalog name of the given connection</h4>
+	 * <h4 class="zh-CN">读取给定连接的默认目录名称</h4>
+	 *
+	 * @param connection <span class="en-US">Database connection instance object</span>
+	 *                   <span class="zh-CN">数据库连接实例对象</span>
+	 * @return <span class="en-US">Catalog name, or null if the driver not supported</span>
+	 * <span class="zh-CN">目录名称，驱动程序不支持时返回null</span>
+	 */
+	private static String defaultCatalog(final Connection connection) {
+		try {
+			return connection.getCatalog();
+		} catch (SQLException | AbstractMethodError e) {
+			return null;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Read the default schema name of the given connection</h4>
+	 * <h4 class="zh-CN">读取给定连接的默认模式名称</h4>
+	 *
+	 * @param connection <span class="en-US">Database connection instance object</span>
+	 *                   <span class="zh-CN">数据库连接实例对象</span>
+	 * @return <span class="en-US">Schema name, or null if the driver not supported</span>
+	 * <span class="zh-CN">模式名称，驱动程序不支持时返回null</span>
+	 */
+	private static String defaultSchema(final Connection connection) {
+		try {
+			return connection.getSchema();
+		} catch (SQLException | AbstractMethodError e) {
+			return null;
+		}
+	}
+
 	/**
 	 * <h4 class="en-US">Obtain query statement instance object</h4>
 	 * <h4 class="zh-CN">获取查询执行器</h4>
@@ -472,6 +1034,47 @@ public class JdbcConnection implements Connection {
 			final KeyType keyType, final String sql, final int resultSetType, final int resultSetConcurrency,
 			final int resultSetHoldability, final int autoGeneratedKeys, final int[] columnIndexes,
 			final String[] columnNames) throws SQLException {
+		long beginTime = ListenerFactory.begin(ExecutionPhase.PREPARE, sql);
+		try {
+			StatementWrapper<?> statementWrapper = this.cachedStatement(keyType, sql, resultSetType,
+					resultSetConcurrency, resultSetHoldability, autoGeneratedKeys, columnIndexes, columnNames);
+			ListenerFactory.end(ExecutionPhase.PREPARE, sql, beginTime, null);
+			return statementWrapper;
+		} catch (SQLException e) {
+			ListenerFactory.end(ExecutionPhase.PREPARE, sql, beginTime, e);
+			throw e;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve query statement instance object from cache or create a new one</h4>
+	 * <h4 class="zh-CN">从缓存中读取查询执行器或创建新的查询执行器</h4>
+	 *
+	 * @param keyType              <span class="en-US">Enumeration value of SQL command type</span>
+	 *                             <span class="zh-CN">SQL语句类型枚举值</span>
+	 * @param sql                  <span class="en-US">SQL command</span>
+	 *                             <span class="zh-CN">SQL语句</span>
+	 * @param resultSetType        <span class="en-US">One of the following ResultSet constants: ResultSet.TYPE_FORWARD_ONLY, ResultSet.TYPE_SCROLL_INSENSITIVE, or ResultSet.TYPE_SCROLL_SENSITIVE</span>
+	 *                             <span class="zh-CN">以下 ResultSet 常量之一：ResultSet.TYPE_FORWARD_ONLY、ResultSet.TYPE_SCROLL_INSENSITIVE 或 ResultSet.TYPE_SCROLL_SENSITIVE</span>
+	 * @param resultSetConcurrency <span class="en-US">One of the following ResultSet constants: ResultSet.CONCUR_READ_ONLY or ResultSet.CONCUR_UPDATABLE</span>
+	 *                             <span class="zh-CN">以下 ResultSet 常量之一：ResultSet.CONCUR_READ_ONLY 或 ResultSet.CONCUR_UPDATABLE</span>
+	 * @param resultSetHoldability <span class="en-US">One of the following ResultSet constants: ResultSet.HOLD_CURSORS_OVER_COMMIT or ResultSet.CLOSE_CURSORS_AT_COMMIT</span>
+	 *                             <span class="zh-CN">以下 ResultSet 常量之一：ResultSet.HOLD_CURSORS_OVER_COMMIT 或 ResultSet.CLOSE_CURSORS_AT_COMMIT</span>
+	 * @param autoGeneratedKeys    <span class="en-US">Constant indicating whether the getGeneratedKeys method should be used to make automatically generated keys available for retrieval; one of the following constants: Statement.RETURN_GENERATED_KEYS or Statement.NO_GENERATED_KEYS</span>
+	 *                             <span class="zh-CN">指示是否应该使用 getGeneratedKeys 方法使自动生成的键可用于获取的常量；以下常量之一：Statement.RETURN_GENERATED_KEYS 或 Statement.NO_GENERATED_KEYS</span>
+	 * @param columnIndexes        <span class="en-US">By calling the method getGeneratedKeys it should be possible to get the array of column indices in the inserted row</span>
+	 *                             <span class="zh-CN">通过调用方法 getGeneratedKeys 应该可用于获取的插入行中的列索引数组</span>
+	 * @param columnNames          <span class="en-US">By calling the method getGeneratedKeys it should be possible to get an array of column names in the inserted row</span>
+	 *                             <span class="zh-CN">通过调用方法 getGeneratedKeys 应该可用于获取的插入行中的列名称数组</span>
+	 * @return <span class="en-US">Query statement instance object</span>
+	 * <span class="zh-CN">查询执行器实例对象</span>
+	 * @throws SQLException <span class="en-US">This method is called if a database access error occurs or on a closed connection</span>
+	 *                      <span class="zh-CN">如果发生数据库访问错误，或者在关闭的连接上调用此方法</span>
+	 */
+	private StatementWrapper<?> cachedStatement(
+			final KeyType keyType, final String sql, final int resultSetType, final int resultSetConcurrency,
+			final int resultSetHoldability, final int autoGeneratedKeys, final int[] columnIndexes,
+			final String[] columnNames) throws SQLException {
 		String cacheKey = cacheKey(keyType, sql, resultSetType, resultSetConcurrency,
 				resultSetHoldability, autoGeneratedKeys, columnIndexes, columnNames);
 		StatementWrapper<?> statementWrapper = null;
@@ -501,6 +1104,8 @@ public class JdbcConnection implements Connection {
 				case SQL_COLUMN_NAMES -> new PreparedStatementWrapper(cacheKey, this.lowQueryTimeout, connection, sql,
 						columnNames);
 			};
+			statementWrapper.bindPool(this.connectionPool);
+			statementWrapper.bindConnection(this);
 			if (this.cachedLimitSize > 0) {
 				this.cachedStatements.add(statementWrapper);
 			}
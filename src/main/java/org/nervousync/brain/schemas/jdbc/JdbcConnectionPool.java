@@ -18,8 +18,18 @@
 package org.nervousync.brain.schemas.jdbc;
 
 import jakarta.annotation.Nonnull;
-import org.nervousync.brain.configs.server.ServerInfo;
+import jdk.jfr.EventType;
+import org.nervousync.brain.balance.CircuitBreaker;
+import org.nervousync.brain.balance.ServerStats;
+import org.nervousync.brain.defines.TableDefine;
+import org.nervousync.brain.enumerations.execution.ExecutionPhase;
+import org.nervousync.brain.enumerations.pool.PoolStatus;
+import org.nervousync.brain.events.ConnectionBorrowEvent;
+import org.nervousync.brain.events.ConnectionCreateEvent;
+import org.nervousync.brain.events.ConnectionDestroyEvent;
+import org.nervousync.brain.events.ConnectionWaitEvent;
 import org.nervousync.brain.exceptions.sql.MultilingualSQLException;
+import org.nervousync.brain.listeners.ListenerFactory;
 import org.nervousync.commons.Globals;
 import org.nervousync.utils.DateTimeUtils;
 import org.nervousync.utils.LoggerUtils;
@@ -28,9 +38,27 @@ import org.nervousync.utils.StringUtils;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLTransientConnectionException;
 import java.sql.Statement;
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
 
 /**
  * <h2 class="en-US">JDBC database connection pool</h2>
@@ -46,6 +74,31 @@ public final class JdbcConnectionPool {
 	 * <span class="zh-CN">日志实例</span>
 	 */
 	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(JdbcConnectionPool.class);
+	/**
+	 * <span class="en-US">JFR event type of connection borrow</span>
+	 * <span class="zh-CN">借用连接的JFR事件类型</span>
+	 */
+	private static final EventType BORROW_EVENT_TYPE = EventType.getEventType(ConnectionBorrowEvent.class);
+	/**
+	 * <span class="en-US">Divisor of the maximum lifetime variance, connections retire up to 2.5% earlier to avoid mass retirement</span>
+	 * <span class="zh-CN">最大存活时间偏差的除数，连接最多提前2.5%退役以避免集中退役</span>
+	 */
+	private static final int LIFETIME_VARIANCE = 40;
+	/**
+	 * <span class="en-US">Maximum frames of the captured borrowing stack</span>
+	 * <span class="zh-CN">采集的借用调用栈最大帧数</span>
+	 */
+	private static final int LEAK_STACK_DEPTH = 16;
+	/**
+	 * <span class="en-US">Package prefix of the frames skipped in the borrowing stack</span>
+	 * <span class="zh-CN">借用调用栈中跳过的帧的包名前缀</span>
+	 */
+	private static final String LEAK_STACK_SKIP_PREFIX = "org.nervousync.brain.";
+	/**
+	 * <span class="en-US">SQLState class of the connection errors</span>
+	 * <span class="zh-CN">连接错误的SQLState类别</span>
+	 */
+	private static final String CONNECTION_ERROR_STATE = "08";
 
 	/**
 	 * <span class="en-US">JDBC dialect instance object</span>
@@ -53,40 +106,80 @@ public final class JdbcConnectionPool {
 	 */
 	private final JdbcSchema jdbcSchema;
 	/**
-	 * <span class="en-US">Connection pool identify code</span>
-	 * <span class="zh-CN">连接池识别代码</span>
+	 * <span class="en-US">Connection pool identify key</span>
+	 * <span class="zh-CN">连接池识别键</span>
 	 */
-	private final int identifyCode;
+	private final PoolKey poolKey;
 	/**
 	 * <span class="en-US">Database JDBC connection string</span>
 	 * <span class="zh-CN">数据库JDBC连接字符串</span>
 	 */
 	private final String jdbcUrl;
 	/**
-	 * <span class="en-US">Database connection queue</span>
-	 * <span class="zh-CN">数据库连接队列</span>
+	 * <span class="en-US">Database connection queue, the most recently used connection at the head</span>
+	 * <span class="zh-CN">数据库连接队列，最近使用的连接位于队首</span>
+	 */
+	private final Deque<JdbcConnection> connectionQueue;
+	/**
+	 * <span class="en-US">Number of connections in the connection queue</span>
+	 * <span class="zh-CN">连接队列中的连接数</span>
 	 */
-	private final Queue<JdbcConnection> connectionQueue;
+	private final AtomicInteger idleCount;
 	/**
-	 * <span class="en-US">Using database connection list</span>
-	 * <span class="zh-CN">使用中的数据库连接列表</span>
+	 * <span class="en-US">Using database connection set</span>
+	 * <span class="zh-CN">使用中的数据库连接集合</span>
 	 */
-	private final List<JdbcConnection> activeConnections;
+	private final Set<JdbcConnection> activeConnections;
 	/**
 	 * <span class="en-US">Waiting to get count of connections</span>
 	 * <span class="zh-CN">等待获取连接的计数</span>
 	 */
 	private final AtomicInteger waitCount;
+	/**
+	 * <span class="en-US">Threads waiting for a connection in the waiting order, the first one was woken when a connection was returned or a slot was freed</span>
+	 * <span class="zh-CN">按等待顺序排列的等待连接的线程，连接归还或释放名额时唤醒第一个线程</span>
+	 */
+	private final Queue<Thread> waiters;
+	/**
+	 * <span class="en-US">Number of connections being established</span>
+	 * <span class="zh-CN">正在建立的连接数</span>
+	 */
+	private final AtomicInteger pendingCount;
+	/**
+	 * <span class="en-US">Elastic size controller</span>
+	 * <span class="zh-CN">弹性容量控制器</span>
+	 */
+	private final PoolSizeController sizeController;
+	/**
+	 * <span class="en-US">Statistics of the database server, using for read routing</span>
+	 * <span class="zh-CN">数据库服务器的统计信息，用于读取路由</span>
+	 */
+	private final ServerStats serverStats;
+	/**
+	 * <span class="en-US">Circuit breaker of the database server</span>
+	 * <span class="zh-CN">数据库服务器的断路器</span>
+	 */
+	private final CircuitBreaker circuitBreaker;
 	/**
 	 * <span class="en-US">Using connection pool</span>
 	 * <span class="zh-CN">使用连接池</span>
 	 */
-	private boolean pooled;
+	private volatile boolean pooled;
+	/**
+	 * <span class="en-US">Connection pool readiness status</span>
+	 * <span class="zh-CN">连接池就绪状态</span>
+	 */
+	private volatile PoolStatus poolStatus;
 	/**
 	 * <span class="en-US">Create connection task execution status</span>
 	 * <span class="zh-CN">创建连接任务执行状态</span>
 	 */
-	private boolean createRunning = Boolean.FALSE;
+	private final AtomicBoolean createRunning = new AtomicBoolean(Boolean.FALSE);
+	/**
+	 * <span class="en-US">Borrowing sequence, using for sampling the borrowing stack</span>
+	 * <span class="zh-CN">借用序号，用于采样借用调用栈</span>
+	 */
+	private final AtomicLong borrowSequence = new AtomicLong(0L);
 
 
 	/**
@@ -97,33 +190,194 @@ public final class JdbcConnectionPool {
 	 *                    <span class="zh-CN">JDBC数据源实例对象</span>
 	 * @param pooled      <span class="en-US">Using connection pool</span>
 	 *                    <span class="zh-CN">使用连接池</span>
-	 * @param serverInfo  <span class="en-US">Server information</span>
-	 *                    <span class="zh-CN">服务器信息</span>
-	 * @param shardingKey <span class="en-US">Database sharding value</span>
-	 *                    <span class="zh-CN">数据库分片值</span>
+	 * @param poolKey     <span class="en-US">Connection pool identify key</span>
+	 *                    <span class="zh-CN">连接池识别键</span>
+	 * @param jdbcUrl     <span class="en-US">Database JDBC connection string</span>
+	 *                    <span class="zh-CN">数据库JDBC连接字符串</span>
 	 */
 	JdbcConnectionPool(final JdbcSchema jdbcSchema, final boolean pooled,
-	                   final ServerInfo serverInfo, final String shardingKey)
-			throws SQLException {
+	                   final PoolKey poolKey, final String jdbcUrl) {
 		this.jdbcSchema = jdbcSchema;
-		this.identifyCode = this.jdbcSchema.identifyCode(serverInfo, shardingKey);
-		this.jdbcUrl = this.jdbcSchema.shardingUrl(serverInfo, shardingKey);
+		this.poolKey = poolKey;
+		this.jdbcUrl = jdbcUrl;
 		this.pooled = pooled;
-		this.connectionQueue = new LinkedList<>();
-		this.activeConnections = new ArrayList<>();
+		this.connectionQueue = new ConcurrentLinkedDeque<>();
+		this.idleCount = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+		this.activeConnections = ConcurrentHashMap.newKeySet();
 		this.waitCount = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
-		this.createConnections();
+		this.waiters = new ConcurrentLinkedQueue<>();
+		this.pendingCount = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+		this.sizeController = new PoolSizeController(this.jdbcSchema.minConnections);
+		this.serverStats = this.jdbcSchema.serverStats(poolKey.serverAddress());
+		this.circuitBreaker = this.serverStats.getCircuitBreaker();
+		this.poolStatus = PoolStatus.WARMING;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for connection pool identify key</h4>
+	 * <h4 class="zh-CN">连接池识别键的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Connection pool identify key</span>
+	 * <span class="zh-CN">连接池识别键</span>
+	 */
+	PoolKey getPoolKey() {
+		return this.poolKey;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for database JDBC connection string</h4>
+	 * <h4 class="zh-CN">数据库JDBC连接字符串的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Database JDBC connection string</span>
+	 * <span class="zh-CN">数据库JDBC连接字符串</span>
+	 */
+	public String getJdbcUrl() {
+		return this.jdbcUrl;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for connection pool readiness status</h4>
+	 * <h4 class="zh-CN">连接池就绪状态的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Connection pool readiness status</span>
+	 * <span class="zh-CN">连接池就绪状态</span>
+	 */
+	PoolStatus poolStatus() {
+		return this.poolStatus;
+	}
+
+	/**
+	 * <h4 class="en-US">Check the requests can be routed to the database server</h4>
+	 * <h4 class="zh-CN">检查请求是否可以路由到数据库服务器</h4>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	boolean available() {
+		return this.circuitBreaker.allowRequest();
+	}
+
+	/**
+	 * <h4 class="en-US">Record the statement execution result into the circuit breaker</h4>
+	 * <p class="en-US">
+	 *     Only the connection errors (including the wrapped ones) count as failures, errors caused by the SQL,
+	 *     the data or the runtime errors of the driver were ignored.
+	 * </p>
+	 * <h4 class="zh-CN">将语句执行结果记录到断路器</h4>
+	 * <p class="zh-CN">
+	 *     仅连接错误（包括被包装的连接错误）计为失败，由SQL、数据导致的错误或驱动的运行时错误将被忽略。
+	 * </p>
+	 *
+	 * @param cause <span class="en-US">Error instance if execution failed, or null if succeed</span>
+	 *              <span class="zh-CN">执行失败时的异常实例对象，执行成功时为null</span>
+	 */
+	void recordExecution(final Throwable cause) {
+		if (cause == null) {
+			this.circuitBreaker.recordSuccess();
+			return;
+		}
+		Throwable current = cause;
+		while (current != null) {
+			if (current instanceof SQLTransientConnectionException
+					|| current instanceof SQLNonTransientConnectionException
+					|| (current instanceof SQLException sqlException && sqlException.getSQLState() != null
+					&& sqlException.getSQLState().startsWith(CONNECTION_ERROR_STATE))) {
+				this.recordFailure();
+				return;
+			}
+			current = current.getCause();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Record a failure into the circuit breaker</h4>
+	 * <h4 class="zh-CN">记录失败到断路器</h4>
+	 */
+	private void recordFailure() {
+		if (this.circuitBreaker.recordFailure(DateTimeUtils.currentUTCTimeMillis(), this.jdbcSchema.breakerThreshold)) {
+			LOGGER.warn("Circuit_Open_Warn", this.jdbcUrl, this.jdbcSchema.breakerOpenTime);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Probe the database server if the circuit was opened longer than the open time</h4>
+	 * <p class="en-US">
+	 *     The probe establishes a connection without retry, the circuit closes and the connection was put into
+	 *     the pool if succeeded, otherwise the circuit opens again.
+	 * </p>
+	 * <h4 class="zh-CN">断路器断开超过断开时间时探测数据库服务器</h4>
+	 * <p class="zh-CN">
+	 *     探测建立连接时不进行重试，成功时断路器闭合并将连接放入连接池，否则断路器再次断开。
+	 * </p>
+	 */
+	private void probeServer() {
+		if (!this.circuitBreaker.tryProbe(DateTimeUtils.currentUTCTimeMillis(), this.jdbcSchema.breakerOpenTime)) {
+			return;
+		}
+		try {
+			JdbcConnection connection = this.establishConnection();
+			this.circuitBreaker.closeCircuit();
+			LOGGER.info("Circuit_Close_Info", this.jdbcUrl);
+			this.offerConnection(connection, Boolean.TRUE);
+		} catch (SQLException e) {
+			this.circuitBreaker.openCircuit(DateTimeUtils.currentUTCTimeMillis());
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Probe_Server_Error", this.jdbcUrl);
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Warm up the connection pool</h4>
+	 * <p class="en-US">
+	 *     Establish the first connection to verify the database server is reachable, then fill the pool to the
+	 *     minimum connections and pre-prepare the statements of registered tables on the idle connections.
+	 *     The pool will be marked as failed if the first connection could not be established.
+	 * </p>
+	 * <h4 class="zh-CN">预热连接池</h4>
+	 * <p class="zh-CN">
+	 *     建立第一个连接以验证数据库服务器可以访问，然后将连接池填充至最小连接数，并在空闲连接上预编译已注册数据表的语句。
+	 *     无法建立第一个连接时，连接池将被标记为失败。
+	 * </p>
+	 *
+	 * @param tableDefines <span class="en-US">Registered table define list</span>
+	 *                     <span class="zh-CN">已注册的数据表定义列表</span>
+	 */
+	void warmUp(@Nonnull final Collection<TableDefine> tableDefines) {
+		this.poolStatus = PoolStatus.WARMING;
+		try {
+			this.offerConnection(this.establishConnection(), Boolean.TRUE);
+			this.createConnections();
+			this.prepareStatements(tableDefines);
+			this.poolStatus = PoolStatus.READY;
+		} catch (SQLException e) {
+			this.poolStatus = PoolStatus.FAILED;
+			LOGGER.error("Warm_Up_Pool_Error", this.jdbcUrl);
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+		}
 	}
 
 	/**
-	 * <h4 class="en-US">Getter method for connection pool identify code</h4>
-	 * <h4 class="zh-CN">连接池识别代码的Getter方法</h4>
+	 * <h4 class="en-US">Pre-prepare the statements of given tables on the idle connections</h4>
+	 * <h4 class="zh-CN">在空闲连接上预编译给定数据表的语句</h4>
 	 *
-	 * @return <span class="en-US">Connection pool identify code</span>
-	 * <span class="zh-CN">连接池识别代码</span>
+	 * @param tableDefines <span class="en-US">Table define list</span>
+	 *                     <span class="zh-CN">数据表定义列表</span>
 	 */
-	public int getIdentifyCode() {
-		return this.identifyCode;
+	void prepareStatements(@Nonnull final Collection<TableDefine> tableDefines) {
+		if (tableDefines.isEmpty()) {
+			return;
+		}
+		//  Iterate the snapshot, the connections will be put back to the tail of the queue
+		for (JdbcConnection connection : new ArrayList<>(this.connectionQueue)) {
+			if (this.claimConnection(connection)) {
+				this.jdbcSchema.prepareStatements(connection, tableDefines);
+				this.offerConnection(connection, Boolean.FALSE);
+			}
+		}
 	}
 
 	/**
@@ -135,6 +389,8 @@ public final class JdbcConnectionPool {
 	 */
 	JdbcConnection createConnection() throws SQLException {
 		Properties jdbcProperties = this.jdbcSchema.properties();
+		ConnectionCreateEvent createEvent = new ConnectionCreateEvent();
+		createEvent.begin();
 
 		boolean process = Boolean.TRUE;
 		int retryCount = Globals.INITIALIZE_INT_VALUE;
@@ -149,7 +405,8 @@ public final class JdbcConnectionPool {
 				}
 			}
 			if (connection == null) {
-				if (retryCount < this.jdbcSchema.retryCount) {
+				//  No retry if the circuit was open, the request threads should not be stalled
+				if (retryCount < this.jdbcSchema.retryCount && this.circuitBreaker.allowRequest()) {
 					try {
 						retryCount++;
 						Thread.sleep(this.jdbcSchema.retryPeriod);
@@ -168,11 +425,25 @@ public final class JdbcConnectionPool {
 			}
 		}
 
+		createEvent.end();
+		if (createEvent.shouldCommit()) {
+			createEvent.jdbcUrl = this.jdbcUrl;
+			createEvent.retryCount = retryCount;
+			createEvent.succeed = (connection != null);
+			createEvent.commit();
+		}
+
 		if (connection == null) {
+			this.recordFailure();
 			throw new MultilingualSQLException(0x00DB00000023L);
 		}
+		this.circuitBreaker.recordSuccess();
+		long lifetime = this.jdbcSchema.maxLifetime;
+		if (lifetime > 0L) {
+			lifetime -= ThreadLocalRandom.current().nextLong(lifetime / LIFETIME_VARIANCE + 1L);
+		}
 		return new JdbcConnection(this, connection,
-				this.jdbcSchema.getLowQueryTimeout(), this.jdbcSchema.cachedLimitSize);
+				this.jdbcSchema.getLowQueryTimeout(), this.jdbcSchema.cachedLimitSize, lifetime);
 	}
 
 	void configPooled(final boolean pooled) {
@@ -200,12 +471,33 @@ public final class JdbcConnectionPool {
 			if (connection == null || connection.isClosed()) {
 				return;
 			}
+			ConnectionDestroyEvent destroyEvent = new ConnectionDestroyEvent();
+			destroyEvent.begin();
 			connection.destroy();
+			destroyEvent.end();
+			if (destroyEvent.shouldCommit()) {
+				destroyEvent.jdbcUrl = this.jdbcUrl;
+				destroyEvent.commit();
+			}
 		} catch (SQLException e) {
 			LOGGER.error("Close_Connection_Error");
 			if (LOGGER.isDebugEnabled()) {
 				LOGGER.debug("Stack_Message_Error", e);
 			}
+		} finally {
+			//  The slot was freed, the waiter can establish a new connection
+			this.signalWaiter();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Wake the first thread waiting for a connection</h4>
+	 * <h4 class="zh-CN">唤醒第一个等待连接的线程</h4>
+	 */
+	private void signalWaiter() {
+		Thread waiter = this.waiters.peek();
+		if (waiter != null) {
+			LockSupport.unpark(waiter);
 		}
 	}
 
@@ -258,7 +550,7 @@ public final class JdbcConnectionPool {
 	 * <span class="zh-CN">连接数</span>
 	 */
 	int poolCount() {
-		return this.connectionQueue.size();
+		return this.idleCount.get();
 	}
 
 	/**
@@ -269,7 +561,7 @@ public final class JdbcConnectionPool {
 	 * <span class="zh-CN">连接数</span>
 	 */
 	int activeCount() {
-		return this.connectionQueue.size();
+		return this.activeConnections.size();
 	}
 
 	/**
@@ -283,6 +575,28 @@ public final class JdbcConnectionPool {
 		return this.waitCount.get();
 	}
 
+	/**
+	 * <h4 class="en-US">Number of the pooled and using connections</h4>
+	 * <h4 class="zh-CN">池中及使用中的连接数</h4>
+	 *
+	 * @return <span class="en-US">Number of connections</span>
+	 * <span class="zh-CN">连接数</span>
+	 */
+	int currentSize() {
+		return this.activeConnections.size() + this.idleCount.get();
+	}
+
+	/**
+	 * <h4 class="en-US">Target size evaluated by the elastic size controller</h4>
+	 * <h4 class="zh-CN">弹性容量控制器评估的目标容量</h4>
+	 *
+	 * @return <span class="en-US">Target size</span>
+	 * <span class="zh-CN">目标容量</span>
+	 */
+	int targetSize() {
+		return this.sizeController.getTargetSize();
+	}
+
 	/**
 	 * <h4 class="en-US">Obtain a connection without transactional configure</h4>
 	 * <h4 class="zh-CN">获得无事务连接</h4>
@@ -304,23 +618,68 @@ public final class JdbcConnectionPool {
 	 *                      <span class="zh-CN">获得连接过程中出错</span>
 	 */
 	JdbcConnection obtainConnection(final int isolation) throws SQLException {
-		if (!this.pooled) {
-			return this.createConnection();
+		ConnectionBorrowEvent borrowEvent = null;
+		if (BORROW_EVENT_TYPE.isEnabled()) {
+			borrowEvent = new ConnectionBorrowEvent();
+			borrowEvent.begin();
+		}
+		long beginTime = ListenerFactory.begin(ExecutionPhase.BORROW, this.jdbcUrl);
+		SQLException cause = null;
+		try {
+			return this.borrowConnection(isolation);
+		} catch (SQLException e) {
+			cause = e;
+			throw e;
+		} finally {
+			ListenerFactory.end(ExecutionPhase.BORROW, this.jdbcUrl, beginTime, cause);
+			if (borrowEvent != null) {
+				borrowEvent.end();
+				if (borrowEvent.shouldCommit()) {
+					borrowEvent.jdbcUrl = this.jdbcUrl;
+					borrowEvent.isolation = isolation;
+					borrowEvent.succeed = (cause == null);
+					borrowEvent.commit();
+				}
+			}
 		}
+	}
+
+	/**
+	 * <h4 class="en-US">Borrow a connection from connection pool or create a new connection</h4>
+	 * <h4 class="zh-CN">从连接池中借用连接或创建新连接</h4>
+	 *
+	 * @param isolation <span class="en-US">Transactional isolation</span>
+	 *                  <span class="zh-CN">事务隔离级别</span>
+	 * @return <span class="en-US">Obtained connection</span>
+	 * <span class="zh-CN">获得的连接</span>
+	 * @throws SQLException <span class="en-US">An error occurred while obtaining the connection</span>
+	 *                      <span class="zh-CN">获得连接过程中出错</span>
+	 */
+	private JdbcConnection borrowConnection(final int isolation) throws SQLException {
 		long beginTime = DateTimeUtils.currentUTCTimeMillis();
 		long timeOutTime = this.jdbcSchema.getConnectTimeout() * 1000L;
 
 		boolean waitCount = Boolean.FALSE;
-		JdbcConnection connection = null;
+		ConnectionWaitEvent waitEvent = null;
+		//  Fail fast if the circuit of the database server was open
+		if (!this.circuitBreaker.allowRequest()) {
+			throw new MultilingualSQLException(0x00DB00000036L, this.jdbcUrl);
+		}
+		//  The connection was created directly if the pool is disabled
+		JdbcConnection connection = this.pooled ? null : this.createConnection();
 
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug("Connection_Wait_Count", this.waitCount.get());
 		}
 		while (connection == null) {
-			connection = this.connectionQueue.poll();
-			if (connection == null) {
+			connection = this.pollConnection();
+			if (connection != null && connection.retired(DateTimeUtils.currentUTCTimeMillis())) {
+				this.destroyConnection(connection);
+				continue;
+			}
+			if (connection == null && !this.limitConnections()) {
 				try {
-					connection = this.createConnection();
+					connection = this.establishConnection();
 				} catch (SQLException e) {
 					if (LOGGER.isDebugEnabled()) {
 						LOGGER.debug("Create_Connection_Error", e);
@@ -337,28 +696,52 @@ public final class JdbcConnectionPool {
 				if (!waitCount) {
 					this.waitCount.incrementAndGet();
 					waitCount = Boolean.TRUE;
+					waitEvent = new ConnectionWaitEvent();
+					waitEvent.begin();
+					//  Registered before polling again, so the connection returned meanwhile will wake current thread
+					this.waiters.offer(Thread.currentThread());
+					continue;
 				}
 
-				if (timeOutTime < (DateTimeUtils.currentUTCTimeMillis() - beginTime)) {
+				long waitTime = timeOutTime - (DateTimeUtils.currentUTCTimeMillis() - beginTime);
+				if (!this.circuitBreaker.allowRequest() || waitTime < 0L) {
 					break;
 				}
+				LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(waitTime) + 1L);
 			}
 		}
+		this.sizeController.recordBorrow(DateTimeUtils.currentUTCTimeMillis() - beginTime);
 
 		if (waitCount) {
+			this.waiters.remove(Thread.currentThread());
+			if (!this.connectionQueue.isEmpty()) {
+				//  The wakeup may be consumed by current thread, pass it to the next waiter
+				this.signalWaiter();
+			}
+			waitEvent.end();
+			if (waitEvent.shouldCommit()) {
+				waitEvent.jdbcUrl = this.jdbcUrl;
+				waitEvent.waitCount = this.waitCount.get();
+				waitEvent.timeout = (connection == null);
+				waitEvent.commit();
+			}
 			this.waitCount.decrementAndGet();
 		}
 
 		if (connection == null) {
+			if (!this.circuitBreaker.allowRequest()) {
+				throw new MultilingualSQLException(0x00DB00000036L, this.jdbcUrl);
+			}
 			throw new MultilingualSQLException(0x00DB00000024L);
 		}
 
 		if (isolation != Connection.TRANSACTION_NONE) {
-			connection.setAutoCommit(Boolean.FALSE);
-			connection.setTransactionIsolation(isolation);
+			connection.enlist(isolation);
 		}
 
+		connection.markBorrowed(this.borrowStack());
 		this.activeConnections.add(connection);
+		this.serverStats.begin();
 
 		if (LOGGER.isDebugEnabled()) {
 			if (waitCount) {
@@ -368,30 +751,136 @@ public final class JdbcConnectionPool {
 			}
 			LOGGER.debug("Connection_Used_Time",
 					DateTimeUtils.currentUTCTimeMillis() - beginTime);
-			LOGGER.debug("Pool_Connection_Debug", this.activeConnections.size(),
-					this.connectionQueue.size());
+			LOGGER.debug("Pool_Connection_Debug", this.activeConnections.size(), this.idleCount.get());
 		}
 		connection.setCachedLimitSize(this.jdbcSchema.cachedLimitSize);
 		return connection;
 	}
 
+	/**
+	 * <h4 class="en-US">Information of connections held longer than the leak detection threshold</h4>
+	 * <h4 class="zh-CN">持有时间超过泄漏检测阈值的连接信息</h4>
+	 *
+	 * @return <span class="en-US">Information list</span>
+	 * <span class="zh-CN">信息列表</span>
+	 */
+	List<String> leakedConnections() {
+		List<String> leakedConnections = new ArrayList<>();
+		long currentTime = DateTimeUtils.currentUTCTimeMillis();
+		for (JdbcConnection connection : this.activeConnections) {
+			if (connection.leaked(currentTime, this.jdbcSchema.leakDetectionThreshold)) {
+				StringBuilder stringBuilder = new StringBuilder(this.jdbcUrl)
+						.append(" held ").append(currentTime - connection.getBorrowTime()).append(" ms");
+				if (StringUtils.notBlank(connection.getBorrowStack())) {
+					stringBuilder.append(System.lineSeparator()).append(connection.getBorrowStack());
+				}
+				leakedConnections.add(stringBuilder.toString());
+			}
+		}
+		return leakedConnections;
+	}
+
+	/**
+	 * <h4 class="en-US">Capture the borrowing stack if current borrowing was sampled</h4>
+	 * <h4 class="zh-CN">如果本次借用被采样，采集借用调用栈</h4>
+	 *
+	 * @return <span class="en-US">Borrowing stack, empty string if not sampled</span>
+	 * <span class="zh-CN">借用调用栈，未采样时为空字符串</span>
+	 */
+	private String borrowStack() {
+		int sampling = this.jdbcSchema.leakStackSampling;
+		if (this.jdbcSchema.leakDetectionThreshold <= 0L || sampling <= 0
+				|| this.borrowSequence.incrementAndGet() % sampling != 0L) {
+			return Globals.DEFAULT_VALUE_STRING;
+		}
+		//  Only walk the frames needed, the frames of this library are skipped
+		return StackWalker.getInstance().walk(frames -> frames
+				.dropWhile(frame -> frame.getClassName().startsWith(LEAK_STACK_SKIP_PREFIX))
+				.limit(LEAK_STACK_DEPTH)
+				.map(StackWalker.StackFrame::toString)
+				.collect(Collectors.joining(System.lineSeparator())));
+	}
+
+	/**
+	 * <h4 class="en-US">Report the connections held longer than the leak detection threshold</h4>
+	 * <p class="en-US">
+	 *     The leaked connections held longer than the reclaim time will be removed from the using connection set
+	 *     and destroyed, the borrower will get an error when using the connection again.
+	 * </p>
+	 * <h4 class="zh-CN">报告持有时间超过泄漏检测阈值的连接</h4>
+	 * <p class="zh-CN">
+	 *     持有时间超过回收时间的泄漏连接将从使用中的连接集合中移除并销毁，借用者再次使用该连接时将会出错。
+	 * </p>
+	 *
+	 * @param currentTime <span class="en-US">Current time</span>
+	 *                    <span class="zh-CN">当前时间</span>
+	 */
+	private void detectLeaks(final long currentTime) {
+		long threshold = this.jdbcSchema.leakDetectionThreshold, reclaimTime = this.jdbcSchema.leakReclaimTime;
+		if (threshold <= 0L) {
+			return;
+		}
+		for (JdbcConnection connection : this.activeConnections) {
+			if (!connection.leaked(currentTime, threshold)) {
+				continue;
+			}
+			if (connection.reportLeak()) {
+				LOGGER.warn("Connection_Leak_Warn", this.jdbcUrl,
+						currentTime - connection.getBorrowTime(), connection.getBorrowStack());
+			}
+			if (connection.leaked(currentTime, reclaimTime) && this.releaseConnection(connection)) {
+				LOGGER.error("Connection_Leak_Reclaim", this.jdbcUrl);
+				this.destroyConnection(connection);
+			}
+		}
+	}
+
 	void close() {
 		//  Close all activated connection
-		Iterator<JdbcConnection> iterator = this.activeConnections.iterator();
-		while (iterator.hasNext()) {
-			JdbcConnection connection = iterator.next();
+		for (JdbcConnection connection : this.activeConnections) {
+			this.releaseConnection(connection);
 			this.destroyConnection(connection);
-			iterator.remove();
 		}
 		this.closePool();
 	}
 
 	private void closePool() {
 		JdbcConnection connection;
-		while ((connection = this.connectionQueue.poll()) != null) {
+		while ((connection = this.pollConnection()) != null) {
 			this.destroyConnection(connection);
 		}
-		this.connectionQueue.clear();
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve and remove the head connection of the connection queue</h4>
+	 * <h4 class="zh-CN">获取并移除连接队列头部的连接</h4>
+	 *
+	 * @return <span class="en-US">Connection instance object, or null if the queue is empty</span>
+	 * <span class="zh-CN">连接实例对象，队列为空时返回null</span>
+	 */
+	private JdbcConnection pollConnection() {
+		JdbcConnection connection = this.connectionQueue.pollFirst();
+		if (connection != null) {
+			this.idleCount.decrementAndGet();
+		}
+		return connection;
+	}
+
+	/**
+	 * <h4 class="en-US">Remove the given connection from the using connection set and feed the server statistics</h4>
+	 * <h4 class="zh-CN">从使用中的连接集合中移除给定的连接并更新服务器统计信息</h4>
+	 *
+	 * @param connection <span class="en-US">Obtained connection</span>
+	 *                   <span class="zh-CN">获得的连接</span>
+	 * @return <span class="en-US">The connection was removed by current thread</span>
+	 * <span class="zh-CN">连接由当前线程移除</span>
+	 */
+	private boolean releaseConnection(@Nonnull final JdbcConnection connection) {
+		if (this.activeConnections.remove(connection)) {
+			this.serverStats.end(connection.heldTime());
+			return Boolean.TRUE;
+		}
+		return Boolean.FALSE;
 	}
 
 	/**
@@ -404,18 +893,38 @@ public final class JdbcConnectionPool {
 	 *                      <span class="zh-CN">关闭连接过程中出错</span>
 	 */
 	void closeConnection(final JdbcConnection connection) throws SQLException {
-		if (connection == null) {
+		if (connection == null || !this.releaseConnection(connection)) {
+			//  The connection was already reclaimed or aborted
 			return;
 		}
 
-		this.activeConnections.remove(connection);
+		if (connection.written()) {
+			//  The write was committed, refresh the write time of current thread
+			this.jdbcSchema.recordWrite();
+		}
 
-		if (!this.pooled || connection.getTransactionIsolation() != Connection.TRANSACTION_NONE) {
+		if (!this.pooled) {
 			this.destroyConnection(connection);
 			return;
 		}
 
 		if (connection.isClosed()) {
+			this.signalWaiter();
+			return;
+		}
+
+		//  Reset the changed session state, the connection will be kept pooled
+		boolean restored;
+		try {
+			restored = connection.resetSession();
+		} catch (SQLException e) {
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Reset_Session_Error", e);
+			}
+			restored = Boolean.FALSE;
+		}
+		if (!restored) {
+			this.destroyConnection(connection);
 			return;
 		}
 
@@ -427,9 +936,38 @@ public final class JdbcConnectionPool {
 			return;
 		}
 
+		connection.markUsed();
 		this.addConnection(connection);
 	}
 
+	/**
+	 * <h4 class="en-US">Abort the given connection if it was still obtained</h4>
+	 * <p class="en-US">
+	 *     The connection was removed from the using connection set first, so the connection returned to the pool
+	 *     will never be aborted, and the released slot let the pool establish a new connection.
+	 * </p>
+	 * <h4 class="zh-CN">如果给定的连接仍被借出则中止该连接</h4>
+	 * <p class="zh-CN">首先从使用中的连接集合中移除连接，因此已归还到连接池的连接不会被中止，释放的位置使连接池可以建立新的连接。</p>
+	 *
+	 * @param connection <span class="en-US">Obtained connection</span>
+	 *                   <span class="zh-CN">获得的连接</span>
+	 * @param executor   <span class="en-US">Executor of the abort operation</span>
+	 *                   <span class="zh-CN">中止操作的执行器</span>
+	 */
+	void abortConnection(@Nonnull final JdbcConnection connection, @Nonnull final Executor executor) {
+		if (!this.releaseConnection(connection)) {
+			return;
+		}
+		try {
+			connection.abort(executor);
+		} catch (SQLException e) {
+			LOGGER.error("Close_Connection_Error");
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+		}
+	}
+
 	/**
 	 * <h4 class="en-US">Check current connections count is greater or equal the maximum connections</h4>
 	 * <h4 class="zh-CN">检查当前连接数是否超过最大连接数</h4>
@@ -438,7 +976,31 @@ public final class JdbcConnectionPool {
 	 * <span class="zh-CN">检查结果</span>
 	 */
 	private boolean limitConnections() {
-		return this.jdbcSchema.maxConnections < (this.activeConnections.size() + this.connectionQueue.size());
+		return Math.max(this.jdbcSchema.minConnections, this.jdbcSchema.maxConnections)
+				<= (this.activeConnections.size() + this.idleCount.get() + this.pendingCount.get());
+	}
+
+	/**
+	 * <h4 class="en-US">Establish a real database connection and count it as pending until established</h4>
+	 * <h4 class="zh-CN">建立真实的数据库连接，建立完成前计入正在建立的连接数</h4>
+	 *
+	 * @return <span class="en-US">Database connection instance object</span>
+	 * <span class="zh-CN">数据库连接实例对象</span>
+	 * @throws SQLException <span class="en-US">An error occurred while establishing the connection</span>
+	 *                      <span class="zh-CN">建立连接过程中出错</span>
+	 */
+	private JdbcConnection establishConnection() throws SQLException {
+		this.pendingCount.incrementAndGet();
+		try {
+			JdbcConnection connection = this.createConnection();
+			if (PoolStatus.FAILED.equals(this.poolStatus)) {
+				//  The database server is reachable again
+				this.poolStatus = PoolStatus.READY;
+			}
+			return connection;
+		} finally {
+			this.pendingCount.decrementAndGet();
+		}
 	}
 
 	/**
@@ -449,22 +1011,55 @@ public final class JdbcConnectionPool {
 	 *                   <span class="zh-CN">获得的连接</span>
 	 */
 	private void addConnection(@Nonnull final JdbcConnection connection) {
+		this.offerConnection(connection, Boolean.TRUE);
+	}
+
+	/**
+	 * <h4 class="en-US">Put connection into connection pool, the connection will be destroyed if the pool is full</h4>
+	 * <h4 class="zh-CN">将连接放入连接池，连接池已满时销毁连接</h4>
+	 *
+	 * @param connection <span class="en-US">Obtained connection</span>
+	 *                   <span class="zh-CN">获得的连接</span>
+	 * @param recent     <span class="en-US">Put the connection at the head of the queue</span>
+	 *                   <span class="zh-CN">将连接放在队列头部</span>
+	 */
+	private void offerConnection(@Nonnull final JdbcConnection connection, final boolean recent) {
 		if (!this.pooled) {
 			this.destroyConnection(connection);
 			return;
 		}
-		boolean destroy = Boolean.TRUE;
-		synchronized (this.connectionQueue) {
-			if (this.needConnections()) {
-				destroy = !this.connectionQueue.offer(connection);
+		//  Reserve the pool slot before the connection was enqueued, so no lock is needed
+		if (this.idleCount.incrementAndGet() <= Math.max(this.jdbcSchema.minConnections, this.jdbcSchema.maxConnections)) {
+			if (recent) {
+				this.connectionQueue.offerFirst(connection);
+			} else {
+				this.connectionQueue.offerLast(connection);
 			}
+			this.signalWaiter();
+			return;
 		}
-		if (destroy) {
-			if (LOGGER.isDebugEnabled()) {
-				LOGGER.debug("Pool_Full_Destroy_Connection");
-			}
-			this.destroyConnection(connection);
+		this.idleCount.decrementAndGet();
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Pool_Full_Destroy_Connection");
 		}
+		this.destroyConnection(connection);
+	}
+
+	/**
+	 * <h4 class="en-US">Remove the given connection from the connection queue</h4>
+	 * <h4 class="zh-CN">从连接队列中移除给定的连接</h4>
+	 *
+	 * @param connection <span class="en-US">Idle connection</span>
+	 *                   <span class="zh-CN">空闲的连接</span>
+	 * @return <span class="en-US">The connection was removed by current thread</span>
+	 * <span class="zh-CN">连接由当前线程移除</span>
+	 */
+	private boolean claimConnection(@Nonnull final JdbcConnection connection) {
+		if (this.connectionQueue.removeFirstOccurrence(connection)) {
+			this.idleCount.decrementAndGet();
+			return Boolean.TRUE;
+		}
+		return Boolean.FALSE;
 	}
 
 	/**
@@ -475,7 +1070,11 @@ public final class JdbcConnectionPool {
 	 * <span class="zh-CN">检查结果</span>
 	 */
 	private boolean needConnections() {
-		return this.pooled ? (this.connectionQueue.size() < this.jdbcSchema.minConnections) : Boolean.FALSE;
+		if (!this.pooled || !this.circuitBreaker.allowRequest() || this.limitConnections()) {
+			return Boolean.FALSE;
+		}
+		return this.idleCount.get() < this.jdbcSchema.minConnections
+				|| (this.currentSize() + this.pendingCount.get()) < this.sizeController.getTargetSize();
 	}
 
 	/**
@@ -483,11 +1082,81 @@ public final class JdbcConnectionPool {
 	 * <h4 class="zh-CN">检查数据库连接池中的连接数是否满足配置需求</h4>
 	 */
 	void createConnections() {
-		if (this.createRunning || !this.pooled) {
+		if (!this.pooled || !this.createRunning.compareAndSet(Boolean.FALSE, Boolean.TRUE)) {
 			return;
 		}
+		try {
+			this.fillConnections(Integer.MAX_VALUE);
+		} finally {
+			this.createRunning.set(Boolean.FALSE);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Maintain the idle connections and fill the connection pool</h4>
+	 * <p class="en-US">
+	 *     Connections reached the maximum lifetime will be retired, connections idle longer than the idle timeout
+	 *     will be evicted while the pool keeps more than the minimum connections, and the keepalive probe
+	 *     only checks the connections idle longer than the keepalive time.
+	 * </p>
+	 * <h4 class="zh-CN">维护空闲连接并填充连接池</h4>
+	 * <p class="zh-CN">
+	 *     达到最大存活时间的连接将被退役，连接池连接数超过最小连接数时回收空闲超时的连接，保活检测仅检查空闲时间超过保活时间的连接。
+	 * </p>
+	 */
+	void housekeeping() {
+		this.probeServer();
+		if (!this.pooled || !this.createRunning.compareAndSet(Boolean.FALSE, Boolean.TRUE)) {
+			return;
+		}
+		try {
+			long currentTime = DateTimeUtils.currentUTCTimeMillis();
+			this.detectLeaks(currentTime);
+			long idleTimeout = this.jdbcSchema.idleTimeout, keepaliveTime = this.jdbcSchema.keepaliveTime;
+			for (JdbcConnection connection : this.connectionQueue) {
+				if (connection.retired(currentTime)
+						|| (connection.idleTimeout(currentTime, idleTimeout)
+						&& this.idleCount.get() > this.jdbcSchema.minConnections)) {
+					if (this.claimConnection(connection)) {
+						if (LOGGER.isDebugEnabled()) {
+							LOGGER.debug("Housekeeping_Destroy_Connection", this.jdbcUrl);
+						}
+						this.destroyConnection(connection);
+					}
+				} else if (connection.keepalive(currentTime, keepaliveTime) && this.claimConnection(connection)) {
+					if (!this.invalidConnection(connection)) {
+						connection.markChecked();
+						this.offerConnection(connection, Boolean.FALSE);
+					}
+				}
+			}
+			int minConnections = this.jdbcSchema.minConnections;
+			int targetSize = this.sizeController.evaluate(this.activeConnections.size(), this.idleCount.get(),
+					this.waitCount.get(), minConnections, this.jdbcSchema.maxConnections);
+			if (this.currentSize() > targetSize && this.idleCount.get() > minConnections) {
+				//  Shrink one connection per period, the least recently used connection at the tail
+				JdbcConnection connection = this.connectionQueue.peekLast();
+				if (connection != null && this.claimConnection(connection)) {
+					if (LOGGER.isDebugEnabled()) {
+						LOGGER.debug("Housekeeping_Destroy_Connection", this.jdbcUrl);
+					}
+					this.destroyConnection(connection);
+				}
+			}
+			this.fillConnections(PoolSizeController.MAX_GROW_STEP);
+		} finally {
+			this.createRunning.set(Boolean.FALSE);
+		}
+	}
 
-		this.createRunning = Boolean.TRUE;
+	/**
+	 * <h4 class="en-US">Create connections until the pool keeps the minimum connections and reaches the target size</h4>
+	 * <h4 class="zh-CN">创建连接直到连接池保持最小连接数并达到目标容量</h4>
+	 *
+	 * @param limit <span class="en-US">Maximum connections can be created in this invocation</span>
+	 *              <span class="zh-CN">本次调用最多可创建的连接数</span>
+	 */
+	private void fillConnections(final int limit) {
 		if (this.limitConnections()) {
 			LOGGER.debug("Create_Connection_Full");
 			return;
@@ -495,39 +1164,23 @@ public final class JdbcConnectionPool {
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug("Create_Connection_Begin_Debug");
 		}
-		int poolSize = this.connectionQueue.size(), count = Globals.INITIALIZE_INT_VALUE;
-		while (count < poolSize) {
-			JdbcConnection connection = this.connectionQueue.poll();
-			if (connection == null) {
-				break;
-			}
-			boolean destroy = this.invalidConnection(connection);
-			if (!destroy) {
-				destroy = !this.connectionQueue.offer(connection);
-			}
-
-			if (destroy) {
-				this.destroyConnection(connection);
-			}
-			count++;
-		}
-		synchronized (this.connectionQueue) {
-			while (this.needConnections()) {
-				try {
-					this.addConnection(this.createConnection());
-				} catch (SQLException e) {
-					LOGGER.error("Create_Connection_Error");
-					if (LOGGER.isDebugEnabled()) {
-						LOGGER.debug("", e);
-					}
-					break;
+		//  Establish the connections without holding any lock, surplus connections will be destroyed
+		int count = Globals.INITIALIZE_INT_VALUE;
+		while (count < limit && this.needConnections()) {
+			try {
+				this.addConnection(this.establishConnection());
+				count++;
+			} catch (SQLException e) {
+				this.sizeController.creationFailed();
+				LOGGER.error("Create_Connection_Error");
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Stack_Message_Error", e);
 				}
+				break;
 			}
 		}
-
 		if (LOGGER.isDebugEnabled()) {
 			LOGGER.debug("Create_Connection_End_Debug");
 		}
-		this.createRunning = Boolean.FALSE;
 	}
 }
@@ -19,6 +19,12 @@ package org.nervousync.brain.schemas.jdbc;
 
 import jakarta.annotation.Nonnull;
 import org.jetbrains.annotations.NotNull;
+import org.nervousync.brain.balance.LoadBalancer;
+import org.nervousync.brain.balance.ServerStats;
+import org.nervousync.brain.balance.impl.EwmaBalancer;
+import org.nervousync.brain.balance.impl.LeastOutstandingBalancer;
+import org.nervousync.brain.balance.impl.RoundRobinBalancer;
+import org.nervousync.brain.balance.impl.WeightedBalancer;
 import org.nervousync.brain.commons.BrainCommons;
 import org.nervousync.brain.configs.schema.impl.JdbcSchemaConfig;
 import org.nervousync.brain.configs.server.ServerInfo;
@@ -29,24 +35,43 @@ import org.nervousync.brain.defines.IndexDefine;
 import org.nervousync.brain.defines.TableDefine;
 import org.nervousync.brain.dialects.DialectFactory;
 import org.nervousync.brain.dialects.jdbc.JdbcDialect;
+import org.nervousync.brain.enumerations.balance.BalanceType;
 import org.nervousync.brain.enumerations.ddl.DDLType;
 import org.nervousync.brain.enumerations.ddl.DropOption;
+import org.nervousync.brain.enumerations.execution.ExecutionPhase;
+import org.nervousync.brain.enumerations.pool.PoolStatus;
 import org.nervousync.brain.enumerations.query.LockOption;
 import org.nervousync.brain.enumerations.sharding.ShardingType;
+import org.nervousync.brain.enumerations.transactional.RetryType;
 import org.nervousync.brain.exceptions.sql.MultilingualSQLException;
+import org.nervousync.brain.exceptions.sql.OptimisticLockException;
+import org.nervousync.brain.lob.LobConsumer;
+import org.nervousync.brain.listeners.ListenerFactory;
 import org.nervousync.brain.query.QueryInfo;
 import org.nervousync.brain.query.condition.Condition;
 import org.nervousync.brain.schemas.BaseSchema;
+import org.nervousync.brain.transactional.DeadlineWatchdog;
 import org.nervousync.commons.Globals;
 import org.nervousync.utils.*;
 
+import java.io.InputStream;
+import java.io.Reader;
 import java.io.Serializable;
+import java.nio.channels.WritableByteChannel;
 import java.sql.*;
 import java.sql.Date;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -62,7 +87,7 @@ public final class JdbcSchema extends BaseSchema implements JdbcSchemaMBean {
 	 * <span class="en-US">Database dialect instance object</span>
 	 * <span class="zh-CN">数据库方言实例对象</span>
 	 */
-	private final JdbcDialect dialect;
+	final JdbcDialect dialect;
 	/**
 	 * <span class="en-US">JDBC connection url string</span>
 	 * <span class="zh-CN">JDBC连接字符串</span>
@@ -72,7 +97,7 @@ public final class JdbcSchema extends BaseSchema implements JdbcSchemaMBean {
 	 * <span class="en-US">Data source allows connection pooling</span>
 	 * <span class="zh-CN">数据源允许连接池</span>
 	 */
-	private boolean pooled;
+	private volatile boolean pooled;
 	/**
 	 * <span class="en-US">Maximum number of connection retries</span>
 	 * <span class="zh-CN">连接最大重试次数</span>
@@ -92,12 +117,12 @@ public final class JdbcSchema extends BaseSchema implements JdbcSchemaMBean {
 	 * <span class="en-US">Minimum connection limit</span>
 	 * <span class="zh-CN">最小连接数</span>
 	 */
-	int minConnections;
+	volatile int minConnections;
 	/**
 	 * <span class="en-US">Maximum connection limit</span>
 	 * <span class="zh-CN">最大连接数</span>
 	 */
-	int maxConnections;
+	volatile int maxConnections;
 	/**
 	 * <span class="en-US">Check connection validate when obtains database connection</span>
 	 * <span class="zh-CN">在获取连接时检查连接是否有效</span>
@@ -108,6 +133,106 @@ public final class JdbcSchema extends BaseSchema implements JdbcSchemaMBean {
 	 * <span class="zh-CN">在归还连接时检查连接是否有效</span>
 	 */
 	boolean testOnReturn;
+	/**
+	 * <span class="en-US">Idle timeout of pooled connection, 0 for never evict (Unit: milliseconds)</span>
+	 * <span class="zh-CN">池化连接的空闲超时时间，0为永不回收（单位：毫秒）</span>
+	 */
+	volatile long idleTimeout;
+	/**
+	 * <span class="en-US">Maximum lifetime of pooled connection, 0 for unlimited (Unit: milliseconds)</span>
+	 * <span class="zh-CN">池化连接的最大存活时间，0为不限制（单位：毫秒）</span>
+	 */
+	volatile long maxLifetime;
+	/**
+	 * <span class="en-US">Idle time before the keepalive probe of pooled connection, 0 for disabled (Unit: milliseconds)</span>
+	 * <span class="zh-CN">池化连接保活检测前的空闲时间，0为禁用（单位：毫秒）</span>
+	 */
+	volatile long keepaliveTime;
+	/**
+	 * <span class="en-US">Maximum number of connection pools warmed up in parallel</span>
+	 * <span class="zh-CN">并行预热连接池的最大数量</span>
+	 */
+	private final int warmUpParallelism;
+	/**
+	 * <span class="en-US">Threshold of connection held time before reported as leaked, 0 for disabled (Unit: milliseconds)</span>
+	 * <span class="zh-CN">连接被报告为泄漏前的持有时间阈值，0为禁用（单位：毫秒）</span>
+	 */
+	volatile long leakDetectionThreshold;
+	/**
+	 * <span class="en-US">Held time before the leaked connection was reclaimed, 0 for never reclaim (Unit: milliseconds)</span>
+	 * <span class="zh-CN">泄漏连接被回收前的持有时间，0为永不回收（单位：毫秒）</span>
+	 */
+	volatile long leakReclaimTime;
+	/**
+	 * <span class="en-US">Sampling interval of the borrowing stack capture, 0 for disabled</span>
+	 * <span class="zh-CN">借用调用栈的采样间隔，0为禁用</span>
+	 */
+	volatile int leakStackSampling;
+	/**
+	 * <span class="en-US">Consecutive failures before the server circuit opens, 0 for disabled</span>
+	 * <span class="zh-CN">服务器断路器断开前的连续失败次数，0为禁用</span>
+	 */
+	volatile int breakerThreshold;
+	/**
+	 * <span class="en-US">Open time of the server circuit before probing (Unit: milliseconds)</span>
+	 * <span class="zh-CN">服务器断路器探测前的断开时间（单位：毫秒）</span>
+	 */
+	volatile long breakerOpenTime;
+	/**
+	 * <span class="en-US">Replication lag query command, lag aware routing was disabled if empty</span>
+	 * <span class="zh-CN">复制延迟查询命令，为空时禁用延迟感知路由</span>
+	 */
+	private final String lagQuery;
+	/**
+	 * <span class="en-US">Period of the replication lag probe (Unit: milliseconds)</span>
+	 * <span class="zh-CN">复制延迟探测周期（单位：毫秒）</span>
+	 */
+	private final long lagProbePeriod;
+	/**
+	 * <span class="en-US">Maximum replication lag of the secondary server serving read requests, 0 for unlimited (Unit: milliseconds)</span>
+	 * <span class="zh-CN">从服务器提供读取服务的最大复制延迟，0为不限制（单位：毫秒）</span>
+	 */
+	private volatile long maxReplicaLag;
+	/**
+	 * <span class="en-US">Window of reading your writes after a write, 0 for disabled (Unit: milliseconds)</span>
+	 * <span class="zh-CN">写入后读取自身写入的时间窗口，0为禁用（单位：毫秒）</span>
+	 */
+	private volatile long readYourWritesWindow;
+	/**
+	 * <span class="en-US">Maximum rows of the coalesced write batch, coalescing was disabled if less than 2</span>
+	 * <span class="zh-CN">合并写入批次的最大行数，小于2时禁用合并</span>
+	 */
+	private final int coalesceBatchSize;
+	/**
+	 * <span class="en-US">Maximum delay of the first coalesced write (Unit: microseconds)</span>
+	 * <span class="zh-CN">第一个合并写入的最大延迟（单位：微秒）</span>
+	 */
+	private final long coalesceDelay;
+	/**
+	 * <span class="en-US">Lower case names of the tables whose writes were coalesced</span>
+	 * <span class="zh-CN">写入被合并的数据表名称（小写）</span>
+	 */
+	private final Set<String> coalesceTables;
+	/**
+	 * <span class="en-US">Group commit coalescer of the small writes, null if coalescing was disabled</span>
+	 * <span class="zh-CN">小型写入的组提交合并器，禁用合并时为null</span>
+	 */
+	private volatile WriteCoalescer writeCoalescer = null;
+	/**
+	 * <span class="en-US">Names of the coalesced sharding tables already synchronized, key is sharding database name</span>
+	 * <span class="zh-CN">已同步的合并写入分片数据表名称，键值为分片数据库名称</span>
+	 */
+	private final Map<String, Set<String>> synchronizedTables = new ConcurrentHashMap<>();
+	/**
+	 * <span class="en-US">Last write time of the current thread, using for reading your writes</span>
+	 * <span class="zh-CN">当前线程的最后写入时间，用于读取自身写入</span>
+	 */
+	private final ThreadLocal<Long> writeTime = new ThreadLocal<>();
+	/**
+	 * <span class="en-US">Pre-prepare the CRUD statements of registered tables on the warmed up connections</span>
+	 * <span class="zh-CN">在预热的连接上预编译已注册数据表的增删改查语句</span>
+	 */
+	private final boolean prepareStatements;
 	/**
 	 * <span class="en-US">Database main/writable server info</span>
 	 * <span class="zh-CN">数据库主服务器（写入服务器）</span>
@@ -119,30 +244,80 @@ public final class JdbcSchema extends BaseSchema implements JdbcSchemaMBean {
 	 */
 	private final List<ServerInfo> serverList;
 	/**
-	 * <span class="en-US">Secondary/Readable server list index value</span>
-	 * <span class="zh-CN">从服务器列表索引值</span>
+	 * <span class="en-US">All registered server info list, including the main server, null element if the JDBC connection string was used directly</span>
+	 * <span class="zh-CN">所有注册的服务器信息列表，包括主服务器，直接使用JDBC连接字符串时为null元素</span>
+	 */
+	private final List<ServerInfo> registeredServers;
+	/**
+	 * <span class="en-US">Server statistics mapping, key is server address</span>
+	 * <span class="zh-CN">服务器统计信息映射表，键为服务器地址</span>
+	 */
+	private final Map<String, ServerStats> serverStats = new ConcurrentHashMap<>();
+	/**
+	 * <span class="en-US">Statistics list of secondary/readable servers, using for read routing</span>
+	 * <span class="zh-CN">从服务器统计信息列表，用于读取路由</span>
+	 */
+	private final List<ServerStats> readableStats;
+	/**
+	 * <span class="en-US">Read routing strategy of the secondary servers</span>
+	 * <span class="zh-CN">从服务器的读取路由策略</span>
+	 */
+	private volatile BalanceType balanceType;
+	/**
+	 * <span class="en-US">Read routing strategy instance object</span>
+	 * <span class="zh-CN">读取路由策略实例对象</span>
 	 */
-	private final AtomicInteger serverIndex = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+	private volatile LoadBalancer loadBalancer;
 	/**
 	 * <span class="en-US">The interval between scheduled task executions</span>
 	 * <span class="zh-CN">调度任务执行的间隔时间</span>
 	 */
 	private static final long SCHEDULE_PERIOD_TIME = 1000L;
+	/**
+	 * <span class="en-US">Number of threads for connection pool housekeeping</span>
+	 * <span class="zh-CN">连接池维护的线程数</span>
+	 */
+	private static final int HOUSEKEEPING_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
 	/**
 	 * <span class="en-US">System scheduling task execution service</span>
 	 * <span class="zh-CN">系统调度任务执行服务</span>
 	 */
 	private ScheduledExecutorService executorService = null;
+	/**
+	 * <span class="en-US">Housekeeping task execution service, the connection pools are maintained in parallel</span>
+	 * <span class="zh-CN">维护任务执行服务，并行维护各连接池</span>
+	 */
+	private ExecutorService housekeepingService = null;
+	/**
+	 * <span class="en-US">Warm up task execution service, bounded by the configured warm up parallelism</span>
+	 * <span class="zh-CN">预热任务执行服务，受配置的预热并行度限制</span>
+	 */
+	private ExecutorService warmUpService = null;
 	/**
 	 * <span class="en-US">Database connection pools mapping</span>
 	 * <span class="zh-CN">数据库连接池映射表</span>
 	 */
-	private final List<JdbcConnectionPool> registeredPools = new ArrayList<>();
+	private final Map<PoolKey, JdbcConnectionPool> registeredPools = new ConcurrentHashMap<>();
+	/**
+	 * <span class="en-US">Creation of the sharding databases, completed when the sharding database exists</span>
+	 * <span class="zh-CN">分片数据库的创建，分片数据库存在时完成</span>
+	 */
+	private final Map<PoolKey, CompletableFuture<Boolean>> shardingDatabases = new ConcurrentHashMap<>();
 	/**
-	 * <span class="en-US">List of database connections used by the current thread</span>
-	 * <span class="zh-CN">当前线程使用的数据库连接列表</span>
+	 * <span class="en-US">Registered table define mapping, using for pre-prepare statements</span>
+	 * <span class="zh-CN">已注册的数据表定义映射表，用于预编译语句</span>
 	 */
-	private final ThreadLocal<List<JdbcConnection>> currentConnections = new ThreadLocal<>();
+	private final Map<String, TableDefine> registeredTables = new ConcurrentHashMap<>();
+	/**
+	 * <span class="en-US">Mapping of database connections used by the current thread</span>
+	 * <span class="zh-CN">当前线程使用的数据库连接映射表</span>
+	 */
+	private final ThreadLocal<ConnectionMap> currentConnections = new ThreadLocal<>();
+	/**
+	 * <span class="en-US">Deadline watchdog of the transactional, driven by the scheduler thread</span>
+	 * <span class="zh-CN">事务的截止时间看门狗，由调度线程驱动</span>
+	 */
+	private final DeadlineWatchdog watchdog = new DeadlineWatchdog(BrainCommons.DEFAULT_WATCHDOG_TICK);
 
 	/**
 	 * <h4 class="en-US">Constructor method for JDBC data source implementation class</h4>
@@ -170,6 +345,32 @@ public final class JdbcSchema extends BaseSchema implements JdbcSchemaMBean {
 		}
 		this.testOnBorrow = schemaConfig.isTestOnBorrow();
 		this.testOnReturn = schemaConfig.isTestOnReturn();
+		this.idleTimeout = schemaConfig.getIdleTimeout();
+		this.maxLifetime = schemaConfig.getMaxLifetime();
+		this.keepaliveTime = schemaConfig.getKeepaliveTime();
+		this.warmUpParallelism = Math.max(1, schemaConfig.getWarmUpParallelism());
+		this.prepareStatements = schemaConfig.isPrepareStatements();
+		this.leakDetectionThreshold = schemaConfig.getLeakDetectionThreshold();
+		this.leakReclaimTime = schemaConfig.getLeakReclaimTime();
+		this.leakStackSampling = schemaConfig.getLeakStackSampling();
+		this.breakerThreshold = schemaConfig.getBreakerThreshold();
+		this.breakerOpenTime = schemaConfig.getBreakerOpenTime();
+		this.lagQuery = StringUtils.isEmpty(schemaConfig.getLagQuery())
+				? this.dialect.getLagQuery()
+				: schemaConfig.getLagQuery();
+		this.lagProbePeriod = Math.max(SCHEDULE_PERIOD_TIME, schemaConfig.getLagProbePeriod());
+		this.maxReplicaLag = schemaConfig.getMaxReplicaLag();
+		this.readYourWritesWindow = schemaConfig.getReadYourWritesWindow();
+		this.coalesceBatchSize = schemaConfig.getCoalesceBatchSize();
+		this.coalesceDelay = schemaConfig.getCoalesceDelay();
+		Set<String> coalesceTables = new HashSet<>();
+		if (schemaConfig.getCoalesceTables() != null) {
+			schemaConfig.getCoalesceTables()
+					.stream()
+					.filter(StringUtils::notBlank)
+					.forEach(tableName -> coalesceTables.add(tableName.toLowerCase()));
+		}
+		this.coalesceTables = Collections.unmodifiableSet(coalesceTables);
 		if (schemaConfig.isServerArray()) {
 			List<ServerInfo> serverList = schemaConfig.getServerList();
 			if (serverList == null || serverList.isEmpty()) {
@@ -185,6 +386,24 @@ public final class JdbcSchema extends BaseSchema implements JdbcSchemaMBean {
 			this.serverList = Collections.emptyList();
 			this.serverInfo = null;
 		}
+		List<ServerInfo> registeredServers = new ArrayList<>();
+		registeredServers.add(this.serverInfo);
+		registeredServers.addAll(this.serverList);
+		this.registeredServers = Collections.unmodifiableList(registeredServers);
+		List<ServerStats> readableStats = new ArrayList<>();
+		for (ServerInfo serverInfo : this.registeredServers) {
+			ServerStats serverStats = new ServerStats(serverInfo);
+			this.serverStats.put(this.poolKey(serverInfo, this.shardingDefault).serverAddress(), serverStats);
+			//  The main server only serves the write requests
+			if (serverInfo != this.serverInfo) {
+				readableStats.add(serverStats);
+			}
+		}
+		this.readableStats = Collections.unmodifiableList(readableStats);
+		this.balanceType = (schemaConfig.getBalanceType() == null)
+				? BalanceType.ROUND_ROBIN
+				: schemaConfig.getBalanceType();
+		this.loadBalancer = loadBalancer(this.balanceType);
 		if (this.sharding && !this.jdbcUrl.contains("{shardingKey}")) {
 			throw new MultilingualSQLException(0x00DB00000025L, this.jdbcUrl);
 		}
@@ -226,7 +445,7 @@ public final class JdbcSchema extends BaseSchema implements JdbcSchemaMBean {
 
 	@Override
 	public void configPool(final boolean pooled, final int minConnections, final int maxConnections) {
-		this.registeredPools.forEach(connectionPool -> connectionPool.configPooled(pooled));
+		this.registeredPools.values().forEach(connectionPool -> connectionPool.configPooled(pooled));
 		this.pooled = pooled;
 		if (this.pooled) {
 			this.minConnections = minConnections;
@@ -245,24 +464,53 @@ public final class JdbcSchema extends BaseSchema implements JdbcSchemaMBean {
 	@Override
 	public int getPoolCount() {
 		final AtomicInteger count = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
-		this.registeredPools.forEach(connectionPool -> count.addAndGet(connectionPool.poolCount()));
+		this.registeredPools.values().forEach(connectionPool -> count.addAndGet(connectionPool.poolCount()));
 		return count.get();
 	}
 
 	@Override
 	public int getActiveCount() {
 		final AtomicInteger count = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
-		this.registeredPools.forEach(connectionPool -> count.addAndGet(connectionPool.activeCount()));
+		this.registeredPools.values().forEach(connectionPool -> count.addAndGet(connectionPool.activeCount()));
 		return count.get();
 	}
 
 	@Override
 	public int getWaitCount() {
 		final AtomicInteger count = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
-		this.registeredPools.forEach(connectionPool -> count.addAndGet(connectionPool.waitCount()));
+		this.registeredPools.values().forEach(connectionPool -> count.addAndGet(connectionPool.waitCount()));
 		return count.get();
 	}
 
+	@Override
+	public int getCurrentSize() {
+		final AtomicInteger count = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+		this.registeredPools.values().forEach(connectionPool -> count.addAndGet(connectionPool.currentSize()));
+		return count.get();
+	}
+
+	@Override
+	public int getTargetSize() {
+		final AtomicInteger count = new AtomicInteger(Globals.INITIALIZE_INT_VALUE);
+		this.registeredPools.values().forEach(connectionPool -> count.addAndGet(connectionPool.targetSize()));
+		return count.get();
+	}
+
+	@Override
+	public boolean isReady() {
+		return !this.registeredPools.isEmpty()
+				&& this.registeredPools.values().stream()
+				.allMatch(connectionPool -> PoolStatus.READY.equals(connectionPool.poolStatus()));
+	}
+
+	@Override
+	public Map<String, String> getReadiness() {
+		Map<String, String> readiness = new HashMap<>();
+		this.registeredPools.values().forEach(connectionPool ->
+				readiness.put(connectionPool.getJdbcUrl(), connectionPool.poolStatus().name()));
+		return readiness;
+	}
+
 	@Override
 	public int getMinConnections() {
 		return this.minConnections;
@@ -279,6 +527,240 @@ public final class JdbcSchema extends BaseSchema implements JdbcSchemaMBean {
 		this.retryPeriod = retryPeriod;
 	}
 
+	@Override
+	public void configHousekeeping(final long idleTimeout, final long maxLifetime, final long keepaliveTime) {
+		this.idleTimeout = idleTimeout;
+		this.maxLifetime = maxLifetime;
+		this.keepaliveTime = keepaliveTime;
+	}
+
+	@Override
+	public void configLeakDetection(final long leakDetectionThreshold, final long leakReclaimTime,
+	                                final int leakStackSampling) {
+		this.leakDetectionThreshold = leakDetectionThreshold;
+		this.leakReclaimTime = leakReclaimTime;
+		this.leakStackSampling = leakStackSampling;
+	}
+
+	@Override
+	public long getLeakDetectionThreshold() {
+		return this.leakDetectionThreshold;
+	}
+
+	@Override
+	public long getLeakReclaimTime() {
+		return this.leakReclaimTime;
+	}
+
+	@Override
+	public int getLeakStackSampling() {
+		return this.leakStackSampling;
+	}
+
+	@Override
+	public int getLeakCount() {
+		return this.getLeakedConnections().size();
+	}
+
+	@Override
+	public List<String> getLeakedConnections() {
+		List<String> leakedConnections = new ArrayList<>();
+		this.registeredPools.values().forEach(connectionPool ->
+				leakedConnections.addAll(connectionPool.leakedConnections()));
+		return leakedConnections;
+	}
+
+	@Override
+	public void configBalance(final String balanceType) {
+		BalanceType newType = BalanceType.valueOf(balanceType);
+		this.loadBalancer = loadBalancer(newType);
+		this.balanceType = newType;
+	}
+
+	@Override
+	public String getBalanceType() {
+		return this.balanceType.name();
+	}
+
+	@Override
+	public Map<String, Long> getServerLatency() {
+		Map<String, Long> serverLatency = new HashMap<>();
+		this.serverStats.forEach((serverAddress, serverStats) ->
+				serverLatency.put(serverAddress, serverStats.getLatency()));
+		return serverLatency;
+	}
+
+	@Override
+	public Map<String, Integer> getOutstandingRequests() {
+		Map<String, Integer> outstandingRequests = new HashMap<>();
+		this.serverStats.forEach((serverAddress, serverStats) ->
+				outstandingRequests.put(serverAddress, serverStats.getOutstanding()));
+		return outstandingRequests;
+	}
+
+	@Override
+	public void configReplicaLag(final long maxReplicaLag, final long readYourWritesWindow) {
+		this.maxReplicaLag = maxReplicaLag;
+		this.readYourWritesWindow = readYourWritesWindow;
+	}
+
+	@Override
+	public long getMaxReplicaLag() {
+		return this.maxReplicaLag;
+	}
+
+	@Override
+	public long getReadYourWritesWindow() {
+		return this.readYourWritesWindow;
+	}
+
+	@Override
+	public Map<String, Long> getReplicaLag() {
+		Map<String, Long> replicaLag = new HashMap<>();
+		this.readableStats.forEach(serverStats ->
+				replicaLag.put(serverStats.getServerInfo().info(), serverStats.getReplicaLag()));
+		return replicaLag;
+	}
+
+	/**
+	 * <h4 class="en-US">Session token of the current thread</h4>
+	 * <p class="en-US">
+	 *     The token is the last write time of the current thread, pass the token to the thread or the process
+	 *     serving the following requests of the same session and bind it by <code>bindSessionToken</code>,
+	 *     the following reads will see the writes. The processes should share the same clock source.
+	 * </p>
+	 * <h4 class="zh-CN">当前线程的会话令牌</h4>
+	 * <p class="zh-CN">
+	 *     令牌为当前线程的最后写入时间，将令牌传递给处理同一会话后续请求的线程或进程并通过<code>bindSessionToken</code>绑定，
+	 *     后续的读取将可以看到写入的数据。各进程应使用相同的时钟源。
+	 * </p>
+	 *
+	 * @return <span class="en-US">Session token, 0 if no write in the window</span>
+	 * <span class="zh-CN">会话令牌，时间窗口内没有写入时为0</span>
+	 */
+	public long getSessionToken() {
+		return this.recentWrite(DateTimeUtils.currentUTCTimeMillis());
+	}
+
+	/**
+	 * <h4 class="en-US">Bind the session token to the current thread</h4>
+	 * <h4 class="zh-CN">绑定会话令牌到当前线程</h4>
+	 *
+	 * @param sessionToken <span class="en-US">Session token</span>
+	 *                     <span class="zh-CN">会话令牌</span>
+	 */
+	public void bindSessionToken(final long sessionToken) {
+		Long currentToken = this.writeTime.get();
+		if (sessionToken > 0L && (currentToken == null || currentToken < sessionToken)) {
+			this.writeTime.set(sessionToken);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Record the write time of the current thread</h4>
+	 * <h4 class="zh-CN">记录当前线程的写入时间</h4>
+	 */
+	void recordWrite() {
+		if (this.readYourWritesWindow > 0L && !this.readableStats.isEmpty()) {
+			this.writeTime.set(DateTimeUtils.currentUTCTimeMillis());
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Last write time of the current thread in the window of reading your writes</h4>
+	 * <h4 class="zh-CN">读取自身写入的时间窗口内当前线程的最后写入时间</h4>
+	 *
+	 * @param currentTime <span class="en-US">Current time</span>
+	 *                    <span class="zh-CN">当前时间</span>
+	 * @return <span class="en-US">Last write time, 0 if no write in the window</span>
+	 * <span class="zh-CN">最后写入时间，时间窗口内没有写入时为0</span>
+	 */
+	private long recentWrite(final long currentTime) {
+		Long lastWrite = this.writeTime.get();
+		if (lastWrite == null) {
+			return 0L;
+		}
+		if ((currentTime - lastWrite) > this.readYourWritesWindow) {
+			this.writeTime.remove();
+			return 0L;
+		}
+		return lastWrite;
+	}
+
+	/**
+	 * <h4 class="en-US">Probe the replication lag of the given secondary server</h4>
+	 * <h4 class="zh-CN">探测给定从服务器的复制延迟</h4>
+	 *
+	 * @param serverStats <span class="en-US">Server statistics</span>
+	 *                    <span class="zh-CN">服务器统计信息</span>
+	 */
+	private void probeLag(@Nonnull final ServerStats serverStats) {
+		if (!serverStats.available()) {
+			return;
+		}
+		long probeTime = DateTimeUtils.currentUTCTimeMillis();
+		try (Connection connection = this.connectionPool(serverStats.getServerInfo()).obtainConnection();
+		     Statement statement = connection.createStatement()) {
+			statement.setQueryTimeout(this.getValidateTimeout());
+			try (ResultSet resultSet = statement.executeQuery(this.lagQuery)) {
+				//  Null value means the server is not replicating, treated as no lag
+				double replicaLag = resultSet.next() ? resultSet.getDouble(1) : 0D;
+				serverStats.updateLag(probeTime, Math.max(0L, Math.round(replicaLag * 1000D)));
+			}
+		} catch (SQLException e) {
+			serverStats.updateLag(probeTime, Globals.DEFAULT_VALUE_LONG);
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug("Lag_Probe_Error", serverStats.getServerInfo().info());
+				this.logger.debug("Stack_Message_Error", e);
+			}
+		}
+	}
+
+	@Override
+	public void configBreaker(final int breakerThreshold, final long breakerOpenTime) {
+		this.breakerThreshold = breakerThreshold;
+		this.breakerOpenTime = breakerOpenTime;
+	}
+
+	@Override
+	public int getBreakerThreshold() {
+		return this.breakerThreshold;
+	}
+
+	@Override
+	public long getBreakerOpenTime() {
+		return this.breakerOpenTime;
+	}
+
+	@Override
+	public Map<String, String> getCircuitStates() {
+		Map<String, String> circuitStates = new HashMap<>();
+		this.serverStats.forEach((serverAddress, serverStats) ->
+				circuitStates.put(serverAddress, serverStats.getCircuitBreaker().getCircuitState().name()));
+		return circuitStates;
+	}
+
+	@Override
+	public void resetCircuit(final String serverAddress) {
+		Optional.ofNullable(this.serverStats.get(serverAddress))
+				.ifPresent(serverStats -> serverStats.getCircuitBreaker().closeCircuit());
+	}
+
+	@Override
+	public long getIdleTimeout() {
+		return this.idleTimeout;
+	}
+
+	@Override
+	public long getMaxLifetime() {
+		return this.maxLifetime;
+	}
+
+	@Override
+	public long getKeepaliveTime() {
+		return this.keepaliveTime;
+	}
+
 	@Override
 	public boolean isTestOnBorrow() {
 		return this.testOnBorrow;
@@ -296,17 +778,33 @@ public final class JdbcSchema extends BaseSchema implements JdbcSchemaMBean {
 
 	@Override
 	public void initialize() {
-		if (this.initialized || this.sharding) {
+		if (this.initialized) {
 			return;
 		}
 
 		try {
+			if (this.warmUpService == null) {
+				this.warmUpService = Executors.newFixedThreadPool(this.warmUpParallelism);
+			}
 			this.initSharding(this.shardingDefault);
-			if (this.pooled) {
-				this.executorService = Executors.newSingleThreadScheduledExecutor();
+			//  Scheduled even if the pool is disabled, the open servers were probed by the housekeeping
+			this.housekeepingService = Executors.newFixedThreadPool(HOUSEKEEPING_THREADS);
+			this.executorService = Executors.newSingleThreadScheduledExecutor();
+			this.executorService.scheduleWithFixedDelay(
+					() -> this.registeredPools.values().forEach(connectionPool ->
+							this.housekeepingService.execute(connectionPool::housekeeping)),
+					SCHEDULE_PERIOD_TIME, SCHEDULE_PERIOD_TIME, TimeUnit.MILLISECONDS);
+			this.executorService.scheduleAtFixedRate(this.watchdog::tick,
+					this.watchdog.getTickDuration(), this.watchdog.getTickDuration(), TimeUnit.MILLISECONDS);
+			if (StringUtils.notBlank(this.lagQuery) && !this.readableStats.isEmpty()) {
 				this.executorService.scheduleWithFixedDelay(
-						() -> this.registeredPools.forEach(JdbcConnectionPool::createConnections),
-						SCHEDULE_PERIOD_TIME, SCHEDULE_PERIOD_TIME, TimeUnit.MILLISECONDS);
+						() -> this.readableStats.forEach(serverStats ->
+								this.housekeepingService.execute(() -> this.probeLag(serverStats))),
+						0L, this.lagProbePeriod, TimeUnit.MILLISECONDS);
+			}
+			if (this.coalesceBatchSize > 1 && !this.coalesceTables.isEmpty()) {
+				this.writeCoalescer = new WriteCoalescer(this, this.coalesceBatchSize, this.coalesceDelay,
+						this.executorService, this.housekeepingService);
 			}
 			this.initialized = Boolean.TRUE;
 		} catch (SQLException e) {
@@ -317,49 +815,241 @@ public final class JdbcSchema extends BaseSchema implements JdbcSchemaMBean {
 		}
 	}
 
-	int identifyCode(final ServerInfo serverInfo, final String shardingKey) throws SQLException {
-		String serverAddress = serverInfo.info();
-		if (StringUtils.isEmpty(serverAddress)) {
-			throw new MultilingualSQLException(0x00DB00000026L);
+	/**
+	 * <h4 class="en-US">Generate the identify key of the connection pool</h4>
+	 * <h4 class="zh-CN">生成连接池识别键</h4>
+	 *
+	 * @param serverInfo  <span class="en-US">Server information, null if the JDBC connection string was used directly</span>
+	 *                    <span class="zh-CN">服务器信息，直接使用JDBC连接字符串时为null</span>
+	 * @param shardingKey <span class="en-US">Database sharding value</span>
+	 *                    <span class="zh-CN">数据库分片值</span>
+	 * @return <span class="en-US">Identify key of the connection pool</span>
+	 * <span class="zh-CN">连接池识别键</span>
+	 * @throws SQLException <span class="en-US">Server address is empty</span>
+	 *                      <span class="zh-CN">服务器地址为空</span>
+	 */
+	private PoolKey poolKey(final ServerInfo serverInfo, final String shardingKey) throws SQLException {
+		String serverAddress = Globals.DEFAULT_VALUE_STRING;
+		if (serverInfo != null) {
+			serverAddress = serverInfo.info();
+			if (StringUtils.isEmpty(serverAddress)) {
+				throw new MultilingualSQLException(0x00DB00000026L);
+			}
 		}
-		return (serverAddress + "_" + shardingKey).hashCode();
+		return new PoolKey(serverAddress, StringUtils.isEmpty(shardingKey) ? this.shardingDefault : shardingKey);
 	}
 
 	/**
 	 * <h4 class="en-US">Initialize sharding connections</h4>
+	 * <p class="en-US">
+	 *     The connection pools were registered by <code>computeIfAbsent</code>, so concurrent initialization of the
+	 *     same sharding database only creates one connection pool per server. The missing sharding database was
+	 *     created once per server behind a per-key future, the other threads wait for the creation.
+	 * </p>
 	 * <h4 class="zh-CN">初始化分片连接</h4>
+	 * <p class="zh-CN">
+	 *     连接池通过<code>computeIfAbsent</code>注册，并发初始化同一分片数据库时，每个服务器仅创建一个连接池。
+	 *     缺失的分片数据库在每个服务器上通过按键的Future只创建一次，其他线程等待创建完成。
+	 * </p>
 	 *
 	 * @param shardingKey <span class="en-US">Database sharding value</span>
 	 *                    <span class="zh-CN">数据库分片值</span>
 	 */
 	@Override
 	protected void initSharding(final String shardingKey) throws SQLException {
-		for (ServerInfo serverInfo : this.serverList) {
-			if (!this.databaseNames(serverInfo).contains(shardingKey)) {
-				int identifyCode = this.identifyCode(serverInfo, this.shardingDefault);
-				for (JdbcConnectionPool connectionPool : this.registeredPools) {
-					if (connectionPool.getIdentifyCode() == identifyCode) {
-						try (Connection connection = connectionPool.obtainConnection();
-						     Statement statement = connection.createStatement()) {
-							statement.execute(this.dialect.createDatabase(shardingKey));
-						}
+		List<JdbcConnectionPool> connectionPools = new ArrayList<>();
+		for (ServerInfo serverInfo : this.registeredServers) {
+			PoolKey poolKey = this.poolKey(serverInfo, shardingKey);
+			if (this.registeredPools.containsKey(poolKey)) {
+				continue;
+			}
+			//  The default sharding database was configured in the JDBC connection string
+			if (this.sharding && !ObjectUtils.nullSafeEquals(this.shardingDefault, poolKey.shardingKey())) {
+				this.createDatabase(serverInfo, poolKey);
+			}
+			String shardingUrl = this.shardingUrl(serverInfo, poolKey.shardingKey());
+			this.registeredPools.computeIfAbsent(poolKey, key -> {
+				JdbcConnectionPool connectionPool = new JdbcConnectionPool(this, this.pooled, key, shardingUrl);
+				connectionPools.add(connectionPool);
+				return connectionPool;
+			});
+		}
+		this.warmUp(connectionPools);
+	}
+
+	/**
+	 * <h4 class="en-US">Create the sharding database if not exists, only once for each connection pool identify key</h4>
+	 * <p class="en-US">
+	 *     The failure of creation was tolerated if the database exists after the failure, e.g. the database was
+	 *     created by another application at the same time. The failed creation will be tried again by the next
+	 *     initialization.
+	 * </p>
+	 * <h4 class="zh-CN">分片数据库不存在时创建，每个连接池识别键只创建一次</h4>
+	 * <p class="zh-CN">
+	 *     如果失败后数据库已存在（例如数据库同时被其他应用创建），则忽略创建失败。创建失败时将在下一次初始化时重新尝试。
+	 * </p>
+	 *
+	 * @param serverInfo <span class="en-US">Server information</span>
+	 *                   <span class="zh-CN">服务器信息</span>
+	 * @param poolKey    <span class="en-US">Connection pool identify key</span>
+	 *                   <span class="zh-CN">连接池识别键</span>
+	 * @throws SQLException <span class="en-US">An error occurred while creating the database</span>
+	 *                      <span class="zh-CN">创建数据库时出错</span>
+	 */
+	private void createDatabase(@Nonnull final ServerInfo serverInfo, @Nonnull final PoolKey poolKey)
+			throws SQLException {
+		CompletableFuture<Boolean> creation = new CompletableFuture<>();
+		CompletableFuture<Boolean> existing = this.shardingDatabases.putIfAbsent(poolKey, creation);
+		if (existing != null) {
+			try {
+				existing.join();
+			} catch (CompletionException e) {
+				if (e.getCause() instanceof SQLException sqlException) {
+					throw sqlException;
+				}
+				throw e;
+			}
+			return;
+		}
+		try {
+			if (!this.databaseNames(serverInfo).contains(poolKey.shardingKey())) {
+				try (Connection connection = this.connectionPool(serverInfo).obtainConnection();
+				     Statement statement = connection.createStatement()) {
+					statement.execute(this.dialect.createDatabase(poolKey.shardingKey()));
+				} catch (SQLException e) {
+					//  Already exists
+					if (!this.databaseNames(serverInfo).contains(poolKey.shardingKey())) {
+						throw e;
 					}
 				}
 			}
-			int identifyCode = this.identifyCode(serverInfo, shardingKey);
-			if (this.registeredPools.stream()
-					.noneMatch(connectionPool -> connectionPool.getIdentifyCode() == identifyCode)) {
-				this.registeredPools.add(new JdbcConnectionPool(this, this.pooled, serverInfo, shardingKey));
+			creation.complete(Boolean.TRUE);
+		} catch (SQLException | RuntimeException e) {
+			this.shardingDatabases.remove(poolKey, creation);
+			creation.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Warm up the given connection pools in parallel</h4>
+	 * <p class="en-US">
+	 *     The number of pools warmed up at the same time is limited by the shared warm up executor,
+	 *     the readiness status of each pool could be read by the readiness mapping. The initialization waits for
+	 *     the warm up finished, the connection pools created lazily after initialized were warmed up asynchronously
+	 *     and the caller will not wait.
+	 * </p>
+	 * <h4 class="zh-CN">并行预热给定的连接池</h4>
+	 * <p class="zh-CN">
+	 *     同时预热的连接池数量受共享的预热执行器限制，各连接池的就绪状态可以通过就绪状态映射表读取。
+	 *     初始化时等待预热完成，初始化后延迟创建的连接池异步预热，调用者不会等待。
+	 * </p>
+	 *
+	 * @param connectionPools <span class="en-US">Connection pool list</span>
+	 *                        <span class="zh-CN">连接池列表</span>
+	 */
+	private void warmUp(@Nonnull final List<JdbcConnectionPool> connectionPools) {
+		ExecutorService executorService = this.warmUpService;
+		if (connectionPools.isEmpty() || executorService == null) {
+			return;
+		}
+		Collection<TableDefine> tableDefines = List.copyOf(this.registeredTables.values());
+		if (this.initialized) {
+			connectionPools.forEach(connectionPool ->
+					executorService.execute(() -> connectionPool.warmUp(tableDefines)));
+			return;
+		}
+		List<Callable<Object>> warmUpTasks = new ArrayList<>();
+		connectionPools.forEach(connectionPool ->
+				warmUpTasks.add(Executors.callable(() -> connectionPool.warmUp(tableDefines))));
+		try {
+			executorService.invokeAll(warmUpTasks);
+		} catch (InterruptedException e) {
+			this.logger.error("Warm_Up_Interrupted_Error");
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug("Stack_Message_Error", e);
+			}
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Pre-prepare the CRUD statements of given tables on the given connection</h4>
+	 * <p class="en-US">
+	 *     The statements were generated by all columns and filtered by the primary key columns, and cached by the
+	 *     statement cache of the connection, so nothing to do if the statement cache was disabled.
+	 * </p>
+	 * <h4 class="zh-CN">在给定的连接上预编译给定数据表的增删改查语句</h4>
+	 * <p class="zh-CN">
+	 *     语句使用所有数据列生成并以主键列作为过滤条件，由连接的语句缓存保存，如果禁用了语句缓存则不执行任何操作。
+	 * </p>
+	 *
+	 * @param connection   <span class="en-US">Idle database connection</span>
+	 *                     <span class="zh-CN">空闲的数据库连接</span>
+	 * @param tableDefines <span class="en-US">Table define list</span>
+	 *                     <span class="zh-CN">数据表定义列表</span>
+	 */
+	void prepareStatements(@Nonnull final JdbcConnection connection,
+	                       @Nonnull final Collection<TableDefine> tableDefines) {
+		if (!this.prepareStatements || this.cachedLimitSize <= 0) {
+			return;
+		}
+		for (TableDefine tableDefine : tableDefines) {
+			String tableName = this.shardingTable(tableDefine.tableName(), Map.of());
+			Map<String, Serializable> dataMap = new HashMap<>();
+			Map<String, Serializable> filterMap = new HashMap<>();
+			for (ColumnDefine columnDefine : tableDefine.columnDefines()) {
+				if (columnDefine.isPrimaryKey()) {
+					filterMap.put(columnDefine.getColumnName(), null);
+				} else {
+					dataMap.put(columnDefine.getColumnName(), null);
+				}
+			}
+			try {
+				Map<String, Serializable> insertMap = new HashMap<>(dataMap);
+				insertMap.putAll(filterMap);
+				connection.prepareStatement(this.dialect.insertCommand(tableDefine, tableName, insertMap).getSql(),
+						Statement.RETURN_GENERATED_KEYS);
+				if (!filterMap.isEmpty()) {
+					connection.prepareStatement(this.dialect.retrieveCommand(tableName, null, filterMap,
+							Boolean.FALSE, LockOption.NONE).getSql());
+					if (!dataMap.isEmpty()) {
+						connection.prepareStatement(
+								this.dialect.updateCommand(tableDefine, tableName, dataMap, filterMap).getSql());
+					}
+					connection.prepareStatement(this.dialect.deleteCommand(tableName, filterMap).getSql());
+				}
+			} catch (SQLException e) {
+				if (this.logger.isDebugEnabled()) {
+					this.logger.debug("Prepare_Statement_Error", tableDefine.tableName());
+					this.logger.debug("Stack_Message_Error", e);
+				}
 			}
 		}
 	}
 
 	@Override
 	public void close() {
-		this.executorService.shutdown();
-		this.registeredPools.forEach(JdbcConnectionPool::close);
+		if (this.writeCoalescer != null) {
+			//  Flush the collecting writes before the executors and pools were closed
+			this.writeCoalescer.flush();
+			this.writeCoalescer = null;
+		}
+		if (this.executorService != null) {
+			this.executorService.shutdown();
+			this.executorService = null;
+		}
+		if (this.housekeepingService != null) {
+			this.housekeepingService.shutdown();
+			this.housekeepingService = null;
+		}
+		if (this.warmUpService != null) {
+			this.warmUpService.shutdownNow();
+			this.warmUpService = null;
+		}
+		this.registeredPools.values().forEach(JdbcConnectionPool::close);
 		this.registeredPools.clear();
-		this.executorService = null;
+		this.shardingDatabases.clear();
 		this.initialized = Boolean.FALSE;
 	}
 
@@ -396,7 +1086,16 @@ public final class JdbcSchema extends BaseSchema implements JdbcSchemaMBean {
 
 	/**
 	 * <h4 class="en-US">Obtain server information. If it is not written to the server, use polling mode to obtain server information.</h4>
+	 * <p class="en-US">
+	 *     The secondary servers with open circuit or replication lag over the limit were skipped, the reads after
+	 *     a write in the window only use the secondary servers confirmed caught up. The read requests were routed
+	 *     to the main server if all secondary servers were unavailable.
+	 * </p>
 	 * <h4 class="zh-CN">获取服务器信息，如果非写入服务器，使用轮询模式获取服务器信息</h4>
+	 * <p class="zh-CN">
+	 *     跳过断路器断开或复制延迟超过限制的从服务器，时间窗口内写入后的读取仅使用已确认追上写入的从服务器。
+	 *     所有从服务器均不可用时读取请求将路由到主服务器。
+	 * </p>
 	 *
 	 * @param forUpdate <span class="en-US">Obtain main server flag</span>
 	 *                  <span class="zh-CN">获取主服务器标识</span>
@@ -404,60 +1103,415 @@ public final class JdbcSchema extends BaseSchema implements JdbcSchemaMBean {
 	 * <span class="zh-CN">服务器信息</span>
 	 */
 	private ServerInfo currentServer(final boolean forUpdate) throws SQLException {
-		if (forUpdate || this.serverList.isEmpty()) {
+		if (forUpdate || this.readableStats.isEmpty()) {
 			return this.serverInfo;
 		}
-		ServerInfo serverInfo = this.serverList.get(this.serverIndex.getAndIncrement());
-		if (this.serverIndex.get() >= this.serverList.size()) {
-			this.serverIndex.set(Globals.INITIALIZE_INT_VALUE);
+		long writeTime = this.recentWrite(DateTimeUtils.currentUTCTimeMillis());
+		List<ServerStats> candidates = this.readableStats;
+		int available = (int) candidates.stream().filter(serverStats -> this.readable(serverStats, writeTime)).count();
+		if (available == Globals.INITIALIZE_INT_VALUE) {
+			return this.serverInfo;
 		}
+		if (available < candidates.size()) {
+			//  Only allocate the filtered list if some server was skipped
+			candidates = candidates.stream().filter(serverStats -> this.readable(serverStats, writeTime)).toList();
+		}
+		ServerInfo serverInfo = this.loadBalancer.select(candidates).getServerInfo();
 		if (serverInfo == null) {
 			throw new MultilingualSQLException(0x00DB00000026L);
 		}
 		return serverInfo;
 	}
 
+	/**
+	 * <h4 class="en-US">Check the read requests can be routed to the given secondary server</h4>
+	 * <h4 class="zh-CN">检查读取请求是否可以路由到给定的从服务器</h4>
+	 *
+	 * @param serverStats <span class="en-US">Server statistics</span>
+	 *                    <span class="zh-CN">服务器统计信息</span>
+	 * @param writeTime   <span class="en-US">Last write time of the current thread, 0 if no write in the window</span>
+	 *                    <span class="zh-CN">当前线程的最后写入时间，时间窗口内没有写入时为0</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	private boolean readable(@Nonnull final ServerStats serverStats, final long writeTime) {
+		if (!serverStats.available()) {
+			return Boolean.FALSE;
+		}
+		if (writeTime > 0L) {
+			//  The replication lag is unknown without the lag query, read your writes from the main server
+			return StringUtils.notBlank(this.lagQuery) && serverStats.caughtUp(writeTime);
+		}
+		return StringUtils.isEmpty(this.lagQuery) || this.maxReplicaLag <= 0L
+				|| serverStats.lagWithin(this.maxReplicaLag);
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the statistics of given server</h4>
+	 * <h4 class="zh-CN">获取给定服务器的统计信息</h4>
+	 *
+	 * @param serverAddress <span class="en-US">Server address</span>
+	 *                      <span class="zh-CN">服务器地址</span>
+	 * @return <span class="en-US">Server statistics</span>
+	 * <span class="zh-CN">服务器统计信息</span>
+	 */
+	ServerStats serverStats(final String serverAddress) {
+		return this.serverStats.computeIfAbsent(serverAddress, key -> new ServerStats(null));
+	}
+
+	/**
+	 * <h4 class="en-US">Create the read routing strategy instance object</h4>
+	 * <h4 class="zh-CN">创建读取路由策略实例对象</h4>
+	 *
+	 * @param balanceType <span class="en-US">Read routing strategy</span>
+	 *                    <span class="zh-CN">读取路由策略</span>
+	 * @return <span class="en-US">Read routing strategy instance object</span>
+	 * <span class="zh-CN">读取路由策略实例对象</span>
+	 */
+	private static LoadBalancer loadBalancer(@Nonnull final BalanceType balanceType) {
+		return switch (balanceType) {
+			case WEIGHTED -> new WeightedBalancer();
+			case LEAST_OUTSTANDING -> new LeastOutstandingBalancer();
+			case EWMA -> new EwmaBalancer();
+			default -> new RoundRobinBalancer();
+		};
+	}
+
 	private JdbcConnectionPool connectionPool(final ServerInfo serverInfo) throws SQLException {
 		return this.connectionPool(serverInfo, this.shardingDefault);
 	}
 
+	/**
+	 * <h4 class="en-US">Retrieve the connection pool, the connection pool will be created if not registered</h4>
+	 * <h4 class="zh-CN">获取连接池，连接池未注册时将创建连接池</h4>
+	 *
+	 * @param serverInfo  <span class="en-US">Server information</span>
+	 *                    <span class="zh-CN">服务器信息</span>
+	 * @param shardingKey <span class="en-US">Database sharding value</span>
+	 *                    <span class="zh-CN">数据库分片值</span>
+	 * @return <span class="en-US">Connection pool instance object</span>
+	 * <span class="zh-CN">连接池实例对象</span>
+	 * @throws SQLException <span class="en-US">Connection pool not found</span>
+	 *                      <span class="zh-CN">连接池未找到</span>
+	 */
 	private JdbcConnectionPool connectionPool(final ServerInfo serverInfo, final String shardingKey) throws SQLException {
-		int identifyCode = this.identifyCode(serverInfo, shardingKey);
-		return this.registeredPools
-				.stream()
-				.filter(connectionPool -> connectionPool.getIdentifyCode() == identifyCode)
-				.findFirst()
-				.orElseThrow(() -> new MultilingualSQLException(0x00DB00000027L));
+		PoolKey poolKey = this.poolKey(serverInfo, shardingKey);
+		JdbcConnectionPool connectionPool = this.registeredPools.get(poolKey);
+		if (connectionPool == null) {
+			this.initSharding(poolKey.shardingKey());
+			connectionPool = this.registeredPools.get(poolKey);
+		}
+		if (connectionPool == null) {
+			throw new MultilingualSQLException(0x00DB00000027L);
+		}
+		return connectionPool;
 	}
 
 	@Override
 	public void beginTransactional() {
 		if (this.currentConnections.get() == null) {
-			this.currentConnections.set(new ArrayList<>());
+			ConnectionMap connectionMap = new ConnectionMap();
+			TransactionalConfig transactionalConfig = this.txConfig.get();
+			if (transactionalConfig != null && transactionalConfig.getIsolation() != Connection.TRANSACTION_NONE
+					&& transactionalConfig.getTimeout() > 0) {
+				connectionMap.watch(this.watchdog.watch(transactionalConfig.getTimeout() * 1000L,
+						() -> this.housekeepingService.execute(() ->
+								this.expire(transactionalConfig.getTransactionalCode(), connectionMap))));
+			}
+			this.currentConnections.set(connectionMap);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Abort the transactional which deadline was passed</h4>
+	 * <p class="en-US">
+	 *     The connections not prepared were aborted and replaced by the pool, the owner thread will receive
+	 *     the timeout exception on its next operation. The watchdog thread never rolls back the connections,
+	 *     the connections were not thread safe.
+	 * </p>
+	 * <h4 class="zh-CN">中止截止时间已过的事务</h4>
+	 * <p class="zh-CN">
+	 *     中止未预提交的连接并由连接池替换，所属线程在下一次操作时收到超时异常。连接不是线程安全的，看门狗线程不会回滚连接。
+	 * </p>
+	 *
+	 * @param transactionalCode <span class="en-US">Transactional identify code</span>
+	 *                          <span class="zh-CN">事务识别代码</span>
+	 * @param connectionMap     <span class="en-US">Transactional connection mapping</span>
+	 *                          <span class="zh-CN">事务连接映射表</span>
+	 */
+	private void expire(final long transactionalCode, @Nonnull final ConnectionMap connectionMap) {
+		if (connectionMap.abort(this.housekeepingService)) {
+			this.logger.warn("Transactional_Timeout_Warn", transactionalCode);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Check the deadline of current thread transactional</h4>
+	 * <h4 class="zh-CN">检查当前线程事务的截止时间</h4>
+	 *
+	 * @throws SQLException <span class="en-US">If the deadline was passed</span>
+	 *                      <span class="zh-CN">如果截止时间已过</span>
+	 */
+	private void checkDeadline() throws SQLException {
+		ConnectionMap connectionMap = this.currentConnections.get();
+		if (connectionMap != null && connectionMap.expired()) {
+			throw new MultilingualSQLException(0x00DB00000039L, this.txConfig.get().getTimeout());
 		}
 	}
 
 	@Override
 	public void rollback() throws Exception {
-		if (this.txConfig.get() != null && this.txConfig.get().getIsolation() != Connection.TRANSACTION_NONE) {
-			for (Connection connection : this.currentConnections.get()) {
-				connection.rollback();
+		List<ConnectionParticipant> participants = this.participants();
+		if (participants.size() > 1 && this.coordinator != null) {
+			this.coordinator.complete(participants, Boolean.FALSE);
+		} else {
+			for (ConnectionParticipant participant : participants) {
+				participant.rollback();
 			}
 		}
 	}
 
 	@Override
 	public void commit() throws Exception {
-		if (this.txConfig.get() != null && this.txConfig.get().getIsolation() != Connection.TRANSACTION_NONE) {
-			for (Connection connection : this.currentConnections.get()) {
-				connection.commit();
+		this.checkDeadline();
+		List<ConnectionParticipant> participants = this.participants();
+		if (participants.size() > 1 && this.coordinator != null) {
+			if (participants.stream().anyMatch(ConnectionParticipant::prepared)) {
+				//  Second phase of the transactional coordinated by the data source
+				this.coordinator.complete(participants, Boolean.TRUE);
+			} else {
+				this.coordinator.commit(this.txConfig.get().getTransactionalCode(), participants);
+			}
+		} else {
+			for (ConnectionParticipant participant : participants) {
+				participant.commit();
+			}
+		}
+	}
+
+	@Override
+	public boolean onePhase() {
+		return this.participants().size() <= 1;
+	}
+
+	@Override
+	public boolean supportPrepare() {
+		return this.dialect.supportPrepare();
+	}
+
+	@Override
+	public void prepare() throws Exception {
+		if (!this.dialect.supportPrepare()) {
+			throw new MultilingualSQLException(0x00DB00000038L, this.schemaName);
+		}
+		this.checkDeadline();
+		List<ConnectionParticipant> participants = this.participants();
+		if (participants.size() > 1 && this.coordinator != null) {
+			this.coordinator.prepare(participants);
+		} else {
+			for (ConnectionParticipant participant : participants) {
+				participant.prepare();
 			}
 		}
 	}
 
+	@Override
+	public void savepoint(@Nonnull final String savepointName) throws Exception {
+		ConnectionMap connectionMap = this.currentConnections.get();
+		if (connectionMap == null) {
+			return;
+		}
+		this.checkDeadline();
+		Map<PoolKey, Savepoint> savepointMap = new HashMap<>();
+		for (JdbcConnection connection : connectionMap) {
+			savepointMap.put(connection.poolKey(), connection.setSavepoint(savepointName));
+		}
+		connectionMap.savepoint(savepointName, savepointMap);
+	}
+
+	@Override
+	public void releaseSavepoint(@Nonnull final String savepointName) throws Exception {
+		ConnectionMap connectionMap = this.currentConnections.get();
+		if (connectionMap == null) {
+			return;
+		}
+		Map<PoolKey, Savepoint> savepointMap = connectionMap.removeSavepoint(savepointName);
+		if (savepointMap == null) {
+			throw new MultilingualSQLException(0x00DB0000003BL, savepointName);
+		}
+		for (Map.Entry<PoolKey, Savepoint> entry : savepointMap.entrySet()) {
+			try {
+				connectionMap.get(entry.getKey()).releaseSavepoint(entry.getValue());
+			} catch (SQLFeatureNotSupportedException ignored) {
+				//  Some drivers did not support release savepoint, the savepoint was released when transactional finished
+			}
+		}
+	}
+
+	@Override
+	public void rollbackSavepoint(@Nonnull final String savepointName) throws Exception {
+		ConnectionMap connectionMap = this.currentConnections.get();
+		if (connectionMap == null) {
+			return;
+		}
+		Map<PoolKey, Savepoint> savepointMap = connectionMap.removeSavepoint(savepointName);
+		if (savepointMap == null) {
+			throw new MultilingualSQLException(0x00DB0000003BL, savepointName);
+		}
+		for (JdbcConnection connection : connectionMap) {
+			Savepoint savepoint = savepointMap.get(connection.poolKey());
+			if (savepoint == null) {
+				//  The connection joined after the savepoint, all of its work belongs to the nested transactional
+				connection.rollback();
+			} else {
+				connection.rollback(savepoint);
+			}
+		}
+	}
+
+	@Override
+	public RetryType retryType(@Nonnull final Throwable throwable) {
+		Throwable current = throwable;
+		while (current != null) {
+			if (current instanceof SQLException sqlException) {
+				while (sqlException != null) {
+					RetryType retryType = this.dialect.retryType(sqlException);
+					if (retryType != RetryType.NONE) {
+						return retryType;
+					}
+					sqlException = sqlException.getNextException();
+				}
+			}
+			current = (current.getCause() == current) ? null : current.getCause();
+		}
+		return RetryType.NONE;
+	}
+
+	@Override
+	public List<String> branchNames() {
+		return this.participants()
+				.stream()
+				.map(ConnectionParticipant::branchNames)
+				.flatMap(List::stream)
+				.toList();
+	}
+
+	/**
+	 * <h4 class="en-US">Submit or rollback the in-doubt transactional left by the previous process</h4>
+	 * <p class="en-US">
+	 *     Each branch was resolved on the connection pool of its server and sharding database, the connection pool
+	 *     was created if not registered yet. Only the exception means the prepared transactional does not exist
+	 *     was ignored, any other failure was thrown after all branches were tried, so the transactional was left
+	 *     in-doubt and will be recovered again.
+	 * </p>
+	 * <h4 class="zh-CN">提交或回滚上一进程遗留的未决事务</h4>
+	 * <p class="zh-CN">
+	 *     每个分支在其服务器和分片数据库的连接池上处理，连接池未注册时将被创建。仅忽略表示预提交事务不存在的异常，
+	 *     其他失败在尝试所有分支后抛出，事务保持未决状态并将被再次恢复。
+	 * </p>
+	 *
+	 * @param transactionalCode <span class="en-US">Transactional identify code</span>
+	 *                          <span class="zh-CN">事务识别代码</span>
+	 * @param branchNames       <span class="en-US">Branch names of the schema written to the recovery log</span>
+	 *                          <span class="zh-CN">写入恢复日志的数据源分支名称</span>
+	 * @param commit            <span class="en-US">Submit the transactional, or rollback if false</span>
+	 *                          <span class="zh-CN">提交事务，为false时回滚</span>
+	 * @throws Exception <span class="en-US">If any branch failed to recover</span>
+	 *                   <span class="zh-CN">如果任一分支恢复失败</span>
+	 */
+	@Override
+	public void recover(final long transactionalCode, @Nonnull final List<String> branchNames,
+	                    final boolean commit) throws Exception {
+		if (!this.dialect.supportPrepare()) {
+			return;
+		}
+		List<String> sortedNames = branchNames.stream().sorted().toList();
+		SQLException exception = null;
+		for (int i = 0; i < sortedNames.size(); i++) {
+			String transactionalId = ConnectionParticipant.transactionalId(transactionalCode, this.schemaName, i);
+			try {
+				PoolKey poolKey = PoolKey.parse(sortedNames.get(i));
+				ServerInfo serverInfo = this.serverInfo(poolKey);
+				try (Connection connection = this.connectionPool(serverInfo, poolKey.shardingKey()).obtainConnection()) {
+					connection.setAutoCommit(Boolean.TRUE);
+					ConnectionParticipant.execute(connection,
+							commit
+									? this.dialect.commitPrepared(transactionalId)
+									: this.dialect.rollbackPrepared(transactionalId));
+				}
+			} catch (SQLException e) {
+				if (this.dialect.preparedNotFound(e)) {
+					//  The transactional was not prepared on the server or was finished already
+					continue;
+				}
+				if (exception == null) {
+					exception = e;
+				} else {
+					exception.addSuppressed(e);
+				}
+			}
+		}
+		if (exception != null) {
+			throw exception;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Find the registered server information of given connection pool identify key</h4>
+	 * <h4 class="zh-CN">查找给定连接池识别键的已注册服务器信息</h4>
+	 *
+	 * @param poolKey <span class="en-US">Connection pool identify key</span>
+	 *                <span class="zh-CN">连接池识别键</span>
+	 * @return <span class="en-US">Server information, null if the JDBC connection string was used directly</span>
+	 * <span class="zh-CN">服务器信息，直接使用JDBC连接字符串时为null</span>
+	 * @throws SQLException <span class="en-US">If the server was not configured</span>
+	 *                      <span class="zh-CN">如果服务器未配置</span>
+	 */
+	private ServerInfo serverInfo(@Nonnull final PoolKey poolKey) throws SQLException {
+		for (ServerInfo serverInfo : this.registeredServers) {
+			if (this.poolKey(serverInfo, poolKey.shardingKey()).serverAddress().equals(poolKey.serverAddress())) {
+				return serverInfo;
+			}
+		}
+		throw new MultilingualSQLException(0x00DB00000045L, poolKey.serverAddress());
+	}
+
+	/**
+	 * <h4 class="en-US">Generate the transactional participants of the connections used by current thread</h4>
+	 * <p class="en-US">
+	 *     The participants were sorted by the branch names, the index of each participant was used to generate
+	 *     the global identify of prepared transactional, and could be found again from the branch names when
+	 *     recovering.
+	 * </p>
+	 * <h4 class="zh-CN">生成当前线程使用的连接的事务参与者</h4>
+	 * <p class="zh-CN">
+	 *     参与者按分支名称排序，各参与者的索引用于生成预提交事务的全局识别，恢复时可以根据分支名称再次找到。
+	 * </p>
+	 *
+	 * @return <span class="en-US">Participant list, empty list if not in transactional</span>
+	 * <span class="zh-CN">参与者列表，不在事务中时为空列表</span>
+	 */
+	private List<ConnectionParticipant> participants() {
+		TransactionalConfig transactionalConfig = this.txConfig.get();
+		ConnectionMap connectionMap = this.currentConnections.get();
+		if (transactionalConfig == null || transactionalConfig.getIsolation() == Connection.TRANSACTION_NONE
+				|| connectionMap == null) {
+			return List.of();
+		}
+		List<JdbcConnection> connections = new ArrayList<>(connectionMap.size());
+		connectionMap.forEach(connections::add);
+		connections.sort(Comparator.comparing(connection -> connection.poolKey().branchName()));
+		List<ConnectionParticipant> participants = new ArrayList<>(connections.size());
+		for (int i = 0; i < connections.size(); i++) {
+			participants.add(new ConnectionParticipant(this.schemaName, this.dialect, connections.get(i),
+					transactionalConfig.getTransactionalCode(), i));
+		}
+		return participants;
+	}
+
 	@Override
 	public void truncateTables() throws Exception {
-		for (JdbcConnectionPool connectionPool : this.registeredPools) {
+		for (JdbcConnectionPool connectionPool : this.registeredPools.values()) {
 			try (Connection connection = connectionPool.obtainConnection();
 			     Statement statement = connection.createStatement()) {
 				for (String tableName : this.tableNames(connection, Globals.DEFAULT_VALUE_STRING)) {
@@ -493,7 +1547,8 @@ public final class JdbcSchema extends BaseSchema implements JdbcSchemaMBean {
 
 	@Override
 	public void dropTables(final DropOption dropOption) throws Exception {
-		for (JdbcConnectionPool connectionPool : this.registeredPools) {
+		this.synchronizedTables.clear();
+		for (JdbcConnectionPool connectionPool : this.registeredPools.values()) {
 			try (Connection connection = connectionPool.obtainConnection();
 			     Statement statement = connection.createStatement()) {
 				for (String tableName : this.tableNames(connection, Globals.DEFAULT_VALUE_STRING)) {
@@ -506,6 +1561,7 @@ public final class JdbcSchema extends BaseSchema implements JdbcSchemaMBean {
 	@Override
 	public void dropTable(@Nonnull final TableDefine tableDefine, @Nonnull final DropOption dropOption)
 			throws Exception {
+		this.synchronizedTables.clear();
 		ShardingConfig shardingConfig = this.shardingConfigs.get(tableDefine.tableName());
 		if (shardingConfig == null) {
 			for (ServerInfo serverInfo : this.serverList) {
@@ -544,17 +1600,27 @@ public final class JdbcSchema extends BaseSchema implements JdbcSchemaMBean {
 	                                        @Nonnull final Map<String, Serializable> dataMap) throws Exception {
 		String shardingTable = this.shardingTable(tableDefine.tableName(), dataMap);
 		JdbcDialect.SQLCommand sqlCommand = this.dialect.insertCommand(tableDefine, shardingTable, dataMap);
+		if (this.coalesced(tableDefine.tableName())) {
+			String shardingDatabase = this.shardingDatabase(tableDefine.tableName(), dataMap);
+			Set<String> tableNames = this.synchronizedTables.computeIfAbsent(
+					Objects.toString(shardingDatabase, Globals.DEFAULT_VALUE_STRING),
+					key -> ConcurrentHashMap.newKeySet());
+			//  Only the first write of each sharding table borrows a connection to synchronize the table
+			if (!tableNames.contains(shardingTable)) {
+				try (Connection connection = this.obtainConnection(Boolean.TRUE, shardingDatabase)) {
+					this.initTable(connection, DDLType.SYNCHRONIZE, tableDefine, shardingTable);
+				}
+				tableNames.add(shardingTable);
+			}
+			return this.coalesce(shardingDatabase, sqlCommand, Boolean.TRUE).generatedKeys();
+		}
 		try (Connection connection =
 				     this.obtainConnection(Boolean.TRUE, this.shardingDatabase(tableDefine.tableName(), dataMap));
 		     PreparedStatement statement =
 				     connection.prepareStatement(sqlCommand.getSql(), Statement.RETURN_GENERATED_KEYS)) {
 			this.initTable(connection, DDLType.SYNCHRONIZE, tableDefine, shardingTable);
 			this.configTimeout(statement);
-			int index = Globals.INITIALIZE_INT_VALUE;
-			for (Object object : sqlCommand.getValues()) {
-				statement.setObject(index + 1, object);
-				index++;
-			}
+			this.bindValues(statement, sqlCommand.getValues());
 			Map<String, Serializable> generatedKeys = new HashMap<>();
 			if (statement.executeUpdate() == 1) {
 				ResultSet resultSet = statement.getGeneratedKeys();
@@ -581,19 +1647,22 @@ public final class JdbcSchema extends BaseSchema implements JdbcSchemaMBean {
 				     this.obtainConnection(forUpdate, this.shardingDatabase(tableDefine.tableName(), filterMap));
 		     PreparedStatement statement = connection.prepareStatement(sqlCommand.getSql())) {
 			this.configTimeout(statement);
-			int index = Globals.INITIALIZE_INT_VALUE;
-			for (Object object : sqlCommand.getValues()) {
-				statement.setObject(index + 1, object);
-				index++;
-			}
+			this.bindValues(statement, sqlCommand.getValues());
 			ResultSet resultSet = statement.executeQuery();
 			Map<String, String> resultMap = new HashMap<>();
-			while (resultSet.next()) {
-				if (!resultMap.isEmpty()) {
-					throw new MultilingualSQLException(0x00DB00000028L);
+			long beginTime = ListenerFactory.begin(ExecutionPhase.FETCH, sqlCommand.getSql());
+			try {
+				while (resultSet.next()) {
+					if (!resultMap.isEmpty()) {
+						throw new MultilingualSQLException(0x00DB00000028L);
+					}
+					resultMap.putAll(this.parseResultSet(resultSet, this.dialect));
 				}
-				resultMap.putAll(this.parseResultSet(resultSet, this.dialect));
+			} catch (Exception e) {
+				ListenerFactory.end(ExecutionPhase.FETCH, sqlCommand.getSql(), beginTime, e);
+				throw e;
 			}
+			ListenerFactory.end(ExecutionPhase.FETCH, sqlCommand.getSql(), beginTime, null);
 			return resultMap;
 		}
 	}
@@ -601,16 +1670,176 @@ public final class JdbcSchema extends BaseSchema implements JdbcSchemaMBean {
 	@Override
 	public int update(@Nonnull final TableDefine tableDefine, @Nonnull final Map<String, Serializable> dataMap,
 	                  @Nonnull final Map<String, Serializable> filterMap) throws Exception {
-		return this.executeUpdate(this.shardingDatabase(tableDefine.tableName(), filterMap),
+		String shardingDatabase = this.shardingDatabase(tableDefine.tableName(), filterMap);
+		JdbcDialect.SQLCommand sqlCommand =
 				this.dialect.updateCommand(tableDefine, this.shardingTable(tableDefine.tableName(), filterMap),
-						dataMap, filterMap));
+						dataMap, filterMap);
+		int updateCount = this.coalesced(tableDefine.tableName())
+				? this.coalesce(shardingDatabase, sqlCommand, Boolean.FALSE).updateCount()
+				: this.executeUpdate(shardingDatabase, sqlCommand);
+		if (updateCount == 0 && (versionChecked(tableDefine, dataMap) || versionChecked(tableDefine, filterMap))) {
+			throw new OptimisticLockException(0x00DB0000003AL, tableDefine.tableName());
+		}
+		return updateCount;
 	}
 
 	@Override
 	public int delete(@Nonnull final TableDefine tableDefine, @Nonnull final Map<String, Serializable> filterMap)
 			throws Exception {
-		return this.executeUpdate(this.shardingDatabase(tableDefine.tableName(), filterMap),
+		int deleteCount = this.executeUpdate(this.shardingDatabase(tableDefine.tableName(), filterMap),
 				this.dialect.deleteCommand(this.shardingTable(tableDefine.tableName(), filterMap), filterMap));
+		if (deleteCount == 0 && versionChecked(tableDefine, filterMap)) {
+			throw new OptimisticLockException(0x00DB0000003AL, tableDefine.tableName());
+		}
+		return deleteCount;
+	}
+
+	@Override
+	public int upsert(@Nonnull final TableDefine tableDefine, @Nonnull final Map<String, Serializable> dataMap,
+	                  final List<String> conflictColumns) throws Exception {
+		return this.executeUpdate(this.shardingDatabase(tableDefine.tableName(), dataMap),
+				this.dialect.upsertCommand(tableDefine, this.shardingTable(tableDefine.tableName(), dataMap),
+						dataMap, conflictColumns));
+	}
+
+	/**
+	 * <h4 class="en-US">Execute insert record commands in batch, update the records if the records conflict</h4>
+	 * <p class="en-US">
+	 *     The records with the same sharded database and the same generated command were executed as one JDBC batch.
+	 *     The batches were not atomic unless the transactional was began.
+	 * </p>
+	 * <h4 class="zh-CN">批量执行插入数据命令，记录冲突时更新记录</h4>
+	 * <p class="zh-CN">
+	 *     具有相同分片数据库和相同生成命令的记录作为一个JDBC批次执行。除非已开启事务，否则批次不是原子的。
+	 * </p>
+	 *
+	 * @param tableDefine     <span class="en-US">Table define information</span>
+	 *                        <span class="zh-CN">数据表定义信息</span>
+	 * @param dataList        <span class="en-US">Insert or update data mapping list</span>
+	 *                        <span class="zh-CN">插入或更新数据映射表列表</span>
+	 * @param conflictColumns <span class="en-US">Conflict column names, using primary key columns if empty</span>
+	 *                        <span class="zh-CN">冲突列名，为空时使用主键列</span>
+	 * @return <span class="en-US">Affected records count</span>
+	 * <span class="zh-CN">影响记录条数</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	@Override
+	public int upsertBatch(@Nonnull final TableDefine tableDefine,
+	                       @Nonnull final List<Map<String, Serializable>> dataList,
+	                       final List<String> conflictColumns) throws Exception {
+		Map<String, Map<String, List<List<Object>>>> batchMap = new LinkedHashMap<>();
+		for (Map<String, Serializable> dataMap : dataList) {
+			JdbcDialect.SQLCommand sqlCommand =
+					this.dialect.upsertCommand(tableDefine, this.shardingTable(tableDefine.tableName(), dataMap),
+							dataMap, conflictColumns);
+			batchMap.computeIfAbsent(this.shardingDatabase(tableDefine.tableName(), dataMap),
+							key -> new LinkedHashMap<>())
+					.computeIfAbsent(sqlCommand.getSql(), key -> new ArrayList<>())
+					.add(sqlCommand.getValues());
+		}
+		int affectedCount = 0;
+		for (Map.Entry<String, Map<String, List<List<Object>>>> entry : batchMap.entrySet()) {
+			for (Map.Entry<String, List<List<Object>>> commandEntry : entry.getValue().entrySet()) {
+				try (Connection connection = this.obtainConnection(Boolean.TRUE, entry.getKey());
+				     PreparedStatement statement = connection.prepareStatement(commandEntry.getKey())) {
+					this.configTimeout(statement);
+					for (List<Object> values : commandEntry.getValue()) {
+						this.bindValues(statement, values);
+						statement.addBatch();
+					}
+					for (int updateCount : statement.executeBatch()) {
+						if (updateCount > 0) {
+							affectedCount += updateCount;
+						} else if (updateCount == Statement.SUCCESS_NO_INFO) {
+							affectedCount++;
+						}
+					}
+				}
+			}
+		}
+		return affectedCount;
+	}
+
+	/**
+	 * <h4 class="en-US">Check the writes of the given table were coalesced</h4>
+	 * <p class="en-US">The writes in the transactional were never coalesced, the transactional boundary was kept.</p>
+	 * <h4 class="zh-CN">检查给定数据表的写入是否被合并</h4>
+	 * <p class="zh-CN">事务中的写入不会被合并，以保持事务边界。</p>
+	 *
+	 * @param tableName <span class="en-US">Table name</span>
+	 *                  <span class="zh-CN">数据表名</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	private boolean coalesced(@Nonnull final String tableName) {
+		if (this.writeCoalescer == null || !this.coalesceTables.contains(tableName.toLowerCase())) {
+			return Boolean.FALSE;
+		}
+		TransactionalConfig transactionalConfig = this.txConfig.get();
+		return transactionalConfig == null || transactionalConfig.getIsolation() == Connection.TRANSACTION_NONE;
+	}
+
+	/**
+	 * <h4 class="en-US">Submit the write to the coalescer and wait for the batch result</h4>
+	 * <p class="en-US">
+	 *     The waiting time was bounded by the coalesce delay, the connect timeout and the batch execution time,
+	 *     the result of the write was unknown if the waiting time was exceeded.
+	 * </p>
+	 * <h4 class="zh-CN">提交写入到合并器并等待批次结果</h4>
+	 * <p class="zh-CN">等待时间受合并延迟、连接超时和批次执行时间的限制，超过等待时间时写入的结果未知。</p>
+	 *
+	 * @param shardingDatabase <span class="en-US">Sharded database name</span>
+	 *                         <span class="zh-CN">分片数据库名</span>
+	 * @param sqlCommand       <span class="en-US">SQL command to execute</span>
+	 *                         <span class="zh-CN">要执行的SQL命令</span>
+	 * @param generatedKeys    <span class="en-US">Read the generated keys of the written row</span>
+	 *                         <span class="zh-CN">读取写入行生成的主键</span>
+	 * @return <span class="en-US">Result of the coalesced write</span>
+	 * <span class="zh-CN">合并写入的结果</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	private WriteCoalescer.WriteResult coalesce(@Nonnull final String shardingDatabase,
+	                                            @Nonnull final JdbcDialect.SQLCommand sqlCommand,
+	                                            final boolean generatedKeys) throws Exception {
+		long waitTime = TimeUnit.MICROSECONDS.toMillis(this.coalesceDelay)
+				+ this.getConnectTimeout() * 1000L + BrainCommons.DEFAULT_COALESCE_WAIT_TIME;
+		try {
+			WriteCoalescer.WriteResult writeResult =
+					this.writeCoalescer.submit(shardingDatabase, sqlCommand, generatedKeys)
+							.get(waitTime, TimeUnit.MILLISECONDS);
+			this.recordWrite();
+			return writeResult;
+		} catch (TimeoutException e) {
+			throw new MultilingualSQLException(0x00DB00000043L, e, waitTime);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof Exception exception) {
+				throw exception;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Check the given mapping contains the expected value of optimistic lock version</h4>
+	 * <h4 class="zh-CN">检查给定的映射表是否包含乐观锁版本的期望值</h4>
+	 *
+	 * @param tableDefine <span class="en-US">Table define information</span>
+	 *                    <span class="zh-CN">数据表定义信息</span>
+	 * @param valueMap    <span class="en-US">Data mapping or filter mapping</span>
+	 *                    <span class="zh-CN">数据映射表或查询条件映射表</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	private static boolean versionChecked(@Nonnull final TableDefine tableDefine,
+	                                      @Nonnull final Map<String, Serializable> valueMap) {
+		ColumnDefine versionColumn = tableDefine.versionColumn();
+		return versionColumn != null
+				&& valueMap.entrySet()
+				.stream()
+				.anyMatch(entry -> entry.getValue() != null
+						&& versionColumn.getColumnName().equalsIgnoreCase(entry.getKey()));
 	}
 
 	@Override
@@ -633,14 +1862,112 @@ public final class JdbcSchema extends BaseSchema implements JdbcSchemaMBean {
 				Boolean.TRUE);
 	}
 
+	/**
+	 * <h4 class="en-US">Read data of type Blob as stream</h4>
+	 * <h4 class="zh-CN">以数据流方式读取Blob类型的数据</h4>
+	 *
+	 * @param tableDefine <span class="en-US">Table define information</span>
+	 *                    <span class="zh-CN">数据表定义信息</span>
+	 * @param columnName  <span class="en-US">Data column name</span>
+	 *                    <span class="zh-CN">数据列名</span>
+	 * @param filterMap   <span class="en-US">Retrieve filter mapping</span>
+	 *                    <span class="zh-CN">查询条件映射表</span>
+	 * @param consumer    <span class="en-US">Binary data stream consumer</span>
+	 *                    <span class="zh-CN">二进制数据流消费者</span>
+	 * @return <span class="en-US">Record was found</span>
+	 * <span class="zh-CN">是否找到记录</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	public boolean readBlob(@Nonnull final TableDefine tableDefine, @Nonnull final String columnName,
+	                        @Nonnull final Map<String, Serializable> filterMap,
+	                        @Nonnull final LobConsumer<InputStream> consumer) throws Exception {
+		return this.readLob(tableDefine, columnName, filterMap, resultSet -> {
+			try (InputStream inputStream = this.dialect.blobStream(resultSet, 1)) {
+				consumer.accept(inputStream);
+			}
+			return Boolean.TRUE;
+		}, Boolean.FALSE);
+	}
+
+	/**
+	 * <h4 class="en-US">Read data of type Clob as stream</h4>
+	 * <h4 class="zh-CN">以数据流方式读取Clob类型的数据</h4>
+	 *
+	 * @param tableDefine <span class="en-US">Table define information</span>
+	 *                    <span class="zh-CN">数据表定义信息</span>
+	 * @param columnName  <span class="en-US">Data column name</span>
+	 *                    <span class="zh-CN">数据列名</span>
+	 * @param filterMap   <span class="en-US">Retrieve filter mapping</span>
+	 *                    <span class="zh-CN">查询条件映射表</span>
+	 * @param consumer    <span class="en-US">Character data stream consumer</span>
+	 *                    <span class="zh-CN">字符数据流消费者</span>
+	 * @return <span class="en-US">Record was found</span>
+	 * <span class="zh-CN">是否找到记录</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	public boolean readClob(@Nonnull final TableDefine tableDefine, @Nonnull final String columnName,
+	                        @Nonnull final Map<String, Serializable> filterMap,
+	                        @Nonnull final LobConsumer<Reader> consumer) throws Exception {
+		return this.readLob(tableDefine, columnName, filterMap, resultSet -> {
+			try (Reader reader = this.dialect.clobReader(resultSet, 1)) {
+				consumer.accept(reader);
+			}
+			return Boolean.TRUE;
+		}, Boolean.FALSE);
+	}
+
+	/**
+	 * <h4 class="en-US">Transfer data of type Blob into the target channel</h4>
+	 * <h4 class="zh-CN">将Blob类型的数据传输到目标通道</h4>
+	 *
+	 * @param tableDefine   <span class="en-US">Table define information</span>
+	 *                      <span class="zh-CN">数据表定义信息</span>
+	 * @param columnName    <span class="en-US">Data column name</span>
+	 *                      <span class="zh-CN">数据列名</span>
+	 * @param filterMap     <span class="en-US">Retrieve filter mapping</span>
+	 *                      <span class="zh-CN">查询条件映射表</span>
+	 * @param targetChannel <span class="en-US">Target channel</span>
+	 *                      <span class="zh-CN">目标通道</span>
+	 * @return <span class="en-US">Transferred bytes count, Globals.DEFAULT_VALUE_LONG if record not found</span>
+	 * <span class="zh-CN">传输的字节数，如果未找到记录则返回Globals.DEFAULT_VALUE_LONG</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	public long transferBlob(@Nonnull final TableDefine tableDefine, @Nonnull final String columnName,
+	                         @Nonnull final Map<String, Serializable> filterMap,
+	                         @Nonnull final WritableByteChannel targetChannel) throws Exception {
+		return this.readLob(tableDefine, columnName, filterMap,
+				resultSet -> this.dialect.transferBlob(resultSet, 1, targetChannel), Globals.DEFAULT_VALUE_LONG);
+	}
+
 	@Override
 	public void clearTransactional() throws SQLException {
-		if (this.txConfig.get() != null
-				&& this.txConfig.get().getIsolation() != Connection.TRANSACTION_NONE) {
-			for (JdbcConnection connection : this.currentConnections.get()) {
-				connection.forceClose();
+		ConnectionMap connectionMap = this.currentConnections.get();
+		if (connectionMap != null) {
+			connectionMap.close();
+			if (this.txConfig.get() != null
+					&& this.txConfig.get().getIsolation() != Connection.TRANSACTION_NONE) {
+				for (JdbcConnection connection : connectionMap) {
+					connection.forceClose();
+				}
 			}
-			this.currentConnections.remove();
+		}
+		this.currentConnections.remove();
+	}
+
+	@Override
+	protected Object suspendResources() {
+		ConnectionMap connectionMap = this.currentConnections.get();
+		this.currentConnections.remove();
+		return connectionMap;
+	}
+
+	@Override
+	protected void resumeResources(final Object resources) {
+		if (resources instanceof ConnectionMap) {
+			this.currentConnections.set((ConnectionMap) resources);
 		}
 	}
 
@@ -651,6 +1978,13 @@ public final class JdbcSchema extends BaseSchema implements JdbcSchemaMBean {
 				this.dialect.queryCommand(queryInfo), Boolean.FALSE);
 	}
 
+	@Override
+	public Flow.Publisher<Map<String, String>> publish(@Nonnull final QueryInfo queryInfo) throws Exception {
+		return new QueryPublisher(this,
+				this.shardingDatabase(queryInfo.getTableName(), queryInfo.getConditionList()),
+				this.dialect.queryCommand(queryInfo));
+	}
+
 	@Override
 	protected void initTable(@Nonnull final DDLType ddlType, @Nonnull final TableDefine tableDefine,
 	                         final String shardingDatabase) throws Exception {
@@ -667,6 +2001,12 @@ public final class JdbcSchema extends BaseSchema implements JdbcSchemaMBean {
 				}
 			}
 		}
+		if (this.prepareStatements) {
+			this.registeredTables.put(tableDefine.tableName(), tableDefine);
+			for (ServerInfo serverInfo : this.serverList) {
+				this.connectionPool(serverInfo, shardingDatabase).prepareStatements(List.of(tableDefine));
+			}
+		}
 	}
 
 	/**
@@ -817,25 +2157,40 @@ public final class JdbcSchema extends BaseSchema implements JdbcSchemaMBean {
 	 * @throws SQLException <span class="en-US">An error occurred during execution</span>
 	 *                      <span class="zh-CN">执行过程中出错</span>
 	 */
-	private JdbcConnection obtainConnection(final boolean forUpdate, final String shardingDatabase)
+	JdbcConnection obtainConnection(final boolean forUpdate, final String shardingDatabase)
 			throws SQLException {
 		ServerInfo serverInfo = this.currentServer(forUpdate);
-		int identifyCode = this.identifyCode(serverInfo, shardingDatabase);
+		PoolKey poolKey = this.poolKey(serverInfo, shardingDatabase);
+		this.checkDeadline();
 		JdbcConnection connection = null;
 		int isolation = (this.txConfig.get() != null) ? this.txConfig.get().getIsolation() : Connection.TRANSACTION_NONE;
 		if (isolation != Connection.TRANSACTION_NONE) {
-			connection = this.currentConnections.get().stream()
-					.filter(jdbcConnection -> jdbcConnection.identifyCode() == identifyCode)
-					.findFirst()
-					.orElse(null);
+			connection = this.currentConnections.get().get(poolKey);
 		}
 
 		if (connection == null) {
-			connection = this.connectionPool(serverInfo, shardingDatabase).obtainConnection(isolation);
+			JdbcConnectionPool connectionPool = this.connectionPool(serverInfo, shardingDatabase);
+			try {
+				connection = connectionPool.obtainConnection(isolation);
+			} catch (SQLException e) {
+				//  Re-route the read request immediately if the circuit of the server was opened
+				ServerInfo failoverServer = (forUpdate || connectionPool.available())
+						? serverInfo
+						: this.currentServer(Boolean.FALSE);
+				if (failoverServer == serverInfo) {
+					throw e;
+				}
+				connection = this.connectionPool(failoverServer, shardingDatabase).obtainConnection(isolation);
+			}
 			if (isolation != Connection.TRANSACTION_NONE) {
-				this.currentConnections.get().add(connection);
+				this.currentConnections.get().put(connection);
 			}
 		}
+		if (forUpdate) {
+			//  Following reads of the current thread were routed to the main server from now on
+			connection.markWritten();
+			this.recordWrite();
+		}
 		return connection;
 	}
 
@@ -848,7 +2203,8 @@ public final class JdbcSchema extends BaseSchema implements JdbcSchemaMBean {
 	 * @throws SQLException <span class="en-US">An error occurred during execution</span>
 	 *                      <span class="zh-CN">执行过程中出错</span>
 	 */
-	private void configTimeout(@Nonnull final PreparedStatement preparedStatement) throws SQLException {
+	void configTimeout(@Nonnull final PreparedStatement preparedStatement) throws SQLException {
+		this.checkDeadline();
 		TransactionalConfig txConfig = this.txConfig.get();
 		if (txConfig != null && txConfig.getIsolation() != Connection.TRANSACTION_NONE && txConfig.getTimeout() > 0) {
 			preparedStatement.setQueryTimeout(txConfig.getTimeout());
@@ -862,16 +2218,19 @@ public final class JdbcSchema extends BaseSchema implements JdbcSchemaMBean {
 		try (Connection connection = this.obtainConnection(forUpdate, shardingDatabase);
 		     PreparedStatement statement = connection.prepareStatement(sqlCommand.getSql())) {
 			this.configTimeout(statement);
-			int index = 1;
-			for (Object object : sqlCommand.getValues()) {
-				statement.setObject(index, object);
-				index++;
-			}
+			this.bindValues(statement, sqlCommand.getValues());
 			ResultSet resultSet = statement.executeQuery();
 			List<Map<String, String>> resultList = new ArrayList<>();
-			while (resultSet.next()) {
-				resultList.add(this.parseResultSet(resultSet, this.dialect));
+			long beginTime = ListenerFactory.begin(ExecutionPhase.FETCH, sqlCommand.getSql());
+			try {
+				while (resultSet.next()) {
+					resultList.add(this.parseResultSet(resultSet, this.dialect));
+				}
+			} catch (Exception e) {
+				ListenerFactory.end(ExecutionPhase.FETCH, sqlCommand.getSql(), beginTime, e);
+				throw e;
 			}
+			ListenerFactory.end(ExecutionPhase.FETCH, sqlCommand.getSql(), beginTime, null);
 			return resultList;
 		}
 	}
@@ -894,15 +2253,76 @@ public final class JdbcSchema extends BaseSchema implements JdbcSchemaMBean {
 		try (Connection connection = this.obtainConnection(Boolean.TRUE, shardingDatabase);
 		     PreparedStatement statement = connection.prepareStatement(sqlCommand.getSql())) {
 			this.configTimeout(statement);
-			int index = 1;
-			for (Object object : sqlCommand.getValues()) {
-				statement.setObject(index, object);
-				index++;
-			}
+			this.bindValues(statement, sqlCommand.getValues());
 			return statement.executeUpdate();
 		}
 	}
 
+	/**
+	 * <h4 class="en-US">Bind parameter values to the statement</h4>
+	 * <h4 class="zh-CN">绑定参数值到查询分析器</h4>
+	 *
+	 * @param statement <span class="en-US">Prepared statement instance object</span>
+	 *                  <span class="zh-CN">查询分析器实例对象</span>
+	 * @param values    <span class="en-US">Parameter values list</span>
+	 *                  <span class="zh-CN">参数值列表</span>
+	 * @throws SQLException <span class="en-US">If a database access error occurs</span>
+	 *                      <span class="zh-CN">如果数据库访问出错</span>
+	 */
+	void bindValues(@Nonnull final PreparedStatement statement, @Nonnull final List<Object> values)
+			throws SQLException {
+		int index = 1;
+		for (Object object : values) {
+			this.dialect.bindValue(statement, index, object);
+			index++;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the unique record and read the LOB column, the cursor, statement and connection will be released after the reader returned</h4>
+	 * <h4 class="zh-CN">检索唯一记录并读取大对象数据列，读取器返回后游标、查询分析器和连接将被释放</h4>
+	 *
+	 * @param tableDefine  <span class="en-US">Table define information</span>
+	 *                     <span class="zh-CN">数据表定义信息</span>
+	 * @param columnName   <span class="en-US">Data column name</span>
+	 *                     <span class="zh-CN">数据列名</span>
+	 * @param filterMap    <span class="en-US">Retrieve filter mapping</span>
+	 *                     <span class="zh-CN">查询条件映射表</span>
+	 * @param lobReader    <span class="en-US">LOB column reader</span>
+	 *                     <span class="zh-CN">大对象数据列读取器</span>
+	 * @param defaultValue <span class="en-US">Default value if record not found</span>
+	 *                     <span class="zh-CN">未找到记录时的默认值</span>
+	 * @param <T>          <span class="en-US">Result type</span>
+	 *                     <span class="zh-CN">结果类型</span>
+	 * @return <span class="en-US">Read result</span>
+	 * <span class="zh-CN">读取结果</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	private <T> T readLob(@Nonnull final TableDefine tableDefine, @Nonnull final String columnName,
+	                      @Nonnull final Map<String, Serializable> filterMap, @Nonnull final LobReader<T> lobReader,
+	                      final T defaultValue) throws Exception {
+		JdbcDialect.SQLCommand sqlCommand =
+				this.dialect.retrieveCommand(this.shardingTable(tableDefine.tableName(), filterMap),
+						columnName, filterMap, Boolean.FALSE, LockOption.NONE);
+		try (Connection connection =
+				     this.obtainConnection(Boolean.FALSE, this.shardingDatabase(tableDefine.tableName(), filterMap));
+		     PreparedStatement statement = connection.prepareStatement(sqlCommand.getSql())) {
+			this.configTimeout(statement);
+			this.bindValues(statement, sqlCommand.getValues());
+			try (ResultSet resultSet = statement.executeQuery()) {
+				if (!resultSet.next()) {
+					return defaultValue;
+				}
+				T result = lobReader.read(resultSet);
+				if (resultSet.next()) {
+					throw new MultilingualSQLException(0x00DB00000028L);
+				}
+				return result;
+			}
+		}
+	}
+
 	/**
 	 * <h4 class="en-US">Parse the query result set into a data mapping table</h4>
 	 * <h4 class="zh-CN">解析查询结果集为数据映射表</h4>
@@ -916,7 +2336,7 @@ public final class JdbcSchema extends BaseSchema implements JdbcSchemaMBean {
 	 * @throws SQLException <span class="en-US">If an error occurs while parse the result set</span>
 	 *                      <span class="zh-CN">如果解析时出错</span>
 	 */
-	private Map<String, String> parseResultSet(final ResultSet resultSet, final JdbcDialect jdbcDialect)
+	Map<String, String> parseResultSet(final ResultSet resultSet, final JdbcDialect jdbcDialect)
 			throws Exception {
 		ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
 		Map<String, String> resultMap = new HashMap<>();
@@ -997,4 +2417,28 @@ public final class JdbcSchema extends BaseSchema implements JdbcSchemaMBean {
 		}
 		return resultMap;
 	}
+
+	/**
+	 * <h2 class="en-US">LOB column reader</h2>
+	 * <h2 class="zh-CN">大对象数据列读取器</h2>
+	 *
+	 * @param <T> <span class="en-US">Result type</span>
+	 *            <span class="zh-CN">结果类型</span>
+	 */
+	@FunctionalInterface
+	private interface LobReader<T> {
+
+		/**
+		 * <h4 class="en-US">Read the LOB column of current row</h4>
+		 * <h4 class="zh-CN">读取当前行的大对象数据列</h4>
+		 *
+		 * @param resultSet <span class="en-US">Query result set</span>
+		 *                  <span class="zh-CN">查询结果集</span>
+		 * @return <span class="en-US">Read result</span>
+		 * <span class="zh-CN">读取结果</span>
+		 * @throws Exception <span class="en-US">An error occurred during execution</span>
+		 *                   <span class="zh-CN">执行过程中出错</span>
+		 */
+		T read(final ResultSet resultSet) throws Exception;
+	}
 }
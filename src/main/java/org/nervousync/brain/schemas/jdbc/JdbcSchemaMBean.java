@@ -19,6 +19,9 @@ package org.nervousync.brain.schemas.jdbc;
 
 import org.nervousync.brain.schemas.BaseSchemaMBean;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * <h2 class="en-US">MBean define class for JDBC data source implementation class</h2>
  * <h2 class="zh-CN">JDBC数据源实现类的MBean定义</h2>
@@ -77,6 +80,42 @@ public interface JdbcSchemaMBean extends BaseSchemaMBean {
 	 */
 	int getWaitCount();
 
+	/**
+	 * <h4 class="en-US">Current connections count, including the pooled and using connections</h4>
+	 * <h4 class="zh-CN">当前连接数，包括池中及使用中的连接</h4>
+	 *
+	 * @return <span class="en-US">Connections count</span>
+	 * <span class="zh-CN">连接数</span>
+	 */
+	int getCurrentSize();
+
+	/**
+	 * <h4 class="en-US">Target connections count evaluated by the elastic size controller</h4>
+	 * <h4 class="zh-CN">弹性容量控制器评估的目标连接数</h4>
+	 *
+	 * @return <span class="en-US">Connections count</span>
+	 * <span class="zh-CN">连接数</span>
+	 */
+	int getTargetSize();
+
+	/**
+	 * <h4 class="en-US">Check all connection pools were warmed up and ready for traffic</h4>
+	 * <h4 class="zh-CN">检查所有连接池均已完成预热并可以接收请求</h4>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	boolean isReady();
+
+	/**
+	 * <h4 class="en-US">Readiness status of each connection pool</h4>
+	 * <h4 class="zh-CN">各连接池的就绪状态</h4>
+	 *
+	 * @return <span class="en-US">Readiness status mapping, key is JDBC connection string, value is status name</span>
+	 * <span class="zh-CN">就绪状态映射表，键为JDBC连接字符串，值为状态名称</span>
+	 */
+	Map<String, String> getReadiness();
+
 	/**
 	 * <h4 class="en-US">Minimum connection limit of database connection pool</h4>
 	 * <h4 class="zh-CN">获取数据库连接池最小连接数</h4>
@@ -179,4 +218,224 @@ public interface JdbcSchemaMBean extends BaseSchemaMBean {
 	 * <span class="zh-CN">JDBC连接字符串</span>
 	 */
 	String getJdbcUrl();
+
+	/**
+	 * <h4 class="en-US">Setup connection pool housekeeping</h4>
+	 * <h4 class="zh-CN">设置连接池维护参数</h4>
+	 *
+	 * @param idleTimeout   <span class="en-US">Idle timeout of pooled connection, 0 for never evict (Unit: milliseconds)</span>
+	 *                      <span class="zh-CN">池化连接的空闲超时时间，0为永不回收（单位：毫秒）</span>
+	 * @param maxLifetime   <span class="en-US">Maximum lifetime of pooled connection, 0 for unlimited (Unit: milliseconds)</span>
+	 *                      <span class="zh-CN">池化连接的最大存活时间，0为不限制（单位：毫秒）</span>
+	 * @param keepaliveTime <span class="en-US">Idle time before the keepalive probe of pooled connection, 0 for disabled (Unit: milliseconds)</span>
+	 *                      <span class="zh-CN">池化连接保活检测前的空闲时间，0为禁用（单位：毫秒）</span>
+	 */
+	void configHousekeeping(final long idleTimeout, final long maxLifetime, final long keepaliveTime);
+
+	/**
+	 * <h4 class="en-US">Setup connection leak detection</h4>
+	 * <h4 class="zh-CN">设置连接泄漏检测参数</h4>
+	 *
+	 * @param leakDetectionThreshold <span class="en-US">Threshold of connection held time before reported as leaked, 0 for disabled (Unit: milliseconds)</span>
+	 *                               <span class="zh-CN">连接被报告为泄漏前的持有时间阈值，0为禁用（单位：毫秒）</span>
+	 * @param leakReclaimTime        <span class="en-US">Held time before the leaked connection was reclaimed, 0 for never reclaim (Unit: milliseconds)</span>
+	 *                               <span class="zh-CN">泄漏连接被回收前的持有时间，0为永不回收（单位：毫秒）</span>
+	 * @param leakStackSampling      <span class="en-US">Sampling interval of the borrowing stack capture, 0 for disabled</span>
+	 *                               <span class="zh-CN">借用调用栈的采样间隔，0为禁用</span>
+	 */
+	void configLeakDetection(final long leakDetectionThreshold, final long leakReclaimTime,
+	                         final int leakStackSampling);
+
+	/**
+	 * <h4 class="en-US">Read threshold of connection held time before reported as leaked</h4>
+	 * <h4 class="zh-CN">获取连接被报告为泄漏前的持有时间阈值</h4>
+	 *
+	 * @return <span class="en-US">Threshold of connection held time (Unit: milliseconds)</span>
+	 * <span class="zh-CN">连接持有时间阈值（单位：毫秒）</span>
+	 */
+	long getLeakDetectionThreshold();
+
+	/**
+	 * <h4 class="en-US">Read held time before the leaked connection was reclaimed</h4>
+	 * <h4 class="zh-CN">获取泄漏连接被回收前的持有时间</h4>
+	 *
+	 * @return <span class="en-US">Held time before the leaked connection was reclaimed (Unit: milliseconds)</span>
+	 * <span class="zh-CN">泄漏连接被回收前的持有时间（单位：毫秒）</span>
+	 */
+	long getLeakReclaimTime();
+
+	/**
+	 * <h4 class="en-US">Read sampling interval of the borrowing stack capture</h4>
+	 * <h4 class="zh-CN">获取借用调用栈的采样间隔</h4>
+	 *
+	 * @return <span class="en-US">Sampling interval of the borrowing stack capture</span>
+	 * <span class="zh-CN">借用调用栈的采样间隔</span>
+	 */
+	int getLeakStackSampling();
+
+	/**
+	 * <h4 class="en-US">Number of connections held longer than the leak detection threshold</h4>
+	 * <h4 class="zh-CN">持有时间超过泄漏检测阈值的连接数</h4>
+	 *
+	 * @return <span class="en-US">Number of connections</span>
+	 * <span class="zh-CN">连接数</span>
+	 */
+	int getLeakCount();
+
+	/**
+	 * <h4 class="en-US">Information of connections held longer than the leak detection threshold</h4>
+	 * <h4 class="zh-CN">持有时间超过泄漏检测阈值的连接信息</h4>
+	 *
+	 * @return <span class="en-US">Information list, including JDBC connection string, held time and the sampled borrowing stack</span>
+	 * <span class="zh-CN">信息列表，包括JDBC连接字符串、持有时间及采样的借用调用栈</span>
+	 */
+	List<String> getLeakedConnections();
+
+	/**
+	 * <h4 class="en-US">Setup read routing strategy of the secondary servers</h4>
+	 * <h4 class="zh-CN">设置从服务器的读取路由策略</h4>
+	 *
+	 * @param balanceType <span class="en-US">Name of read routing strategy, one of ROUND_ROBIN, WEIGHTED, LEAST_OUTSTANDING or EWMA</span>
+	 *                    <span class="zh-CN">读取路由策略名称，ROUND_ROBIN、WEIGHTED、LEAST_OUTSTANDING或EWMA之一</span>
+	 */
+	void configBalance(final String balanceType);
+
+	/**
+	 * <h4 class="en-US">Read name of read routing strategy</h4>
+	 * <h4 class="zh-CN">获取读取路由策略名称</h4>
+	 *
+	 * @return <span class="en-US">Name of read routing strategy</span>
+	 * <span class="zh-CN">读取路由策略名称</span>
+	 */
+	String getBalanceType();
+
+	/**
+	 * <h4 class="en-US">EWMA latency of each server</h4>
+	 * <h4 class="zh-CN">各服务器的指数加权移动平均延迟</h4>
+	 *
+	 * @return <span class="en-US">Latency mapping, key is server address, value is latency (Unit: nanoseconds)</span>
+	 * <span class="zh-CN">延迟映射表，键为服务器地址，值为延迟（单位：纳秒）</span>
+	 */
+	Map<String, Long> getServerLatency();
+
+	/**
+	 * <h4 class="en-US">Outstanding requests of each server</h4>
+	 * <h4 class="zh-CN">各服务器的未完成请求数</h4>
+	 *
+	 * @return <span class="en-US">Outstanding requests mapping, key is server address, value is number of requests</span>
+	 * <span class="zh-CN">未完成请求映射表，键为服务器地址，值为请求数</span>
+	 */
+	Map<String, Integer> getOutstandingRequests();
+
+	/**
+	 * <h4 class="en-US">Setup replication lag aware routing</h4>
+	 * <h4 class="zh-CN">设置复制延迟感知路由</h4>
+	 *
+	 * @param maxReplicaLag        <span class="en-US">Maximum replication lag of the secondary server serving read requests, 0 for unlimited (Unit: milliseconds)</span>
+	 *                             <span class="zh-CN">从服务器提供读取服务的最大复制延迟，0为不限制（单位：毫秒）</span>
+	 * @param readYourWritesWindow <span class="en-US">Window of reading your writes after a write, 0 for disabled (Unit: milliseconds)</span>
+	 *                             <span class="zh-CN">写入后读取自身写入的时间窗口，0为禁用（单位：毫秒）</span>
+	 */
+	void configReplicaLag(final long maxReplicaLag, final long readYourWritesWindow);
+
+	/**
+	 * <h4 class="en-US">Read maximum replication lag of the secondary server serving read requests</h4>
+	 * <h4 class="zh-CN">获取从服务器提供读取服务的最大复制延迟</h4>
+	 *
+	 * @return <span class="en-US">Maximum replication lag, 0 for unlimited (Unit: milliseconds)</span>
+	 * <span class="zh-CN">最大复制延迟，0为不限制（单位：毫秒）</span>
+	 */
+	long getMaxReplicaLag();
+
+	/**
+	 * <h4 class="en-US">Read window of reading your writes after a write</h4>
+	 * <h4 class="zh-CN">获取写入后读取自身写入的时间窗口</h4>
+	 *
+	 * @return <span class="en-US">Window of reading your writes, 0 for disabled (Unit: milliseconds)</span>
+	 * <span class="zh-CN">读取自身写入的时间窗口，0为禁用（单位：毫秒）</span>
+	 */
+	long getReadYourWritesWindow();
+
+	/**
+	 * <h4 class="en-US">Replication lag of each secondary server</h4>
+	 * <h4 class="zh-CN">各从服务器的复制延迟</h4>
+	 *
+	 * @return <span class="en-US">Replication lag mapping, key is server address, value is lag, -1 if unknown (Unit: milliseconds)</span>
+	 * <span class="zh-CN">复制延迟映射表，键为服务器地址，值为延迟，未知时为-1（单位：毫秒）</span>
+	 */
+	Map<String, Long> getReplicaLag();
+
+	/**
+	 * <h4 class="en-US">Setup circuit breaker of the servers</h4>
+	 * <h4 class="zh-CN">设置服务器的断路器</h4>
+	 *
+	 * @param breakerThreshold <span class="en-US">Consecutive failures before the server circuit opens, 0 for disabled</span>
+	 *                         <span class="zh-CN">服务器断路器断开前的连续失败次数，0为禁用</span>
+	 * @param breakerOpenTime  <span class="en-US">Open time of the server circuit before probing (Unit: milliseconds)</span>
+	 *                         <span class="zh-CN">服务器断路器探测前的断开时间（单位：毫秒）</span>
+	 */
+	void configBreaker(final int breakerThreshold, final long breakerOpenTime);
+
+	/**
+	 * <h4 class="en-US">Read consecutive failures before the server circuit opens</h4>
+	 * <h4 class="zh-CN">获取服务器断路器断开前的连续失败次数</h4>
+	 *
+	 * @return <span class="en-US">Consecutive failures before the server circuit opens, 0 for disabled</span>
+	 * <span class="zh-CN">服务器断路器断开前的连续失败次数，0为禁用</span>
+	 */
+	int getBreakerThreshold();
+
+	/**
+	 * <h4 class="en-US">Read open time of the server circuit before probing</h4>
+	 * <h4 class="zh-CN">获取服务器断路器探测前的断开时间</h4>
+	 *
+	 * @return <span class="en-US">Open time of the server circuit before probing (Unit: milliseconds)</span>
+	 * <span class="zh-CN">服务器断路器探测前的断开时间（单位：毫秒）</span>
+	 */
+	long getBreakerOpenTime();
+
+	/**
+	 * <h4 class="en-US">Circuit state of each server</h4>
+	 * <h4 class="zh-CN">各服务器的断路器状态</h4>
+	 *
+	 * @return <span class="en-US">Circuit state mapping, key is server address, value is one of CLOSED, OPEN or HALF_OPEN</span>
+	 * <span class="zh-CN">断路器状态映射表，键为服务器地址，值为CLOSED、OPEN或HALF_OPEN之一</span>
+	 */
+	Map<String, String> getCircuitStates();
+
+	/**
+	 * <h4 class="en-US">Close the circuit of given server manually</h4>
+	 * <h4 class="zh-CN">手动闭合给定服务器的断路器</h4>
+	 *
+	 * @param serverAddress <span class="en-US">Server address</span>
+	 *                      <span class="zh-CN">服务器地址</span>
+	 */
+	void resetCircuit(final String serverAddress);
+
+	/**
+	 * <h4 class="en-US">Read idle timeout of pooled connection</h4>
+	 * <h4 class="zh-CN">获取池化连接的空闲超时时间</h4>
+	 *
+	 * @return <span class="en-US">Idle timeout of pooled connection (Unit: milliseconds)</span>
+	 * <span class="zh-CN">池化连接的空闲超时时间（单位：毫秒）</span>
+	 */
+	long getIdleTimeout();
+
+	/**
+	 * <h4 class="en-US">Read maximum lifetime of pooled connection</h4>
+	 * <h4 class="zh-CN">获取池化连接的最大存活时间</h4>
+	 *
+	 * @return <span class="en-US">Maximum lifetime of pooled connection (Unit: milliseconds)</span>
+	 * <span class="zh-CN">池化连接的最大存活时间（单位：毫秒）</span>
+	 */
+	long getMaxLifetime();
+
+	/**
+	 * <h4 class="en-US">Read idle time before the keepalive probe of pooled connection</h4>
+	 * <h4 class="zh-CN">获取池化连接保活检测前的空闲时间</h4>
+	 *
+	 * @return <span class="en-US">Idle time before the keepalive probe (Unit: milliseconds)</span>
+	 * <span class="zh-CN">保活检测前的空闲时间（单位：毫秒）</span>
+	 */
+	long getKeepaliveTime();
 }
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.brain.schemas.jdbc;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.brain.exceptions.sql.MultilingualSQLException;
+import org.nervousync.commons.Globals;
+
+import java.sql.SQLException;
+import java.util.Objects;
+
+/**
+ * <h2 class="en-US">Identify key of the connection pool</h2>
+ * <p class="en-US">The connection pools were registered by the server address and the sharding database name.</p>
+ * <h2 class="zh-CN">连接池识别键</h2>
+ * <p class="zh-CN">连接池使用服务器地址及分片数据库名称进行注册。</p>
+ *
+ * @param serverAddress <span class="en-US">Server address, empty string if the JDBC connection string was used directly</span>
+ *                      <span class="zh-CN">服务器地址，直接使用JDBC连接字符串时为空字符串</span>
+ * @param shardingKey   <span class="en-US">Database sharding value</span>
+ *                      <span class="zh-CN">数据库分片值</span>
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 11:06:18 $
+ */
+record PoolKey(String serverAddress, String shardingKey) {
+
+	/**
+	 * <span class="en-US">Separator between the server address length and the server address of branch name</span>
+	 * <span class="zh-CN">分支名称中服务器地址长度与服务器地址之间的分隔符</span>
+	 */
+	private static final char BRANCH_SEPARATOR = ':';
+
+	/**
+	 * <h4 class="en-US">Generate the branch name written to the recovery log</h4>
+	 * <p class="en-US">
+	 *     The branch name was stored as the length of server address, the separator, the server address and the
+	 *     sharding database name, so the different identify keys never generate the same branch name.
+	 * </p>
+	 * <h4 class="zh-CN">生成写入恢复日志的分支名称</h4>
+	 * <p class="zh-CN">
+	 *     分支名称保存为服务器地址长度、分隔符、服务器地址和分片数据库名称，因此不同的识别键不会生成相同的分支名称。
+	 * </p>
+	 *
+	 * @return <span class="en-US">Branch name</span>
+	 * <span class="zh-CN">分支名称</span>
+	 */
+	String branchName() {
+		String address = Objects.toString(this.serverAddress, Globals.DEFAULT_VALUE_STRING);
+		return address.length() + String.valueOf(BRANCH_SEPARATOR) + address
+				+ Objects.toString(this.shardingKey, Globals.DEFAULT_VALUE_STRING);
+	}
+
+	/**
+	 * <h4 class="en-US">Parse the identify key from the branch name</h4>
+	 * <h4 class="zh-CN">从分支名称解析识别键</h4>
+	 *
+	 * @param branchName <span class="en-US">Branch name</span>
+	 *                   <span class="zh-CN">分支名称</span>
+	 * @return <span class="en-US">Parsed identify key</span>
+	 * <span class="zh-CN">解析的识别键</span>
+	 * @throws SQLException <span class="en-US">If the branch name was invalid</span>
+	 *                      <span class="zh-CN">如果分支名称无效</span>
+	 */
+	static PoolKey parse(@Nonnull final String branchName) throws SQLException {
+		int index = branchName.indexOf(BRANCH_SEPARATOR);
+		try {
+			int length = Integer.parseInt(branchName.substring(0, index));
+			return new PoolKey(branchName.substring(index + 1, index + 1 + length),
+					branchName.substring(index + 1 + length));
+		} catch (IndexOutOfBoundsException | NumberFormatException e) {
+			throw new MultilingualSQLException(0x00DB00000044L, e, branchName);
+		}
+	}
+}
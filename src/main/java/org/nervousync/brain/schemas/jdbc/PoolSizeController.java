@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.brain.schemas.jdbc;
+
+import org.nervousync.commons.Globals;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <h2 class="en-US">Elastic size controller of connection pool</h2>
+ * <p class="en-US">
+ *     The controller is evaluated by the housekeeping task once per period. The target size grows toward the
+ *     maximum connections when clients are waiting, the average borrow wait time is high or the utilization is
+ *     above the high watermark, the growth per period is limited and suspended for a while after a connection
+ *     creation failure. The target size shrinks by one connection only after the utilization stays below the
+ *     low watermark for several periods, so the size does not oscillate between the watermarks.
+ * </p>
+ * <h2 class="zh-CN">连接池的弹性容量控制器</h2>
+ * <p class="zh-CN">
+ *     控制器由维护任务每个周期评估一次。当有客户端等待、平均借用等待时间过高或使用率高于高水位时，目标容量向最大连接数增长，
+ *     每个周期的增长数量受限，并在创建连接失败后暂停增长一段时间。使用率连续多个周期低于低水位后，目标容量才减少一个连接，
+ *     因此容量不会在高低水位之间震荡。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 14:21:37 $
+ */
+final class PoolSizeController {
+
+	/**
+	 * <span class="en-US">Utilization high watermark, the target size grows above it</span>
+	 * <span class="zh-CN">使用率高水位，高于此值时目标容量增长</span>
+	 */
+	private static final double HIGH_WATERMARK = 0.75d;
+	/**
+	 * <span class="en-US">Utilization low watermark, the target size shrinks below it</span>
+	 * <span class="zh-CN">使用率低水位，低于此值时目标容量减少</span>
+	 */
+	private static final double LOW_WATERMARK = 0.25d;
+	/**
+	 * <span class="en-US">Average borrow wait time threshold for growing (Unit: milliseconds)</span>
+	 * <span class="zh-CN">触发增长的平均借用等待时间阈值（单位：毫秒）</span>
+	 */
+	private static final long WAIT_THRESHOLD = 5L;
+	/**
+	 * <span class="en-US">Maximum connections can be added to the target size per period</span>
+	 * <span class="zh-CN">每个周期目标容量最多增加的连接数</span>
+	 */
+	static final int MAX_GROW_STEP = 4;
+	/**
+	 * <span class="en-US">Number of continuous low utilization periods before shrinking</span>
+	 * <span class="zh-CN">减少容量前需要连续低使用率的周期数</span>
+	 */
+	private static final int SHRINK_PERIODS = 30;
+	/**
+	 * <span class="en-US">Number of periods the growth is suspended after a connection creation failure</span>
+	 * <span class="zh-CN">创建连接失败后暂停增长的周期数</span>
+	 */
+	private static final int FAILURE_BACKOFF_PERIODS = 5;
+
+	/**
+	 * <span class="en-US">Total borrow wait time of current period (Unit: milliseconds)</span>
+	 * <span class="zh-CN">当前周期的借用等待总时间（单位：毫秒）</span>
+	 */
+	private final LongAdder waitTime = new LongAdder();
+	/**
+	 * <span class="en-US">Borrow count of current period</span>
+	 * <span class="zh-CN">当前周期的借用次数</span>
+	 */
+	private final LongAdder borrowCount = new LongAdder();
+	/**
+	 * <span class="en-US">Target size of connection pool</span>
+	 * <span class="zh-CN">连接池的目标容量</span>
+	 */
+	private volatile int targetSize;
+	/**
+	 * <span class="en-US">Continuous low utilization periods</span>
+	 * <span class="zh-CN">连续低使用率的周期数</span>
+	 */
+	private int idlePeriods = Globals.INITIALIZE_INT_VALUE;
+	/**
+	 * <span class="en-US">Remaining periods of growth suspension</span>
+	 * <span class="zh-CN">剩余的暂停增长周期数</span>
+	 */
+	private volatile int backoffPeriods = Globals.INITIALIZE_INT_VALUE;
+
+	/**
+	 * <h4 class="en-US">Constructor method for elastic size controller</h4>
+	 * <h4 class="zh-CN">弹性容量控制器的构造方法</h4>
+	 *
+	 * @param initialSize <span class="en-US">Initial target size</span>
+	 *                    <span class="zh-CN">初始目标容量</span>
+	 */
+	PoolSizeController(final int initialSize) {
+		this.targetSize = Math.max(initialSize, Globals.INITIALIZE_INT_VALUE);
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for target size of connection pool</h4>
+	 * <h4 class="zh-CN">连接池目标容量的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Target size of connection pool</span>
+	 * <span class="zh-CN">连接池的目标容量</span>
+	 */
+	int getTargetSize() {
+		return this.targetSize;
+	}
+
+	/**
+	 * <h4 class="en-US">Record a borrow operation</h4>
+	 * <h4 class="zh-CN">记录一次借用操作</h4>
+	 *
+	 * @param waitTime <span class="en-US">Borrow wait time (Unit: milliseconds)</span>
+	 *                 <span class="zh-CN">借用等待时间（单位：毫秒）</span>
+	 */
+	void recordBorrow(final long waitTime) {
+		this.waitTime.add(waitTime);
+		this.borrowCount.increment();
+	}
+
+	/**
+	 * <h4 class="en-US">Record a connection creation failure, the growth will be suspended</h4>
+	 * <h4 class="zh-CN">记录一次创建连接失败，增长将被暂停</h4>
+	 */
+	void creationFailed() {
+		this.backoffPeriods = FAILURE_BACKOFF_PERIODS;
+	}
+
+	/**
+	 * <h4 class="en-US">Evaluate the target size by the statistics of current period</h4>
+	 * <h4 class="zh-CN">根据当前周期的统计信息评估目标容量</h4>
+	 *
+	 * @param activeCount    <span class="en-US">Number of the using connections</span>
+	 *                       <span class="zh-CN">使用中的连接数</span>
+	 * @param idleCount      <span class="en-US">Number of connections in the connection queue</span>
+	 *                       <span class="zh-CN">连接队列中的连接数</span>
+	 * @param waitCount      <span class="en-US">Number of clients waiting to get a connection</span>
+	 *                       <span class="zh-CN">等待获得连接的客户端数量</span>
+	 * @param minConnections <span class="en-US">Minimum connection limit</span>
+	 *                       <span class="zh-CN">最小连接数</span>
+	 * @param maxConnections <span class="en-US">Maximum connection limit</span>
+	 *                       <span class="zh-CN">最大连接数</span>
+	 * @return <span class="en-US">Evaluated target size</span>
+	 * <span class="zh-CN">评估后的目标容量</span>
+	 */
+	int evaluate(final int activeCount, final int idleCount, final int waitCount,
+	             final int minConnections, final int maxConnections) {
+		long borrowCount = this.borrowCount.sumThenReset();
+		long waitTime = this.waitTime.sumThenReset();
+		int lowerLimit = Math.max(minConnections, Globals.INITIALIZE_INT_VALUE);
+		int upperLimit = Math.max(lowerLimit, maxConnections);
+		int currentSize = activeCount + idleCount;
+		double utilization = (currentSize == 0) ? 0d : (double) activeCount / currentSize;
+		boolean demand = waitCount > 0
+				|| (borrowCount > 0L && (waitTime / borrowCount) > WAIT_THRESHOLD)
+				|| utilization > HIGH_WATERMARK;
+
+		int target = Math.min(Math.max(this.targetSize, lowerLimit), upperLimit);
+		if (this.backoffPeriods > 0) {
+			this.backoffPeriods--;
+		} else if (demand) {
+			target = Math.min(upperLimit, target + Math.min(MAX_GROW_STEP, Math.max(1, target / 4)));
+		}
+
+		if (!demand && utilization < LOW_WATERMARK && target > lowerLimit) {
+			this.idlePeriods++;
+			if (this.idlePeriods >= SHRINK_PERIODS) {
+				target--;
+				this.idlePeriods = Globals.INITIALIZE_INT_VALUE;
+			}
+		} else {
+			this.idlePeriods = Globals.INITIALIZE_INT_VALUE;
+		}
+		this.targetSize = target;
+		return target;
+	}
+}
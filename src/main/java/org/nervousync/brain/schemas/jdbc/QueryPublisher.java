@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.brain.schemas.jdbc;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.brain.dialects.jdbc.JdbcDialect;
+import org.nervousync.brain.enumerations.execution.ExecutionPhase;
+import org.nervousync.brain.listeners.ListenerFactory;
+import org.nervousync.brain.reactive.AbstractSubscription;
+import org.nervousync.utils.LoggerUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+
+/**
+ * <h2 class="en-US">Publisher of the JDBC query result</h2>
+ * <p class="en-US">
+ *     Each subscriber executes the query when the first record was requested, using the connection obtained
+ *     by the requesting thread. The requested count drives ResultSet.next() and the statement fetch size,
+ *     the result set and statement will be closed and the connection will be returned when the subscription
+ *     completes, fails or cancelled.
+ * </p>
+ * <h2 class="zh-CN">JDBC查询结果的发布者</h2>
+ * <p class="zh-CN">
+ *     每个订阅者在请求第一条记录时执行查询，使用请求线程获得的连接。请求数量驱动ResultSet.next()和查询分析器的读取大小，
+ *     订阅完成、出错或取消时关闭结果集和查询分析器并归还连接。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 12:05:43 $
+ */
+final class QueryPublisher implements Flow.Publisher<Map<String, String>> {
+
+	/**
+	 * <span class="en-US">Logger instance</span>
+	 * <span class="zh-CN">日志实例</span>
+	 */
+	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(QueryPublisher.class);
+	/**
+	 * <span class="en-US">Maximum fetch size of statement</span>
+	 * <span class="zh-CN">查询分析器的最大读取大小</span>
+	 */
+	private static final int MAX_FETCH_SIZE = 1000;
+
+	/**
+	 * <span class="en-US">JDBC data source instance object</span>
+	 * <span class="zh-CN">JDBC数据源实例对象</span>
+	 */
+	private final JdbcSchema jdbcSchema;
+	/**
+	 * <span class="en-US">Sharded database name</span>
+	 * <span class="zh-CN">分片数据库名</span>
+	 */
+	private final String shardingDatabase;
+	/**
+	 * <span class="en-US">SQL command to execute</span>
+	 * <span class="zh-CN">要执行的SQL命令</span>
+	 */
+	private final JdbcDialect.SQLCommand sqlCommand;
+
+	/**
+	 * <h4 class="en-US">Constructor method for publisher of the JDBC query result</h4>
+	 * <h4 class="zh-CN">JDBC查询结果发布者的构造方法</h4>
+	 *
+	 * @param jdbcSchema       <span class="en-US">JDBC data source instance object</span>
+	 *                         <span class="zh-CN">JDBC数据源实例对象</span>
+	 * @param shardingDatabase <span class="en-US">Sharded database name</span>
+	 *                         <span class="zh-CN">分片数据库名</span>
+	 * @param sqlCommand       <span class="en-US">SQL command to execute</span>
+	 *                         <span class="zh-CN">要执行的SQL命令</span>
+	 */
+	QueryPublisher(@Nonnull final JdbcSchema jdbcSchema, @Nonnull final String shardingDatabase,
+	               @Nonnull final JdbcDialect.SQLCommand sqlCommand) {
+		this.jdbcSchema = jdbcSchema;
+		this.shardingDatabase = shardingDatabase;
+		this.sqlCommand = sqlCommand;
+	}
+
+	@Override
+	public void subscribe(final Flow.Subscriber<? super Map<String, String>> subscriber) {
+		Objects.requireNonNull(subscriber);
+		subscriber.onSubscribe(new QuerySubscription(subscriber));
+	}
+
+	/**
+	 * <h2 class="en-US">Subscription of the JDBC query result</h2>
+	 * <h2 class="zh-CN">JDBC查询结果的订阅</h2>
+	 */
+	private final class QuerySubscription extends AbstractSubscription<Map<String, String>> {
+
+		/**
+		 * <span class="en-US">Database connection</span>
+		 * <span class="zh-CN">数据库连接</span>
+		 */
+		private Connection connection = null;
+		/**
+		 * <span class="en-US">Prepared statement instance object</span>
+		 * <span class="zh-CN">查询分析器实例对象</span>
+		 */
+		private PreparedStatement statement = null;
+		/**
+		 * <span class="en-US">Query result set</span>
+		 * <span class="zh-CN">查询结果集</span>
+		 */
+		private ResultSet resultSet = null;
+		/**
+		 * <span class="en-US">Begin time of fetch phase</span>
+		 * <span class="zh-CN">读取阶段的开始时间</span>
+		 */
+		private long beginTime;
+
+		/**
+		 * <h4 class="en-US">Constructor method for subscription of the JDBC query result</h4>
+		 * <h4 class="zh-CN">JDBC查询结果订阅的构造方法</h4>
+		 *
+		 * @param subscriber <span class="en-US">Subscriber instance object</span>
+		 *                   <span class="zh-CN">订阅者实例对象</span>
+		 */
+		QuerySubscription(@Nonnull final Flow.Subscriber<? super Map<String, String>> subscriber) {
+			super(subscriber);
+		}
+
+		@Override
+		protected void open(final long demand) throws Exception {
+			this.beginTime = ListenerFactory.begin(ExecutionPhase.FETCH, sqlCommand.getSql());
+			this.connection = jdbcSchema.obtainConnection(Boolean.FALSE, shardingDatabase);
+			this.statement = this.connection.prepareStatement(sqlCommand.getSql());
+			this.statement.setFetchSize((int) Math.min(demand, MAX_FETCH_SIZE));
+			jdbcSchema.configTimeout(this.statement);
+			jdbcSchema.bindValues(this.statement, sqlCommand.getValues());
+			this.resultSet = this.statement.executeQuery();
+		}
+
+		@Override
+		protected Map<String, String> next() throws Exception {
+			return this.resultSet.next() ? jdbcSchema.parseResultSet(this.resultSet, jdbcSchema.dialect) : null;
+		}
+
+		@Override
+		protected void release(final Throwable cause) {
+			//  Close the result set, statement and connection in order, null resources will be skipped
+			try (Connection closeConnection = this.connection;
+			     PreparedStatement closeStatement = this.statement;
+			     ResultSet closeResultSet = this.resultSet) {
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Query_Publisher_Release", closeResultSet != null, closeStatement != null,
+							closeConnection != null);
+				}
+			} catch (SQLException e) {
+				LOGGER.error("Close_Connection_Error");
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Stack_Message_Error", e);
+				}
+			} finally {
+				this.resultSet = null;
+				this.statement = null;
+				this.connection = null;
+				ListenerFactory.end(ExecutionPhase.FETCH, sqlCommand.getSql(), this.beginTime, cause);
+			}
+		}
+	}
+}
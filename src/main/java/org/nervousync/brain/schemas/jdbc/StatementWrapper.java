@@ -17,6 +17,10 @@
 
 package org.nervousync.brain.schemas.jdbc;
 
+import jdk.jfr.EventType;
+import org.nervousync.brain.enumerations.execution.ExecutionPhase;
+import org.nervousync.brain.events.StatementExecuteEvent;
+import org.nervousync.brain.listeners.ListenerFactory;
 import org.nervousync.commons.Globals;
 import org.nervousync.utils.ClassUtils;
 import org.nervousync.utils.DateTimeUtils;
@@ -46,6 +50,11 @@ public class StatementWrapper<S extends PreparedStatement> implements PreparedSt
 	 * <span class="zh-CN">日志实例</span>
 	 */
 	protected static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(StatementWrapper.class);
+	/**
+	 * <span class="en-US">JFR event type of statement execute</span>
+	 * <span class="zh-CN">查询分析器执行的JFR事件类型</span>
+	 */
+	private static final EventType EXECUTE_EVENT_TYPE = EventType.getEventType(StatementExecuteEvent.class);
 
 	/**
 	 * <span class="en-US">Low query timeout (Unit: milliseconds)</span>
@@ -97,6 +106,26 @@ public class StatementWrapper<S extends PreparedStatement> implements PreparedSt
 	 * <span class="zh-CN">执行起始时间戳</span>
 	 */
 	private long beginTime = Globals.DEFAULT_VALUE_LONG;
+	/**
+	 * <span class="en-US">Begin time of execution listener (Unit: nanoseconds)</span>
+	 * <span class="zh-CN">执行监听器的开始时间（单位：纳秒）</span>
+	 */
+	private long executeTime = Globals.DEFAULT_VALUE_LONG;
+	/**
+	 * <span class="en-US">JFR event of current execution</span>
+	 * <span class="zh-CN">当前执行的JFR事件</span>
+	 */
+	private StatementExecuteEvent executeEvent = null;
+	/**
+	 * <span class="en-US">Connection pool of the statement, using for recording the execution result into the circuit breaker</span>
+	 * <span class="zh-CN">查询执行器所属的连接池，用于将执行结果记录到断路器</span>
+	 */
+	private JdbcConnectionPool connectionPool = null;
+	/**
+	 * <span class="en-US">Connection wrapper of the statement, using for tracking the running statement</span>
+	 * <span class="zh-CN">查询执行器所属的连接包装类，用于跟踪正在执行的查询</span>
+	 */
+	private JdbcConnection jdbcConnection = null;
 
 	/**
 	 * <h4 class="en-US">Constructor method for abstract class for cached statement</h4>
@@ -123,6 +152,28 @@ public class StatementWrapper<S extends PreparedStatement> implements PreparedSt
 		this.sql = sql;
 	}
 
+	/**
+	 * <h4 class="en-US">Bind the connection pool of the statement</h4>
+	 * <h4 class="zh-CN">绑定查询执行器所属的连接池</h4>
+	 *
+	 * @param connectionPool <span class="en-US">Connection pool instance object</span>
+	 *                       <span class="zh-CN">连接池实例对象</span>
+	 */
+	final void bindPool(final JdbcConnectionPool connectionPool) {
+		this.connectionPool = connectionPool;
+	}
+
+	/**
+	 * <h4 class="en-US">Bind the connection wrapper of the statement</h4>
+	 * <h4 class="zh-CN">绑定查询执行器所属的连接包装类</h4>
+	 *
+	 * @param jdbcConnection <span class="en-US">Connection wrapper instance object</span>
+	 *                       <span class="zh-CN">连接包装类实例对象</span>
+	 */
+	final void bindConnection(final JdbcConnection jdbcConnection) {
+		this.jdbcConnection = jdbcConnection;
+	}
+
 	/**
 	 * <h4 class="en-US">Increment hit count</h4>
 	 * <h4 class="zh-CN">增加命中次数</h4>
@@ -204,19 +255,49 @@ public class StatementWrapper<S extends PreparedStatement> implements PreparedSt
 	 * <h4 class="zh-CN">记录操作的起始时间</h4>
 	 */
 	protected final void begin() {
+		if (this.jdbcConnection != null) {
+			this.jdbcConnection.running(this.statement);
+		}
 		if (this.lowQueryTimeout > 0) {
 			this.beginTime = DateTimeUtils.currentUTCTimeMillis();
 		}
+		this.executeTime = ListenerFactory.begin(ExecutionPhase.EXECUTE, this.sql);
+		if (EXECUTE_EVENT_TYPE.isEnabled()) {
+			this.executeEvent = new StatementExecuteEvent();
+			this.executeEvent.begin();
+		}
 	}
 
 	/**
 	 * <h4 class="en-US">Record operate end timestamp</h4>
 	 * <h4 class="zh-CN">记录操作的终止时间</h4>
 	 *
-	 * @param sql <span class="en-US">SQL command</span>
-	 *            <span class="zh-CN">执行的SQL命令</span>
+	 * @param sql      <span class="en-US">SQL command</span>
+	 *                 <span class="zh-CN">执行的SQL命令</span>
+	 * @param rowCount <span class="en-US">Affected row count, <code>Globals.DEFAULT_VALUE_LONG</code> if unknown</span>
+	 *                 <span class="zh-CN">影响的记录数，未知时为<code>Globals.DEFAULT_VALUE_LONG</code></span>
+	 * @param cause    <span class="en-US">Error instance if execution failed, or null if succeed</span>
+	 *                 <span class="zh-CN">执行失败时的异常实例对象，执行成功时为null</span>
 	 */
-	protected final void end(final String sql) {
+	protected final void end(final String sql, final long rowCount, final Throwable cause) {
+		if (this.jdbcConnection != null) {
+			this.jdbcConnection.running(null);
+		}
+		ListenerFactory.end(ExecutionPhase.EXECUTE, sql, this.executeTime, cause);
+		this.executeTime = Globals.DEFAULT_VALUE_LONG;
+		if (this.connectionPool != null) {
+			this.connectionPool.recordExecution(cause);
+		}
+		if (this.executeEvent != null) {
+			this.executeEvent.end();
+			if (this.executeEvent.shouldCommit()) {
+				this.executeEvent.fingerprint = StatementExecuteEvent.fingerprint(sql);
+				this.executeEvent.rowCount = rowCount;
+				this.executeEvent.succeed = (cause == null);
+				this.executeEvent.commit();
+			}
+			this.executeEvent = null;
+		}
 		if (this.lowQueryTimeout > 0) {
 			long usedTime = DateTimeUtils.currentUTCTimeMillis() - this.beginTime;
 			if (this.lowQueryTimeout < usedTime) {
@@ -449,11 +530,20 @@ public class StatementWrapper<S extends PreparedStatement> implements PreparedSt
 
 	@Override
 	public final int[] executeBatch() throws SQLException {
+		this.begin();
+		Throwable cause = null;
+		long rowCount = Globals.DEFAULT_VALUE_LONG;
 		try {
-			this.begin();
-			return this.statement.executeBatch();
+			int[] result = this.statement.executeBatch();
+			if (this.executeEvent != null) {
+				rowCount = Arrays.stream(result).filter(count -> count > 0).asLongStream().sum();
+			}
+			return result;
+		} catch (SQLException | RuntimeException e) {
+			cause = e;
+			throw e;
 		} finally {
-			this.end(this.sql);
+			this.end(this.sql, rowCount, cause);
 		}
 	}
 
@@ -499,41 +589,65 @@ public class StatementWrapper<S extends PreparedStatement> implements PreparedSt
 
 	@Override
 	public final long getLargeUpdateCount() throws SQLException {
+		this.begin();
+		Throwable cause = null;
 		try {
-			this.begin();
 			return this.statement.getLargeUpdateCount();
+		} catch (SQLException | RuntimeException e) {
+			cause = e;
+			throw e;
 		} finally {
-			this.end(this.sql);
+			this.end(this.sql, Globals.DEFAULT_VALUE_LONG, cause);
 		}
 	}
 
 	@Override
 	public final long[] executeLargeBatch() throws SQLException {
+		this.begin();
+		Throwable cause = null;
+		long rowCount = Globals.DEFAULT_VALUE_LONG;
 		try {
-			this.begin();
-			return this.statement.executeLargeBatch();
+			long[] result = this.statement.executeLargeBatch();
+			if (this.executeEvent != null) {
+				rowCount = Arrays.stream(result).filter(count -> count > 0).sum();
+			}
+			return result;
+		} catch (SQLException | RuntimeException e) {
+			cause = e;
+			throw e;
 		} finally {
-			this.end(this.sql);
+			this.end(this.sql, rowCount, cause);
 		}
 	}
 
 	@Override
 	public final ResultSet executeQuery() throws SQLException {
+		this.begin();
+		Throwable cause = null;
 		try {
-			this.begin();
 			return this.statement.executeQuery();
+		} catch (SQLException | RuntimeException e) {
+			cause = e;
+			throw e;
 		} finally {
-			this.end(this.sql);
+			this.end(this.sql, Globals.DEFAULT_VALUE_LONG, cause);
 		}
 	}
 
 	@Override
 	public final int executeUpdate() throws SQLException {
+		this.begin();
+		Throwable cause = null;
+		long rowCount = Globals.DEFAULT_VALUE_LONG;
 		try {
-			this.begin();
-			return this.statement.executeUpdate();
+			int result = this.statement.executeUpdate();
+			rowCount = result;
+			return result;
+		} catch (SQLException | RuntimeException e) {
+			cause = e;
+			throw e;
 		} finally {
-			this.end(this.sql);
+			this.end(this.sql, rowCount, cause);
 		}
 	}
 
@@ -660,11 +774,15 @@ public class StatementWrapper<S extends PreparedStatement> implements PreparedSt
 
 	@Override
 	public final boolean execute() throws SQLException {
+		this.begin();
+		Throwable cause = null;
 		try {
-			this.begin();
 			return this.statement.execute();
+		} catch (SQLException | RuntimeException e) {
+			cause = e;
+			throw e;
 		} finally {
-			this.end(this.sql);
+			this.end(this.sql, Globals.DEFAULT_VALUE_LONG, cause);
 		}
 	}
 
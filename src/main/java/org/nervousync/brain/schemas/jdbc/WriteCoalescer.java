@@ -0,0 +1,439 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.brain.schemas.jdbc;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.brain.dialects.jdbc.JdbcDialect;
+
+import java.io.Serializable;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2 class="en-US">Group commit coalescer of the small writes</h2>
+ * <p class="en-US">
+ *     The writes having the same SQL command on the same database shard were collected from many threads,
+ *     and executed as one JDBC batch in one transactional when the batch reaches the maximum rows or the first
+ *     write waits for the maximum delay. The full batch was executed on the thread submitting the last write,
+ *     the timed out batch was executed on the housekeeping executor.
+ * </p>
+ * <p class="en-US">
+ *     If the batch fails, the transactional was rolled back and the failed rows reported by the driver
+ *     complete their callers exceptionally, the other rows were executed again in a new batch.
+ * </p>
+ * <h2 class="zh-CN">小型写入的组提交合并器</h2>
+ * <p class="zh-CN">
+ *     从多个线程收集同一数据库分片上具有相同SQL命令的写入，当批次达到最大行数或第一个写入等待达到最大延迟时，
+ *     在一个事务中作为一个JDBC批次执行。满批次在提交最后一个写入的线程上执行，超时的批次在维护执行器上执行。
+ * </p>
+ * <p class="zh-CN">
+ *     如果批次失败，事务被回滚，驱动报告的失败行以异常完成其调用者，其他行在新的批次中重新执行。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 18:04:51 $
+ */
+final class WriteCoalescer {
+
+	/**
+	 * <span class="en-US">Relational database schema instance</span>
+	 * <span class="zh-CN">关系型数据源实例对象</span>
+	 */
+	private final JdbcSchema jdbcSchema;
+	/**
+	 * <span class="en-US">Maximum rows of the batch</span>
+	 * <span class="zh-CN">批次的最大行数</span>
+	 */
+	private final int batchSize;
+	/**
+	 * <span class="en-US">Maximum delay of the first write in the batch (Unit: microseconds)</span>
+	 * <span class="zh-CN">批次中第一个写入的最大延迟（单位：微秒）</span>
+	 */
+	private final long maxDelay;
+	/**
+	 * <span class="en-US">Scheduler of the batch delay</span>
+	 * <span class="zh-CN">批次延迟的调度器</span>
+	 */
+	private final ScheduledExecutorService scheduler;
+	/**
+	 * <span class="en-US">Executor of the timed out batch</span>
+	 * <span class="zh-CN">超时批次的执行器</span>
+	 */
+	private final ExecutorService executor;
+	/**
+	 * <span class="en-US">Collecting groups, key is the shard and SQL command</span>
+	 * <span class="zh-CN">收集中的分组，键值为分片和SQL命令</span>
+	 */
+	private final ConcurrentHashMap<GroupKey, WriteGroup> writeGroups = new ConcurrentHashMap<>();
+
+	/**
+	 * <h4 class="en-US">Constructor method for group commit coalescer</h4>
+	 * <h4 class="zh-CN">组提交合并器的构造方法</h4>
+	 *
+	 * @param jdbcSchema <span class="en-US">Relational database schema instance</span>
+	 *                   <span class="zh-CN">关系型数据源实例对象</span>
+	 * @param batchSize  <span class="en-US">Maximum rows of the batch</span>
+	 *                   <span class="zh-CN">批次的最大行数</span>
+	 * @param maxDelay   <span class="en-US">Maximum delay of the first write in the batch (Unit: microseconds)</span>
+	 *                   <span class="zh-CN">批次中第一个写入的最大延迟（单位：微秒）</span>
+	 * @param scheduler  <span class="en-US">Scheduler of the batch delay</span>
+	 *                   <span class="zh-CN">批次延迟的调度器</span>
+	 * @param executor   <span class="en-US">Executor of the timed out batch</span>
+	 *                   <span class="zh-CN">超时批次的执行器</span>
+	 */
+	WriteCoalescer(@Nonnull final JdbcSchema jdbcSchema, final int batchSize, final long maxDelay,
+	               @Nonnull final ScheduledExecutorService scheduler, @Nonnull final ExecutorService executor) {
+		this.jdbcSchema = jdbcSchema;
+		this.batchSize = batchSize;
+		this.maxDelay = Math.max(1L, maxDelay);
+		this.scheduler = scheduler;
+		this.executor = executor;
+	}
+
+	/**
+	 * <h4 class="en-US">Submit the write to the coalescer</h4>
+	 * <h4 class="zh-CN">提交写入到合并器</h4>
+	 *
+	 * @param shardingDatabase <span class="en-US">Sharded database name</span>
+	 *                         <span class="zh-CN">分片数据库名</span>
+	 * @param sqlCommand       <span class="en-US">SQL command information</span>
+	 *                         <span class="zh-CN">SQL命令信息</span>
+	 * @param generatedKeys    <span class="en-US">Read the generated keys of the written row</span>
+	 *                         <span class="zh-CN">读取写入行生成的主键</span>
+	 * @return <span class="en-US">Future of the write result</span>
+	 * <span class="zh-CN">写入结果的Future</span>
+	 */
+	CompletableFuture<WriteResult> submit(final String shardingDatabase,
+	                                      @Nonnull final JdbcDialect.SQLCommand sqlCommand,
+	                                      final boolean generatedKeys) {
+		WriteRequest writeRequest = new WriteRequest(sqlCommand.getValues(), new CompletableFuture<>());
+		WriteGroup writeGroup =
+				this.writeGroups.computeIfAbsent(new GroupKey(shardingDatabase, sqlCommand.getSql(), generatedKeys),
+						WriteGroup::new);
+		List<WriteRequest> batch = null;
+		long generation = Long.MIN_VALUE;
+		synchronized (writeGroup) {
+			writeGroup.requests.add(writeRequest);
+			if (writeGroup.requests.size() >= this.batchSize) {
+				batch = writeGroup.drain();
+			} else if (writeGroup.requests.size() == 1) {
+				generation = writeGroup.generation;
+			}
+		}
+		if (batch != null) {
+			this.execute(writeGroup.groupKey, batch);
+		} else if (generation != Long.MIN_VALUE) {
+			final long current = generation;
+			this.scheduler.schedule(() -> this.timeout(writeGroup, current), this.maxDelay, TimeUnit.MICROSECONDS);
+		}
+		return writeRequest.future();
+	}
+
+	/**
+	 * <h4 class="en-US">Execute all collecting writes, invoked when the schema was closing</h4>
+	 * <h4 class="zh-CN">执行所有收集中的写入，在数据源关闭时调用</h4>
+	 */
+	void flush() {
+		for (WriteGroup writeGroup : this.writeGroups.values()) {
+			List<WriteRequest> batch;
+			synchronized (writeGroup) {
+				batch = writeGroup.drain();
+			}
+			if (!batch.isEmpty()) {
+				this.execute(writeGroup.groupKey, batch);
+			}
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Execute the batch if the first write waits for the maximum delay</h4>
+	 * <h4 class="zh-CN">如果第一个写入等待达到最大延迟则执行批次</h4>
+	 *
+	 * @param writeGroup <span class="en-US">Collecting group</span>
+	 *                   <span class="zh-CN">收集中的分组</span>
+	 * @param generation <span class="en-US">Generation of the batch when the delay was scheduled</span>
+	 *                   <span class="zh-CN">调度延迟时的批次代数</span>
+	 */
+	private void timeout(@Nonnull final WriteGroup writeGroup, final long generation) {
+		List<WriteRequest> batch = null;
+		synchronized (writeGroup) {
+			//  The batch was already executed when it was full
+			if (writeGroup.generation == generation && !writeGroup.requests.isEmpty()) {
+				batch = writeGroup.drain();
+			}
+		}
+		if (batch != null) {
+			final List<WriteRequest> requests = batch;
+			this.executor.execute(() -> this.execute(writeGroup.groupKey, requests));
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Execute the batch until every write was completed</h4>
+	 * <h4 class="zh-CN">执行批次直到每个写入都已完成</h4>
+	 *
+	 * @param groupKey <span class="en-US">Group identify key</span>
+	 *                 <span class="zh-CN">分组识别键</span>
+	 * @param requests <span class="en-US">Write requests of the batch</span>
+	 *                 <span class="zh-CN">批次的写入请求</span>
+	 */
+	private void execute(@Nonnull final GroupKey groupKey, @Nonnull final List<WriteRequest> requests) {
+		List<WriteRequest> remaining = requests;
+		while (!remaining.isEmpty()) {
+			remaining = this.executeBatch(groupKey, remaining);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Execute the writes as one JDBC batch in one transactional</h4>
+	 * <p class="en-US">
+	 *     Any failure rolls back the batch before the auto-commit was restored,
+	 *     and every write request not completed yet will be completed exceptionally.
+	 * </p>
+	 * <h4 class="zh-CN">在一个事务中将写入作为一个JDBC批次执行</h4>
+	 * <p class="zh-CN">任何失败都会在恢复自动提交前回滚批次，所有尚未完成的写入请求都会以异常完成。</p>
+	 *
+	 * @param groupKey <span class="en-US">Group identify key</span>
+	 *                 <span class="zh-CN">分组识别键</span>
+	 * @param requests <span class="en-US">Write requests of the batch</span>
+	 *                 <span class="zh-CN">批次的写入请求</span>
+	 * @return <span class="en-US">Write requests need to execute again, empty list if all requests were completed</span>
+	 * <span class="zh-CN">需要重新执行的写入请求，所有请求都已完成时返回空列表</span>
+	 */
+	private List<WriteRequest> executeBatch(@Nonnull final GroupKey groupKey,
+	                                        @Nonnull final List<WriteRequest> requests) {
+		try (JdbcConnection connection = this.jdbcSchema.obtainConnection(Boolean.TRUE, groupKey.shardingDatabase());
+		     PreparedStatement statement = groupKey.generatedKeys()
+				     ? connection.prepareStatement(groupKey.sql(), Statement.RETURN_GENERATED_KEYS)
+				     : connection.prepareStatement(groupKey.sql())) {
+			boolean autoCommit = connection.getAutoCommit();
+			connection.setAutoCommit(Boolean.FALSE);
+			try {
+				for (WriteRequest writeRequest : requests) {
+					this.jdbcSchema.bindValues(statement, writeRequest.values());
+					statement.addBatch();
+				}
+				int[] updateCounts;
+				try {
+					updateCounts = statement.executeBatch();
+				} catch (BatchUpdateException e) {
+					connection.rollback();
+					return failed(requests, e);
+				}
+				List<Map<String, Serializable>> keyList =
+						groupKey.generatedKeys() ? generatedKeys(statement) : List.of();
+				connection.commit();
+				for (int i = 0; i < requests.size(); i++) {
+					requests.get(i).future().complete(
+							new WriteResult((i < updateCounts.length) ? updateCounts[i] : Statement.SUCCESS_NO_INFO,
+									(i < keyList.size()) ? keyList.get(i) : Map.of()));
+				}
+			} catch (Throwable e) {
+				//  Restoring the auto-commit will commit the partial batch if the batch was not rolled back
+				rollback(connection, e);
+				throw e;
+			} finally {
+				connection.setAutoCommit(autoCommit);
+			}
+		} catch (Throwable e) {
+			requests.forEach(writeRequest -> writeRequest.future().completeExceptionally(e));
+			if (e instanceof Error error) {
+				throw error;
+			}
+		}
+		return List.of();
+	}
+
+	/**
+	 * <h4 class="en-US">Roll back the batch, the rollback failure was added to the suppressed exceptions</h4>
+	 * <h4 class="zh-CN">回滚批次，回滚失败被添加到被抑制的异常中</h4>
+	 *
+	 * @param connection <span class="en-US">Connection of the batch</span>
+	 *                   <span class="zh-CN">批次的连接</span>
+	 * @param cause      <span class="en-US">Failure of the batch</span>
+	 *                   <span class="zh-CN">批次的失败</span>
+	 */
+	private static void rollback(@Nonnull final Connection connection, @Nonnull final Throwable cause) {
+		try {
+			connection.rollback();
+		} catch (SQLException e) {
+			cause.addSuppressed(e);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Complete the failed rows exceptionally and collect the rows need to execute again</h4>
+	 * <p class="en-US">
+	 *     The driver continuing after the failure marks the failed rows by EXECUTE_FAILED,
+	 *     the driver stopped at the failure returns the update counts before the failed row.
+	 * </p>
+	 * <h4 class="zh-CN">以异常完成失败的行并收集需要重新执行的行</h4>
+	 * <p class="zh-CN">
+	 *     失败后继续执行的驱动使用EXECUTE_FAILED标记失败的行，在失败处停止的驱动返回失败行之前的更新计数。
+	 * </p>
+	 *
+	 * @param requests  <span class="en-US">Write requests of the batch</span>
+	 *                  <span class="zh-CN">批次的写入请求</span>
+	 * @param exception <span class="en-US">Batch update exception</span>
+	 *                  <span class="zh-CN">批量更新异常</span>
+	 * @return <span class="en-US">Write requests need to execute again</span>
+	 * <span class="zh-CN">需要重新执行的写入请求</span>
+	 */
+	private static List<WriteRequest> failed(@Nonnull final List<WriteRequest> requests,
+	                                         @Nonnull final BatchUpdateException exception) {
+		int[] updateCounts = exception.getUpdateCounts();
+		int length = (updateCounts == null) ? 0 : updateCounts.length;
+		List<WriteRequest> remaining = new ArrayList<>();
+		for (int i = 0; i < requests.size(); i++) {
+			boolean rowFailed = (i < length) ? updateCounts[i] == Statement.EXECUTE_FAILED : i == length;
+			if (rowFailed) {
+				requests.get(i).future().completeExceptionally(exception);
+			} else {
+				remaining.add(requests.get(i));
+			}
+		}
+		if (remaining.size() == requests.size()) {
+			//  The failed row can not be located, every row fails to make sure the retry was finished
+			remaining.forEach(writeRequest -> writeRequest.future().completeExceptionally(exception));
+			return List.of();
+		}
+		return remaining;
+	}
+
+	/**
+	 * <h4 class="en-US">Read the generated keys of the batch, one mapping for each row</h4>
+	 * <h4 class="zh-CN">读取批次生成的主键，每行一个映射表</h4>
+	 *
+	 * @param statement <span class="en-US">Executed statement instance</span>
+	 *                  <span class="zh-CN">已执行的查询分析器实例对象</span>
+	 * @return <span class="en-US">Generated keys mapping list</span>
+	 * <span class="zh-CN">生成的主键映射表列表</span>
+	 * @throws SQLException <span class="en-US">If a database access error occurs</span>
+	 *                      <span class="zh-CN">如果数据库访问出错</span>
+	 */
+	private static List<Map<String, Serializable>> generatedKeys(@Nonnull final PreparedStatement statement)
+			throws SQLException {
+		List<Map<String, Serializable>> keyList = new ArrayList<>();
+		try (ResultSet resultSet = statement.getGeneratedKeys()) {
+			ResultSetMetaData metaData = resultSet.getMetaData();
+			int columnCount = metaData.getColumnCount();
+			while (resultSet.next()) {
+				Map<String, Serializable> generatedKeys = new HashMap<>();
+				for (int i = 1; i <= columnCount; i++) {
+					generatedKeys.put(metaData.getColumnLabel(i), (Serializable) resultSet.getObject(i));
+				}
+				keyList.add(generatedKeys);
+			}
+		}
+		return keyList;
+	}
+
+	/**
+	 * <h2 class="en-US">Result of the coalesced write</h2>
+	 * <h2 class="zh-CN">合并写入的结果</h2>
+	 *
+	 * @param updateCount   <span class="en-US">Update count of the row, SUCCESS_NO_INFO if the driver did not report</span>
+	 *                      <span class="zh-CN">行的更新计数，驱动未报告时为SUCCESS_NO_INFO</span>
+	 * @param generatedKeys <span class="en-US">Generated keys mapping of the row</span>
+	 *                      <span class="zh-CN">行生成的主键映射表</span>
+	 */
+	record WriteResult(int updateCount, Map<String, Serializable> generatedKeys) {
+	}
+
+	/**
+	 * <h2 class="en-US">Identify key of the collecting group</h2>
+	 * <h2 class="zh-CN">收集中分组的识别键</h2>
+	 *
+	 * @param shardingDatabase <span class="en-US">Sharded database name</span>
+	 *                         <span class="zh-CN">分片数据库名</span>
+	 * @param sql              <span class="en-US">SQL command</span>
+	 *                         <span class="zh-CN">SQL命令</span>
+	 * @param generatedKeys    <span class="en-US">Read the generated keys of the written rows</span>
+	 *                         <span class="zh-CN">读取写入行生成的主键</span>
+	 */
+	private record GroupKey(String shardingDatabase, String sql, boolean generatedKeys) {
+	}
+
+	/**
+	 * <h2 class="en-US">Write request of the caller</h2>
+	 * <h2 class="zh-CN">调用者的写入请求</h2>
+	 *
+	 * @param values <span class="en-US">Parameter values list</span>
+	 *               <span class="zh-CN">参数值列表</span>
+	 * @param future <span class="en-US">Future of the write result</span>
+	 *               <span class="zh-CN">写入结果的Future</span>
+	 */
+	private record WriteRequest(List<Object> values, CompletableFuture<WriteResult> future) {
+	}
+
+	/**
+	 * <h2 class="en-US">Collecting group of the writes</h2>
+	 * <h2 class="zh-CN">收集中的写入分组</h2>
+	 */
+	private static final class WriteGroup {
+
+		/**
+		 * <span class="en-US">Group identify key</span>
+		 * <span class="zh-CN">分组识别键</span>
+		 */
+		private final GroupKey groupKey;
+		/**
+		 * <span class="en-US">Collecting write requests</span>
+		 * <span class="zh-CN">收集中的写入请求</span>
+		 */
+		private List<WriteRequest> requests = new ArrayList<>();
+		/**
+		 * <span class="en-US">Generation of the batch, increased when the batch was drained</span>
+		 * <span class="zh-CN">批次的代数，取出批次时递增</span>
+		 */
+		private long generation = 0L;
+
+		/**
+		 * <h4 class="en-US">Constructor method for collecting group of the writes</h4>
+		 * <h4 class="zh-CN">收集中的写入分组的构造方法</h4>
+		 *
+		 * @param groupKey <span class="en-US">Group identify key</span>
+		 *                 <span class="zh-CN">分组识别键</span>
+		 */
+		WriteGroup(@Nonnull final GroupKey groupKey) {
+			this.groupKey = groupKey;
+		}
+
+		/**
+		 * <h4 class="en-US">Take the collected write requests and begin the next batch</h4>
+		 * <h4 class="zh-CN">取出已收集的写入请求并开始下一个批次</h4>
+		 *
+		 * @return <span class="en-US">Collected write requests</span>
+		 * <span class="zh-CN">已收集的写入请求</span>
+		 */
+		List<WriteRequest> drain() {
+			List<WriteRequest> batch = this.requests;
+			this.requests = new ArrayList<>();
+			this.generation++;
+			return batch;
+		}
+	}
+}
@@ -79,6 +79,87 @@ public interface RemoteClient {
 	@WebMethod
 	String rollback(@WebParam @PathParam("txCode") final long txCode) throws Exception;
 
+	/**
+	 * <h4 class="en-US">Prepare transactional, the prepared transactional was finished by commit or rollback</h4>
+	 * <h4 class="zh-CN">预提交事务，预提交的事务由提交或回滚完成</h4>
+	 *
+	 * @param txCode <span class="en-US">Transactional identify code</span>
+	 *               <span class="zh-CN">事务识别代码</span>
+	 * @return <span class="en-US">Response data</span>
+	 * <span class="zh-CN">响应数据</span>
+	 * @throws Exception <span class="en-US">If an error occurs during execution</span>
+	 *                   <span class="zh-CN">如果执行过程中出错</span>
+	 */
+	@GET
+	@Path("/transactional/prepare/{txCode}")
+	@Produces(MediaType.TEXT_PLAIN)
+	@Consumes(MediaType.TEXT_PLAIN)
+	@WebMethod
+	String prepare(@WebParam @PathParam("txCode") final long txCode) throws Exception;
+
+	/**
+	 * <h4 class="en-US">Create the savepoint to begin the nested transactional</h4>
+	 * <h4 class="zh-CN">创建保存点以开始嵌套事务</h4>
+	 *
+	 * @param txCode        <span class="en-US">Transactional identify code</span>
+	 *                      <span class="zh-CN">事务识别代码</span>
+	 * @param savepointName <span class="en-US">Savepoint name</span>
+	 *                      <span class="zh-CN">保存点名称</span>
+	 * @return <span class="en-US">Response data</span>
+	 * <span class="zh-CN">响应数据</span>
+	 * @throws Exception <span class="en-US">If an error occurs during execution</span>
+	 *                   <span class="zh-CN">如果执行过程中出错</span>
+	 */
+	@GET
+	@Path("/transactional/savepoint/set/{txCode}/{name}")
+	@Produces(MediaType.TEXT_PLAIN)
+	@Consumes(MediaType.TEXT_PLAIN)
+	@WebMethod
+	String savepoint(@WebParam @PathParam("txCode") final long txCode,
+	                 @WebParam @PathParam("name") final String savepointName) throws Exception;
+
+	/**
+	 * <h4 class="en-US">Release the savepoint of the nested transactional</h4>
+	 * <h4 class="zh-CN">释放嵌套事务的保存点</h4>
+	 *
+	 * @param txCode        <span class="en-US">Transactional identify code</span>
+	 *                      <span class="zh-CN">事务识别代码</span>
+	 * @param savepointName <span class="en-US">Savepoint name</span>
+	 *                      <span class="zh-CN">保存点名称</span>
+	 * @return <span class="en-US">Response data</span>
+	 * <span class="zh-CN">响应数据</span>
+	 * @throws Exception <span class="en-US">If an error occurs during execution</span>
+	 *                   <span class="zh-CN">如果执行过程中出错</span>
+	 */
+	@GET
+	@Path("/transactional/savepoint/release/{txCode}/{name}")
+	@Produces(MediaType.TEXT_PLAIN)
+	@Consumes(MediaType.TEXT_PLAIN)
+	@WebMethod
+	String releaseSavepoint(@WebParam @PathParam("txCode") final long txCode,
+	                        @WebParam @PathParam("name") final String savepointName) throws Exception;
+
+	/**
+	 * <h4 class="en-US">Rollback to the savepoint of the nested transactional</h4>
+	 * <h4 class="zh-CN">回滚到嵌套事务的保存点</h4>
+	 *
+	 * @param txCode        <span class="en-US">Transactional identify code</span>
+	 *                      <span class="zh-CN">事务识别代码</span>
+	 * @param savepointName <span class="en-US">Savepoint name</span>
+	 *                      <span class="zh-CN">保存点名称</span>
+	 * @return <span class="en-US">Response data</span>
+	 * <span class="zh-CN">响应数据</span>
+	 * @throws Exception <span class="en-US">If an error occurs during execution</span>
+	 *                   <span class="zh-CN">如果执行过程中出错</span>
+	 */
+	@GET
+	@Path("/transactional/savepoint/rollback/{txCode}/{name}")
+	@Produces(MediaType.TEXT_PLAIN)
+	@Consumes(MediaType.TEXT_PLAIN)
+	@WebMethod
+	String rollbackSavepoint(@WebParam @PathParam("txCode") final long txCode,
+	                         @WebParam @PathParam("name") final String savepointName) throws Exception;
+
 	/**
 	 * <h4 class="en-US">Submit transactional execute</h4>
 	 * <h4 class="zh-CN">提交事务执行</h4>
@@ -266,6 +347,54 @@ public interface RemoteClient {
 	int delete(@Nonnull @WebParam @PathParam("tableName") final String tableName,
 	           @Nonnull @WebParam @QueryParam("filter") final String filterContent) throws Exception;
 
+	/**
+	 * <h4 class="en-US">Execute insert record command, update the record if the record conflicts</h4>
+	 * <h4 class="zh-CN">执行插入数据命令，记录冲突时更新记录</h4>
+	 *
+	 * @param tableName       <span class="en-US">Data table name</span>
+	 *                        <span class="zh-CN">数据表名</span>
+	 * @param dataContent     <span class="en-US">Insert or update data content</span>
+	 *                        <span class="zh-CN">插入或更新数据信息</span>
+	 * @param conflictColumns <span class="en-US">Conflict column names, split by comma, using primary key columns if empty</span>
+	 *                        <span class="zh-CN">冲突列名，以逗号分隔，为空时使用主键列</span>
+	 * @return <span class="en-US">Affected records count</span>
+	 * <span class="zh-CN">影响记录条数</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	@POST
+	@Path("/upsert/{tableName}")
+	@Produces(MediaType.TEXT_PLAIN)
+	@Consumes(MediaType.TEXT_PLAIN)
+	@WebMethod
+	int upsert(@Nonnull @WebParam @PathParam("tableName") final String tableName,
+	           @Nonnull @WebParam @QueryParam("dataContent") final String dataContent,
+	           @WebParam @QueryParam("conflictColumns") final String conflictColumns) throws Exception;
+
+	/**
+	 * <h4 class="en-US">Execute insert record commands in batch, update the records if the records conflict</h4>
+	 * <h4 class="zh-CN">批量执行插入数据命令，记录冲突时更新记录</h4>
+	 *
+	 * @param tableName       <span class="en-US">Data table name</span>
+	 *                        <span class="zh-CN">数据表名</span>
+	 * @param dataContent     <span class="en-US">Insert or update data content list</span>
+	 *                        <span class="zh-CN">插入或更新数据信息列表</span>
+	 * @param conflictColumns <span class="en-US">Conflict column names, split by comma, using primary key columns if empty</span>
+	 *                        <span class="zh-CN">冲突列名，以逗号分隔，为空时使用主键列</span>
+	 * @return <span class="en-US">Affected records count</span>
+	 * <span class="zh-CN">影响记录条数</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	@POST
+	@Path("/upsert/batch/{tableName}")
+	@Produces(MediaType.TEXT_PLAIN)
+	@Consumes(MediaType.TEXT_PLAIN)
+	@WebMethod
+	int upsertBatch(@Nonnull @WebParam @PathParam("tableName") final String tableName,
+	                @Nonnull @WebParam @QueryParam("dataContent") final String dataContent,
+	                @WebParam @QueryParam("conflictColumns") final String conflictColumns) throws Exception;
+
 	/**
 	 * <h4 class="en-US">Execute query record command</h4>
 	 * <h4 class="zh-CN">执行数据检索命令</h4>
@@ -32,9 +32,11 @@ import org.nervousync.brain.enumerations.ddl.DDLType;
 import org.nervousync.brain.enumerations.ddl.DropOption;
 import org.nervousync.brain.enumerations.query.LockOption;
 import org.nervousync.brain.enumerations.remote.RemoteType;
+import org.nervousync.brain.enumerations.transactional.RetryType;
 import org.nervousync.brain.exceptions.sql.MultilingualSQLException;
 import org.nervousync.brain.query.QueryInfo;
 import org.nervousync.brain.query.condition.Condition;
+import org.nervousync.brain.reactive.ListPublisher;
 import org.nervousync.brain.schemas.BaseSchema;
 import org.nervousync.commons.Globals;
 import org.nervousync.proxy.ProxyConfig;
@@ -48,6 +50,7 @@ import java.nio.charset.Charset;
 import java.security.KeyStore;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -274,22 +277,32 @@ public final class RemoteSchema extends BaseSchema implements RemoteSchemaMBean
 	@Override
 	public void beginTransactional() throws Exception {
 		if (this.operatorThreadLocal.get() == null) {
-			switch (this.remoteType) {
-				case SOAP:
-					this.operatorThreadLocal.set(ServiceUtils.SOAPClient(this.remoteAddress, RemoteClient.class));
-					break;
-				case Restful:
-					this.operatorThreadLocal.set(
-							ServiceUtils.RestfulClient(this.remoteAddress, this.clientBuilder,
-									RemoteClient.class, this.configMap));
-					break;
-				default:
-					throw new MultilingualSQLException(0x00DB00000030L, this.remoteType);
-			}
+			this.operatorThreadLocal.set(this.newClient());
 		}
 		this.activeConnections.incrementAndGet();
 	}
 
+	/**
+	 * <h4 class="en-US">Create the remote client instance by remote type</h4>
+	 * <h4 class="zh-CN">根据远程类型创建远程客户端实例对象</h4>
+	 *
+	 * @return <span class="en-US">Remote client instance object</span>
+	 * <span class="zh-CN">远程客户端实例对象</span>
+	 * @throws Exception <span class="en-US">If remote type not supported or an error occurs while creating</span>
+	 *                   <span class="zh-CN">如果远程类型不支持或创建时出错</span>
+	 */
+	private RemoteClient newClient() throws Exception {
+		switch (this.remoteType) {
+			case SOAP:
+				return ServiceUtils.SOAPClient(this.remoteAddress, RemoteClient.class);
+			case Restful:
+				return ServiceUtils.RestfulClient(this.remoteAddress, this.clientBuilder,
+						RemoteClient.class, this.configMap);
+			default:
+				throw new MultilingualSQLException(0x00DB00000030L, this.remoteType);
+		}
+	}
+
 	@Override
 	public void rollback() throws Exception {
 		if (this.txConfig.get() != null) {
@@ -304,6 +317,56 @@ public final class RemoteSchema extends BaseSchema implements RemoteSchemaMBean
 		}
 	}
 
+	@Override
+	public boolean supportPrepare() {
+		return Boolean.TRUE;
+	}
+
+	@Override
+	public void prepare() throws Exception {
+		if (this.txConfig.get() != null) {
+			this.operatorThreadLocal.get().prepare(this.txConfig.get().getTransactionalCode());
+		}
+	}
+
+	@Override
+	public void recover(final long transactionalCode, @Nonnull final List<String> branchNames,
+	                    final boolean commit) throws Exception {
+		RemoteClient remoteClient = this.newClient();
+		if (commit) {
+			remoteClient.commit(transactionalCode);
+		} else {
+			remoteClient.rollback(transactionalCode);
+		}
+	}
+
+	@Override
+	public void savepoint(@Nonnull final String savepointName) throws Exception {
+		if (this.txConfig.get() != null) {
+			this.operatorThreadLocal.get().savepoint(this.txConfig.get().getTransactionalCode(), savepointName);
+		}
+	}
+
+	@Override
+	public void releaseSavepoint(@Nonnull final String savepointName) throws Exception {
+		if (this.txConfig.get() != null) {
+			this.operatorThreadLocal.get().releaseSavepoint(this.txConfig.get().getTransactionalCode(), savepointName);
+		}
+	}
+
+	@Override
+	public void rollbackSavepoint(@Nonnull final String savepointName) throws Exception {
+		if (this.txConfig.get() != null) {
+			this.operatorThreadLocal.get().rollbackSavepoint(this.txConfig.get().getTransactionalCode(), savepointName);
+		}
+	}
+
+	@Override
+	public RetryType retryType(@Nonnull final Throwable throwable) {
+		//  The SQLState was not transferred from the remote endpoint
+		return RetryType.NONE;
+	}
+
 	@Override
 	public void truncateTables() throws Exception {
 		this.operatorThreadLocal.get().truncateTables();
@@ -383,11 +446,59 @@ public final class RemoteSchema extends BaseSchema implements RemoteSchemaMBean
 				StringUtils.objectToString(filterMap, StringUtils.StringType.JSON, Boolean.FALSE));
 	}
 
+	@Override
+	public int upsert(@NotNull final TableDefine tableDefine, @NotNull final Map<String, Serializable> dataMap,
+	                  final List<String> conflictColumns) throws Exception {
+		String tableName = this.shardingTable(tableDefine.tableName(), dataMap);
+		return this.operatorThreadLocal.get().upsert(tableName,
+				StringUtils.objectToString(dataMap, StringUtils.StringType.JSON, Boolean.FALSE),
+				conflictColumns(conflictColumns));
+	}
+
+	@Override
+	public int upsertBatch(@NotNull final TableDefine tableDefine,
+	                       @NotNull final List<Map<String, Serializable>> dataList,
+	                       final List<String> conflictColumns) throws Exception {
+		//  The records were sent in one request for each sharded table
+		Map<String, List<Map<String, Serializable>>> shardingMap = new LinkedHashMap<>();
+		for (Map<String, Serializable> dataMap : dataList) {
+			shardingMap.computeIfAbsent(this.shardingTable(tableDefine.tableName(), dataMap),
+					key -> new ArrayList<>()).add(dataMap);
+		}
+		int affectedCount = 0;
+		for (Map.Entry<String, List<Map<String, Serializable>>> entry : shardingMap.entrySet()) {
+			affectedCount += this.operatorThreadLocal.get().upsertBatch(entry.getKey(),
+					StringUtils.objectToString(entry.getValue(), StringUtils.StringType.JSON, Boolean.FALSE),
+					conflictColumns(conflictColumns));
+		}
+		return affectedCount;
+	}
+
+	/**
+	 * <h4 class="en-US">Join the conflict column names by comma</h4>
+	 * <h4 class="zh-CN">以逗号连接冲突列名</h4>
+	 *
+	 * @param conflictColumns <span class="en-US">Conflict column names</span>
+	 *                        <span class="zh-CN">冲突列名</span>
+	 * @return <span class="en-US">Joined conflict column names, empty string if not given</span>
+	 * <span class="zh-CN">连接后的冲突列名，未提供时为空字符串</span>
+	 */
+	private static String conflictColumns(final List<String> conflictColumns) {
+		return (conflictColumns == null)
+				? Globals.DEFAULT_VALUE_STRING
+				: String.join(BrainCommons.DEFAULT_SPLIT_CHARACTER.trim(), conflictColumns);
+	}
+
 	@Override
 	public List<Map<String, String>> query(@NotNull final QueryInfo queryInfo) throws Exception {
 		return List.of();
 	}
 
+	@Override
+	public Flow.Publisher<Map<String, String>> publish(@NotNull final QueryInfo queryInfo) {
+		return new ListPublisher<>(() -> this.query(queryInfo));
+	}
+
 	@Override
 	public List<Map<String, String>> queryForUpdate(@NotNull final TableDefine tableDefine,
 	                                                final List<Condition> conditionList, final LockOption lockOption)
@@ -428,6 +539,20 @@ public final class RemoteSchema extends BaseSchema implements RemoteSchemaMBean
 		this.activeConnections.decrementAndGet();
 	}
 
+	@Override
+	protected Object suspendResources() {
+		RemoteClient remoteClient = this.operatorThreadLocal.get();
+		this.operatorThreadLocal.remove();
+		return remoteClient;
+	}
+
+	@Override
+	protected void resumeResources(final Object resources) {
+		if (resources instanceof RemoteClient) {
+			this.operatorThreadLocal.set((RemoteClient) resources);
+		}
+	}
+
 	@Override
 	public void close() {
 	}
@@ -19,34 +19,69 @@ package org.nervousync.brain.source;
 
 import jakarta.annotation.Nonnull;
 import org.nervousync.annotations.jmx.Monitor;
+import org.nervousync.brain.commons.BrainCommons;
 import org.nervousync.brain.configs.schema.SchemaConfig;
 import org.nervousync.brain.configs.schema.impl.DistributeSchemaConfig;
 import org.nervousync.brain.configs.schema.impl.JdbcSchemaConfig;
 import org.nervousync.brain.configs.schema.impl.RemoteSchemaConfig;
+import org.nervousync.brain.configs.transactional.RetryConfig;
 import org.nervousync.brain.configs.transactional.TransactionalConfig;
 import org.nervousync.brain.defines.ShardingDefine;
 import org.nervousync.brain.defines.TableDefine;
 import org.nervousync.brain.enumerations.ddl.DDLType;
 import org.nervousync.brain.enumerations.ddl.DropOption;
 import org.nervousync.brain.enumerations.query.LockOption;
+import org.nervousync.brain.enumerations.transactional.OutboxType;
+import org.nervousync.brain.enumerations.transactional.RetryType;
+import org.nervousync.brain.events.TransactionalEvent;
 import org.nervousync.brain.exceptions.sql.MultilingualSQLException;
+import org.nervousync.brain.exceptions.sql.OptimisticLockException;
+import org.nervousync.brain.lob.LobConsumer;
 import org.nervousync.brain.query.QueryInfo;
 import org.nervousync.brain.query.condition.Condition;
 import org.nervousync.brain.schemas.BaseSchema;
 import org.nervousync.brain.schemas.distribute.DistributeSchema;
 import org.nervousync.brain.schemas.jdbc.JdbcSchema;
 import org.nervousync.brain.schemas.remote.RemoteSchema;
+import org.nervousync.brain.transactional.OutboxEntry;
+import org.nervousync.brain.transactional.OutboxJournal;
+import org.nervousync.brain.transactional.TransactionCoordinator;
+import org.nervousync.brain.transactional.TransactionalWork;
 import org.nervousync.commons.Globals;
+import org.nervousync.utils.IDUtils;
 import org.nervousync.utils.LoggerUtils;
 import org.nervousync.utils.ObjectUtils;
 import org.nervousync.utils.StringUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.io.Serializable;
+import java.nio.channels.WritableByteChannel;
+import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * <h2 class="en-US">Nervousync brain data source</h2>
@@ -68,6 +103,26 @@ public final class BrainDataSource implements BrainDataSourceMBean {
 	 * <span class="zh-CN">JMX对象ObjectName的前缀字符串</span>
 	 */
 	private static final String JMX_OBJECT_NAME_PREFIX = "org.nervousync:type=DataSource,name=";
+	/**
+	 * <span class="en-US">Prefix string of nested transactional savepoint name</span>
+	 * <span class="zh-CN">嵌套事务保存点名称的前缀字符串</span>
+	 */
+	private static final String SAVEPOINT_PREFIX = "brain_savepoint_";
+	/**
+	 * <span class="en-US">SQL state class of the integrity constraint violation</span>
+	 * <span class="zh-CN">违反完整性约束的SQL状态类别</span>
+	 */
+	private static final String INTEGRITY_VIOLATION_CLASS = "23";
+	/**
+	 * <span class="en-US">SQL state class of the data exception</span>
+	 * <span class="zh-CN">数据异常的SQL状态类别</span>
+	 */
+	private static final String DATA_EXCEPTION_CLASS = "22";
+	/**
+	 * <span class="en-US">SQL state class of the syntax error or access rule violation</span>
+	 * <span class="zh-CN">语法错误或违反访问规则的SQL状态类别</span>
+	 */
+	private static final String SYNTAX_ERROR_CLASS = "42";
 
 	/**
 	 * <span class="en-US">Perform initialization operations when using</span>
@@ -100,22 +155,97 @@ public final class BrainDataSource implements BrainDataSourceMBean {
 	 * <span class="zh-CN">注册的数据源实例映射表</span>
 	 */
 	private final Hashtable<String, BaseSchema> registeredSchemas;
+	/**
+	 * <span class="en-US">Executor of asynchronous operations, initialized when first used</span>
+	 * <span class="zh-CN">异步操作的执行器，首次使用时初始化</span>
+	 */
+	private volatile ExecutorService asyncExecutor = null;
+	/**
+	 * <span class="en-US">Transactional configure information of current thread</span>
+	 * <span class="zh-CN">当前线程的事务配置信息</span>
+	 */
+	private final ThreadLocal<TransactionalConfig> transactionalConfig = new ThreadLocal<>();
+	/**
+	 * <span class="en-US">Enlisted schemas of current thread transactional, key is schema name, kept in the enlisted order</span>
+	 * <span class="zh-CN">当前线程事务已加入的数据源，键值为数据源名称，按加入顺序保存</span>
+	 */
+	private final ThreadLocal<Map<String, BaseSchema>> enlistedSchemas = new ThreadLocal<>();
+	/**
+	 * <span class="en-US">Nested transactional scopes of current thread, the innermost scope was on the top</span>
+	 * <span class="zh-CN">当前线程的嵌套事务范围，最内层的范围位于栈顶</span>
+	 */
+	private final ThreadLocal<Deque<NestedScope>> nestedScopes = new ThreadLocal<>();
+	/**
+	 * <span class="en-US">Coordinator of the transactional across multiple schemas</span>
+	 * <span class="zh-CN">跨多个数据源的事务协调器</span>
+	 */
+	private final TransactionCoordinator coordinator;
+	/**
+	 * <span class="en-US">Retry configure information of the unit of work, retry was disabled if null</span>
+	 * <span class="zh-CN">工作单元的重试配置信息，为null时不重试</span>
+	 */
+	private volatile RetryConfig retryConfig = null;
+	/**
+	 * <span class="en-US">Total number of the unit of work retried</span>
+	 * <span class="zh-CN">工作单元重试的总次数</span>
+	 */
+	private final LongAdder retryCount = new LongAdder();
+	/**
+	 * <span class="en-US">Total number of the unit of work failed after all attempts were used</span>
+	 * <span class="zh-CN">用尽所有尝试后仍失败的工作单元总数</span>
+	 */
+	private final LongAdder retryExhausted = new LongAdder();
+	/**
+	 * <span class="en-US">Journal of the write-behind outbox, write-behind was disabled if null</span>
+	 * <span class="zh-CN">后写发件箱的日志，为null时禁用后写</span>
+	 */
+	private volatile OutboxJournal outboxJournal = null;
+	/**
+	 * <span class="en-US">Scheduler of draining the write-behind outbox</span>
+	 * <span class="zh-CN">排空后写发件箱的调度器</span>
+	 */
+	private ScheduledExecutorService outboxService = null;
+	/**
+	 * <span class="en-US">Table define used by the write-behind records, key is table name</span>
+	 * <span class="zh-CN">后写记录使用的数据表定义，键值为数据表名称</span>
+	 */
+	private final Map<String, TableDefine> outboxTables = new ConcurrentHashMap<>();
+	/**
+	 * <span class="en-US">Tables of the write-behind records which table define was not registered, only accessed by the drain thread</span>
+	 * <span class="zh-CN">数据表定义未注册的后写记录的数据表，仅由排空线程访问</span>
+	 */
+	private final Set<String> outboxUnresolved = new HashSet<>();
+	/**
+	 * <span class="en-US">Consecutive failed drains of the write-behind outbox, only accessed by the drain thread</span>
+	 * <span class="zh-CN">后写发件箱连续失败的排空次数，仅由排空线程访问</span>
+	 */
+	private int outboxFailures = 0;
+	/**
+	 * <span class="en-US">Time of the next drain after the backoff delay (Unit: nanoseconds), only accessed by the drain thread</span>
+	 * <span class="zh-CN">退避延迟后下一次排空的时间（单位：纳秒），仅由排空线程访问</span>
+	 */
+	private long outboxRetryTime = 0L;
 
 	/**
 	 * <h4 class="en-US">Default constructor method for data source</h4>
 	 * <h4 class="zh-CN">数据源的默认构造方法</h4>
 	 *
-	 * @param jmxEnabled <span class="en-US">Enable the JMX monitor</span>
-	 *                   <span class="zh-CN">开启JMX监控</span>
-	 * @param lazyInit   <span class="en-US">Perform initialization operations when using</span>
-	 *                   <span class="zh-CN">使用时再执行初始化操作</span>
-	 * @param ddlType    <span class="en-US">Enumeration value of DDL operate</span>
-	 *                   <span class="zh-CN">操作类型枚举值</span>
+	 * @param jmxEnabled  <span class="en-US">Enable the JMX monitor</span>
+	 *                    <span class="zh-CN">开启JMX监控</span>
+	 * @param lazyInit    <span class="en-US">Perform initialization operations when using</span>
+	 *                    <span class="zh-CN">使用时再执行初始化操作</span>
+	 * @param ddlType     <span class="en-US">Enumeration value of DDL operate</span>
+	 *                    <span class="zh-CN">操作类型枚举值</span>
+	 * @param recoveryLog <span class="en-US">Recovery log file path of the coordinated transactional, opened when first used</span>
+	 *                    <span class="zh-CN">协调事务的恢复日志文件路径，首次使用时打开</span>
 	 */
-	BrainDataSource(final boolean jmxEnabled, final boolean lazyInit, final DDLType ddlType) {
+	BrainDataSource(final boolean jmxEnabled, final boolean lazyInit, final DDLType ddlType,
+	                @Nonnull final String recoveryLog) {
 		this.registeredSchemas = new Hashtable<>();
 		this.ddlType = (ddlType == null) ? DDLType.NONE : ddlType;
 		this.lazyInit = lazyInit;
+		this.coordinator = new TransactionCoordinator(recoveryLog, BrainCommons.DEFAULT_RECOVERY_LOG_SIZE,
+				command -> this.asyncExecutor().execute(command));
 		this.jmxEnabled(jmxEnabled);
 	}
 
@@ -143,6 +273,7 @@ public final class BrainDataSource implements BrainDataSourceMBean {
 		} else {
 			throw new MultilingualSQLException(0x00DB00000031L, schemaConfig.toFormattedJson());
 		}
+		schema.bindCoordinator(this.coordinator);
 		this.registeredSchemas.put(schemaConfig.getSchemaName(), schema);
 		if (schemaConfig.isDefaultSchema()) {
 			if (StringUtils.notBlank(this.defaultName)) {
@@ -181,11 +312,43 @@ public final class BrainDataSource implements BrainDataSourceMBean {
 			}
 			this.registeredSchemas.get(schemaName).initTable(this.ddlType, tableDefine, database, table);
 		}
+		//  The write-behind records replayed from the journal were applied after their table was initialized
+		this.outboxTables.put(tableDefine.tableName(), tableDefine);
+	}
+
+	/**
+	 * <h4 class="en-US">Register the table define used by the write-behind records without initializing the data table</h4>
+	 * <p class="en-US">
+	 *     The pending records replayed from the journal were applied only if their table define was registered
+	 *     by this method, method initTable or a new write-behind record, the records of other tables were skipped.
+	 * </p>
+	 * <h4 class="zh-CN">注册后写记录使用的数据表定义，但不初始化数据表</h4>
+	 * <p class="zh-CN">
+	 *     从日志重放的待处理记录仅在其数据表定义已通过此方法、initTable方法或新的后写记录注册时才被应用，其他数据表的记录被跳过。
+	 * </p>
+	 *
+	 * @param tableDefines <span class="en-US">Table define information array</span>
+	 *                     <span class="zh-CN">数据表定义信息数组</span>
+	 */
+	public void outboxTable(@Nonnull final TableDefine... tableDefines) {
+		for (TableDefine tableDefine : tableDefines) {
+			this.outboxTables.put(tableDefine.tableName(), tableDefine);
+		}
 	}
 
 	/**
 	 * <h4 class="en-US">Initialize the current thread used operator based on the given transaction configuration information</h4>
+	 * <p class="en-US">
+	 *     The schemas were not touched here, each schema joins the transactional on its first operation,
+	 *     so the schemas not used by the unit of work will not create the operators. Each transactional was given
+	 *     a new transactional identify code, the configure information could be reused by concurrent or retried
+	 *     transactional.
+	 * </p>
 	 * <h4 class="zh-CN">根据给定的事务配置信息初始化当前线程的操作器</h4>
+	 * <p class="zh-CN">
+	 *     此处不操作数据源，各数据源在首次操作时加入事务，工作单元未使用的数据源不会创建操作器。
+	 *     每个事务都分配新的事务识别代码，配置信息可以被并发或重试的事务重复使用。
+	 * </p>
 	 *
 	 * @param transactionalConfig <span class="en-US">Transactional configure information</span>
 	 *                            <span class="zh-CN">事务配置信息</span>
@@ -193,24 +356,136 @@ public final class BrainDataSource implements BrainDataSourceMBean {
 	 *                   <span class="zh-CN">执行过程中出错</span>
 	 */
 	public void initTransactional(final TransactionalConfig transactionalConfig) throws Exception {
-		for (final BaseSchema schema : this.registeredSchemas.values()) {
-			schema.initTransactional(transactionalConfig);
+		if (this.enlistedSchemas.get() == null) {
+			this.transactionalConfig.set((transactionalConfig == null) ? null : transactionalConfig.newTransactional());
+			this.enlistedSchemas.set(new LinkedHashMap<>());
 		}
 	}
 
 	/**
 	 * <h4 class="en-US">Finish current transactional</h4>
+	 * <p class="en-US">
+	 *     Every enlisted schema was finished even if some of them failed, so no connection was left unreleased.
+	 *     The first failure was thrown after all schemas were finished, the others were added as suppressed.
+	 * </p>
 	 * <h4 class="zh-CN">结束当前事务</h4>
+	 * <p class="zh-CN">即使部分数据源失败，所有已加入的数据源都会被结束，不会遗留未释放的连接。所有数据源结束后抛出第一个失败，其他失败作为被抑制的异常添加。</p>
 	 *
 	 * @throws Exception <span class="en-US">An error occurred during execution</span>
 	 *                   <span class="zh-CN">执行过程中出错</span>
 	 */
 	public void endTransactional() throws Exception {
-		for (final BaseSchema schema : this.registeredSchemas.values()) {
-			schema.endTransactional();
+		Map<String, BaseSchema> schemaMap = this.enlisted();
+		this.enlistedSchemas.remove();
+		this.transactionalConfig.remove();
+		this.nestedScopes.remove();
+		Exception exception = null;
+		for (final BaseSchema schema : schemaMap.values()) {
+			try {
+				schema.endTransactional();
+			} catch (Exception e) {
+				if (exception == null) {
+					exception = e;
+				} else {
+					exception.addSuppressed(e);
+				}
+			}
+		}
+		if (exception != null) {
+			throw exception;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Begin the nested transactional by creating the savepoint on the enlisted schemas</h4>
+	 * <p class="en-US">
+	 *     The schemas joining the transactional after the savepoint have no savepoint, all of their work belongs to
+	 *     the nested transactional.
+	 * </p>
+	 * <h4 class="zh-CN">在已加入的数据源上创建保存点以开始嵌套事务</h4>
+	 * <p class="zh-CN">
+	 *     保存点之后加入事务的数据源没有保存点，其全部工作属于嵌套事务。
+	 * </p>
+	 *
+	 * @throws Exception <span class="en-US">If no transactional was active or an error occurs during execution</span>
+	 *                   <span class="zh-CN">如果没有活动的事务或执行过程中出错</span>
+	 */
+	public void savepoint() throws Exception {
+		Map<String, BaseSchema> schemaMap = this.enlistedSchemas.get();
+		if (schemaMap == null) {
+			throw new MultilingualSQLException(0x00DB0000003CL);
+		}
+		Deque<NestedScope> scopes = this.nestedScopes.get();
+		if (scopes == null) {
+			scopes = new ArrayDeque<>();
+			this.nestedScopes.set(scopes);
+		}
+		NestedScope nestedScope =
+				new NestedScope(SAVEPOINT_PREFIX + (scopes.size() + 1), new HashSet<>(schemaMap.keySet()));
+		for (BaseSchema schema : schemaMap.values()) {
+			schema.savepoint(nestedScope.savepointName());
+		}
+		scopes.push(nestedScope);
+	}
+
+	/**
+	 * <h4 class="en-US">Finish the innermost nested transactional, the work was kept in the enclosing transactional</h4>
+	 * <h4 class="zh-CN">结束最内层的嵌套事务，其工作保留在外层事务中</h4>
+	 *
+	 * @throws Exception <span class="en-US">If no nested transactional was active or an error occurs during execution</span>
+	 *                   <span class="zh-CN">如果没有活动的嵌套事务或执行过程中出错</span>
+	 */
+	public void releaseSavepoint() throws Exception {
+		NestedScope nestedScope = this.popScope();
+		for (Map.Entry<String, BaseSchema> entry : this.enlisted().entrySet()) {
+			if (nestedScope.schemaNames().contains(entry.getKey())) {
+				entry.getValue().releaseSavepoint(nestedScope.savepointName());
+			}
 		}
 	}
 
+	/**
+	 * <h4 class="en-US">Rollback the innermost nested transactional, the work before the savepoint was kept</h4>
+	 * <p class="en-US">
+	 *     The schemas joined the transactional after the savepoint were rolled back entirely,
+	 *     and still joined the enclosing transactional.
+	 * </p>
+	 * <h4 class="zh-CN">回滚最内层的嵌套事务，保存点之前的工作被保留</h4>
+	 * <p class="zh-CN">
+	 *     保存点之后加入事务的数据源被完全回滚，并且仍然加入外层事务。
+	 * </p>
+	 *
+	 * @throws Exception <span class="en-US">If no nested transactional was active or an error occurs during execution</span>
+	 *                   <span class="zh-CN">如果没有活动的嵌套事务或执行过程中出错</span>
+	 */
+	public void rollbackSavepoint() throws Exception {
+		NestedScope nestedScope = this.popScope();
+		for (Map.Entry<String, BaseSchema> entry : this.enlisted().entrySet()) {
+			if (nestedScope.schemaNames().contains(entry.getKey())) {
+				entry.getValue().rollbackSavepoint(nestedScope.savepointName());
+			} else {
+				entry.getValue().rollback();
+			}
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Remove the innermost nested transactional scope</h4>
+	 * <h4 class="zh-CN">移除最内层的嵌套事务范围</h4>
+	 *
+	 * @return <span class="en-US">Nested transactional scope</span>
+	 * <span class="zh-CN">嵌套事务范围</span>
+	 * @throws SQLException <span class="en-US">If no nested transactional was active</span>
+	 *                      <span class="zh-CN">如果没有活动的嵌套事务</span>
+	 */
+	private NestedScope popScope() throws SQLException {
+		Deque<NestedScope> scopes = this.nestedScopes.get();
+		if (scopes == null || scopes.isEmpty()) {
+			throw new MultilingualSQLException(0x00DB0000003CL);
+		}
+		return scopes.pop();
+	}
+
 	/**
 	 * <h4 class="en-US">Rollback transactional</h4>
 	 * <h4 class="zh-CN">回滚事务</h4>
@@ -219,8 +494,17 @@ public final class BrainDataSource implements BrainDataSourceMBean {
 	 *                   <span class="zh-CN">如果执行过程中出错</span>
 	 */
 	public void rollback() throws Exception {
-		for (final BaseSchema schema : this.registeredSchemas.values()) {
-			schema.rollback();
+		TransactionalEvent transactionalEvent = new TransactionalEvent();
+		transactionalEvent.begin();
+		boolean succeed = Boolean.FALSE;
+		Map<String, BaseSchema> schemaMap = this.enlisted();
+		try {
+			for (final BaseSchema schema : schemaMap.values()) {
+				schema.rollback();
+			}
+			succeed = Boolean.TRUE;
+		} finally {
+			this.commitEvent(transactionalEvent, "ROLLBACK", schemaMap.size(), succeed);
 		}
 	}
 
@@ -232,8 +516,239 @@ public final class BrainDataSource implements BrainDataSourceMBean {
 	 *                   <span class="zh-CN">如果执行过程中出错</span>
 	 */
 	public void commit() throws Exception {
-		for (final BaseSchema schema : this.registeredSchemas.values()) {
-			schema.commit();
+		TransactionalEvent transactionalEvent = new TransactionalEvent();
+		transactionalEvent.begin();
+		boolean succeed = Boolean.FALSE;
+		Map<String, BaseSchema> schemaMap = this.enlisted();
+		try {
+			this.commitSchemas(this.transactionalConfig.get(), schemaMap);
+			succeed = Boolean.TRUE;
+		} finally {
+			this.commitEvent(transactionalEvent, "COMMIT", schemaMap.size(), succeed);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Submit the transactional of given schemas</h4>
+	 * <p class="en-US">
+	 *     The single schema transactional commits in one phase directly. For multiple schemas, the transactional
+	 *     was coordinated by two-phase commit, the schemas were prepared and submitted in parallel.
+	 * </p>
+	 * <h4 class="zh-CN">提交给定数据源的事务</h4>
+	 * <p class="zh-CN">
+	 *     单一数据源的事务直接一阶段提交。多个数据源的事务使用两阶段提交协调，各数据源并行预提交和提交。
+	 * </p>
+	 *
+	 * @param transactionalConfig <span class="en-US">Transactional configure information</span>
+	 *                            <span class="zh-CN">事务配置信息</span>
+	 * @param schemaMap           <span class="en-US">Enlisted schemas mapping, key is schema name</span>
+	 *                            <span class="zh-CN">已加入的数据源映射表，键值为数据源名称</span>
+	 * @throws Exception <span class="en-US">If an error occurs during execution</span>
+	 *                   <span class="zh-CN">如果执行过程中出错</span>
+	 */
+	private void commitSchemas(final TransactionalConfig transactionalConfig,
+	                           @Nonnull final Map<String, BaseSchema> schemaMap) throws Exception {
+		if (transactionalConfig == null || schemaMap.size() <= 1) {
+			//  One phase fast path, no coordination needed for the single resource
+			for (BaseSchema schema : schemaMap.values()) {
+				schema.commit();
+			}
+			return;
+		}
+		List<SchemaParticipant> participants = new ArrayList<>(schemaMap.size());
+		schemaMap.forEach((schemaName, schema) ->
+				participants.add(new SchemaParticipant(schemaName, schema, transactionalConfig)));
+		try {
+			this.coordinator.commit(transactionalConfig.getTransactionalCode(), participants);
+		} finally {
+			participants.forEach(SchemaParticipant::restore);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Execute the unit of work in the transactional</h4>
+	 * <p class="en-US">
+	 *     The transactional was submitted if the unit of work finished, or rolled back if an exception was thrown.
+	 *     When the retry configure was enabled and the enlisted schema classifies the exception as deadlock,
+	 *     serialization failure or lock timeout, the unit of work was replayed in a new transactional after the
+	 *     jittered backoff delay. If current thread was already in a transactional, the unit of work was executed
+	 *     in a nested transactional bounded by savepoint, the failed nested transactional was rolled back to the
+	 *     savepoint and will not be retried, because only the outermost transactional can be replayed.
+	 *     The failed submission was retried only if the transactional was submitted by one resource in one phase,
+	 *     otherwise some participants may already have committed.
+	 * </p>
+	 * <h4 class="zh-CN">在事务中执行工作单元</h4>
+	 * <p class="zh-CN">
+	 *     工作单元完成时提交事务，抛出异常时回滚事务。启用重试配置且已加入的数据源将异常分类为死锁、序列化失败或锁等待超时时，
+	 *     在抖动的退避延迟后于新事务中重新执行工作单元。如果当前线程已在事务中，工作单元在以保存点为边界的嵌套事务中执行，
+	 *     失败的嵌套事务回滚到保存点且不重试，因为只有最外层事务可以重新执行。
+	 *     只有单一资源一阶段提交的事务提交失败时才会重试，否则部分参与者可能已经提交。
+	 * </p>
+	 *
+	 * @param transactionalConfig <span class="en-US">Transactional configure information</span>
+	 *                            <span class="zh-CN">事务配置信息</span>
+	 * @param transactionalWork   <span class="en-US">Unit of work instance</span>
+	 *                            <span class="zh-CN">工作单元实例对象</span>
+	 * @param <T>                 <span class="en-US">Result type of the unit of work</span>
+	 *                            <span class="zh-CN">工作单元的结果类型</span>
+	 * @return <span class="en-US">Result of the unit of work</span>
+	 * <span class="zh-CN">工作单元的结果</span>
+	 * @throws Exception <span class="en-US">If an error occurs during execution or all attempts were failed</span>
+	 *                   <span class="zh-CN">如果执行过程中出错或所有尝试均失败</span>
+	 */
+	public <T> T execute(final TransactionalConfig transactionalConfig,
+	                     @Nonnull final TransactionalWork<T> transactionalWork) throws Exception {
+		if (this.enlistedSchemas.get() != null) {
+			this.savepoint();
+			T result;
+			try {
+				result = transactionalWork.execute();
+			} catch (Exception e) {
+				try {
+					this.rollbackSavepoint();
+				} catch (Exception ex) {
+					e.addSuppressed(ex);
+				}
+				throw e;
+			}
+			this.releaseSavepoint();
+			return result;
+		}
+		RetryConfig currentConfig = this.retryConfig;
+		int attempt = 0;
+		while (true) {
+			attempt++;
+			long delay;
+			boolean replayable = Boolean.TRUE;
+			this.initTransactional(transactionalConfig);
+			try {
+				T result = transactionalWork.execute();
+				replayable = this.onePhase();
+				this.commit();
+				return result;
+			} catch (Exception e) {
+				RetryType retryType = replayable ? this.retryType(e) : RetryType.NONE;
+				try {
+					this.rollback();
+				} catch (Exception ex) {
+					e.addSuppressed(ex);
+				}
+				if (currentConfig == null || retryType == RetryType.NONE) {
+					throw e;
+				}
+				if (attempt >= currentConfig.getMaxAttempts()) {
+					this.retryExhausted.increment();
+					LOGGER.warn("Retry_Exhausted_Warn", retryType, attempt);
+					throw e;
+				}
+				this.retryCount.increment();
+				delay = currentConfig.backoff(attempt);
+				LOGGER.warn("Retry_Transactional_Warn", retryType, attempt, delay);
+			} finally {
+				this.endTransactional();
+			}
+			TimeUnit.MILLISECONDS.sleep(delay);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Check the transactional of current thread was submitted by one resource in one phase</h4>
+	 * <h4 class="zh-CN">检查当前线程的事务是否由单一资源一阶段提交</h4>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	private boolean onePhase() {
+		Map<String, BaseSchema> schemaMap = this.enlisted();
+		return schemaMap.size() <= 1 && schemaMap.values().stream().allMatch(BaseSchema::onePhase);
+	}
+
+	/**
+	 * <h4 class="en-US">Classify the exception by the enlisted schemas of current thread transactional</h4>
+	 * <h4 class="zh-CN">使用当前线程事务已加入的数据源分类异常</h4>
+	 *
+	 * @param throwable <span class="en-US">Exception thrown by the unit of work</span>
+	 *                  <span class="zh-CN">工作单元抛出的异常</span>
+	 * @return <span class="en-US">Enumeration value of the retryable failure</span>
+	 * <span class="zh-CN">可重试失败的枚举值</span>
+	 */
+	private RetryType retryType(@Nonnull final Throwable throwable) {
+		for (BaseSchema schema : this.enlisted().values()) {
+			RetryType retryType = schema.retryType(throwable);
+			if (retryType != RetryType.NONE) {
+				return retryType;
+			}
+		}
+		return RetryType.NONE;
+	}
+
+	/**
+	 * <h4 class="en-US">Configure the retry configure information of the unit of work</h4>
+	 * <h4 class="zh-CN">设置工作单元的重试配置信息</h4>
+	 *
+	 * @param retryConfig <span class="en-US">Retry configure information, disable retry if null</span>
+	 *                    <span class="zh-CN">重试配置信息，为null时禁用重试</span>
+	 */
+	public void retryConfig(final RetryConfig retryConfig) {
+		this.retryConfig = retryConfig;
+	}
+
+	/**
+	 * <h4 class="en-US">Read the enlisted schemas of current thread transactional</h4>
+	 * <h4 class="zh-CN">读取当前线程事务已加入的数据源</h4>
+	 *
+	 * @return <span class="en-US">Enlisted schemas mapping, empty mapping if no transactional</span>
+	 * <span class="zh-CN">已加入的数据源映射表，无事务时为空映射表</span>
+	 */
+	private Map<String, BaseSchema> enlisted() {
+		return Optional.ofNullable(this.enlistedSchemas.get()).orElse(Map.of());
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the schema instance, the schema joins the transactional of current thread on its first operation</h4>
+	 * <h4 class="zh-CN">获取数据源实例，数据源在首次操作时加入当前线程的事务</h4>
+	 *
+	 * @param schemaName <span class="en-US">Data schema name</span>
+	 *                   <span class="zh-CN">数据源名称</span>
+	 * @return <span class="en-US">Schema instance object</span>
+	 * <span class="zh-CN">数据源实例对象</span>
+	 * @throws Exception <span class="en-US">If schema not found or an error occurs while joining the transactional</span>
+	 *                   <span class="zh-CN">如果数据源未找到或加入事务时出错</span>
+	 */
+	private BaseSchema schema(@Nonnull final String schemaName) throws Exception {
+		BaseSchema schema = this.registeredSchemas.get(schemaName);
+		if (schema == null) {
+			throw new MultilingualSQLException(0x00DB00000032L, schemaName);
+		}
+		Map<String, BaseSchema> schemaMap = this.enlistedSchemas.get();
+		if (schemaMap != null && !schemaMap.containsKey(schemaName)) {
+			schema.initTransactional(this.transactionalConfig.get());
+			schemaMap.put(schemaName, schema);
+		}
+		return schema;
+	}
+
+	/**
+	 * <h4 class="en-US">Commit the JFR event of transactional</h4>
+	 * <h4 class="zh-CN">提交事务的JFR事件</h4>
+	 *
+	 * @param transactionalEvent <span class="en-US">JFR event instance object</span>
+	 *                           <span class="zh-CN">JFR事件实例对象</span>
+	 * @param operate            <span class="en-US">Operate type, COMMIT or ROLLBACK</span>
+	 *                           <span class="zh-CN">操作类型，COMMIT或ROLLBACK</span>
+	 * @param schemaCount        <span class="en-US">Number of the schemas joined the transactional</span>
+	 *                           <span class="zh-CN">加入事务的数据源数量</span>
+	 * @param succeed            <span class="en-US">Operate succeed</span>
+	 *                           <span class="zh-CN">操作成功</span>
+	 */
+	private void commitEvent(@Nonnull final TransactionalEvent transactionalEvent, final String operate,
+	                         final int schemaCount, final boolean succeed) {
+		transactionalEvent.end();
+		if (transactionalEvent.shouldCommit()) {
+			transactionalEvent.operate = operate;
+			transactionalEvent.schemaCount = schemaCount;
+			transactionalEvent.succeed = succeed;
+			transactionalEvent.commit();
 		}
 	}
 
@@ -326,153 +841,1201 @@ public final class BrainDataSource implements BrainDataSourceMBean {
 	 */
 	public Map<String, Serializable> insert(@Nonnull final String schemaName, @Nonnull final TableDefine tableDefine,
 	                                        @Nonnull final Map<String, Serializable> dataMap) throws Exception {
-		if (!this.registeredSchemas.containsKey(schemaName)) {
-			throw new MultilingualSQLException(0x00DB00000032L, schemaName);
-		}
-		return this.registeredSchemas.get(schemaName).insert(tableDefine, dataMap);
+		return this.schema(schemaName).insert(tableDefine, dataMap);
 	}
 
 	/**
-	 * <h4 class="en-US">Execute retrieve record command</h4>
-	 * <h4 class="zh-CN">执行数据唯一检索命令</h4>
+	 * <h4 class="en-US">Enable the write-behind outbox using the journal in the given directory</h4>
+	 * <p class="en-US">
+	 *     The pending records in the journal will be applied by the drain thread after their table define was
+	 *     registered. The existing outbox will be closed first, the write-behind was disabled if the given path is empty.
+	 * </p>
+	 * <h4 class="zh-CN">使用给定目录中的日志启用后写发件箱</h4>
+	 * <p class="zh-CN">
+	 *     日志中待处理的记录将在其数据表定义注册后由排空线程应用。已存在的发件箱将先被关闭，给定路径为空时禁用后写。
+	 * </p>
 	 *
-	 * @param schemaName  <span class="en-US">Data schema name</span>
-	 *                    <span class="zh-CN">数据源名称</span>
-	 * @param tableDefine <span class="en-US">Table define information</span>
-	 *                    <span class="zh-CN">数据表定义信息</span>
-	 * @param columns     <span class="en-US">Query column names</span>
-	 *                    <span class="zh-CN">查询数据列名</span>
-	 * @param filterMap   <span class="en-US">Retrieve filter mapping</span>
-	 *                    <span class="zh-CN">查询条件映射表</span>
-	 * @param forUpdate   <span class="en-US">Retrieve result using for update record</span>
-	 *                    <span class="zh-CN">检索结果用于更新记录</span>
-	 * @param lockOption  <span class="en-US">Query record lock option</span>
-	 *                    <span class="zh-CN">查询记录锁定选项</span>
-	 * @return <span class="en-US">Data mapping table of retrieved records</span>
-	 * <span class="zh-CN">检索到记录的数据映射表</span>
-	 * @throws Exception <span class="en-US">An error occurred during execution</span>
-	 *                   <span class="zh-CN">执行过程中出错</span>
+	 * @param outboxPath <span class="en-US">Journal directory path of the write-behind outbox</span>
+	 *                   <span class="zh-CN">后写发件箱的日志目录路径</span>
+	 * @throws IOException <span class="en-US">If an error occurs while opening the journal</span>
+	 *                     <span class="zh-CN">如果打开日志时出错</span>
 	 */
-	public Map<String, String> retrieve(@Nonnull final String schemaName, @Nonnull final TableDefine tableDefine,
-	                                    final String columns, @Nonnull final Map<String, Serializable> filterMap,
-	                                    final boolean forUpdate, final LockOption lockOption) throws Exception {
-		if (!this.registeredSchemas.containsKey(schemaName)) {
-			throw new MultilingualSQLException(0x00DB00000032L, schemaName);
+	public synchronized void outbox(final String outboxPath) throws IOException {
+		this.closeOutbox();
+		if (StringUtils.isEmpty(outboxPath)) {
+			return;
 		}
-		return this.registeredSchemas.get(schemaName)
-				.retrieve(tableDefine, columns, filterMap, forUpdate, lockOption);
+		this.outboxJournal = new OutboxJournal(outboxPath, BrainCommons.DEFAULT_OUTBOX_SEGMENT_SIZE);
+		this.outboxService = Executors.newSingleThreadScheduledExecutor();
+		this.outboxService.scheduleWithFixedDelay(this::drainOutbox, BrainCommons.DEFAULT_OUTBOX_DRAIN_PERIOD,
+				BrainCommons.DEFAULT_OUTBOX_DRAIN_PERIOD, TimeUnit.MILLISECONDS);
 	}
 
 	/**
-	 * <h4 class="en-US">Execute update record command</h4>
-	 * <h4 class="zh-CN">执行更新记录命令</h4>
+	 * <h4 class="en-US">Accept the insert record command into the write-behind outbox</h4>
+	 * <p class="en-US">
+	 *     The command was acknowledged after the record was forced to the journal, and applied to the schema by the
+	 *     drain thread later, the command does not join the transactional of current thread.
+	 * </p>
+	 * <h4 class="zh-CN">将插入数据命令接受到后写发件箱</h4>
+	 * <p class="zh-CN">
+	 *     记录强制写入日志后确认命令，之后由排空线程应用到数据源，命令不加入当前线程的事务。
+	 * </p>
 	 *
-	 * @param schemaName  <span class="en-US">Data schema name</span>
-	 *                    <span class="zh-CN">数据源名称</span>
-	 * @param tableDefine <span class="en-US">Table define information</span>
-	 *                    <span class="zh-CN">数据表定义信息</span>
-	 * @param dataMap     <span class="en-US">Update data mapping</span>
-	 *                    <span class="zh-CN">更新数据映射表</span>
-	 * @param filterMap   <span class="en-US">Update filter mapping</span>
-	 *                    <span class="zh-CN">更新条件映射表</span>
-	 * @return <span class="en-US">Updated records count</span>
-	 * <span class="zh-CN">更新记录条数</span>
+	 * @param schemaName     <span class="en-US">Data schema name</span>
+	 *                       <span class="zh-CN">数据源名称</span>
+	 * @param tableDefine    <span class="en-US">Table define information</span>
+	 *                       <span class="zh-CN">数据表定义信息</span>
+	 * @param dataMap        <span class="en-US">Insert data mapping</span>
+	 *                       <span class="zh-CN">写入数据映射表</span>
+	 * @param idempotencyKey <span class="en-US">Idempotency key, generated if empty</span>
+	 *                       <span class="zh-CN">幂等键，为空时自动生成</span>
+	 * @return <span class="en-US">Idempotency key of the accepted record</span>
+	 * <span class="zh-CN">已接受记录的幂等键</span>
 	 * @throws Exception <span class="en-US">An error occurred during execution</span>
 	 *                   <span class="zh-CN">执行过程中出错</span>
 	 */
-	public int update(@Nonnull final String schemaName, @Nonnull final TableDefine tableDefine,
-	                  @Nonnull final Map<String, Serializable> dataMap,
-	                  @Nonnull final Map<String, Serializable> filterMap) throws Exception {
-		if (!this.registeredSchemas.containsKey(schemaName)) {
-			throw new MultilingualSQLException(0x00DB00000032L, schemaName);
-		}
-		return this.registeredSchemas.get(schemaName).update(tableDefine, dataMap, filterMap);
+	public String insertBehind(@Nonnull final String schemaName, @Nonnull final TableDefine tableDefine,
+	                           @Nonnull final Map<String, Serializable> dataMap,
+	                           final String idempotencyKey) throws Exception {
+		return this.writeBehind(OutboxType.INSERT, schemaName, tableDefine, dataMap, Map.of(), idempotencyKey);
 	}
 
 	/**
-	 * <h4 class="en-US">Execute delete record command</h4>
-	 * <h4 class="zh-CN">执行删除记录命令</h4>
+	 * <h4 class="en-US">Accept the update record command into the write-behind outbox</h4>
+	 * <h4 class="zh-CN">将更新记录命令接受到后写发件箱</h4>
 	 *
-	 * @param schemaName  <span class="en-US">Data schema name</span>
-	 *                    <span class="zh-CN">数据源名称</span>
-	 * @param tableDefine <span class="en-US">Table define information</span>
-	 *                    <span class="zh-CN">数据表定义信息</span>
-	 * @param filterMap   <span class="en-US">Delete filter mapping</span>
-	 *                    <span class="zh-CN">删除条件映射表</span>
-	 * @return <span class="en-US">Deleted records count</span>
-	 * <span class="zh-CN">删除记录条数</span>
+	 * @param schemaName     <span class="en-US">Data schema name</span>
+	 *                       <span class="zh-CN">数据源名称</span>
+	 * @param tableDefine    <span class="en-US">Table define information</span>
+	 *                       <span class="zh-CN">数据表定义信息</span>
+	 * @param dataMap        <span class="en-US">Update data mapping</span>
+	 *                       <span class="zh-CN">更新数据映射表</span>
+	 * @param filterMap      <span class="en-US">Update filter mapping</span>
+	 *                       <span class="zh-CN">更新条件映射表</span>
+	 * @param idempotencyKey <span class="en-US">Idempotency key, generated if empty</span>
+	 *                       <span class="zh-CN">幂等键，为空时自动生成</span>
+	 * @return <span class="en-US">Idempotency key of the accepted record</span>
+	 * <span class="zh-CN">已接受记录的幂等键</span>
 	 * @throws Exception <span class="en-US">An error occurred during execution</span>
 	 *                   <span class="zh-CN">执行过程中出错</span>
 	 */
-	public int delete(@Nonnull final String schemaName, @Nonnull final TableDefine tableDefine,
-	                  @Nonnull final Map<String, Serializable> filterMap) throws Exception {
-		if (!this.registeredSchemas.containsKey(schemaName)) {
-			throw new MultilingualSQLException(0x00DB00000032L, schemaName);
-		}
-		return this.registeredSchemas.get(schemaName).delete(tableDefine, filterMap);
+	public String updateBehind(@Nonnull final String schemaName, @Nonnull final TableDefine tableDefine,
+	                           @Nonnull final Map<String, Serializable> dataMap,
+	                           @Nonnull final Map<String, Serializable> filterMap,
+	                           final String idempotencyKey) throws Exception {
+		return this.writeBehind(OutboxType.UPDATE, schemaName, tableDefine, dataMap, filterMap, idempotencyKey);
 	}
 
 	/**
-	 * <h4 class="en-US">Execute query record command</h4>
-	 * <h4 class="zh-CN">执行数据检索命令</h4>
+	 * <h4 class="en-US">Accept the delete record command into the write-behind outbox</h4>
+	 * <h4 class="zh-CN">将删除记录命令接受到后写发件箱</h4>
 	 *
-	 * @param queryInfo <span class="en-US">Query record information</span>
-	 *                  <span class="zh-CN">数据检索信息</span>
-	 * @return <span class="en-US">List of data mapping tables for queried records</span>
-	 * <span class="zh-CN">查询到记录的数据映射表列表</span>
-	 * @throws SQLException <span class="en-US">An error occurred during execution</span>
-	 *                      <span class="zh-CN">执行过程中出错</span>
+	 * @param schemaName     <span class="en-US">Data schema name</span>
+	 *                       <span class="zh-CN">数据源名称</span>
+	 * @param tableDefine    <span class="en-US">Table define information</span>
+	 *                       <span class="zh-CN">数据表定义信息</span>
+	 * @param filterMap      <span class="en-US">Delete filter mapping</span>
+	 *                       <span class="zh-CN">删除条件映射表</span>
+	 * @param idempotencyKey <span class="en-US">Idempotency key, generated if empty</span>
+	 *                       <span class="zh-CN">幂等键，为空时自动生成</span>
+	 * @return <span class="en-US">Idempotency key of the accepted record</span>
+	 * <span class="zh-CN">已接受记录的幂等键</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
 	 */
-	public List<Map<String, String>> query(@Nonnull final QueryInfo queryInfo) throws Exception {
-		if (!this.registeredSchemas.containsKey(queryInfo.getSchemaName())) {
-			throw new MultilingualSQLException(0x00DB00000032L, queryInfo.getSchemaName());
-		}
-		return this.registeredSchemas.get(queryInfo.getSchemaName()).query(queryInfo);
+	public String deleteBehind(@Nonnull final String schemaName, @Nonnull final TableDefine tableDefine,
+	                           @Nonnull final Map<String, Serializable> filterMap,
+	                           final String idempotencyKey) throws Exception {
+		return this.writeBehind(OutboxType.DELETE, schemaName, tableDefine, Map.of(), filterMap, idempotencyKey);
 	}
 
 	/**
-	 * <h4 class="en-US">Execute query commands for data updates</h4>
-	 * <h4 class="zh-CN">执行用于数据更新的查询命令</h4>
+	 * <h4 class="en-US">Accept the write into the write-behind outbox</h4>
+	 * <h4 class="zh-CN">将写入接受到后写发件箱</h4>
 	 *
-	 * @param schemaName    <span class="en-US">Data schema name</span>
-	 *                      <span class="zh-CN">数据源名称</span>
-	 * @param tableDefine   <span class="en-US">Table define information</span>
-	 *                      <span class="zh-CN">数据表定义信息</span>
-	 * @param conditionList <span class="en-US">Query condition instance list</span>
-	 *                      <span class="zh-CN">查询条件实例对象列表</span>
-	 * @param lockOption    <span class="en-US">Query record lock option</span>
-	 *                      <span class="zh-CN">查询记录锁定选项</span>
-	 * @return <span class="en-US">List of data mapping tables for retrieved records</span>
-	 * <span class="zh-CN">检索到记录的数据映射表列表</span>
+	 * @param outboxType     <span class="en-US">Enumeration value of the write-behind operation</span>
+	 *                       <span class="zh-CN">后写操作的枚举值</span>
+	 * @param schemaName     <span class="en-US">Data schema name</span>
+	 *                       <span class="zh-CN">数据源名称</span>
+	 * @param tableDefine    <span class="en-US">Table define information</span>
+	 *                       <span class="zh-CN">数据表定义信息</span>
+	 * @param dataMap        <span class="en-US">Insert or update data mapping</span>
+	 *                       <span class="zh-CN">插入或更新数据映射表</span>
+	 * @param filterMap      <span class="en-US">Update or delete filter mapping</span>
+	 *                       <span class="zh-CN">更新或删除条件映射表</span>
+	 * @param idempotencyKey <span class="en-US">Idempotency key, generated if empty</span>
+	 *                       <span class="zh-CN">幂等键，为空时自动生成</span>
+	 * @return <span class="en-US">Idempotency key of the accepted record</span>
+	 * <span class="zh-CN">已接受记录的幂等键</span>
 	 * @throws Exception <span class="en-US">An error occurred during execution</span>
 	 *                   <span class="zh-CN">执行过程中出错</span>
 	 */
-	public List<Map<String, String>> queryForUpdate(
-			@Nonnull final String schemaName, @Nonnull final TableDefine tableDefine,
-			final List<Condition> conditionList, final LockOption lockOption) throws Exception {
+	private String writeBehind(@Nonnull final OutboxType outboxType, @Nonnull final String schemaName,
+	                           @Nonnull final TableDefine tableDefine,
+	                           @Nonnull final Map<String, Serializable> dataMap,
+	                           @Nonnull final Map<String, Serializable> filterMap,
+	                           final String idempotencyKey) throws Exception {
 		if (!this.registeredSchemas.containsKey(schemaName)) {
 			throw new MultilingualSQLException(0x00DB00000032L, schemaName);
 		}
-		return this.registeredSchemas.get(schemaName).queryForUpdate(tableDefine, conditionList, lockOption);
+		OutboxJournal journal = this.outboxJournal;
+		if (journal == null) {
+			throw new MultilingualSQLException(0x00DB0000003EL);
+		}
+		String recordKey = StringUtils.isEmpty(idempotencyKey) ? String.valueOf(IDUtils.snowflake()) : idempotencyKey;
+		this.outboxTables.put(tableDefine.tableName(), tableDefine);
+		journal.accept(new OutboxEntry(recordKey, outboxType, schemaName, tableDefine.tableName(),
+				new HashMap<>(dataMap), new HashMap<>(filterMap)));
+		return recordKey;
 	}
 
 	/**
-	 * <h4 class="en-US">Destroy current data source</h4>
-	 * <h4 class="zh-CN">销毁当前数据源</h4>
+	 * <h4 class="en-US">Read the write-behind records moved to the dead-letter file</h4>
+	 * <h4 class="zh-CN">读取已移入死信文件的后写记录</h4>
+	 *
+	 * @return <span class="en-US">Write-behind record list, empty list if the outbox was not enabled</span>
+	 * <span class="zh-CN">后写记录列表，未启用发件箱时为空列表</span>
+	 * @throws IOException <span class="en-US">If an error occurs while reading the dead-letter file</span>
+	 *                     <span class="zh-CN">如果读取死信文件时出错</span>
 	 */
-	void close() {
-		if (DDLType.CREATE_DROP.equals(this.ddlType)) {
-			for (final BaseSchema schema : this.registeredSchemas.values()) {
-				try {
-					schema.dropTables(DropOption.CASCADE);
-				} catch (Exception e) {
-					LOGGER.error("Drop_Table_Error");
-					if (LOGGER.isDebugEnabled()) {
-						LOGGER.debug("Stack_Message_Error", e);
-					}
-				}
-			}
-		}
+	public List<OutboxEntry> outboxDeadLetters() throws IOException {
+		OutboxJournal journal = this.outboxJournal;
+		return (journal == null) ? List.of() : journal.deadLetters();
+	}
+
+	/**
+	 * <h4 class="en-US">Apply the pending write-behind records in the accepted order</h4>
+	 * <p class="en-US">
+	 *     The consecutive records of the same schema were applied in one transactional, if the transactional failed,
+	 *     the records were applied one by one to find the failed record. The records which can never succeed were
+	 *     moved to the dead-letter file, the drain stops at the first record failed by other errors, so the later
+	 *     records never overtake it, and the next drain was delayed by the capped exponential backoff. The records
+	 *     which table define was not registered were skipped. The replayed record failed by the duplicate key or
+	 *     the optimistic lock was treated as applied before the crash.
+	 * </p>
+	 * <h4 class="zh-CN">按接受顺序应用待处理的后写记录</h4>
+	 * <p class="zh-CN">
+	 *     同一数据源的连续记录在一个事务中应用，事务失败时逐条应用记录以找出失败的记录。永远无法成功的记录被移入死信文件，
+	 *     排空在第一条因其他错误失败的记录处停止，因此之后的记录不会越过它，并且下一次排空按有上限的指数退避延迟。
+	 *     数据表定义未注册的记录被跳过。因重复键或乐观锁失败的重放记录视为在崩溃前已应用。
+	 * </p>
+	 */
+	private void drainOutbox() {
+		OutboxJournal journal = this.outboxJournal;
+		if (journal == null || System.nanoTime() - this.outboxRetryTime < 0L) {
+			return;
+		}
+		while (true) {
+			List<OutboxJournal.PendingRecord> pendingList =
+					journal.pending(BrainCommons.DEFAULT_OUTBOX_BATCH_SIZE, this::outboxResolved);
+			int index = 0;
+			while (index < pendingList.size()) {
+				String schemaName = pendingList.get(index).outboxEntry().schemaName();
+				int endIndex = index + 1;
+				while (endIndex < pendingList.size()
+						&& schemaName.equals(pendingList.get(endIndex).outboxEntry().schemaName())) {
+					endIndex++;
+				}
+				if (!this.applyOutbox(journal, pendingList.subList(index, endIndex))) {
+					return;
+				}
+				index = endIndex;
+			}
+			if (pendingList.size() < BrainCommons.DEFAULT_OUTBOX_BATCH_SIZE) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Check the table define and schema of the write-behind record were registered</h4>
+	 * <h4 class="zh-CN">检查后写记录的数据表定义和数据源是否已注册</h4>
+	 *
+	 * @param outboxEntry <span class="en-US">Write-behind operation</span>
+	 *                    <span class="zh-CN">后写操作</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	private boolean outboxResolved(@Nonnull final OutboxEntry outboxEntry) {
+		if (this.outboxTables.containsKey(outboxEntry.tableName())
+				&& this.registeredSchemas.containsKey(outboxEntry.schemaName())) {
+			return Boolean.TRUE;
+		}
+		if (this.outboxUnresolved.add(outboxEntry.schemaName() + "." + outboxEntry.tableName())) {
+			LOGGER.warn("Outbox_Unresolved_Warn", outboxEntry.tableName(), outboxEntry.schemaName());
+		}
+		return Boolean.FALSE;
+	}
+
+	/**
+	 * <h4 class="en-US">Apply the write-behind records of the same schema</h4>
+	 * <h4 class="zh-CN">应用同一数据源的后写记录</h4>
+	 *
+	 * @param journal    <span class="en-US">Journal of the write-behind outbox</span>
+	 *                   <span class="zh-CN">后写发件箱的日志</span>
+	 * @param recordList <span class="en-US">Write-behind records of the same schema</span>
+	 *                   <span class="zh-CN">同一数据源的后写记录</span>
+	 * @return <span class="en-US">true if the drain can continue, false if a record failed and the drain was delayed</span>
+	 * <span class="zh-CN">排空可以继续时返回true，记录失败且排空被延迟时返回false</span>
+	 */
+	private boolean applyOutbox(@Nonnull final OutboxJournal journal,
+	                            @Nonnull final List<OutboxJournal.PendingRecord> recordList) {
+		BaseSchema schema = this.registeredSchemas.get(recordList.get(0).outboxEntry().schemaName());
+		List<String> appliedKeys = new ArrayList<>();
+		List<String> deadKeys = new ArrayList<>();
+		boolean proceed = Boolean.TRUE;
+		if (recordList.size() > 1 && this.applyTransactional(schema, recordList)) {
+			recordList.forEach(pendingRecord -> appliedKeys.add(pendingRecord.outboxEntry().idempotencyKey()));
+		} else {
+			for (OutboxJournal.PendingRecord pendingRecord : recordList) {
+				OutboxEntry outboxEntry = pendingRecord.outboxEntry();
+				try {
+					this.applyRecord(schema, outboxEntry);
+					appliedKeys.add(outboxEntry.idempotencyKey());
+				} catch (Exception e) {
+					if (pendingRecord.recovered() && appliedBefore(outboxEntry.outboxType(), e)) {
+						appliedKeys.add(outboxEntry.idempotencyKey());
+					} else if (permanentFailure(e)) {
+						LOGGER.error("Outbox_Dead_Letter_Error", outboxEntry.idempotencyKey());
+						if (LOGGER.isDebugEnabled()) {
+							LOGGER.debug("Stack_Message_Error", e);
+						}
+						deadKeys.add(outboxEntry.idempotencyKey());
+					} else {
+						this.outboxFailures++;
+						long delay = Math.min(BrainCommons.DEFAULT_OUTBOX_DRAIN_PERIOD
+										<< Math.min(this.outboxFailures, Integer.SIZE),
+								BrainCommons.DEFAULT_OUTBOX_MAX_BACKOFF);
+						this.outboxRetryTime = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+						LOGGER.warn("Outbox_Apply_Warn", outboxEntry.idempotencyKey(), this.outboxFailures, delay);
+						if (LOGGER.isDebugEnabled()) {
+							LOGGER.debug("Stack_Message_Error", e);
+						}
+						proceed = Boolean.FALSE;
+						break;
+					}
+				}
+			}
+		}
+		try {
+			journal.applied(appliedKeys);
+			if (!deadKeys.isEmpty()) {
+				journal.deadLetter(deadKeys);
+			}
+		} catch (IOException | SQLException e) {
+			LOGGER.error("Outbox_Journal_Error");
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+			return Boolean.FALSE;
+		}
+		if (proceed) {
+			this.outboxFailures = 0;
+		}
+		return proceed;
+	}
+
+	/**
+	 * <h4 class="en-US">Apply the write-behind records of the same schema in one transactional</h4>
+	 * <h4 class="zh-CN">在一个事务中应用同一数据源的后写记录</h4>
+	 *
+	 * @param schema     <span class="en-US">Data schema instance</span>
+	 *                   <span class="zh-CN">数据源实例对象</span>
+	 * @param recordList <span class="en-US">Write-behind records of the same schema</span>
+	 *                   <span class="zh-CN">同一数据源的后写记录</span>
+	 * @return <span class="en-US">true if the transactional was submitted, false if it was rolled back</span>
+	 * <span class="zh-CN">事务已提交时返回true，已回滚时返回false</span>
+	 */
+	private boolean applyTransactional(@Nonnull final BaseSchema schema,
+	                                   @Nonnull final List<OutboxJournal.PendingRecord> recordList) {
+		try {
+			schema.initTransactional(TransactionalConfig.newInstance(Globals.INITIALIZE_INT_VALUE,
+					Connection.TRANSACTION_READ_COMMITTED, new Class<?>[]{Exception.class}));
+			for (OutboxJournal.PendingRecord pendingRecord : recordList) {
+				this.applyRecord(schema, pendingRecord.outboxEntry());
+			}
+			schema.commit();
+			return Boolean.TRUE;
+		} catch (Exception e) {
+			try {
+				schema.rollback();
+			} catch (Exception ex) {
+				e.addSuppressed(ex);
+			}
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+			return Boolean.FALSE;
+		} finally {
+			try {
+				schema.endTransactional();
+			} catch (Exception e) {
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Stack_Message_Error", e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Apply the write-behind record to the schema</h4>
+	 * <h4 class="zh-CN">将后写记录应用到数据源</h4>
+	 *
+	 * @param schema      <span class="en-US">Data schema instance</span>
+	 *                    <span class="zh-CN">数据源实例对象</span>
+	 * @param outboxEntry <span class="en-US">Write-behind operation</span>
+	 *                    <span class="zh-CN">后写操作</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	private void applyRecord(@Nonnull final BaseSchema schema, @Nonnull final OutboxEntry outboxEntry)
+			throws Exception {
+		TableDefine tableDefine = this.outboxTables.get(outboxEntry.tableName());
+		switch (outboxEntry.outboxType()) {
+			case INSERT -> schema.insert(tableDefine, outboxEntry.dataMap());
+			case UPDATE -> schema.update(tableDefine, outboxEntry.dataMap(), outboxEntry.filterMap());
+			case DELETE -> schema.delete(tableDefine, outboxEntry.filterMap());
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Check the write-behind record failed by the error which can never succeed</h4>
+	 * <p class="en-US">
+	 *     Only the constraint violation, data exception and syntax error identified by the SQL state class, and the
+	 *     optimistic lock conflict can never succeed, the connection failure, authorization failure and other errors
+	 *     were treated as temporary.
+	 * </p>
+	 * <h4 class="zh-CN">检查后写记录是否因永远无法成功的错误而失败</h4>
+	 * <p class="zh-CN">
+	 *     只有通过SQL状态类别识别的违反约束、数据异常、语法错误，以及乐观锁冲突永远无法成功，连接失败、授权失败和其他错误视为暂时性错误。
+	 * </p>
+	 *
+	 * @param throwable <span class="en-US">Exception of applying the record</span>
+	 *                  <span class="zh-CN">应用记录时的异常</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	private static boolean permanentFailure(final Throwable throwable) {
+		Throwable current = throwable;
+		while (current != null) {
+			if (current instanceof OptimisticLockException) {
+				return Boolean.TRUE;
+			}
+			if (current instanceof SQLException sqlException) {
+				String sqlState = sqlException.getSQLState();
+				if (sqlState != null && (sqlState.startsWith(INTEGRITY_VIOLATION_CLASS)
+						|| sqlState.startsWith(DATA_EXCEPTION_CLASS) || sqlState.startsWith(SYNTAX_ERROR_CLASS))) {
+					return Boolean.TRUE;
+				}
+			}
+			current = current.getCause();
+		}
+		return Boolean.FALSE;
+	}
+
+	/**
+	 * <h4 class="en-US">Check the replayed write-behind record was applied before the crash</h4>
+	 * <h4 class="zh-CN">检查重放的后写记录是否在崩溃前已应用</h4>
+	 *
+	 * @param outboxType <span class="en-US">Enumeration value of the write-behind operation</span>
+	 *                   <span class="zh-CN">后写操作的枚举值</span>
+	 * @param exception  <span class="en-US">Exception of applying the record</span>
+	 *                   <span class="zh-CN">应用记录时的异常</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	private static boolean appliedBefore(@Nonnull final OutboxType outboxType, @Nonnull final Exception exception) {
+		if (OutboxType.INSERT.equals(outboxType)) {
+			return exception instanceof SQLIntegrityConstraintViolationException
+					|| (exception instanceof SQLException sqlException
+					&& sqlException.getSQLState() != null
+					&& sqlException.getSQLState().startsWith(INTEGRITY_VIOLATION_CLASS));
+		}
+		return exception instanceof OptimisticLockException;
+	}
+
+	/**
+	 * <h4 class="en-US">Stop the drain thread and close the journal of write-behind outbox</h4>
+	 * <p class="en-US">The pending records were kept in the journal, and will be applied after the outbox was enabled again.</p>
+	 * <h4 class="zh-CN">停止排空线程并关闭后写发件箱的日志</h4>
+	 * <p class="zh-CN">待处理的记录保留在日志中，将在发件箱再次启用后应用。</p>
+	 */
+	private void closeOutbox() {
+		if (this.outboxService != null) {
+			this.outboxService.shutdown();
+			try {
+				if (!this.outboxService.awaitTermination(BrainCommons.DEFAULT_OUTBOX_DRAIN_PERIOD * 10,
+						TimeUnit.MILLISECONDS)) {
+					this.outboxService.shutdownNow();
+				}
+			} catch (InterruptedException e) {
+				this.outboxService.shutdownNow();
+				Thread.currentThread().interrupt();
+			}
+			this.outboxService = null;
+		}
+		if (this.outboxJournal != null) {
+			try {
+				this.outboxJournal.close();
+			} catch (IOException e) {
+				LOGGER.error("Close_Outbox_Error");
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Stack_Message_Error", e);
+				}
+			}
+			this.outboxJournal = null;
+		}
+		this.outboxUnresolved.clear();
+		this.outboxFailures = 0;
+		this.outboxRetryTime = 0L;
+	}
+
+	/**
+	 * <h4 class="en-US">Execute retrieve record command</h4>
+	 * <h4 class="zh-CN">执行数据唯一检索命令</h4>
+	 *
+	 * @param schemaName  <span class="en-US">Data schema name</span>
+	 *                    <span class="zh-CN">数据源名称</span>
+	 * @param tableDefine <span class="en-US">Table define information</span>
+	 *                    <span class="zh-CN">数据表定义信息</span>
+	 * @param columns     <span class="en-US">Query column names</span>
+	 *                    <span class="zh-CN">查询数据列名</span>
+	 * @param filterMap   <span class="en-US">Retrieve filter mapping</span>
+	 *                    <span class="zh-CN">查询条件映射表</span>
+	 * @param forUpdate   <span class="en-US">Retrieve result using for update record</span>
+	 *                    <span class="zh-CN">检索结果用于更新记录</span>
+	 * @param lockOption  <span class="en-US">Query record lock option</span>
+	 *                    <span class="zh-CN">查询记录锁定选项</span>
+	 * @return <span class="en-US">Data mapping table of retrieved records</span>
+	 * <span class="zh-CN">检索到记录的数据映射表</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	public Map<String, String> retrieve(@Nonnull final String schemaName, @Nonnull final TableDefine tableDefine,
+	                                    final String columns, @Nonnull final Map<String, Serializable> filterMap,
+	                                    final boolean forUpdate, final LockOption lockOption) throws Exception {
+		return this.schema(schemaName)
+				.retrieve(tableDefine, columns, filterMap, forUpdate, lockOption);
+	}
+
+	/**
+	 * <h4 class="en-US">Execute update record command</h4>
+	 * <h4 class="zh-CN">执行更新记录命令</h4>
+	 *
+	 * @param schemaName  <span class="en-US">Data schema name</span>
+	 *                    <span class="zh-CN">数据源名称</span>
+	 * @param tableDefine <span class="en-US">Table define information</span>
+	 *                    <span class="zh-CN">数据表定义信息</span>
+	 * @param dataMap     <span class="en-US">Update data mapping</span>
+	 *                    <span class="zh-CN">更新数据映射表</span>
+	 * @param filterMap   <span class="en-US">Update filter mapping</span>
+	 *                    <span class="zh-CN">更新条件映射表</span>
+	 * @return <span class="en-US">Updated records count</span>
+	 * <span class="zh-CN">更新记录条数</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	public int update(@Nonnull final String schemaName, @Nonnull final TableDefine tableDefine,
+	                  @Nonnull final Map<String, Serializable> dataMap,
+	                  @Nonnull final Map<String, Serializable> filterMap) throws Exception {
+		return this.schema(schemaName).update(tableDefine, dataMap, filterMap);
+	}
+
+	/**
+	 * <h4 class="en-US">Execute delete record command</h4>
+	 * <h4 class="zh-CN">执行删除记录命令</h4>
+	 *
+	 * @param schemaName  <span class="en-US">Data schema name</span>
+	 *                    <span class="zh-CN">数据源名称</span>
+	 * @param tableDefine <span class="en-US">Table define information</span>
+	 *                    <span class="zh-CN">数据表定义信息</span>
+	 * @param filterMap   <span class="en-US">Delete filter mapping</span>
+	 *                    <span class="zh-CN">删除条件映射表</span>
+	 * @return <span class="en-US">Deleted records count</span>
+	 * <span class="zh-CN">删除记录条数</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	public int delete(@Nonnull final String schemaName, @Nonnull final TableDefine tableDefine,
+	                  @Nonnull final Map<String, Serializable> filterMap) throws Exception {
+		return this.schema(schemaName).delete(tableDefine, filterMap);
+	}
+
+	/**
+	 * <h4 class="en-US">Execute insert record command, update the record if the record conflicts</h4>
+	 * <p class="en-US">
+	 *     The record was written by one command instead of retrieving before insert or update,
+	 *     so there is no race between the concurrent writers.
+	 * </p>
+	 * <h4 class="zh-CN">执行插入数据命令，记录冲突时更新记录</h4>
+	 * <p class="zh-CN">
+	 *     记录由一条命令写入，而不是在插入或更新前检索，因此并发写入者之间没有竞争。
+	 * </p>
+	 *
+	 * @param schemaName      <span class="en-US">Data schema name</span>
+	 *                        <span class="zh-CN">数据源名称</span>
+	 * @param tableDefine     <span class="en-US">Table define information</span>
+	 *                        <span class="zh-CN">数据表定义信息</span>
+	 * @param dataMap         <span class="en-US">Insert or update data mapping</span>
+	 *                        <span class="zh-CN">插入或更新数据映射表</span>
+	 * @param conflictColumns <span class="en-US">Conflict column names, using primary key columns if empty</span>
+	 *                        <span class="zh-CN">冲突列名，为空时使用主键列</span>
+	 * @return <span class="en-US">Affected records count</span>
+	 * <span class="zh-CN">影响记录条数</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	public int upsert(@Nonnull final String schemaName, @Nonnull final TableDefine tableDefine,
+	                  @Nonnull final Map<String, Serializable> dataMap,
+	                  final List<String> conflictColumns) throws Exception {
+		return this.schema(schemaName).upsert(tableDefine, dataMap, conflictColumns);
+	}
+
+	/**
+	 * <h4 class="en-US">Execute insert record commands in batch, update the records if the records conflict</h4>
+	 * <h4 class="zh-CN">批量执行插入数据命令，记录冲突时更新记录</h4>
+	 *
+	 * @param schemaName      <span class="en-US">Data schema name</span>
+	 *                        <span class="zh-CN">数据源名称</span>
+	 * @param tableDefine     <span class="en-US">Table define information</span>
+	 *                        <span class="zh-CN">数据表定义信息</span>
+	 * @param dataList        <span class="en-US">Insert or update data mapping list</span>
+	 *                        <span class="zh-CN">插入或更新数据映射表列表</span>
+	 * @param conflictColumns <span class="en-US">Conflict column names, using primary key columns if empty</span>
+	 *                        <span class="zh-CN">冲突列名，为空时使用主键列</span>
+	 * @return <span class="en-US">Affected records count</span>
+	 * <span class="zh-CN">影响记录条数</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	public int upsertBatch(@Nonnull final String schemaName, @Nonnull final TableDefine tableDefine,
+	                       @Nonnull final List<Map<String, Serializable>> dataList,
+	                       final List<String> conflictColumns) throws Exception {
+		if (dataList.isEmpty()) {
+			return Globals.INITIALIZE_INT_VALUE;
+		}
+		return this.schema(schemaName).upsertBatch(tableDefine, dataList, conflictColumns);
+	}
+
+	/**
+	 * <h4 class="en-US">Execute query record command</h4>
+	 * <h4 class="zh-CN">执行数据检索命令</h4>
+	 *
+	 * @param queryInfo <span class="en-US">Query record information</span>
+	 *                  <span class="zh-CN">数据检索信息</span>
+	 * @return <span class="en-US">List of data mapping tables for queried records</span>
+	 * <span class="zh-CN">查询到记录的数据映射表列表</span>
+	 * @throws SQLException <span class="en-US">An error occurred during execution</span>
+	 *                      <span class="zh-CN">执行过程中出错</span>
+	 */
+	public List<Map<String, String>> query(@Nonnull final QueryInfo queryInfo) throws Exception {
+		return this.schema(queryInfo.getSchemaName()).query(queryInfo);
+	}
+
+	/**
+	 * <h4 class="en-US">Execute query record command and publish the records on demand</h4>
+	 * <h4 class="zh-CN">执行数据检索命令并按需发布记录</h4>
+	 *
+	 * @param queryInfo <span class="en-US">Query record information</span>
+	 *                  <span class="zh-CN">数据检索信息</span>
+	 * @return <span class="en-US">Publisher of the data mapping tables for queried records</span>
+	 * <span class="zh-CN">查询到记录的数据映射表发布者</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	public Flow.Publisher<Map<String, String>> publish(@Nonnull final QueryInfo queryInfo) throws Exception {
+		return this.schema(queryInfo.getSchemaName()).publish(queryInfo);
+	}
+
+	/**
+	 * <h4 class="en-US">Execute query commands for data updates</h4>
+	 * <h4 class="zh-CN">执行用于数据更新的查询命令</h4>
+	 *
+	 * @param schemaName    <span class="en-US">Data schema name</span>
+	 *                      <span class="zh-CN">数据源名称</span>
+	 * @param tableDefine   <span class="en-US">Table define information</span>
+	 *                      <span class="zh-CN">数据表定义信息</span>
+	 * @param conditionList <span class="en-US">Query condition instance list</span>
+	 *                      <span class="zh-CN">查询条件实例对象列表</span>
+	 * @param lockOption    <span class="en-US">Query record lock option</span>
+	 *                      <span class="zh-CN">查询记录锁定选项</span>
+	 * @return <span class="en-US">List of data mapping tables for retrieved records</span>
+	 * <span class="zh-CN">检索到记录的数据映射表列表</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	public List<Map<String, String>> queryForUpdate(
+			@Nonnull final String schemaName, @Nonnull final TableDefine tableDefine,
+			final List<Condition> conditionList, final LockOption lockOption) throws Exception {
+		return this.schema(schemaName).queryForUpdate(tableDefine, conditionList, lockOption);
+	}
+
+	/**
+	 * <h4 class="en-US">Create a new transactional context for asynchronous operations</h4>
+	 * <h4 class="zh-CN">创建用于异步操作的新事务上下文</h4>
+	 *
+	 * @param transactionalConfig <span class="en-US">Transactional configure information</span>
+	 *                            <span class="zh-CN">事务配置信息</span>
+	 * @return <span class="en-US">Transactional context instance</span>
+	 * <span class="zh-CN">事务上下文实例对象</span>
+	 */
+	public TransactionalContext newContext(final TransactionalConfig transactionalConfig) {
+		return new TransactionalContext((transactionalConfig == null) ? null : transactionalConfig.newTransactional());
+	}
+
+	/**
+	 * <h4 class="en-US">Execute insert record command asynchronously without transactional</h4>
+	 * <h4 class="zh-CN">在无事务状态下异步执行插入数据命令</h4>
+	 *
+	 * @param schemaName  <span class="en-US">Data schema name</span>
+	 *                    <span class="zh-CN">数据源名称</span>
+	 * @param tableDefine <span class="en-US">Table define information</span>
+	 *                    <span class="zh-CN">数据表定义信息</span>
+	 * @param dataMap     <span class="en-US">Insert data mapping</span>
+	 *                    <span class="zh-CN">写入数据映射表</span>
+	 * @return <span class="en-US">Future of primary key value mapping table generated by database</span>
+	 * <span class="zh-CN">数据库生成的主键值映射表的Future</span>
+	 */
+	public CompletableFuture<Map<String, Serializable>> insertAsync(@Nonnull final String schemaName,
+	                                                                @Nonnull final TableDefine tableDefine,
+	                                                                @Nonnull final Map<String, Serializable> dataMap) {
+		return this.insertAsync(null, schemaName, tableDefine, dataMap);
+	}
+
+	/**
+	 * <h4 class="en-US">Execute insert record command asynchronously</h4>
+	 * <h4 class="zh-CN">异步执行插入数据命令</h4>
+	 *
+	 * @param context     <span class="en-US">Transactional context, execute without transactional if null</span>
+	 *                    <span class="zh-CN">事务上下文，为null时无事务执行</span>
+	 * @param schemaName  <span class="en-US">Data schema name</span>
+	 *                    <span class="zh-CN">数据源名称</span>
+	 * @param tableDefine <span class="en-US">Table define information</span>
+	 *                    <span class="zh-CN">数据表定义信息</span>
+	 * @param dataMap     <span class="en-US">Insert data mapping</span>
+	 *                    <span class="zh-CN">写入数据映射表</span>
+	 * @return <span class="en-US">Future of primary key value mapping table generated by database</span>
+	 * <span class="zh-CN">数据库生成的主键值映射表的Future</span>
+	 */
+	public CompletableFuture<Map<String, Serializable>> insertAsync(final TransactionalContext context,
+	                                                                @Nonnull final String schemaName,
+	                                                                @Nonnull final TableDefine tableDefine,
+	                                                                @Nonnull final Map<String, Serializable> dataMap) {
+		return this.supplyAsync(context, schemaName, schema -> schema.insert(tableDefine, dataMap));
+	}
+
+	/**
+	 * <h4 class="en-US">Execute retrieve record command asynchronously without transactional</h4>
+	 * <h4 class="zh-CN">在无事务状态下异步执行数据唯一检索命令</h4>
+	 *
+	 * @param schemaName  <span class="en-US">Data schema name</span>
+	 *                    <span class="zh-CN">数据源名称</span>
+	 * @param tableDefine <span class="en-US">Table define information</span>
+	 *                    <span class="zh-CN">数据表定义信息</span>
+	 * @param columns     <span class="en-US">Query column names</span>
+	 *                    <span class="zh-CN">查询数据列名</span>
+	 * @param filterMap   <span class="en-US">Retrieve filter mapping</span>
+	 *                    <span class="zh-CN">查询条件映射表</span>
+	 * @return <span class="en-US">Future of data mapping table of retrieved records</span>
+	 * <span class="zh-CN">检索到记录的数据映射表的Future</span>
+	 */
+	public CompletableFuture<Map<String, String>> retrieveAsync(@Nonnull final String schemaName,
+	                                                            @Nonnull final TableDefine tableDefine,
+	                                                            final String columns,
+	                                                            @Nonnull final Map<String, Serializable> filterMap) {
+		return this.retrieveAsync(null, schemaName, tableDefine, columns, filterMap, Boolean.FALSE, LockOption.NONE);
+	}
+
+	/**
+	 * <h4 class="en-US">Execute retrieve record command asynchronously</h4>
+	 * <h4 class="zh-CN">异步执行数据唯一检索命令</h4>
+	 *
+	 * @param context     <span class="en-US">Transactional context, execute without transactional if null</span>
+	 *                    <span class="zh-CN">事务上下文，为null时无事务执行</span>
+	 * @param schemaName  <span class="en-US">Data schema name</span>
+	 *                    <span class="zh-CN">数据源名称</span>
+	 * @param tableDefine <span class="en-US">Table define information</span>
+	 *                    <span class="zh-CN">数据表定义信息</span>
+	 * @param columns     <span class="en-US">Query column names</span>
+	 *                    <span class="zh-CN">查询数据列名</span>
+	 * @param filterMap   <span class="en-US">Retrieve filter mapping</span>
+	 *                    <span class="zh-CN">查询条件映射表</span>
+	 * @param forUpdate   <span class="en-US">Retrieve result using for update record</span>
+	 *                    <span class="zh-CN">检索结果用于更新记录</span>
+	 * @param lockOption  <span class="en-US">Query record lock option</span>
+	 *                    <span class="zh-CN">查询记录锁定选项</span>
+	 * @return <span class="en-US">Future of data mapping table of retrieved records</span>
+	 * <span class="zh-CN">检索到记录的数据映射表的Future</span>
+	 */
+	public CompletableFuture<Map<String, String>> retrieveAsync(final TransactionalContext context,
+	                                                            @Nonnull final String schemaName,
+	                                                            @Nonnull final TableDefine tableDefine,
+	                                                            final String columns,
+	                                                            @Nonnull final Map<String, Serializable> filterMap,
+	                                                            final boolean forUpdate, final LockOption lockOption) {
+		return this.supplyAsync(context, schemaName,
+				schema -> schema.retrieve(tableDefine, columns, filterMap, forUpdate, lockOption));
+	}
+
+	/**
+	 * <h4 class="en-US">Execute update record command asynchronously without transactional</h4>
+	 * <h4 class="zh-CN">在无事务状态下异步执行更新记录命令</h4>
+	 *
+	 * @param schemaName  <span class="en-US">Data schema name</span>
+	 *                    <span class="zh-CN">数据源名称</span>
+	 * @param tableDefine <span class="en-US">Table define information</span>
+	 *                    <span class="zh-CN">数据表定义信息</span>
+	 * @param dataMap     <span class="en-US">Update data mapping</span>
+	 *                    <span class="zh-CN">更新数据映射表</span>
+	 * @param filterMap   <span class="en-US">Update filter mapping</span>
+	 *                    <span class="zh-CN">更新条件映射表</span>
+	 * @return <span class="en-US">Future of updated records count</span>
+	 * <span class="zh-CN">更新记录条数的Future</span>
+	 */
+	public CompletableFuture<Integer> updateAsync(@Nonnull final String schemaName,
+	                                              @Nonnull final TableDefine tableDefine,
+	                                              @Nonnull final Map<String, Serializable> dataMap,
+	                                              @Nonnull final Map<String, Serializable> filterMap) {
+		return this.updateAsync(null, schemaName, tableDefine, dataMap, filterMap);
+	}
+
+	/**
+	 * <h4 class="en-US">Execute update record command asynchronously</h4>
+	 * <h4 class="zh-CN">异步执行更新记录命令</h4>
+	 *
+	 * @param context     <span class="en-US">Transactional context, execute without transactional if null</span>
+	 *                    <span class="zh-CN">事务上下文，为null时无事务执行</span>
+	 * @param schemaName  <span class="en-US">Data schema name</span>
+	 *                    <span class="zh-CN">数据源名称</span>
+	 * @param tableDefine <span class="en-US">Table define information</span>
+	 *                    <span class="zh-CN">数据表定义信息</span>
+	 * @param dataMap     <span class="en-US">Update data mapping</span>
+	 *                    <span class="zh-CN">更新数据映射表</span>
+	 * @param filterMap   <span class="en-US">Update filter mapping</span>
+	 *                    <span class="zh-CN">更新条件映射表</span>
+	 * @return <span class="en-US">Future of updated records count</span>
+	 * <span class="zh-CN">更新记录条数的Future</span>
+	 */
+	public CompletableFuture<Integer> updateAsync(final TransactionalContext context,
+	                                              @Nonnull final String schemaName,
+	                                              @Nonnull final TableDefine tableDefine,
+	                                              @Nonnull final Map<String, Serializable> dataMap,
+	                                              @Nonnull final Map<String, Serializable> filterMap) {
+		return this.supplyAsync(context, schemaName, schema -> schema.update(tableDefine, dataMap, filterMap));
+	}
+
+	/**
+	 * <h4 class="en-US">Execute delete record command asynchronously without transactional</h4>
+	 * <h4 class="zh-CN">在无事务状态下异步执行删除记录命令</h4>
+	 *
+	 * @param schemaName  <span class="en-US">Data schema name</span>
+	 *                    <span class="zh-CN">数据源名称</span>
+	 * @param tableDefine <span class="en-US">Table define information</span>
+	 *                    <span class="zh-CN">数据表定义信息</span>
+	 * @param filterMap   <span class="en-US">Delete filter mapping</span>
+	 *                    <span class="zh-CN">删除条件映射表</span>
+	 * @return <span class="en-US">Future of deleted records count</span>
+	 * <span class="zh-CN">删除记录条数的Future</span>
+	 */
+	public CompletableFuture<Integer> deleteAsync(@Nonnull final String schemaName,
+	                                              @Nonnull final TableDefine tableDefine,
+	                                              @Nonnull final Map<String, Serializable> filterMap) {
+		return this.deleteAsync(null, schemaName, tableDefine, filterMap);
+	}
+
+	/**
+	 * <h4 class="en-US">Execute delete record command asynchronously</h4>
+	 * <h4 class="zh-CN">异步执行删除记录命令</h4>
+	 *
+	 * @param context     <span class="en-US">Transactional context, execute without transactional if null</span>
+	 *                    <span class="zh-CN">事务上下文，为null时无事务执行</span>
+	 * @param schemaName  <span class="en-US">Data schema name</span>
+	 *                    <span class="zh-CN">数据源名称</span>
+	 * @param tableDefine <span class="en-US">Table define information</span>
+	 *                    <span class="zh-CN">数据表定义信息</span>
+	 * @param filterMap   <span class="en-US">Delete filter mapping</span>
+	 *                    <span class="zh-CN">删除条件映射表</span>
+	 * @return <span class="en-US">Future of deleted records count</span>
+	 * <span class="zh-CN">删除记录条数的Future</span>
+	 */
+	public CompletableFuture<Integer> deleteAsync(final TransactionalContext context,
+	                                              @Nonnull final String schemaName,
+	                                              @Nonnull final TableDefine tableDefine,
+	                                              @Nonnull final Map<String, Serializable> filterMap) {
+		return this.supplyAsync(context, schemaName, schema -> schema.delete(tableDefine, filterMap));
+	}
+
+	/**
+	 * <h4 class="en-US">Execute query record command asynchronously without transactional</h4>
+	 * <h4 class="zh-CN">在无事务状态下异步执行数据检索命令</h4>
+	 *
+	 * @param queryInfo <span class="en-US">Query record information</span>
+	 *                  <span class="zh-CN">数据检索信息</span>
+	 * @return <span class="en-US">Future of data mapping tables list for queried records</span>
+	 * <span class="zh-CN">查询到记录的数据映射表列表的Future</span>
+	 */
+	public CompletableFuture<List<Map<String, String>>> queryAsync(@Nonnull final QueryInfo queryInfo) {
+		return this.queryAsync(null, queryInfo);
+	}
+
+	/**
+	 * <h4 class="en-US">Execute query record command asynchronously</h4>
+	 * <h4 class="zh-CN">异步执行数据检索命令</h4>
+	 *
+	 * @param context   <span class="en-US">Transactional context, execute without transactional if null</span>
+	 *                  <span class="zh-CN">事务上下文，为null时无事务执行</span>
+	 * @param queryInfo <span class="en-US">Query record information</span>
+	 *                  <span class="zh-CN">数据检索信息</span>
+	 * @return <span class="en-US">Future of data mapping tables list for queried records</span>
+	 * <span class="zh-CN">查询到记录的数据映射表列表的Future</span>
+	 */
+	public CompletableFuture<List<Map<String, String>>> queryAsync(final TransactionalContext context,
+	                                                               @Nonnull final QueryInfo queryInfo) {
+		return this.supplyAsync(context, queryInfo.getSchemaName(), schema -> schema.query(queryInfo));
+	}
+
+	/**
+	 * <h4 class="en-US">Submit the transactional of given context asynchronously, the context will be closed</h4>
+	 * <h4 class="zh-CN">异步提交给定上下文的事务，上下文将被关闭</h4>
+	 *
+	 * @param context <span class="en-US">Transactional context</span>
+	 *                <span class="zh-CN">事务上下文</span>
+	 * @return <span class="en-US">Future of operate result</span>
+	 * <span class="zh-CN">操作结果的Future</span>
+	 */
+	public CompletableFuture<Void> commitAsync(@Nonnull final TransactionalContext context) {
+		return this.completeAsync(context, Boolean.TRUE);
+	}
+
+	/**
+	 * <h4 class="en-US">Rollback the transactional of given context asynchronously, the context will be closed</h4>
+	 * <h4 class="zh-CN">异步回滚给定上下文的事务，上下文将被关闭</h4>
+	 *
+	 * @param context <span class="en-US">Transactional context</span>
+	 *                <span class="zh-CN">事务上下文</span>
+	 * @return <span class="en-US">Future of operate result</span>
+	 * <span class="zh-CN">操作结果的Future</span>
+	 */
+	public CompletableFuture<Void> rollbackAsync(@Nonnull final TransactionalContext context) {
+		return this.completeAsync(context, Boolean.FALSE);
+	}
+
+	/**
+	 * <h4 class="en-US">Execute the schema operator on the asynchronous executor</h4>
+	 * <h4 class="zh-CN">在异步执行器上执行数据源操作</h4>
+	 *
+	 * @param context    <span class="en-US">Transactional context, execute without transactional if null</span>
+	 *                   <span class="zh-CN">事务上下文，为null时无事务执行</span>
+	 * @param schemaName <span class="en-US">Data schema name</span>
+	 *                   <span class="zh-CN">数据源名称</span>
+	 * @param operator   <span class="en-US">Schema operator</span>
+	 *                   <span class="zh-CN">数据源操作</span>
+	 * @param <T>        <span class="en-US">Operate result type</span>
+	 *                   <span class="zh-CN">操作结果类型</span>
+	 * @return <span class="en-US">Future of operate result</span>
+	 * <span class="zh-CN">操作结果的Future</span>
+	 */
+	private <T> CompletableFuture<T> supplyAsync(final TransactionalContext context, final String schemaName,
+	                                             final SchemaOperator<T> operator) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				return this.execute(context, schemaName, operator);
+			} catch (Exception e) {
+				throw new CompletionException(e);
+			}
+		}, this.asyncExecutor());
+	}
+
+	/**
+	 * <h4 class="en-US">Execute the schema operator on current thread, the transactional resources of context
+	 * will be attached before executing and detached after executing</h4>
+	 * <h4 class="zh-CN">在当前线程执行数据源操作，执行前关联上下文的事务资源，执行后分离</h4>
+	 *
+	 * @param context    <span class="en-US">Transactional context, execute without transactional if null</span>
+	 *                   <span class="zh-CN">事务上下文，为null时无事务执行</span>
+	 * @param schemaName <span class="en-US">Data schema name</span>
+	 *                   <span class="zh-CN">数据源名称</span>
+	 * @param operator   <span class="en-US">Schema operator</span>
+	 *                   <span class="zh-CN">数据源操作</span>
+	 * @param <T>        <span class="en-US">Operate result type</span>
+	 *                   <span class="zh-CN">操作结果类型</span>
+	 * @return <span class="en-US">Operate result</span>
+	 * <span class="zh-CN">操作结果</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	private <T> T execute(final TransactionalContext context, final String schemaName,
+	                      final SchemaOperator<T> operator) throws Exception {
+		BaseSchema schema = this.registeredSchemas.get(schemaName);
+		if (schema == null) {
+			throw new MultilingualSQLException(0x00DB00000032L, schemaName);
+		}
+		if (context == null) {
+			schema.initTransactional(null);
+			try {
+				return operator.execute(schema);
+			} finally {
+				schema.endTransactional();
+			}
+		}
+		context.lock();
+		try {
+			if (context.isClosed()) {
+				throw new MultilingualSQLException(0x00DB00000035L);
+			}
+			if (context.suspended(schemaName)) {
+				schema.resumeTransactional(context.getTransactionalConfig(), context.resources(schemaName));
+			} else {
+				schema.initTransactional(context.getTransactionalConfig());
+			}
+			try {
+				return operator.execute(schema);
+			} finally {
+				context.suspend(schemaName, schema.suspendTransactional());
+			}
+		} finally {
+			context.unlock();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Submit or rollback the transactional of given context asynchronously</h4>
+	 * <h4 class="zh-CN">异步提交或回滚给定上下文的事务</h4>
+	 *
+	 * @param context <span class="en-US">Transactional context</span>
+	 *                <span class="zh-CN">事务上下文</span>
+	 * @param commit  <span class="en-US">Submit the transactional, or rollback if false</span>
+	 *                <span class="zh-CN">提交事务，为false时回滚</span>
+	 * @return <span class="en-US">Future of operate result</span>
+	 * <span class="zh-CN">操作结果的Future</span>
+	 */
+	private CompletableFuture<Void> completeAsync(@Nonnull final TransactionalContext context,
+	                                              final boolean commit) {
+		return CompletableFuture.runAsync(() -> {
+			try {
+				this.complete(context, commit);
+			} catch (Exception e) {
+				throw new CompletionException(e);
+			}
+		}, this.asyncExecutor());
+	}
+
+	/**
+	 * <h4 class="en-US">Submit or rollback the transactional of given context and close the context</h4>
+	 * <h4 class="zh-CN">提交或回滚给定上下文的事务并关闭上下文</h4>
+	 *
+	 * @param context <span class="en-US">Transactional context</span>
+	 *                <span class="zh-CN">事务上下文</span>
+	 * @param commit  <span class="en-US">Submit the transactional, or rollback if false</span>
+	 *                <span class="zh-CN">提交事务，为false时回滚</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	private void complete(@Nonnull final TransactionalContext context, final boolean commit) throws Exception {
+		context.lock();
+		try {
+			if (context.isClosed()) {
+				throw new MultilingualSQLException(0x00DB00000035L);
+			}
+			Map<String, BaseSchema> schemaMap = new HashMap<>();
+			for (String schemaName : context.schemaNames()) {
+				BaseSchema schema = this.registeredSchemas.get(schemaName);
+				if (schema != null) {
+					schema.resumeTransactional(context.getTransactionalConfig(), context.resources(schemaName));
+					schemaMap.put(schemaName, schema);
+				}
+			}
+			TransactionalEvent transactionalEvent = new TransactionalEvent();
+			transactionalEvent.begin();
+			boolean succeed = Boolean.FALSE;
+			try {
+				if (commit) {
+					this.commitSchemas(context.getTransactionalConfig(), schemaMap);
+				} else {
+					for (BaseSchema schema : schemaMap.values()) {
+						schema.rollback();
+					}
+				}
+				succeed = Boolean.TRUE;
+			} finally {
+				this.commitEvent(transactionalEvent, commit ? "COMMIT" : "ROLLBACK", schemaMap.size(), succeed);
+				for (Map.Entry<String, BaseSchema> entry : schemaMap.entrySet()) {
+					String schemaName = entry.getKey();
+					BaseSchema schema = entry.getValue();
+					if (!succeed && commit) {
+						try {
+							schema.rollback();
+						} catch (Exception e) {
+							LOGGER.error("Rollback_Transactional_Error", schemaName);
+							if (LOGGER.isDebugEnabled()) {
+								LOGGER.debug("Stack_Message_Error", e);
+							}
+						}
+					}
+					try {
+						schema.endTransactional();
+					} catch (Exception e) {
+						LOGGER.error("End_Transactional_Error", schemaName);
+						if (LOGGER.isDebugEnabled()) {
+							LOGGER.debug("Stack_Message_Error", e);
+						}
+					}
+				}
+				context.close();
+			}
+		} finally {
+			context.unlock();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the executor of asynchronous operations</h4>
+	 * <p class="en-US">
+	 *     Using the virtual-thread-per-task executor when the running JDK supports it,
+	 *     otherwise using the cached thread pool.
+	 * </p>
+	 * <h4 class="zh-CN">获取异步操作的执行器</h4>
+	 * <p class="zh-CN">
+	 *     运行的JDK支持时使用每任务一个虚拟线程的执行器，否则使用缓存线程池。
+	 * </p>
+	 *
+	 * @return <span class="en-US">Executor instance</span>
+	 * <span class="zh-CN">执行器实例对象</span>
+	 */
+	private ExecutorService asyncExecutor() {
+		if (this.asyncExecutor == null) {
+			synchronized (this) {
+				if (this.asyncExecutor == null) {
+					ExecutorService executorService;
+					try {
+						executorService = (ExecutorService) Executors.class
+								.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+					} catch (ReflectiveOperationException e) {
+						executorService = Executors.newCachedThreadPool();
+					}
+					this.asyncExecutor = executorService;
+				}
+			}
+		}
+		return this.asyncExecutor;
+	}
+
+	/**
+	 * <h4 class="en-US">Read data of type Blob as stream</h4>
+	 * <h4 class="zh-CN">以数据流方式读取Blob类型的数据</h4>
+	 *
+	 * @param schemaName  <span class="en-US">Data schema name</span>
+	 *                    <span class="zh-CN">数据源名称</span>
+	 * @param tableDefine <span class="en-US">Table define information</span>
+	 *                    <span class="zh-CN">数据表定义信息</span>
+	 * @param columnName  <span class="en-US">Data column name</span>
+	 *                    <span class="zh-CN">数据列名</span>
+	 * @param filterMap   <span class="en-US">Retrieve filter mapping</span>
+	 *                    <span class="zh-CN">查询条件映射表</span>
+	 * @param consumer    <span class="en-US">Binary data stream consumer</span>
+	 *                    <span class="zh-CN">二进制数据流消费者</span>
+	 * @return <span class="en-US">Record was found</span>
+	 * <span class="zh-CN">是否找到记录</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	public boolean readBlob(@Nonnull final String schemaName, @Nonnull final TableDefine tableDefine,
+	                        @Nonnull final String columnName, @Nonnull final Map<String, Serializable> filterMap,
+	                        @Nonnull final LobConsumer<InputStream> consumer) throws Exception {
+		return this.jdbcSchema(schemaName).readBlob(tableDefine, columnName, filterMap, consumer);
+	}
+
+	/**
+	 * <h4 class="en-US">Read data of type Clob as stream</h4>
+	 * <h4 class="zh-CN">以数据流方式读取Clob类型的数据</h4>
+	 *
+	 * @param schemaName  <span class="en-US">Data schema name</span>
+	 *                    <span class="zh-CN">数据源名称</span>
+	 * @param tableDefine <span class="en-US">Table define information</span>
+	 *                    <span class="zh-CN">数据表定义信息</span>
+	 * @param columnName  <span class="en-US">Data column name</span>
+	 *                    <span class="zh-CN">数据列名</span>
+	 * @param filterMap   <span class="en-US">Retrieve filter mapping</span>
+	 *                    <span class="zh-CN">查询条件映射表</span>
+	 * @param consumer    <span class="en-US">Character data stream consumer</span>
+	 *                    <span class="zh-CN">字符数据流消费者</span>
+	 * @return <span class="en-US">Record was found</span>
+	 * <span class="zh-CN">是否找到记录</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	public boolean readClob(@Nonnull final String schemaName, @Nonnull final TableDefine tableDefine,
+	                        @Nonnull final String columnName, @Nonnull final Map<String, Serializable> filterMap,
+	                        @Nonnull final LobConsumer<Reader> consumer) throws Exception {
+		return this.jdbcSchema(schemaName).readClob(tableDefine, columnName, filterMap, consumer);
+	}
+
+	/**
+	 * <h4 class="en-US">Transfer data of type Blob into the target channel</h4>
+	 * <h4 class="zh-CN">将Blob类型的数据传输到目标通道</h4>
+	 *
+	 * @param schemaName    <span class="en-US">Data schema name</span>
+	 *                      <span class="zh-CN">数据源名称</span>
+	 * @param tableDefine   <span class="en-US">Table define information</span>
+	 *                      <span class="zh-CN">数据表定义信息</span>
+	 * @param columnName    <span class="en-US">Data column name</span>
+	 *                      <span class="zh-CN">数据列名</span>
+	 * @param filterMap     <span class="en-US">Retrieve filter mapping</span>
+	 *                      <span class="zh-CN">查询条件映射表</span>
+	 * @param targetChannel <span class="en-US">Target channel</span>
+	 *                      <span class="zh-CN">目标通道</span>
+	 * @return <span class="en-US">Transferred bytes count, Globals.DEFAULT_VALUE_LONG if record not found</span>
+	 * <span class="zh-CN">传输的字节数，如果未找到记录则返回Globals.DEFAULT_VALUE_LONG</span>
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	public long transferBlob(@Nonnull final String schemaName, @Nonnull final TableDefine tableDefine,
+	                         @Nonnull final String columnName, @Nonnull final Map<String, Serializable> filterMap,
+	                         @Nonnull final WritableByteChannel targetChannel) throws Exception {
+		return this.jdbcSchema(schemaName).transferBlob(tableDefine, columnName, filterMap, targetChannel);
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the JDBC schema instance by given schema name</h4>
+	 * <h4 class="zh-CN">根据给定的数据源名称获取JDBC数据源实例对象</h4>
+	 *
+	 * @param schemaName <span class="en-US">Data schema name</span>
+	 *                   <span class="zh-CN">数据源名称</span>
+	 * @return <span class="en-US">JDBC schema instance object</span>
+	 * <span class="zh-CN">JDBC数据源实例对象</span>
+	 * @throws Exception <span class="en-US">If schema not found or schema is not a JDBC schema</span>
+	 *                   <span class="zh-CN">如果数据源未找到或数据源不是JDBC数据源</span>
+	 */
+	private JdbcSchema jdbcSchema(@Nonnull final String schemaName) throws Exception {
+		BaseSchema schema = this.schema(schemaName);
+		if (!schema.isWrapperFor(JdbcSchema.class)) {
+			throw new MultilingualSQLException(0x00DB00000034L, schemaName);
+		}
+		return schema.unwrap(JdbcSchema.class);
+	}
+
+	/**
+	 * <h4 class="en-US">Destroy current data source</h4>
+	 * <h4 class="zh-CN">销毁当前数据源</h4>
+	 */
+	void close() {
+		//  Stop applying the write-behind records before the schemas were closed, the pending records were kept
+		synchronized (this) {
+			this.closeOutbox();
+		}
+		if (DDLType.CREATE_DROP.equals(this.ddlType)) {
+			for (final BaseSchema schema : this.registeredSchemas.values()) {
+				try {
+					schema.dropTables(DropOption.CASCADE);
+				} catch (Exception e) {
+					LOGGER.error("Drop_Table_Error");
+					if (LOGGER.isDebugEnabled()) {
+						LOGGER.debug("Stack_Message_Error", e);
+					}
+				}
+			}
+		}
 		if (DDLType.CREATE_TRUNCATE.equals(this.ddlType)) {
 			for (final BaseSchema schema : this.registeredSchemas.values()) {
 				try {
@@ -501,6 +2064,18 @@ public final class BrainDataSource implements BrainDataSourceMBean {
 			}
 			iterator.remove();
 		}
+		try {
+			this.coordinator.close();
+		} catch (IOException e) {
+			LOGGER.error("Close_Recovery_Log_Error");
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+		}
+		if (this.asyncExecutor != null) {
+			this.asyncExecutor.shutdown();
+			this.asyncExecutor = null;
+		}
 		if (this.jmxEnabled) {
 			ObjectUtils.unregisterMBean(this);
 		}
@@ -516,10 +2091,12 @@ public final class BrainDataSource implements BrainDataSourceMBean {
 		if (this.initialized) {
 			return;
 		}
-		for (BaseSchema schema : this.registeredSchemas.values()) {
+		for (Map.Entry<String, BaseSchema> entry : this.registeredSchemas.entrySet()) {
+			BaseSchema schema = entry.getValue();
 			if (!schema.isInitialized()) {
 				schema.initialize();
 			}
+			this.coordinator.recover(entry.getKey(), schema);
 		}
 		this.initialized = Boolean.TRUE;
 	}
@@ -569,4 +2146,56 @@ public final class BrainDataSource implements BrainDataSourceMBean {
 	public boolean isInitialized() {
 		return this.initialized;
 	}
+
+	@Override
+	public long getRetryCount() {
+		return this.retryCount.sum();
+	}
+
+	@Override
+	public long getRetryExhaustedCount() {
+		return this.retryExhausted.sum();
+	}
+
+	@Override
+	public long getOutboxPending() {
+		OutboxJournal journal = this.outboxJournal;
+		return (journal == null) ? Globals.INITIALIZE_INT_VALUE : journal.size();
+	}
+
+	/**
+	 * <h2 class="en-US">Nested transactional scope</h2>
+	 * <h2 class="zh-CN">嵌套事务范围</h2>
+	 *
+	 * @param savepointName <span class="en-US">Savepoint name</span>
+	 *                      <span class="zh-CN">保存点名称</span>
+	 * @param schemaNames   <span class="en-US">Names of the schemas enlisted when the savepoint was created</span>
+	 *                      <span class="zh-CN">创建保存点时已加入的数据源名称</span>
+	 */
+	private record NestedScope(String savepointName, Set<String> schemaNames) {
+	}
+
+	/**
+	 * <h2 class="en-US">Operator of data schema</h2>
+	 * <h2 class="zh-CN">数据源操作</h2>
+	 *
+	 * @param <T> <span class="en-US">Operate result type</span>
+	 *            <span class="zh-CN">操作结果类型</span>
+	 */
+	@FunctionalInterface
+	private interface SchemaOperator<T> {
+
+		/**
+		 * <h4 class="en-US">Execute operate on given schema</h4>
+		 * <h4 class="zh-CN">在给定的数据源上执行操作</h4>
+		 *
+		 * @param schema <span class="en-US">Data schema instance</span>
+		 *               <span class="zh-CN">数据源实例对象</span>
+		 * @return <span class="en-US">Operate result</span>
+		 * <span class="zh-CN">操作结果</span>
+		 * @throws Exception <span class="en-US">An error occurred during execution</span>
+		 *                   <span class="zh-CN">执行过程中出错</span>
+		 */
+		T execute(@Nonnull final BaseSchema schema) throws Exception;
+	}
 }
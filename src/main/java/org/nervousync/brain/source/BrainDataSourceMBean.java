@@ -90,4 +90,31 @@ public interface BrainDataSourceMBean {
 	 * <span class="zh-CN">数据源初始化状态</span>
 	 */
 	boolean isInitialized();
+
+	/**
+	 * <h4 class="en-US">Get total number of the unit of work retried</h4>
+	 * <h4 class="zh-CN">获取工作单元重试的总次数</h4>
+	 *
+	 * @return <span class="en-US">Total number of retries</span>
+	 * <span class="zh-CN">重试总次数</span>
+	 */
+	long getRetryCount();
+
+	/**
+	 * <h4 class="en-US">Get total number of the unit of work failed after all attempts were used</h4>
+	 * <h4 class="zh-CN">获取用尽所有尝试后仍失败的工作单元总数</h4>
+	 *
+	 * @return <span class="en-US">Total number of exhausted unit of work</span>
+	 * <span class="zh-CN">用尽尝试的工作单元总数</span>
+	 */
+	long getRetryExhaustedCount();
+
+	/**
+	 * <h4 class="en-US">Get the number of write-behind records not applied yet</h4>
+	 * <h4 class="zh-CN">获取尚未应用的后写记录数量</h4>
+	 *
+	 * @return <span class="en-US">Number of pending write-behind records</span>
+	 * <span class="zh-CN">待处理的后写记录数量</span>
+	 */
+	long getOutboxPending();
 }
@@ -39,7 +39,7 @@ public final class DataSourceFactory implements ObjectFactory {
 	@Override
 	public Object getObjectInstance(final Object obj, final Name name, final Context nameCtx,
 	                                final Hashtable<?, ?> environment) throws Exception {
-		String jndiName = Globals.DEFAULT_VALUE_STRING;
+		String jndiName = Globals.DEFAULT_VALUE_STRING, recoveryLog = Globals.DEFAULT_VALUE_STRING;
 		boolean jmxEnabled = Boolean.FALSE, lazyInit = Boolean.FALSE;
 		DDLType ddlType = DDLType.NONE;
 
@@ -59,13 +59,16 @@ public final class DataSourceFactory implements ObjectFactory {
 				case BrainCommons.PROPERTY_DDL_TYPE_KEY:
 					ddlType = DDLType.valueOf((String) refAddr.getContent());
 					break;
+				case BrainCommons.PROPERTY_RECOVERY_LOG_KEY:
+					recoveryLog = (String) refAddr.getContent();
+					break;
 			}
 		}
 		if (StringUtils.isEmpty(jndiName)) {
 			jndiName = BrainCommons.DEFAULT_JNDI_NAME;
 		}
 
-		initialize(jndiName, jmxEnabled, lazyInit, ddlType, environment);
+		initialize(jndiName, jmxEnabled, lazyInit, ddlType, recoveryLog, environment);
 		return getInstance(jndiName, environment);
 	}
 
@@ -81,20 +84,27 @@ public final class DataSourceFactory implements ObjectFactory {
 	 *                    <span class="zh-CN">使用时再执行初始化操作</span>
 	 * @param ddlType     <span class="en-US">Enumeration value of DDL operate</span>
 	 *                    <span class="zh-CN">操作类型枚举值</span>
+	 * @param recoveryLog <span class="en-US">Recovery log file path of the coordinated transactional, the default path was generated by the JNDI name if empty</span>
+	 *                    <span class="zh-CN">协调事务的恢复日志文件路径，为空时根据JNDI名称生成默认路径</span>
 	 * @param environment <span class="en-US">Environment parameters</span>
 	 *                    <span class="zh-CN">环境变量</span>
 	 * @throws NamingException <span class="en-US">If an error occurs while reading or writing environment variables</span>
 	 *                         <span class="zh-CN">如果读取或写入环境变量时出错</span>
 	 */
 	public static void initialize(final String jndiName, final boolean jmxEnabled, final boolean lazyInit,
-	                              final DDLType ddlType, final Hashtable<?, ?> environment) throws NamingException {
+	                              final DDLType ddlType, final String recoveryLog,
+	                              final Hashtable<?, ?> environment) throws NamingException {
 		if (StringUtils.isEmpty(jndiName)) {
 			return;
 		}
 		Context context = new InitialContext(environment);
 		BrainDataSource dataSource = (BrainDataSource) context.lookup("java:comp/env/" + jndiName);
 		if (dataSource == null) {
-			dataSource = new BrainDataSource(jmxEnabled, lazyInit, ddlType);
+			//  Each data source owns its recovery log file, the file was locked exclusively when opened
+			String logPath = StringUtils.isEmpty(recoveryLog)
+					? String.format(BrainCommons.DEFAULT_RECOVERY_LOG, jndiName.replaceAll("[^\\w.-]", "_"))
+					: recoveryLog;
+			dataSource = new BrainDataSource(jmxEnabled, lazyInit, ddlType, logPath);
 			context.bind("java:comp/env/" + jndiName, dataSource);
 		}
 	}
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.brain.source;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.brain.configs.transactional.TransactionalConfig;
+import org.nervousync.brain.schemas.BaseSchema;
+import org.nervousync.brain.transactional.TransactionalParticipant;
+
+import java.util.List;
+
+/**
+ * <h2 class="en-US">Transactional participant of the data schema</h2>
+ * <p class="en-US">
+ *     The transactional resources were detached from the caller thread, and attached to the worker thread
+ *     of coordinator during each phase operation.
+ * </p>
+ * <h2 class="zh-CN">数据源的事务参与者</h2>
+ * <p class="zh-CN">
+ *     事务资源从调用线程分离，在每个阶段操作期间关联到协调器的工作线程。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 11:08:52 $
+ */
+final class SchemaParticipant implements TransactionalParticipant {
+
+	/**
+	 * <span class="en-US">Data schema name</span>
+	 * <span class="zh-CN">数据源名称</span>
+	 */
+	private final String schemaName;
+	/**
+	 * <span class="en-US">Data schema instance</span>
+	 * <span class="zh-CN">数据源实例对象</span>
+	 */
+	private final BaseSchema schema;
+	/**
+	 * <span class="en-US">Transactional configure information</span>
+	 * <span class="zh-CN">事务配置信息</span>
+	 */
+	private final TransactionalConfig transactionalConfig;
+	/**
+	 * <span class="en-US">Names of the resource branches of the schema</span>
+	 * <span class="zh-CN">数据源的资源分支名称</span>
+	 */
+	private final List<String> branchNames;
+	/**
+	 * <span class="en-US">Detached transactional resources</span>
+	 * <span class="zh-CN">分离的事务资源</span>
+	 */
+	private volatile Object resources;
+
+	/**
+	 * <h4 class="en-US">Constructor method for transactional participant of the data schema</h4>
+	 * <p class="en-US">
+	 *     The branch names were read before the transactional resources of current thread were detached.
+	 * </p>
+	 * <h4 class="zh-CN">数据源事务参与者的构造方法</h4>
+	 * <p class="zh-CN">
+	 *     在分离当前线程的事务资源之前读取分支名称。
+	 * </p>
+	 *
+	 * @param schemaName          <span class="en-US">Data schema name</span>
+	 *                            <span class="zh-CN">数据源名称</span>
+	 * @param schema              <span class="en-US">Data schema instance</span>
+	 *                            <span class="zh-CN">数据源实例对象</span>
+	 * @param transactionalConfig <span class="en-US">Transactional configure information</span>
+	 *                            <span class="zh-CN">事务配置信息</span>
+	 */
+	SchemaParticipant(@Nonnull final String schemaName, @Nonnull final BaseSchema schema,
+	                  final TransactionalConfig transactionalConfig) {
+		this.schemaName = schemaName;
+		this.schema = schema;
+		this.transactionalConfig = transactionalConfig;
+		this.branchNames = schema.branchNames();
+		this.resources = schema.suspendTransactional();
+	}
+
+	/**
+	 * <h4 class="en-US">Attach the transactional resources back to current thread</h4>
+	 * <h4 class="zh-CN">将事务资源重新关联到当前线程</h4>
+	 */
+	void restore() {
+		this.schema.resumeTransactional(this.transactionalConfig, this.resources);
+	}
+
+	@Override
+	public String participantName() {
+		return this.schemaName;
+	}
+
+	@Override
+	public List<String> branchNames() {
+		return this.branchNames;
+	}
+
+	@Override
+	public boolean preparable() {
+		return this.schema.supportPrepare();
+	}
+
+	@Override
+	public void prepare() throws Exception {
+		this.restore();
+		try {
+			this.schema.prepare();
+		} finally {
+			this.resources = this.schema.suspendTransactional();
+		}
+	}
+
+	@Override
+	public void commit() throws Exception {
+		this.restore();
+		try {
+			this.schema.commit();
+		} finally {
+			this.resources = this.schema.suspendTransactional();
+		}
+	}
+
+	@Override
+	public void rollback() throws Exception {
+		this.restore();
+		try {
+			this.schema.rollback();
+		} finally {
+			this.resources = this.schema.suspendTransactional();
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.brain.source;
+
+import org.nervousync.brain.configs.transactional.TransactionalConfig;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <h2 class="en-US">Transactional context of asynchronous operations</h2>
+ * <p class="en-US">
+ *     The context holds the transactional resources of each schema while no thread is using it,
+ *     so the asynchronous operations of the same transactional can be executed on any thread one by one.
+ * </p>
+ * <h2 class="zh-CN">异步操作的事务上下文</h2>
+ * <p class="zh-CN">
+ *     上下文在没有线程使用时保存各数据源的事务资源，使同一事务的异步操作可以在任意线程上依次执行。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 10:12:36 $
+ */
+public final class TransactionalContext {
+
+	/**
+	 * <span class="en-US">Transactional configure information</span>
+	 * <span class="zh-CN">事务配置信息</span>
+	 */
+	private final TransactionalConfig transactionalConfig;
+	/**
+	 * <span class="en-US">Detached transactional resources mapping, key is schema name</span>
+	 * <span class="zh-CN">分离的事务资源映射表，键值为数据源名称</span>
+	 */
+	private final Map<String, Object> suspendedResources = new HashMap<>();
+	/**
+	 * <span class="en-US">Lock instance to make the operations of context executed one by one</span>
+	 * <span class="zh-CN">使上下文的操作依次执行的锁实例</span>
+	 */
+	private final ReentrantLock lock = new ReentrantLock();
+	/**
+	 * <span class="en-US">Context closed status</span>
+	 * <span class="zh-CN">上下文关闭状态</span>
+	 */
+	private volatile boolean closed = Boolean.FALSE;
+
+	/**
+	 * <h4 class="en-US">Constructor method for transactional context</h4>
+	 * <h4 class="zh-CN">事务上下文的构造方法</h4>
+	 *
+	 * @param transactionalConfig <span class="en-US">Transactional configure information</span>
+	 *                            <span class="zh-CN">事务配置信息</span>
+	 */
+	TransactionalContext(final TransactionalConfig transactionalConfig) {
+		this.transactionalConfig = transactionalConfig;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for transactional configure information</h4>
+	 * <h4 class="zh-CN">事务配置信息的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Transactional configure information</span>
+	 * <span class="zh-CN">事务配置信息</span>
+	 */
+	public TransactionalConfig getTransactionalConfig() {
+		return this.transactionalConfig;
+	}
+
+	/**
+	 * <h4 class="en-US">Check the context was closed</h4>
+	 * <h4 class="zh-CN">检查上下文是否已关闭</h4>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	public boolean isClosed() {
+		return this.closed;
+	}
+
+	/**
+	 * <h4 class="en-US">Acquire the context lock</h4>
+	 * <h4 class="zh-CN">获取上下文锁</h4>
+	 */
+	void lock() {
+		this.lock.lock();
+	}
+
+	/**
+	 * <h4 class="en-US">Release the context lock</h4>
+	 * <h4 class="zh-CN">释放上下文锁</h4>
+	 */
+	void unlock() {
+		this.lock.unlock();
+	}
+
+	/**
+	 * <h4 class="en-US">Check the transactional resources of given schema was detached</h4>
+	 * <h4 class="zh-CN">检查给定数据源的事务资源是否已分离</h4>
+	 *
+	 * @param schemaName <span class="en-US">Data schema name</span>
+	 *                   <span class="zh-CN">数据源名称</span>
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	boolean suspended(final String schemaName) {
+		return this.suspendedResources.containsKey(schemaName);
+	}
+
+	/**
+	 * <h4 class="en-US">Read the schema names of detached transactional resources</h4>
+	 * <h4 class="zh-CN">读取已分离事务资源的数据源名称</h4>
+	 *
+	 * @return <span class="en-US">Schema name set</span>
+	 * <span class="zh-CN">数据源名称集合</span>
+	 */
+	Set<String> schemaNames() {
+		return Set.copyOf(this.suspendedResources.keySet());
+	}
+
+	/**
+	 * <h4 class="en-US">Read the detached transactional resources of given schema</h4>
+	 * <h4 class="zh-CN">读取给定数据源的分离事务资源</h4>
+	 *
+	 * @param schemaName <span class="en-US">Data schema name</span>
+	 *                   <span class="zh-CN">数据源名称</span>
+	 * @return <span class="en-US">Detached transactional resources</span>
+	 * <span class="zh-CN">分离的事务资源</span>
+	 */
+	Object resources(final String schemaName) {
+		return this.suspendedResources.get(schemaName);
+	}
+
+	/**
+	 * <h4 class="en-US">Save the detached transactional resources of given schema</h4>
+	 * <h4 class="zh-CN">保存给定数据源的分离事务资源</h4>
+	 *
+	 * @param schemaName <span class="en-US">Data schema name</span>
+	 *                   <span class="zh-CN">数据源名称</span>
+	 * @param resources  <span class="en-US">Detached transactional resources</span>
+	 *                   <span class="zh-CN">分离的事务资源</span>
+	 */
+	void suspend(final String schemaName, final Object resources) {
+		this.suspendedResources.put(schemaName, resources);
+	}
+
+	/**
+	 * <h4 class="en-US">Close current context</h4>
+	 * <h4 class="zh-CN">关闭当前上下文</h4>
+	 */
+	void close() {
+		this.suspendedResources.clear();
+		this.closed = Boolean.TRUE;
+	}
+}
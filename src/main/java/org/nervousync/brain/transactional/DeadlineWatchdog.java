@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.brain.transactional;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.utils.LoggerUtils;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2 class="en-US">Deadline watchdog of the transactional</h2>
+ * <p class="en-US">
+ *     Hashed timing wheel driven by a single scheduler thread which invokes the method tick periodically.
+ *     The deadlines were registered into a lock-free pending queue by any thread, and moved into the wheel slots
+ *     by the scheduler thread, so the wheel itself was never shared. Registering and cancelling cost constant time
+ *     regardless of the count of watched transactional, the cancelled deadlines were removed when their slots
+ *     were visited. The deadlines and ticks were measured by the monotonic clock, so adjusting the wall clock
+ *     never expires a transactional early or late.
+ * </p>
+ * <h2 class="zh-CN">事务的截止时间看门狗</h2>
+ * <p class="zh-CN">
+ *     由单一调度线程周期性调用tick方法驱动的哈希时间轮。任意线程将截止时间注册到无锁的待处理队列，
+ *     由调度线程移入时间轮槽位，时间轮本身不被共享。注册和取消的耗时与监视的事务数量无关，已取消的截止时间在访问其槽位时移除。
+ *     截止时间和时间刻度使用单调时钟计算，调整系统时间不会使事务提前或延迟超时。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 14:02:33 $
+ */
+public final class DeadlineWatchdog {
+
+	/**
+	 * <span class="en-US">Logger instance</span>
+	 * <span class="zh-CN">日志实例</span>
+	 */
+	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(DeadlineWatchdog.class);
+	/**
+	 * <span class="en-US">Slot count of the wheel, must be power of two</span>
+	 * <span class="zh-CN">时间轮的槽位数量，必须为2的幂</span>
+	 */
+	private static final int WHEEL_SIZE = 512;
+
+	/**
+	 * <span class="en-US">Tick duration (Unit: milliseconds)</span>
+	 * <span class="zh-CN">时间刻度（单位：毫秒）</span>
+	 */
+	private final long tickDuration;
+	/**
+	 * <span class="en-US">Tick duration (Unit: nanoseconds)</span>
+	 * <span class="zh-CN">时间刻度（单位：纳秒）</span>
+	 */
+	private final long tickNanos;
+	/**
+	 * <span class="en-US">Monotonic time of the watchdog created, the ticks were counted from it (Unit: nanoseconds)</span>
+	 * <span class="zh-CN">看门狗创建时的单调时间，时间刻度从该时间开始计数（单位：纳秒）</span>
+	 */
+	private final long originTime;
+	/**
+	 * <span class="en-US">Wheel slots, only accessed by the scheduler thread</span>
+	 * <span class="zh-CN">时间轮槽位，只由调度线程访问</span>
+	 */
+	private final Queue<Deadline>[] wheel;
+	/**
+	 * <span class="en-US">Deadlines registered but not moved into the wheel yet</span>
+	 * <span class="zh-CN">已注册但尚未移入时间轮的截止时间</span>
+	 */
+	private final Queue<Deadline> pendingQueue = new ConcurrentLinkedQueue<>();
+	/**
+	 * <span class="en-US">Next tick to process, only accessed by the scheduler thread</span>
+	 * <span class="zh-CN">下一个要处理的刻度，只由调度线程访问</span>
+	 */
+	private long currentTick;
+
+	/**
+	 * <h4 class="en-US">Constructor method for deadline watchdog</h4>
+	 * <h4 class="zh-CN">截止时间看门狗的构造方法</h4>
+	 *
+	 * @param tickDuration <span class="en-US">Tick duration (Unit: milliseconds)</span>
+	 *                     <span class="zh-CN">时间刻度（单位：毫秒）</span>
+	 */
+	@SuppressWarnings("unchecked")
+	public DeadlineWatchdog(final long tickDuration) {
+		this.tickDuration = tickDuration;
+		this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickDuration);
+		this.originTime = System.nanoTime();
+		this.wheel = new Queue[WHEEL_SIZE];
+		for (int i = 0; i < WHEEL_SIZE; i++) {
+			this.wheel[i] = new ArrayDeque<>();
+		}
+		this.currentTick = 0L;
+	}
+
+	/**
+	 * <h4 class="en-US">Getter method for tick duration</h4>
+	 * <h4 class="zh-CN">时间刻度的Getter方法</h4>
+	 *
+	 * @return <span class="en-US">Tick duration (Unit: milliseconds)</span>
+	 * <span class="zh-CN">时间刻度（单位：毫秒）</span>
+	 */
+	public long getTickDuration() {
+		return this.tickDuration;
+	}
+
+	/**
+	 * <h4 class="en-US">Watch the deadline</h4>
+	 * <h4 class="zh-CN">监视截止时间</h4>
+	 *
+	 * @param timeout      <span class="en-US">Timeout value (Unit: milliseconds)</span>
+	 *                     <span class="zh-CN">超时时间（单位：毫秒）</span>
+	 * @param expireAction <span class="en-US">Action invoked on the scheduler thread when the deadline passed,
+	 *                     the slow operations should be dispatched to other threads</span>
+	 *                     <span class="zh-CN">截止时间过后在调度线程上调用的操作，耗时操作应分派到其他线程</span>
+	 * @return <span class="en-US">Deadline instance</span>
+	 * <span class="zh-CN">截止时间实例对象</span>
+	 */
+	public Deadline watch(final long timeout, @Nonnull final Runnable expireAction) {
+		Deadline deadline = new Deadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout), expireAction);
+		this.pendingQueue.offer(deadline);
+		return deadline;
+	}
+
+	/**
+	 * <h4 class="en-US">Advance the wheel, must be invoked by the single scheduler thread every tick duration</h4>
+	 * <h4 class="zh-CN">推进时间轮，必须由单一调度线程每个时间刻度调用</h4>
+	 */
+	public void tick() {
+		long currentTime = System.nanoTime();
+		Deadline deadline;
+		while ((deadline = this.pendingQueue.poll()) != null) {
+			if (!deadline.cancelled) {
+				long deadlineTick =
+						Math.max((deadline.deadlineTime - this.originTime) / this.tickNanos, this.currentTick);
+				this.wheel[(int) (deadlineTick & (WHEEL_SIZE - 1))].offer(deadline);
+			}
+		}
+		//  Only the finished ticks were processed, the deadlines of them were all passed in current round
+		long targetTick = (currentTime - this.originTime) / this.tickNanos;
+		while (this.currentTick < targetTick) {
+			Iterator<Deadline> iterator = this.wheel[(int) (this.currentTick & (WHEEL_SIZE - 1))].iterator();
+			while (iterator.hasNext()) {
+				Deadline current = iterator.next();
+				if (current.cancelled) {
+					iterator.remove();
+				} else if (current.deadlineTime - currentTime <= 0L) {
+					iterator.remove();
+					try {
+						current.expire();
+					} catch (RuntimeException e) {
+						//  Keep the scheduler thread alive, the periodic task was suppressed if any error thrown
+						LOGGER.error("Deadline_Expire_Error");
+						if (LOGGER.isDebugEnabled()) {
+							LOGGER.debug("Stack_Message_Error", e);
+						}
+					}
+				}
+			}
+			this.currentTick++;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Deadline of the watched transactional</h2>
+	 * <h2 class="zh-CN">监视事务的截止时间</h2>
+	 */
+	public static final class Deadline {
+
+		/**
+		 * <span class="en-US">Deadline of the monotonic clock (Unit: nanoseconds)</span>
+		 * <span class="zh-CN">单调时钟的截止时间（单位：纳秒）</span>
+		 */
+		private final long deadlineTime;
+		/**
+		 * <span class="en-US">Action invoked when the deadline passed</span>
+		 * <span class="zh-CN">截止时间过后调用的操作</span>
+		 */
+		private final Runnable expireAction;
+		/**
+		 * <span class="en-US">The deadline was cancelled</span>
+		 * <span class="zh-CN">截止时间已取消</span>
+		 */
+		private volatile boolean cancelled = Boolean.FALSE;
+		/**
+		 * <span class="en-US">The deadline was passed</span>
+		 * <span class="zh-CN">截止时间已过</span>
+		 */
+		private volatile boolean expired = Boolean.FALSE;
+
+		/**
+		 * <h4 class="en-US">Constructor method for deadline</h4>
+		 * <h4 class="zh-CN">截止时间的构造方法</h4>
+		 *
+		 * @param deadlineTime <span class="en-US">Deadline of the monotonic clock (Unit: nanoseconds)</span>
+		 *                     <span class="zh-CN">单调时钟的截止时间（单位：纳秒）</span>
+		 * @param expireAction <span class="en-US">Action invoked when the deadline passed</span>
+		 *                     <span class="zh-CN">截止时间过后调用的操作</span>
+		 */
+		private Deadline(final long deadlineTime, @Nonnull final Runnable expireAction) {
+			this.deadlineTime = deadlineTime;
+			this.expireAction = expireAction;
+		}
+
+		/**
+		 * <h4 class="en-US">Cancel the deadline, the expire action will not be invoked</h4>
+		 * <h4 class="zh-CN">取消截止时间，过期操作将不被调用</h4>
+		 */
+		public void cancel() {
+			this.cancelled = Boolean.TRUE;
+		}
+
+		/**
+		 * <h4 class="en-US">Check the deadline was passed</h4>
+		 * <h4 class="zh-CN">检查截止时间是否已过</h4>
+		 *
+		 * @return <span class="en-US">Check result</span>
+		 * <span class="zh-CN">检查结果</span>
+		 */
+		public boolean expired() {
+			return this.expired;
+		}
+
+		/**
+		 * <h4 class="en-US">Mark the deadline was passed and invoke the expire action</h4>
+		 * <h4 class="zh-CN">标记截止时间已过并调用过期操作</h4>
+		 */
+		private void expire() {
+			this.expired = Boolean.TRUE;
+			this.expireAction.run();
+		}
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.brain.transactional;
+
+import org.nervousync.brain.enumerations.transactional.OutboxType;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.HashMap;
+
+/**
+ * <h2 class="en-US">Write-behind operation accepted by the outbox journal</h2>
+ * <h2 class="zh-CN">发件箱日志接受的后写操作</h2>
+ *
+ * @param idempotencyKey <span class="en-US">Idempotency key, the operation with the pending key was accepted only once</span>
+ *                       <span class="zh-CN">幂等键，具有待处理键值的操作只被接受一次</span>
+ * @param outboxType     <span class="en-US">Enumeration value of the write-behind operation</span>
+ *                       <span class="zh-CN">后写操作的枚举值</span>
+ * @param schemaName     <span class="en-US">Data schema name</span>
+ *                       <span class="zh-CN">数据源名称</span>
+ * @param tableName      <span class="en-US">Data table name</span>
+ *                       <span class="zh-CN">数据表名称</span>
+ * @param dataMap        <span class="en-US">Insert or update data mapping</span>
+ *                       <span class="zh-CN">插入或更新数据映射表</span>
+ * @param filterMap      <span class="en-US">Update or delete filter mapping</span>
+ *                       <span class="zh-CN">更新或删除条件映射表</span>
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 19:14:37 $
+ */
+public record OutboxEntry(String idempotencyKey, OutboxType outboxType, String schemaName, String tableName,
+                          HashMap<String, Serializable> dataMap, HashMap<String, Serializable> filterMap)
+		implements Serializable {
+
+	/**
+	 * <span class="en-US">Serial version UID</span>
+	 * <span class="zh-CN">序列化UID</span>
+	 */
+	@Serial
+	private static final long serialVersionUID = 7310294685521387743L;
+}
@@ -0,0 +1,702 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.brain.transactional;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.brain.enumerations.transactional.OutboxType;
+import org.nervousync.brain.exceptions.sql.MultilingualSQLException;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * <h2 class="en-US">Append-only journal of the write-behind outbox</h2>
+ * <p class="en-US">
+ *     The journal was written to the memory-mapped segment files in the given directory, each record was stored as
+ *     the payload length, the CRC32 checksum and the payload, the torn record at the tail will be ignored when
+ *     replaying. The accepted record was forced to the storage before the write was acknowledged, the applied record
+ *     was not forced, the write will be applied again if the applied record was lost. A new segment was created
+ *     when the current segment was full, the oldest segments were deleted when all their writes were applied.
+ *     The writes can never be applied were moved to the dead-letter file instead of marked applied.
+ *     The accepted records were read back with the serialization filter, only the write-behind operation and the
+ *     supported column value types can be deserialized. The write contains other value types was rejected when
+ *     accepting, the replayed record rejected by the filter was moved to the dead-letter file.
+ * </p>
+ * <h2 class="zh-CN">后写发件箱的追加式日志</h2>
+ * <p class="zh-CN">
+ *     日志写入给定目录中的内存映射分段文件，每条记录保存为载荷长度、CRC32校验值和载荷，重放时忽略尾部不完整的记录。
+ *     接受记录在确认写入前强制写入存储，已应用记录不强制写入，已应用记录丢失时写入将被再次应用。
+ *     当前分段写满时创建新的分段，最旧的分段在其所有写入都已应用后删除。永远无法应用的写入被移入死信文件，而不是标记为已应用。
+ *     读取接受记录时使用序列化过滤器，只能反序列化后写操作和支持的数据列值类型。包含其他值类型的写入在接受时被拒绝，
+ *     重放时被过滤器拒绝的记录被移入死信文件。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 19:21:43 $
+ */
+public final class OutboxJournal implements Closeable {
+
+	/**
+	 * <span class="en-US">Record type of write accepted, contains the serialized write-behind operation</span>
+	 * <span class="zh-CN">写入已接受的记录类型，包含序列化的后写操作</span>
+	 */
+	private static final byte RECORD_ACCEPT = 1;
+	/**
+	 * <span class="en-US">Record type of write applied, contains the idempotency key</span>
+	 * <span class="zh-CN">写入已应用的记录类型，包含幂等键</span>
+	 */
+	private static final byte RECORD_APPLIED = 2;
+	/**
+	 * <span class="en-US">Record type of write moved to the dead-letter file, contains the idempotency key</span>
+	 * <span class="zh-CN">写入已移入死信文件的记录类型，包含幂等键</span>
+	 */
+	private static final byte RECORD_DEAD = 3;
+	/**
+	 * <span class="en-US">Record header length, includes payload length and checksum</span>
+	 * <span class="zh-CN">记录头长度，包含载荷长度和校验值</span>
+	 */
+	private static final int HEADER_LENGTH = Integer.BYTES * 2;
+	/**
+	 * <span class="en-US">File name prefix of segment file</span>
+	 * <span class="zh-CN">分段文件的文件名前缀</span>
+	 */
+	private static final String SEGMENT_PREFIX = "outbox-";
+	/**
+	 * <span class="en-US">File name suffix of segment file</span>
+	 * <span class="zh-CN">分段文件的文件名后缀</span>
+	 */
+	private static final String SEGMENT_SUFFIX = ".journal";
+	/**
+	 * <span class="en-US">File name of dead-letter file</span>
+	 * <span class="zh-CN">死信文件的文件名</span>
+	 */
+	private static final String DEAD_LETTER_FILE = "dead-letter.journal";
+	/**
+	 * <span class="en-US">Serialization filter of the accepted records</span>
+	 * <span class="zh-CN">接受记录的序列化过滤器</span>
+	 */
+	private static final ObjectInputFilter ENTRY_FILTER = ObjectInputFilter.Config.createFilter(String.join(";",
+			"maxdepth=8", OutboxEntry.class.getName(), OutboxType.class.getName(), "java.lang.Enum",
+			"java.util.HashMap", "java.util.Map$Entry", "java.lang.String", "java.lang.Boolean",
+			"java.lang.Character", "java.lang.Number", "java.lang.Byte", "java.lang.Short", "java.lang.Integer",
+			"java.lang.Long", "java.lang.Float", "java.lang.Double", "java.math.BigInteger", "java.math.BigDecimal",
+			"java.util.Date", "java.util.UUID", "java.sql.Date", "java.sql.Time", "java.sql.Timestamp",
+			"java.time.*", "!*"));
+
+	/**
+	 * <span class="en-US">Journal directory path</span>
+	 * <span class="zh-CN">日志目录路径</span>
+	 */
+	private final Path journalPath;
+	/**
+	 * <span class="en-US">Mapped size of segment file</span>
+	 * <span class="zh-CN">分段文件的映射大小</span>
+	 */
+	private final int segmentSize;
+	/**
+	 * <span class="en-US">Writes not applied yet in the accepted order, key is idempotency key</span>
+	 * <span class="zh-CN">按接受顺序保存的尚未应用的写入，键值为幂等键</span>
+	 */
+	private final Map<String, PendingRecord> pendingRecords = new LinkedHashMap<>();
+	/**
+	 * <span class="en-US">Number of writes not applied yet in each segment, key is segment identify</span>
+	 * <span class="zh-CN">各分段中尚未应用的写入数量，键值为分段标识</span>
+	 */
+	private final TreeMap<Long, Integer> segmentCounts = new TreeMap<>();
+	/**
+	 * <span class="en-US">Identify of the segment being written</span>
+	 * <span class="zh-CN">正在写入的分段标识</span>
+	 */
+	private long activeSegment = 0L;
+	/**
+	 * <span class="en-US">Opened file channel of the segment being written</span>
+	 * <span class="zh-CN">正在写入的分段的文件通道</span>
+	 */
+	private FileChannel fileChannel;
+	/**
+	 * <span class="en-US">Mapped buffer of the segment being written</span>
+	 * <span class="zh-CN">正在写入的分段的映射缓冲区</span>
+	 */
+	private MappedByteBuffer mappedBuffer;
+	/**
+	 * <span class="en-US">Position of next record</span>
+	 * <span class="zh-CN">下一条记录的位置</span>
+	 */
+	private int writePosition = 0;
+	/**
+	 * <span class="en-US">Opened file channel of dead-letter file, opened when the first write was moved</span>
+	 * <span class="zh-CN">死信文件的文件通道，在第一条写入被移入时打开</span>
+	 */
+	private FileChannel deadChannel = null;
+	/**
+	 * <span class="en-US">Lock of writing and reading the journal, the virtual threads waiting for forcing the records do not pin the carrier threads</span>
+	 * <span class="zh-CN">写入和读取日志的锁，等待记录强制写入的虚拟线程不会占用载体线程</span>
+	 */
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/**
+	 * <h4 class="en-US">Constructor method for outbox journal, the existing segments will be replayed</h4>
+	 * <h4 class="zh-CN">发件箱日志的构造方法，已存在的分段将被重放</h4>
+	 *
+	 * @param journalPath <span class="en-US">Journal directory path</span>
+	 *                    <span class="zh-CN">日志目录路径</span>
+	 * @param segmentSize <span class="en-US">Mapped size of segment file</span>
+	 *                    <span class="zh-CN">分段文件的映射大小</span>
+	 * @throws IOException <span class="en-US">If an error occurs while opening the segment files</span>
+	 *                     <span class="zh-CN">如果打开分段文件时出错</span>
+	 */
+	public OutboxJournal(@Nonnull final String journalPath, final int segmentSize) throws IOException {
+		this.journalPath = Path.of(journalPath);
+		this.segmentSize = segmentSize;
+		Files.createDirectories(this.journalPath);
+		List<Long> segmentList = new ArrayList<>();
+		try (Stream<Path> stream = Files.list(this.journalPath)) {
+			stream.map(path -> path.getFileName().toString())
+					.filter(fileName -> fileName.startsWith(SEGMENT_PREFIX) && fileName.endsWith(SEGMENT_SUFFIX))
+					.map(fileName ->
+							fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length()))
+					.forEach(segmentId -> {
+						try {
+							segmentList.add(Long.parseLong(segmentId, 16));
+						} catch (NumberFormatException ignored) {
+							//  Not a segment file
+						}
+					});
+		}
+		Collections.sort(segmentList);
+		for (Long segmentId : segmentList) {
+			this.activeSegment = segmentId;
+			this.map(segmentId);
+			this.writePosition = this.replay(segmentId);
+			if (segmentId < segmentList.get(segmentList.size() - 1)) {
+				this.fileChannel.close();
+			}
+		}
+		if (segmentList.isEmpty()) {
+			this.map(this.activeSegment);
+		}
+		this.segmentCounts.putIfAbsent(this.activeSegment, 0);
+		this.purge();
+	}
+
+	/**
+	 * <h4 class="en-US">Accept the write, the record was forced to the storage</h4>
+	 * <h4 class="zh-CN">接受写入，记录将被强制写入存储</h4>
+	 *
+	 * @param outboxEntry <span class="en-US">Write-behind operation</span>
+	 *                    <span class="zh-CN">后写操作</span>
+	 * @return <span class="en-US">true if the write was accepted, false if the write with same idempotency key was pending</span>
+	 * <span class="zh-CN">写入被接受时返回true，具有相同幂等键的写入待处理时返回false</span>
+	 * @throws IOException  <span class="en-US">If an error occurs while writing the segment file</span>
+	 *                      <span class="zh-CN">如果写入分段文件时出错</span>
+	 * @throws SQLException <span class="en-US">If the journal was closed, the record exceeds the segment size or the write contains the unsupported column value type</span>
+	 *                      <span class="zh-CN">如果日志已关闭、记录超过分段大小或写入包含不支持的数据列值类型</span>
+	 */
+	public boolean accept(@Nonnull final OutboxEntry outboxEntry) throws IOException, SQLException {
+		byte[] payload = serialize(outboxEntry);
+		//  Read back through the serialization filter, so the acknowledged write can always be replayed
+		if (deserialize(payload) == null) {
+			throw new MultilingualSQLException(0x00DB00000046L, outboxEntry.idempotencyKey());
+		}
+		this.lock.lock();
+		try {
+			if (this.pendingRecords.containsKey(outboxEntry.idempotencyKey())) {
+				return Boolean.FALSE;
+			}
+			this.append(record(payload), Boolean.TRUE);
+			this.pendingRecords.put(outboxEntry.idempotencyKey(),
+					new PendingRecord(outboxEntry, this.activeSegment, Boolean.FALSE));
+			this.segmentCounts.merge(this.activeSegment, 1, Integer::sum);
+			return Boolean.TRUE;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Read the pending writes matching the given filter in the accepted order</h4>
+	 * <h4 class="zh-CN">按接受顺序读取匹配给定过滤条件的待处理写入</h4>
+	 *
+	 * @param limitSize <span class="en-US">Maximum number of the writes</span>
+	 *                  <span class="zh-CN">写入的最大数量</span>
+	 * @param filter    <span class="en-US">Filter of the writes, the writes not matched were skipped</span>
+	 *                  <span class="zh-CN">写入的过滤条件，不匹配的写入被跳过</span>
+	 * @return <span class="en-US">Pending write list</span>
+	 * <span class="zh-CN">待处理的写入列表</span>
+	 */
+	public List<PendingRecord> pending(final int limitSize, @Nonnull final Predicate<OutboxEntry> filter) {
+		this.lock.lock();
+		try {
+			return this.pendingRecords.values()
+					.stream()
+					.filter(pendingRecord -> filter.test(pendingRecord.outboxEntry()))
+					.limit(limitSize)
+					.toList();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Mark the given writes were applied, the oldest segments were deleted if all writes were applied</h4>
+	 * <h4 class="zh-CN">标记给定的写入已应用，最旧的分段在所有写入已应用后删除</h4>
+	 *
+	 * @param idempotencyKeys <span class="en-US">Idempotency keys of the applied writes</span>
+	 *                        <span class="zh-CN">已应用写入的幂等键</span>
+	 * @throws IOException  <span class="en-US">If an error occurs while writing the segment file</span>
+	 *                      <span class="zh-CN">如果写入分段文件时出错</span>
+	 * @throws SQLException <span class="en-US">If the journal was closed</span>
+	 *                      <span class="zh-CN">如果日志已关闭</span>
+	 */
+	public void applied(@Nonnull final Collection<String> idempotencyKeys)
+			throws IOException, SQLException {
+		this.lock.lock();
+		try {
+			this.remove(RECORD_APPLIED, idempotencyKeys);
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Move the given writes which can never be applied to the dead-letter file</h4>
+	 * <p class="en-US">
+	 *     The writes were forced to the dead-letter file before they were removed from the journal,
+	 *     the oldest segments were deleted if all writes were applied or moved.
+	 * </p>
+	 * <h4 class="zh-CN">将给定的永远无法应用的写入移入死信文件</h4>
+	 * <p class="zh-CN">
+	 *     写入在从日志中移除前强制写入死信文件，最旧的分段在所有写入已应用或移出后删除。
+	 * </p>
+	 *
+	 * @param idempotencyKeys <span class="en-US">Idempotency keys of the writes</span>
+	 *                        <span class="zh-CN">写入的幂等键</span>
+	 * @throws IOException  <span class="en-US">If an error occurs while writing the dead-letter file or segment file</span>
+	 *                      <span class="zh-CN">如果写入死信文件或分段文件时出错</span>
+	 * @throws SQLException <span class="en-US">If the journal was closed</span>
+	 *                      <span class="zh-CN">如果日志已关闭</span>
+	 */
+	public void deadLetter(@Nonnull final Collection<String> idempotencyKeys)
+			throws IOException, SQLException {
+		this.lock.lock();
+		try {
+			if (this.fileChannel == null) {
+				throw new MultilingualSQLException(0x00DB0000003EL);
+			}
+			for (String idempotencyKey : idempotencyKeys) {
+				PendingRecord pendingRecord = this.pendingRecords.get(idempotencyKey);
+				if (pendingRecord != null) {
+					this.writeDead(serialize(pendingRecord.outboxEntry()));
+				}
+			}
+			if (this.deadChannel != null) {
+				this.deadChannel.force(Boolean.FALSE);
+			}
+			this.remove(RECORD_DEAD, idempotencyKeys);
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Read the writes moved to the dead-letter file in the moved order</h4>
+	 * <h4 class="zh-CN">按移入顺序读取已移入死信文件的写入</h4>
+	 *
+	 * @return <span class="en-US">Write-behind operation list</span>
+	 * <span class="zh-CN">后写操作列表</span>
+	 * @throws IOException <span class="en-US">If an error occurs while reading the dead-letter file</span>
+	 *                     <span class="zh-CN">如果读取死信文件时出错</span>
+	 */
+	public List<OutboxEntry> deadLetters() throws IOException {
+		this.lock.lock();
+		try {
+			Path deadPath = this.journalPath.resolve(DEAD_LETTER_FILE);
+			List<OutboxEntry> entryList = new ArrayList<>();
+			if (Files.exists(deadPath)) {
+				parse(ByteBuffer.wrap(Files.readAllBytes(deadPath)), entryList);
+			}
+			return entryList;
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Get the number of pending writes</h4>
+	 * <h4 class="zh-CN">获取待处理写入的数量</h4>
+	 *
+	 * @return <span class="en-US">Number of pending writes</span>
+	 * <span class="zh-CN">待处理写入的数量</span>
+	 */
+	public int size() {
+		this.lock.lock();
+		try {
+			return this.pendingRecords.size();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.lock.lock();
+		try {
+			if (this.deadChannel != null) {
+				this.deadChannel.close();
+				this.deadChannel = null;
+			}
+			if (this.fileChannel != null) {
+				this.mappedBuffer.force();
+				this.fileChannel.close();
+				this.fileChannel = null;
+			}
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Remove the given writes from the journal by writing the given type records</h4>
+	 * <h4 class="zh-CN">通过写入给定类型的记录从日志中移除给定的写入</h4>
+	 *
+	 * @param recordType      <span class="en-US">Record type, applied or dead</span>
+	 *                        <span class="zh-CN">记录类型，已应用或死信</span>
+	 * @param idempotencyKeys <span class="en-US">Idempotency keys of the writes</span>
+	 *                        <span class="zh-CN">写入的幂等键</span>
+	 * @throws IOException  <span class="en-US">If an error occurs while writing the segment file</span>
+	 *                      <span class="zh-CN">如果写入分段文件时出错</span>
+	 * @throws SQLException <span class="en-US">If the journal was closed</span>
+	 *                      <span class="zh-CN">如果日志已关闭</span>
+	 */
+	private void remove(final byte recordType, @Nonnull final Collection<String> idempotencyKeys)
+			throws IOException, SQLException {
+		for (String idempotencyKey : idempotencyKeys) {
+			PendingRecord pendingRecord = this.pendingRecords.get(idempotencyKey);
+			if (pendingRecord != null) {
+				byte[] keyBytes = idempotencyKey.getBytes(StandardCharsets.UTF_8);
+				this.append(record(ByteBuffer.allocate(Byte.BYTES + keyBytes.length)
+						.put(recordType)
+						.put(keyBytes)
+						.array()), Boolean.FALSE);
+				this.pendingRecords.remove(idempotencyKey);
+				this.segmentCounts.computeIfPresent(pendingRecord.segmentId(), (key, count) -> count - 1);
+			}
+		}
+		this.purge();
+	}
+
+	/**
+	 * <h4 class="en-US">Write the accepted record to the dead-letter file, the file was opened when the first write was moved</h4>
+	 * <h4 class="zh-CN">将接受记录写入死信文件，文件在第一条写入被移入时打开</h4>
+	 *
+	 * @param payload <span class="en-US">Payload bytes of accepted record</span>
+	 *                <span class="zh-CN">接受记录的载荷字节数组</span>
+	 * @throws IOException <span class="en-US">If an error occurs while writing the dead-letter file</span>
+	 *                     <span class="zh-CN">如果写入死信文件时出错</span>
+	 */
+	private void writeDead(@Nonnull final byte[] payload) throws IOException {
+		if (this.deadChannel == null) {
+			Path deadPath = this.journalPath.resolve(DEAD_LETTER_FILE);
+			this.deadChannel = FileChannel.open(deadPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+			//  The torn record at the tail was truncated, so the later records will not be hidden behind it
+			this.deadChannel.truncate(parse(ByteBuffer.wrap(Files.readAllBytes(deadPath)), new ArrayList<>()));
+			this.deadChannel.position(this.deadChannel.size());
+		}
+		ByteBuffer byteBuffer = ByteBuffer.wrap(record(payload));
+		while (byteBuffer.hasRemaining()) {
+			this.deadChannel.write(byteBuffer);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Open and map the given segment file</h4>
+	 * <h4 class="zh-CN">打开并映射给定的分段文件</h4>
+	 *
+	 * @param segmentId <span class="en-US">Segment identify</span>
+	 *                  <span class="zh-CN">分段标识</span>
+	 * @throws IOException <span class="en-US">If an error occurs while opening the segment file</span>
+	 *                     <span class="zh-CN">如果打开分段文件时出错</span>
+	 */
+	private void map(final long segmentId) throws IOException {
+		this.fileChannel = FileChannel.open(this.segmentPath(segmentId),
+				StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		this.mappedBuffer = this.fileChannel.map(FileChannel.MapMode.READ_WRITE, 0L, this.segmentSize);
+	}
+
+	/**
+	 * <h4 class="en-US">Generate the segment file path</h4>
+	 * <h4 class="zh-CN">生成分段文件路径</h4>
+	 *
+	 * @param segmentId <span class="en-US">Segment identify</span>
+	 *                  <span class="zh-CN">分段标识</span>
+	 * @return <span class="en-US">Segment file path</span>
+	 * <span class="zh-CN">分段文件路径</span>
+	 */
+	private Path segmentPath(final long segmentId) {
+		return this.journalPath.resolve(String.format("%s%016x%s", SEGMENT_PREFIX, segmentId, SEGMENT_SUFFIX));
+	}
+
+	/**
+	 * <h4 class="en-US">Replay the records of mapped segment, the replay stops at the first empty or torn record</h4>
+	 * <p class="en-US">
+	 *     The accepted record with valid checksum but rejected by the serialization filter was moved to the
+	 *     dead-letter file, the later records of the segment were still replayed.
+	 * </p>
+	 * <h4 class="zh-CN">重放已映射分段的记录，在第一条空记录或不完整的记录处停止</h4>
+	 * <p class="zh-CN">
+	 *     校验值有效但被序列化过滤器拒绝的接受记录被移入死信文件，分段中之后的记录仍然被重放。
+	 * </p>
+	 *
+	 * @param segmentId <span class="en-US">Segment identify</span>
+	 *                  <span class="zh-CN">分段标识</span>
+	 * @return <span class="en-US">Position after the last valid record</span>
+	 * <span class="zh-CN">最后一条有效记录之后的位置</span>
+	 * @throws IOException <span class="en-US">If an error occurs while writing the dead-letter file</span>
+	 *                     <span class="zh-CN">如果写入死信文件时出错</span>
+	 */
+	private int replay(final long segmentId) throws IOException {
+		this.segmentCounts.putIfAbsent(segmentId, 0);
+		int position = 0;
+		while (position + HEADER_LENGTH <= this.segmentSize) {
+			int length = this.mappedBuffer.getInt(position);
+			if (length <= 0 || length > this.segmentSize - position - HEADER_LENGTH) {
+				break;
+			}
+			byte[] payload = new byte[length];
+			this.mappedBuffer.get(position + HEADER_LENGTH, payload);
+			if (this.mappedBuffer.getInt(position + Integer.BYTES) != checksum(payload)) {
+				break;
+			}
+			switch (payload[0]) {
+				case RECORD_ACCEPT:
+					OutboxEntry outboxEntry = deserialize(payload);
+					if (outboxEntry == null) {
+						//  Forced before the segment could be purged
+						this.writeDead(payload);
+						this.deadChannel.force(Boolean.FALSE);
+						break;
+					}
+					this.pendingRecords.put(outboxEntry.idempotencyKey(),
+							new PendingRecord(outboxEntry, segmentId, Boolean.TRUE));
+					this.segmentCounts.merge(segmentId, 1, Integer::sum);
+					break;
+				case RECORD_APPLIED:
+				case RECORD_DEAD:
+					PendingRecord pendingRecord = this.pendingRecords.remove(
+							new String(payload, Byte.BYTES, length - Byte.BYTES, StandardCharsets.UTF_8));
+					if (pendingRecord != null) {
+						this.segmentCounts.computeIfPresent(pendingRecord.segmentId(), (key, count) -> count - 1);
+					}
+					break;
+			}
+			position += HEADER_LENGTH + length;
+		}
+		return position;
+	}
+
+	/**
+	 * <h4 class="en-US">Append the record to the journal, create a new segment if no enough space</h4>
+	 * <h4 class="zh-CN">将记录追加到日志，空间不足时创建新的分段</h4>
+	 *
+	 * @param record <span class="en-US">Record bytes</span>
+	 *               <span class="zh-CN">记录字节数组</span>
+	 * @param force  <span class="en-US">Force the record to the storage</span>
+	 *               <span class="zh-CN">强制写入存储</span>
+	 * @throws IOException  <span class="en-US">If an error occurs while writing the segment file</span>
+	 *                      <span class="zh-CN">如果写入分段文件时出错</span>
+	 * @throws SQLException <span class="en-US">If the journal was closed or the record exceeds the segment size</span>
+	 *                      <span class="zh-CN">如果日志已关闭或记录超过分段大小</span>
+	 */
+	private void append(@Nonnull final byte[] record, final boolean force) throws IOException, SQLException {
+		if (this.fileChannel == null) {
+			throw new MultilingualSQLException(0x00DB0000003EL);
+		}
+		if (record.length > this.segmentSize) {
+			throw new MultilingualSQLException(0x00DB0000003DL, record.length, this.segmentSize);
+		}
+		if (this.writePosition + record.length > this.segmentSize) {
+			this.mappedBuffer.force();
+			this.fileChannel.close();
+			this.activeSegment++;
+			this.map(this.activeSegment);
+			this.segmentCounts.putIfAbsent(this.activeSegment, 0);
+			this.writePosition = 0;
+		}
+		this.mappedBuffer.put(this.writePosition, record);
+		if (force) {
+			this.mappedBuffer.force(this.writePosition, record.length);
+		}
+		this.writePosition += record.length;
+	}
+
+	/**
+	 * <h4 class="en-US">Delete the oldest segments whose writes were all applied</h4>
+	 * <p class="en-US">
+	 *     The segments were deleted in order, the applied records were always written to the same or later segment,
+	 *     so the deleted writes will not be replayed again.
+	 * </p>
+	 * <h4 class="zh-CN">删除所有写入都已应用的最旧分段</h4>
+	 * <p class="zh-CN">
+	 *     分段按顺序删除，已应用记录总是写入相同或之后的分段，因此已删除的写入不会被再次重放。
+	 * </p>
+	 *
+	 * @throws IOException <span class="en-US">If an error occurs while deleting the segment file</span>
+	 *                     <span class="zh-CN">如果删除分段文件时出错</span>
+	 */
+	private void purge() throws IOException {
+		while (!this.segmentCounts.isEmpty()) {
+			Map.Entry<Long, Integer> entry = this.segmentCounts.firstEntry();
+			if (entry.getKey() == this.activeSegment || entry.getValue() > 0) {
+				break;
+			}
+			Files.deleteIfExists(this.segmentPath(entry.getKey()));
+			this.segmentCounts.pollFirstEntry();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Serialize the write-behind operation to the payload of accepted record</h4>
+	 * <h4 class="zh-CN">将后写操作序列化为接受记录的载荷</h4>
+	 *
+	 * @param outboxEntry <span class="en-US">Write-behind operation</span>
+	 *                    <span class="zh-CN">后写操作</span>
+	 * @return <span class="en-US">Payload bytes, the first byte is the record type</span>
+	 * <span class="zh-CN">载荷字节数组，第一个字节为记录类型</span>
+	 * @throws IOException <span class="en-US">If the write-behind operation could not be serialized</span>
+	 *                     <span class="zh-CN">如果后写操作无法序列化</span>
+	 */
+	private static byte[] serialize(@Nonnull final OutboxEntry outboxEntry) throws IOException {
+		ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		byteArrayOutputStream.write(RECORD_ACCEPT);
+		try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+			objectOutputStream.writeObject(outboxEntry);
+		}
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	/**
+	 * <h4 class="en-US">Deserialize the write-behind operation from the payload of accepted record by the serialization filter</h4>
+	 * <h4 class="zh-CN">使用序列化过滤器从接受记录的载荷反序列化后写操作</h4>
+	 *
+	 * @param payload <span class="en-US">Payload bytes, the first byte is the record type</span>
+	 *                <span class="zh-CN">载荷字节数组，第一个字节为记录类型</span>
+	 * @return <span class="en-US">Write-behind operation, null if the payload was invalid or rejected by the filter</span>
+	 * <span class="zh-CN">后写操作，载荷无效或被过滤器拒绝时为null</span>
+	 */
+	private static OutboxEntry deserialize(@Nonnull final byte[] payload) {
+		try (ObjectInputStream objectInputStream = new ObjectInputStream(
+				new ByteArrayInputStream(payload, Byte.BYTES, payload.length - Byte.BYTES))) {
+			objectInputStream.setObjectInputFilter(ENTRY_FILTER);
+			return (OutboxEntry) objectInputStream.readObject();
+		} catch (IOException | ClassNotFoundException | ClassCastException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Parse the accepted records of the dead-letter file, the parse stops at the first torn record</h4>
+	 * <p class="en-US">The record rejected by the serialization filter was kept in the file but not parsed.</p>
+	 * <h4 class="zh-CN">解析死信文件的接受记录，在第一条不完整的记录处停止</h4>
+	 * <p class="zh-CN">被序列化过滤器拒绝的记录保留在文件中，但不被解析。</p>
+	 *
+	 * @param byteBuffer <span class="en-US">Content of the dead-letter file</span>
+	 *                   <span class="zh-CN">死信文件的内容</span>
+	 * @param entryList  <span class="en-US">Write-behind operation list to add the parsed writes</span>
+	 *                   <span class="zh-CN">用于添加已解析写入的后写操作列表</span>
+	 * @return <span class="en-US">Position after the last valid record</span>
+	 * <span class="zh-CN">最后一条有效记录之后的位置</span>
+	 */
+	private static int parse(@Nonnull final ByteBuffer byteBuffer, @Nonnull final List<OutboxEntry> entryList) {
+		int position = 0;
+		while (position + HEADER_LENGTH <= byteBuffer.limit()) {
+			int length = byteBuffer.getInt(position);
+			if (length <= 0 || length > byteBuffer.limit() - position - HEADER_LENGTH) {
+				break;
+			}
+			byte[] payload = new byte[length];
+			byteBuffer.get(position + HEADER_LENGTH, payload);
+			if (byteBuffer.getInt(position + Integer.BYTES) != checksum(payload) || payload[0] != RECORD_ACCEPT) {
+				break;
+			}
+			OutboxEntry outboxEntry = deserialize(payload);
+			if (outboxEntry != null) {
+				entryList.add(outboxEntry);
+			}
+			position += HEADER_LENGTH + length;
+		}
+		return position;
+	}
+
+	/**
+	 * <h4 class="en-US">Generate the record bytes, includes header and payload</h4>
+	 * <h4 class="zh-CN">生成记录字节数组，包含记录头和载荷</h4>
+	 *
+	 * @param payload <span class="en-US">Payload bytes, the first byte is the record type</span>
+	 *                <span class="zh-CN">载荷字节数组，第一个字节为记录类型</span>
+	 * @return <span class="en-US">Record bytes</span>
+	 * <span class="zh-CN">记录字节数组</span>
+	 */
+	private static byte[] record(@Nonnull final byte[] payload) {
+		return ByteBuffer.allocate(HEADER_LENGTH + payload.length)
+				.putInt(payload.length)
+				.putInt(checksum(payload))
+				.put(payload)
+				.array();
+	}
+
+	/**
+	 * <h4 class="en-US">Calculate the CRC32 checksum of given payload</h4>
+	 * <h4 class="zh-CN">计算给定载荷的CRC32校验值</h4>
+	 *
+	 * @param payload <span class="en-US">Payload bytes</span>
+	 *                <span class="zh-CN">载荷字节数组</span>
+	 * @return <span class="en-US">Checksum value</span>
+	 * <span class="zh-CN">校验值</span>
+	 */
+	private static int checksum(@Nonnull final byte[] payload) {
+		CRC32 crc32 = new CRC32();
+		crc32.update(payload);
+		return (int) crc32.getValue();
+	}
+
+	/**
+	 * <h2 class="en-US">Write not applied yet</h2>
+	 * <h2 class="zh-CN">尚未应用的写入</h2>
+	 *
+	 * @param outboxEntry <span class="en-US">Write-behind operation</span>
+	 *                    <span class="zh-CN">后写操作</span>
+	 * @param segmentId   <span class="en-US">Identify of the segment contains the accepted record</span>
+	 *                    <span class="zh-CN">包含接受记录的分段标识</span>
+	 * @param recovered   <span class="en-US">The record was replayed from the segment file when opening</span>
+	 *                    <span class="zh-CN">记录在打开时从分段文件重放</span>
+	 */
+	public record PendingRecord(OutboxEntry outboxEntry, long segmentId, boolean recovered) {
+	}
+}
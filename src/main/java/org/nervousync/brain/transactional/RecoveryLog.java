@@ -0,0 +1,580 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.brain.transactional;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.brain.exceptions.sql.MultilingualSQLException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * <h2 class="en-US">Append-only recovery log of the coordinated transactional</h2>
+ * <p class="en-US">
+ *     The log was written to a memory-mapped file, each record was stored as the payload length, the CRC32 checksum
+ *     and the payload, the torn record at the tail will be ignored when replaying. The begin record contains the
+ *     participant names and the resource branch names of each participant, e.g. the server and sharding database
+ *     of each prepared connection, so the branches could be found again when recovering. The begin record and the commit
+ *     decision record were forced to the storage before the participants were prepared or submitted.
+ *     The finished transactional records were removed by compacting to a new file when the log was full.
+ *     The lock file beside the log was locked exclusively while the log was opened, so the log file will not be
+ *     shared by multiple data sources.
+ * </p>
+ * <h2 class="zh-CN">协调事务的追加式恢复日志</h2>
+ * <p class="zh-CN">
+ *     日志写入内存映射文件，每条记录保存为载荷长度、CRC32校验值和载荷，重放时忽略尾部不完整的记录。
+ *     开始记录包含参与者名称及各参与者的资源分支名称（例如每个预提交连接的服务器和分片数据库），以便恢复时再次找到各分支。
+ *     开始记录和提交决定记录在参与者预提交或提交前强制写入存储。日志写满时通过压缩到新文件移除已完成的事务记录。
+ *     日志打开期间独占锁定日志旁的锁文件，因此日志文件不会被多个数据源共享。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 09:26:18 $
+ */
+public final class RecoveryLog implements Closeable {
+
+	/**
+	 * <span class="en-US">Record type of transactional begin, contains the participant names and branch names</span>
+	 * <span class="zh-CN">事务开始的记录类型，包含参与者名称和分支名称</span>
+	 */
+	private static final byte RECORD_BEGIN = 1;
+	/**
+	 * <span class="en-US">Record type of transactional commit decision</span>
+	 * <span class="zh-CN">事务提交决定的记录类型</span>
+	 */
+	private static final byte RECORD_COMMIT = 2;
+	/**
+	 * <span class="en-US">Record type of transactional finished</span>
+	 * <span class="zh-CN">事务完成的记录类型</span>
+	 */
+	private static final byte RECORD_END = 3;
+	/**
+	 * <span class="en-US">Record header length, includes payload length and checksum</span>
+	 * <span class="zh-CN">记录头长度，包含载荷长度和校验值</span>
+	 */
+	private static final int HEADER_LENGTH = Integer.BYTES * 2;
+	/**
+	 * <span class="en-US">File name suffix of compacting log</span>
+	 * <span class="zh-CN">压缩中日志的文件名后缀</span>
+	 */
+	private static final String COMPACT_SUFFIX = ".compact";
+	/**
+	 * <span class="en-US">File name suffix of lock file</span>
+	 * <span class="zh-CN">锁文件的文件名后缀</span>
+	 */
+	private static final String LOCK_SUFFIX = ".lock";
+
+	/**
+	 * <span class="en-US">Log file path</span>
+	 * <span class="zh-CN">日志文件路径</span>
+	 */
+	private final Path logPath;
+	/**
+	 * <span class="en-US">Mapped size of log file</span>
+	 * <span class="zh-CN">日志文件的映射大小</span>
+	 */
+	private final int logSize;
+	/**
+	 * <span class="en-US">Transactional records not finished yet, key is transactional code</span>
+	 * <span class="zh-CN">尚未完成的事务记录，键值为事务代码</span>
+	 */
+	private final Map<Long, LogRecord> activeRecords = new LinkedHashMap<>();
+	/**
+	 * <span class="en-US">Opened lock file channel</span>
+	 * <span class="zh-CN">打开的锁文件通道</span>
+	 */
+	private final FileChannel lockChannel;
+	/**
+	 * <span class="en-US">Exclusive lock of the lock file</span>
+	 * <span class="zh-CN">锁文件的独占锁</span>
+	 */
+	private final FileLock fileLock;
+	/**
+	 * <span class="en-US">Opened log file channel</span>
+	 * <span class="zh-CN">打开的日志文件通道</span>
+	 */
+	private FileChannel fileChannel;
+	/**
+	 * <span class="en-US">Mapped buffer of log file</span>
+	 * <span class="zh-CN">日志文件的映射缓冲区</span>
+	 */
+	private MappedByteBuffer mappedBuffer;
+	/**
+	 * <span class="en-US">Position of next record</span>
+	 * <span class="zh-CN">下一条记录的位置</span>
+	 */
+	private int writePosition = 0;
+
+	/**
+	 * <h4 class="en-US">Constructor method for recovery log, the existing records will be replayed and compacted</h4>
+	 * <h4 class="zh-CN">恢复日志的构造方法，已存在的记录将被重放并压缩</h4>
+	 *
+	 * @param logPath <span class="en-US">Log file path</span>
+	 *                <span class="zh-CN">日志文件路径</span>
+	 * @param logSize <span class="en-US">Mapped size of log file</span>
+	 *                <span class="zh-CN">日志文件的映射大小</span>
+	 * @throws IOException  <span class="en-US">If an error occurs while opening the log file</span>
+	 *                      <span class="zh-CN">如果打开日志文件时出错</span>
+	 * @throws SQLException <span class="en-US">If the log file was locked by others</span>
+	 *                      <span class="zh-CN">如果日志文件已被其他程序锁定</span>
+	 */
+	public RecoveryLog(@Nonnull final String logPath, final int logSize) throws IOException, SQLException {
+		this.logPath = Path.of(logPath);
+		this.logSize = logSize;
+		this.lockChannel = FileChannel.open(Path.of(logPath + LOCK_SUFFIX),
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+		FileLock fileLock;
+		try {
+			fileLock = this.lockChannel.tryLock();
+		} catch (IOException | OverlappingFileLockException e) {
+			//  Overlapping lock means the log was opened by another data source of current process
+			fileLock = null;
+		}
+		if (fileLock == null) {
+			this.lockChannel.close();
+			throw new MultilingualSQLException(0x00DB00000041L, logPath);
+		}
+		this.fileLock = fileLock;
+		try {
+			this.map(this.logPath);
+			this.replay();
+			this.compact();
+		} catch (IOException e) {
+			this.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Write the begin record of transactional, the record was forced to the storage</h4>
+	 * <h4 class="zh-CN">写入事务开始记录，记录将被强制写入存储</h4>
+	 *
+	 * @param transactionalCode <span class="en-US">Transactional identify code</span>
+	 *                          <span class="zh-CN">事务识别代码</span>
+	 * @param participantBranches <span class="en-US">Participant branches mapping, key is participant name, value is the branch names of participant</span>
+	 *                            <span class="zh-CN">参与者分支映射表，键值为参与者名称，值为参与者的分支名称</span>
+	 * @param lastResource        <span class="en-US">The transactional has the last resource submitted in one phase</span>
+	 *                            <span class="zh-CN">事务包含一阶段提交的最后资源</span>
+	 * @throws IOException  <span class="en-US">If an error occurs while writing the log file</span>
+	 *                      <span class="zh-CN">如果写入日志文件时出错</span>
+	 * @throws SQLException <span class="en-US">If the log is full</span>
+	 *                      <span class="zh-CN">如果日志已满</span>
+	 */
+	public synchronized void begin(final long transactionalCode,
+	                               @Nonnull final Map<String, ? extends Collection<String>> participantBranches,
+	                               final boolean lastResource) throws IOException, SQLException {
+		this.append(record(RECORD_BEGIN, transactionalCode, participantBranches, lastResource), Boolean.TRUE);
+		this.activeRecords.put(transactionalCode, new LogRecord(participantBranches, lastResource, Boolean.FALSE));
+	}
+
+	/**
+	 * <h4 class="en-US">Write the commit decision record of transactional, the record was forced to the storage</h4>
+	 * <h4 class="zh-CN">写入事务提交决定记录，记录将被强制写入存储</h4>
+	 *
+	 * @param transactionalCode <span class="en-US">Transactional identify code</span>
+	 *                          <span class="zh-CN">事务识别代码</span>
+	 * @throws IOException  <span class="en-US">If an error occurs while writing the log file</span>
+	 *                      <span class="zh-CN">如果写入日志文件时出错</span>
+	 * @throws SQLException <span class="en-US">If the log is full</span>
+	 *                      <span class="zh-CN">如果日志已满</span>
+	 */
+	public synchronized void commit(final long transactionalCode) throws IOException, SQLException {
+		this.append(record(RECORD_COMMIT, transactionalCode, Map.of(), Boolean.FALSE), Boolean.TRUE);
+		Optional.ofNullable(this.activeRecords.get(transactionalCode)).ifPresent(LogRecord::decideCommit);
+	}
+
+	/**
+	 * <h4 class="en-US">Write the finished record of transactional</h4>
+	 * <p class="en-US">
+	 *     The record was not forced, the transactional will be recovered again if the record was lost,
+	 *     and recovering the finished transactional takes no effect.
+	 * </p>
+	 * <h4 class="zh-CN">写入事务完成记录</h4>
+	 * <p class="zh-CN">
+	 *     记录不强制写入，记录丢失时事务将被再次恢复，恢复已完成的事务不产生影响。
+	 * </p>
+	 *
+	 * @param transactionalCode <span class="en-US">Transactional identify code</span>
+	 *                          <span class="zh-CN">事务识别代码</span>
+	 * @throws IOException  <span class="en-US">If an error occurs while writing the log file</span>
+	 *                      <span class="zh-CN">如果写入日志文件时出错</span>
+	 * @throws SQLException <span class="en-US">If the log is full</span>
+	 *                      <span class="zh-CN">如果日志已满</span>
+	 */
+	public synchronized void end(final long transactionalCode) throws IOException, SQLException {
+		if (this.activeRecords.remove(transactionalCode) != null) {
+			this.append(record(RECORD_END, transactionalCode, Map.of(), Boolean.FALSE), Boolean.FALSE);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Read the in-doubt transactional recovered from the log file which contains given participant</h4>
+	 * <h4 class="zh-CN">读取从日志文件恢复的包含给定参与者的未决事务</h4>
+	 *
+	 * @param participantName <span class="en-US">Participant name</span>
+	 *                        <span class="zh-CN">参与者名称</span>
+	 * @return <span class="en-US">In-doubt transactional mapping, key is transactional code, value is commit decision, null if the last resource was submitted before the decision was logged so the outcome is unknown</span>
+	 * <span class="zh-CN">未决事务映射表，键值为事务代码，值为提交决定，最后资源在决定记录前已提交导致结果未知时为null</span>
+	 */
+	public synchronized Map<Long, Boolean> inDoubt(@Nonnull final String participantName) {
+		Map<Long, Boolean> inDoubtMap = new LinkedHashMap<>();
+		this.activeRecords.forEach((transactionalCode, logRecord) -> {
+			if (logRecord.recovered && logRecord.participantBranches.containsKey(participantName)) {
+				inDoubtMap.put(transactionalCode,
+						(logRecord.committed || !logRecord.lastResource) ? logRecord.committed : null);
+			}
+		});
+		return inDoubtMap;
+	}
+
+	/**
+	 * <h4 class="en-US">Read the branch names of given participant in the transactional</h4>
+	 * <h4 class="zh-CN">读取事务中给定参与者的分支名称</h4>
+	 *
+	 * @param transactionalCode <span class="en-US">Transactional identify code</span>
+	 *                          <span class="zh-CN">事务识别代码</span>
+	 * @param participantName   <span class="en-US">Participant name</span>
+	 *                          <span class="zh-CN">参与者名称</span>
+	 * @return <span class="en-US">Branch names in the logged order, empty list if not found</span>
+	 * <span class="zh-CN">按记录顺序的分支名称，未找到时为空列表</span>
+	 */
+	public synchronized List<String> branchNames(final long transactionalCode, @Nonnull final String participantName) {
+		return Optional.ofNullable(this.activeRecords.get(transactionalCode))
+				.map(logRecord -> logRecord.participantBranches.get(participantName))
+				.map(List::copyOf)
+				.orElse(List.of());
+	}
+
+	/**
+	 * <h4 class="en-US">Mark the given participant of the in-doubt transactional was recovered</h4>
+	 * <h4 class="zh-CN">标记未决事务的给定参与者已恢复</h4>
+	 *
+	 * @param transactionalCode <span class="en-US">Transactional identify code</span>
+	 *                          <span class="zh-CN">事务识别代码</span>
+	 * @param participantName   <span class="en-US">Participant name</span>
+	 *                          <span class="zh-CN">参与者名称</span>
+	 * @throws IOException  <span class="en-US">If an error occurs while writing the log file</span>
+	 *                      <span class="zh-CN">如果写入日志文件时出错</span>
+	 * @throws SQLException <span class="en-US">If the log is full</span>
+	 *                      <span class="zh-CN">如果日志已满</span>
+	 */
+	public synchronized void recovered(final long transactionalCode, @Nonnull final String participantName)
+			throws IOException, SQLException {
+		LogRecord logRecord = this.activeRecords.get(transactionalCode);
+		if (logRecord != null) {
+			logRecord.participantBranches.remove(participantName);
+			if (logRecord.participantBranches.isEmpty()) {
+				this.end(transactionalCode);
+			}
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		try {
+			if (this.fileChannel != null) {
+				if (this.mappedBuffer != null) {
+					this.mappedBuffer.force();
+				}
+				this.fileChannel.close();
+				this.fileChannel = null;
+			}
+		} finally {
+			if (this.lockChannel.isOpen()) {
+				this.fileLock.release();
+				this.lockChannel.close();
+			}
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Open and map the given log file</h4>
+	 * <h4 class="zh-CN">打开并映射给定的日志文件</h4>
+	 *
+	 * @param filePath <span class="en-US">Log file path</span>
+	 *                 <span class="zh-CN">日志文件路径</span>
+	 * @throws IOException <span class="en-US">If an error occurs while opening the log file</span>
+	 *                     <span class="zh-CN">如果打开日志文件时出错</span>
+	 */
+	private void map(@Nonnull final Path filePath) throws IOException {
+		this.fileChannel = FileChannel.open(filePath,
+				StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		this.mappedBuffer = this.fileChannel.map(FileChannel.MapMode.READ_WRITE, 0L, this.logSize);
+	}
+
+	/**
+	 * <h4 class="en-US">Replay the records of log file, the replay stops at the first empty or torn record</h4>
+	 * <h4 class="zh-CN">重放日志文件的记录，在第一条空记录或不完整的记录处停止</h4>
+	 */
+	private void replay() {
+		int position = 0;
+		while (position + HEADER_LENGTH <= this.logSize) {
+			int length = this.mappedBuffer.getInt(position);
+			if (length <= 0 || length > this.logSize - position - HEADER_LENGTH) {
+				break;
+			}
+			byte[] payload = new byte[length];
+			this.mappedBuffer.get(position + HEADER_LENGTH, payload);
+			if (this.mappedBuffer.getInt(position + Integer.BYTES) != checksum(payload)) {
+				break;
+			}
+			ByteBuffer byteBuffer = ByteBuffer.wrap(payload);
+			byte recordType = byteBuffer.get();
+			long transactionalCode = byteBuffer.getLong();
+			switch (recordType) {
+				case RECORD_BEGIN:
+					int count = byteBuffer.getShort();
+					Map<String, List<String>> participantBranches = new LinkedHashMap<>();
+					for (int i = 0; i < count; i++) {
+						String participantName = read(byteBuffer);
+						int branchCount = byteBuffer.getShort();
+						List<String> branchNames = new ArrayList<>(branchCount);
+						for (int j = 0; j < branchCount; j++) {
+							branchNames.add(read(byteBuffer));
+						}
+						participantBranches.put(participantName, branchNames);
+					}
+					boolean lastResource = byteBuffer.get() != 0;
+					this.activeRecords.put(transactionalCode,
+							new LogRecord(participantBranches, lastResource, Boolean.TRUE));
+					break;
+				case RECORD_COMMIT:
+					Optional.ofNullable(this.activeRecords.get(transactionalCode)).ifPresent(LogRecord::decideCommit);
+					break;
+				case RECORD_END:
+					this.activeRecords.remove(transactionalCode);
+					break;
+			}
+			position += HEADER_LENGTH + length;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Append the record to the log, compact the log if no enough space</h4>
+	 * <h4 class="zh-CN">将记录追加到日志，空间不足时压缩日志</h4>
+	 *
+	 * @param record <span class="en-US">Record bytes</span>
+	 *               <span class="zh-CN">记录字节数组</span>
+	 * @param force  <span class="en-US">Force the record to the storage</span>
+	 *               <span class="zh-CN">强制写入存储</span>
+	 * @throws IOException  <span class="en-US">If an error occurs while writing the log file</span>
+	 *                      <span class="zh-CN">如果写入日志文件时出错</span>
+	 * @throws SQLException <span class="en-US">If the log is full</span>
+	 *                      <span class="zh-CN">如果日志已满</span>
+	 */
+	private void append(@Nonnull final byte[] record, final boolean force) throws IOException, SQLException {
+		if (this.fileChannel == null) {
+			return;
+		}
+		if (this.writePosition + record.length > this.logSize) {
+			this.compact();
+			if (this.writePosition + record.length > this.logSize) {
+				throw new MultilingualSQLException(0x00DB00000037L, this.logPath);
+			}
+		}
+		this.mappedBuffer.put(this.writePosition, record);
+		if (force) {
+			this.mappedBuffer.force(this.writePosition, record.length);
+		}
+		this.writePosition += record.length;
+	}
+
+	/**
+	 * <h4 class="en-US">Compact the log, the active records were written to a new file which replaces the log file</h4>
+	 * <h4 class="zh-CN">压缩日志，活动记录写入替换日志文件的新文件</h4>
+	 *
+	 * @throws IOException <span class="en-US">If an error occurs while writing the log file</span>
+	 *                     <span class="zh-CN">如果写入日志文件时出错</span>
+	 */
+	private void compact() throws IOException {
+		Path compactPath = Path.of(this.logPath + COMPACT_SUFFIX);
+		Files.deleteIfExists(compactPath);
+		int position = 0;
+		try (FileChannel compactChannel = FileChannel.open(compactPath,
+				StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			MappedByteBuffer compactBuffer = compactChannel.map(FileChannel.MapMode.READ_WRITE, 0L, this.logSize);
+			for (Map.Entry<Long, LogRecord> entry : this.activeRecords.entrySet()) {
+				LogRecord logRecord = entry.getValue();
+				byte[] record =
+						record(RECORD_BEGIN, entry.getKey(), logRecord.participantBranches, logRecord.lastResource);
+				compactBuffer.put(position, record);
+				position += record.length;
+				if (logRecord.committed) {
+					record = record(RECORD_COMMIT, entry.getKey(), Map.of(), Boolean.FALSE);
+					compactBuffer.put(position, record);
+					position += record.length;
+				}
+			}
+			compactBuffer.force();
+		}
+		this.fileChannel.close();
+		Files.move(compactPath, this.logPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		this.map(this.logPath);
+		this.writePosition = position;
+	}
+
+	/**
+	 * <h4 class="en-US">Generate the record bytes, includes header and payload</h4>
+	 * <h4 class="zh-CN">生成记录字节数组，包含记录头和载荷</h4>
+	 *
+	 * @param recordType        <span class="en-US">Record type</span>
+	 *                          <span class="zh-CN">记录类型</span>
+	 * @param transactionalCode <span class="en-US">Transactional identify code</span>
+	 *                          <span class="zh-CN">事务识别代码</span>
+	 * @param participantBranches <span class="en-US">Participant branches mapping, only written in begin record</span>
+	 *                            <span class="zh-CN">参与者分支映射表，仅写入开始记录</span>
+	 * @param lastResource        <span class="en-US">The transactional has the last resource, only written in begin record</span>
+	 *                            <span class="zh-CN">事务包含最后资源，仅写入开始记录</span>
+	 * @return <span class="en-US">Record bytes</span>
+	 * <span class="zh-CN">记录字节数组</span>
+	 */
+	private static byte[] record(final byte recordType, final long transactionalCode,
+	                             @Nonnull final Map<String, ? extends Collection<String>> participantBranches,
+	                             final boolean lastResource) {
+		int length = Byte.BYTES + Long.BYTES;
+		Map<byte[], List<byte[]>> branchBytes = new LinkedHashMap<>();
+		if (recordType == RECORD_BEGIN) {
+			length += Short.BYTES + Byte.BYTES;
+			for (Map.Entry<String, ? extends Collection<String>> entry : participantBranches.entrySet()) {
+				byte[] nameBytes = entry.getKey().getBytes(StandardCharsets.UTF_8);
+				List<byte[]> branchList = new ArrayList<>();
+				length += Short.BYTES * 2 + nameBytes.length;
+				for (String branchName : entry.getValue()) {
+					byte[] bytes = branchName.getBytes(StandardCharsets.UTF_8);
+					branchList.add(bytes);
+					length += Short.BYTES + bytes.length;
+				}
+				branchBytes.put(nameBytes, branchList);
+			}
+		}
+		ByteBuffer payload = ByteBuffer.allocate(length);
+		payload.put(recordType).putLong(transactionalCode);
+		if (recordType == RECORD_BEGIN) {
+			payload.putShort((short) branchBytes.size());
+			branchBytes.forEach((nameBytes, branchList) -> {
+				payload.putShort((short) nameBytes.length).put(nameBytes).putShort((short) branchList.size());
+				branchList.forEach(bytes -> payload.putShort((short) bytes.length).put(bytes));
+			});
+			payload.put(lastResource ? (byte) 1 : (byte) 0);
+		}
+		return ByteBuffer.allocate(HEADER_LENGTH + length)
+				.putInt(length)
+				.putInt(checksum(payload.array()))
+				.put(payload.array())
+				.array();
+	}
+
+	/**
+	 * <h4 class="en-US">Read the string stored as the length and the UTF-8 bytes</h4>
+	 * <h4 class="zh-CN">读取以长度和UTF-8字节存储的字符串</h4>
+	 *
+	 * @param byteBuffer <span class="en-US">Payload buffer</span>
+	 *                   <span class="zh-CN">载荷缓冲区</span>
+	 * @return <span class="en-US">Read string</span>
+	 * <span class="zh-CN">读取的字符串</span>
+	 */
+	private static String read(@Nonnull final ByteBuffer byteBuffer) {
+		byte[] bytes = new byte[byteBuffer.getShort()];
+		byteBuffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * <h4 class="en-US">Calculate the CRC32 checksum of given payload</h4>
+	 * <h4 class="zh-CN">计算给定载荷的CRC32校验值</h4>
+	 *
+	 * @param payload <span class="en-US">Payload bytes</span>
+	 *                <span class="zh-CN">载荷字节数组</span>
+	 * @return <span class="en-US">Checksum value</span>
+	 * <span class="zh-CN">校验值</span>
+	 */
+	private static int checksum(@Nonnull final byte[] payload) {
+		CRC32 crc32 = new CRC32();
+		crc32.update(payload);
+		return (int) crc32.getValue();
+	}
+
+	/**
+	 * <h2 class="en-US">Record of the transactional not finished yet</h2>
+	 * <h2 class="zh-CN">尚未完成的事务记录</h2>
+	 */
+	private static final class LogRecord {
+
+		/**
+		 * <span class="en-US">Branch names of the participants not recovered yet, key is participant name</span>
+		 * <span class="zh-CN">尚未恢复的参与者的分支名称，键值为参与者名称</span>
+		 */
+		private final Map<String, List<String>> participantBranches;
+		/**
+		 * <span class="en-US">The transactional has the last resource submitted in one phase</span>
+		 * <span class="zh-CN">事务包含一阶段提交的最后资源</span>
+		 */
+		private final boolean lastResource;
+		/**
+		 * <span class="en-US">The record was replayed from the log file when opening</span>
+		 * <span class="zh-CN">记录在打开时从日志文件重放</span>
+		 */
+		private final boolean recovered;
+		/**
+		 * <span class="en-US">The commit decision was made</span>
+		 * <span class="zh-CN">已作出提交决定</span>
+		 */
+		private boolean committed = Boolean.FALSE;
+
+		/**
+		 * <h4 class="en-US">Constructor method for record of the transactional</h4>
+		 * <h4 class="zh-CN">事务记录的构造方法</h4>
+		 *
+		 * @param participantBranches <span class="en-US">Participant branches mapping, key is participant name</span>
+		 *                            <span class="zh-CN">参与者分支映射表，键值为参与者名称</span>
+		 * @param lastResource        <span class="en-US">The transactional has the last resource submitted in one phase</span>
+		 *                            <span class="zh-CN">事务包含一阶段提交的最后资源</span>
+		 * @param recovered           <span class="en-US">The record was replayed from the log file when opening</span>
+		 *                            <span class="zh-CN">记录在打开时从日志文件重放</span>
+		 */
+		LogRecord(@Nonnull final Map<String, ? extends Collection<String>> participantBranches,
+		          final boolean lastResource, final boolean recovered) {
+			this.participantBranches = new LinkedHashMap<>();
+			participantBranches.forEach((participantName, branchNames) ->
+					this.participantBranches.put(participantName, List.copyOf(branchNames)));
+			this.lastResource = lastResource;
+			this.recovered = recovered;
+		}
+
+		/**
+		 * <h4 class="en-US">Mark the commit decision was made</h4>
+		 * <h4 class="zh-CN">标记已作出提交决定</h4>
+		 */
+		void decideCommit() {
+			this.committed = Boolean.TRUE;
+		}
+	}
+}
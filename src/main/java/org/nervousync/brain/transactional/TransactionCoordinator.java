@@ -0,0 +1,463 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.brain.transactional;
+
+import jakarta.annotation.Nonnull;
+import org.nervousync.brain.exceptions.sql.MultilingualSQLException;
+import org.nervousync.brain.schemas.BaseSchema;
+import org.nervousync.utils.LoggerUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <h2 class="en-US">Coordinator of the transactional across multiple participants</h2>
+ * <p class="en-US">
+ *     The participants supporting prepare were prepared and submitted in parallel. One participant not supporting
+ *     prepare was submitted in one phase as the last resource after all others were prepared, its outcome is the
+ *     commit decision, so the prepared participants were never rolled back once the last resource was submitted.
+ *     The transactional has more than one participant not supporting prepare was submitted in best effort only,
+ *     the participants after the last resource were submitted after the decision and cannot be rolled back.
+ *     The begin record and commit decision were written to the recovery log, the in-doubt transactional
+ *     will be recovered by the schema when the schema was initialized.
+ * </p>
+ * <h2 class="zh-CN">跨多个参与者的事务协调器</h2>
+ * <p class="zh-CN">
+ *     支持预提交的参与者并行预提交和提交。一个不支持预提交的参与者作为最后资源在其他参与者全部预提交后一阶段提交，
+ *     其结果即为提交决定，最后资源提交后不再回滚已预提交的参与者。包含多个不支持预提交参与者的事务仅尽力提交，
+ *     最后资源之后的参与者在作出决定后提交且无法回滚。开始记录和提交决定写入恢复日志，未决事务在数据源初始化时由数据源恢复。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 10:03:45 $
+ */
+public final class TransactionCoordinator implements Closeable {
+
+	/**
+	 * <span class="en-US">Logger instance</span>
+	 * <span class="zh-CN">日志实例</span>
+	 */
+	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(TransactionCoordinator.class);
+
+	/**
+	 * <span class="en-US">Executor of participant operations</span>
+	 * <span class="zh-CN">参与者操作的执行器</span>
+	 */
+	private final Executor executor;
+	/**
+	 * <span class="en-US">Recovery log file path</span>
+	 * <span class="zh-CN">恢复日志文件路径</span>
+	 */
+	private final String logPath;
+	/**
+	 * <span class="en-US">Mapped size of recovery log file</span>
+	 * <span class="zh-CN">恢复日志文件的映射大小</span>
+	 */
+	private final int logSize;
+	/**
+	 * <span class="en-US">Lock of opening and closing the recovery log</span>
+	 * <span class="zh-CN">打开和关闭恢复日志的锁</span>
+	 */
+	private final ReentrantLock logLock = new ReentrantLock();
+	/**
+	 * <span class="en-US">Recovery log instance, opened when the first participant supporting prepare was coordinated</span>
+	 * <span class="zh-CN">恢复日志实例对象，在协调第一个支持预提交的参与者时打开</span>
+	 */
+	private volatile RecoveryLog recoveryLog = null;
+
+	/**
+	 * <h4 class="en-US">Constructor method for transactional coordinator</h4>
+	 * <h4 class="zh-CN">事务协调器的构造方法</h4>
+	 *
+	 * @param logPath  <span class="en-US">Recovery log file path</span>
+	 *                 <span class="zh-CN">恢复日志文件路径</span>
+	 * @param logSize  <span class="en-US">Mapped size of recovery log file</span>
+	 *                 <span class="zh-CN">恢复日志文件的映射大小</span>
+	 * @param executor <span class="en-US">Executor of participant operations</span>
+	 *                 <span class="zh-CN">参与者操作的执行器</span>
+	 */
+	public TransactionCoordinator(@Nonnull final String logPath, final int logSize, @Nonnull final Executor executor) {
+		this.executor = executor;
+		this.logPath = logPath;
+		this.logSize = logSize;
+	}
+
+	/**
+	 * <h4 class="en-US">Submit the transactional of given participants by two-phase commit</h4>
+	 * <p class="en-US">
+	 *     The participants supporting prepare were prepared first, then the first participant not supporting prepare
+	 *     was submitted as the last resource. Any failure before the last resource was submitted rolls back all
+	 *     participants, and the begin record was kept if any participant failed to rollback, so the participant
+	 *     still prepared will be rolled back when recovering. After that the commit decision was made: the decision record was written, the prepared
+	 *     participants were submitted, and the remaining participants not supporting prepare were submitted in best
+	 *     effort. If the decision record could not be written, the prepared participants were still submitted and
+	 *     the failed ones were left in-doubt.
+	 * </p>
+	 * <h4 class="zh-CN">使用两阶段提交提交给定参与者的事务</h4>
+	 * <p class="zh-CN">
+	 *     首先预提交支持预提交的参与者，然后将第一个不支持预提交的参与者作为最后资源提交。最后资源提交前的任何失败都将回滚所有参与者，任一参与者回滚失败时保留开始记录，仍处于预提交状态的参与者在恢复时回滚。
+	 *     之后即已作出提交决定：写入决定记录，提交已预提交的参与者，并尽力提交其余不支持预提交的参与者。
+	 *     如果决定记录无法写入，仍然提交已预提交的参与者，失败的参与者保持未决状态。
+	 * </p>
+	 *
+	 * @param transactionalCode <span class="en-US">Transactional identify code</span>
+	 *                          <span class="zh-CN">事务识别代码</span>
+	 * @param participants      <span class="en-US">Participants of transactional</span>
+	 *                          <span class="zh-CN">事务的参与者</span>
+	 * @throws Exception <span class="en-US">If the transactional was rolled back, or some participants not supporting prepare failed after the commit decision</span>
+	 *                   <span class="zh-CN">如果事务已回滚，或部分不支持预提交的参与者在作出提交决定后失败</span>
+	 */
+	public void commit(final long transactionalCode,
+	                   @Nonnull final List<? extends TransactionalParticipant> participants) throws Exception {
+		List<TransactionalParticipant> preparedList = new ArrayList<>();
+		List<TransactionalParticipant> onePhaseList = new ArrayList<>();
+		Map<String, List<String>> participantBranches = new LinkedHashMap<>();
+		for (TransactionalParticipant participant : participants) {
+			if (participant.preparable()) {
+				preparedList.add(participant);
+			} else {
+				onePhaseList.add(participant);
+			}
+			participantBranches.computeIfAbsent(participant.participantName(), key -> new ArrayList<>())
+					.addAll(participant.branchNames());
+		}
+		if (onePhaseList.size() > 1) {
+			LOGGER.warn("Best_Effort_Transactional_Warn", transactionalCode, onePhaseList.size());
+		}
+
+		RecoveryLog currentLog = null;
+		try {
+			if (!preparedList.isEmpty()) {
+				currentLog = this.recoveryLog(Boolean.TRUE);
+				currentLog.begin(transactionalCode, participantBranches, !onePhaseList.isEmpty());
+			}
+			this.prepare(preparedList);
+			if (onePhaseList.isEmpty()) {
+				if (currentLog != null) {
+					currentLog.commit(transactionalCode);
+				}
+			} else {
+				//  The outcome of the last resource is the commit decision
+				onePhaseList.get(0).commit();
+			}
+		} catch (Exception e) {
+			try {
+				this.complete(participants, Boolean.FALSE);
+				this.end(currentLog, transactionalCode);
+			} catch (Exception ex) {
+				//  The participants failed to rollback may still be prepared, keep the record to resolve them when recovering
+				LOGGER.warn("In_Doubt_Transactional_Warn", transactionalCode);
+				e.addSuppressed(ex);
+			}
+			throw e;
+		}
+
+		boolean logged = (currentLog == null || onePhaseList.isEmpty());
+		if (!logged) {
+			try {
+				currentLog.commit(transactionalCode);
+				logged = Boolean.TRUE;
+			} catch (Exception e) {
+				//  The last resource was submitted, the prepared participants must not be rolled back
+				LOGGER.error("Recovery_Log_Write_Error", transactionalCode);
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Stack_Message_Error", e);
+				}
+			}
+		}
+		Exception heuristic = null;
+		for (int i = 1; i < onePhaseList.size(); i++) {
+			TransactionalParticipant participant = onePhaseList.get(i);
+			try {
+				participant.commit();
+			} catch (Exception e) {
+				LOGGER.error("Heuristic_Transactional_Warn", participant.participantName(), transactionalCode);
+				if (heuristic == null) {
+					heuristic = new MultilingualSQLException(0x00DB00000042L, transactionalCode);
+				}
+				heuristic.addSuppressed(e);
+			}
+		}
+		try {
+			this.complete(preparedList, Boolean.TRUE);
+			if (logged) {
+				this.end(currentLog, transactionalCode);
+			}
+		} catch (Exception e) {
+			//  The failed participants were left in-doubt, and submitted or resolved when recovering
+			LOGGER.warn("In_Doubt_Transactional_Warn", transactionalCode);
+		}
+		if (heuristic != null) {
+			throw heuristic;
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Prepare the transactional of given participants in parallel</h4>
+	 * <h4 class="zh-CN">并行预提交给定参与者的事务</h4>
+	 *
+	 * @param participants <span class="en-US">Participants of transactional</span>
+	 *                     <span class="zh-CN">事务的参与者</span>
+	 * @throws Exception <span class="en-US">If any participant failed to prepare</span>
+	 *                   <span class="zh-CN">如果任一参与者预提交失败</span>
+	 */
+	public void prepare(@Nonnull final List<? extends TransactionalParticipant> participants) throws Exception {
+		this.execute(participants, participant -> {
+			try {
+				participant.prepare();
+			} catch (Exception e) {
+				LOGGER.error("Prepare_Transactional_Error", participant.participantName());
+				throw e;
+			}
+		});
+	}
+
+	/**
+	 * <h4 class="en-US">Submit or rollback the transactional of given participants in parallel</h4>
+	 * <p class="en-US">
+	 *     All participants were completed even if some of them failed, the first error will be thrown.
+	 * </p>
+	 * <h4 class="zh-CN">并行提交或回滚给定参与者的事务</h4>
+	 * <p class="zh-CN">
+	 *     即使部分参与者失败，所有参与者都将被完成，抛出第一个错误。
+	 * </p>
+	 *
+	 * @param participants <span class="en-US">Participants of transactional</span>
+	 *                     <span class="zh-CN">事务的参与者</span>
+	 * @param commit       <span class="en-US">Submit the transactional, or rollback if false</span>
+	 *                     <span class="zh-CN">提交事务，为false时回滚</span>
+	 * @throws Exception <span class="en-US">If any participant failed</span>
+	 *                   <span class="zh-CN">如果任一参与者失败</span>
+	 */
+	public void complete(@Nonnull final List<? extends TransactionalParticipant> participants, final boolean commit)
+			throws Exception {
+		this.execute(participants, participant -> {
+			try {
+				if (commit) {
+					participant.commit();
+				} else {
+					participant.rollback();
+				}
+			} catch (Exception e) {
+				LOGGER.error(commit ? "Commit_Transactional_Error" : "Rollback_Transactional_Error",
+						participant.participantName());
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Stack_Message_Error", e);
+				}
+				throw e;
+			}
+		});
+	}
+
+	/**
+	 * <h4 class="en-US">Recover the in-doubt transactional of given schema</h4>
+	 * <p class="en-US">
+	 *     The transactional with commit decision will be submitted, the transactional without last resource
+	 *     and decision will be rolled back. The outcome of the transactional which last resource was submitted
+	 *     before the decision was logged is unknown, it was left in-doubt to be resolved manually. The branch names
+	 *     of the begin record were given to the schema, the transactional failed to recover was left in-doubt and
+	 *     will be recovered again when the schema was initialized next time.
+	 * </p>
+	 * <h4 class="zh-CN">恢复给定数据源的未决事务</h4>
+	 * <p class="zh-CN">
+	 *     已作出提交决定的事务将被提交，没有最后资源且未作出决定的事务将被回滚。最后资源已提交但决定未记录的事务结果未知，
+	 *     保持未决状态以便人工处理。开始记录中的分支名称交给数据源，恢复失败的事务保持未决状态，在数据源下次初始化时再次恢复。
+	 * </p>
+	 *
+	 * @param schemaName <span class="en-US">Data schema name</span>
+	 *                   <span class="zh-CN">数据源名称</span>
+	 * @param schema     <span class="en-US">Data schema instance</span>
+	 *                   <span class="zh-CN">数据源实例对象</span>
+	 */
+	public void recover(@Nonnull final String schemaName, @Nonnull final BaseSchema schema) {
+		RecoveryLog currentLog;
+		try {
+			currentLog = this.recoveryLog(Boolean.FALSE);
+		} catch (SQLException e) {
+			LOGGER.error("Recovery_Log_Error", this.logPath);
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+			return;
+		}
+		if (currentLog == null) {
+			return;
+		}
+		for (Map.Entry<Long, Boolean> entry : currentLog.inDoubt(schemaName).entrySet()) {
+			if (entry.getValue() == null) {
+				LOGGER.warn("Undecided_Transactional_Warn", entry.getKey(), schemaName);
+				continue;
+			}
+			LOGGER.info("Recover_Transactional_Info", entry.getKey(), schemaName, entry.getValue());
+			try {
+				schema.recover(entry.getKey(), currentLog.branchNames(entry.getKey(), schemaName), entry.getValue());
+				currentLog.recovered(entry.getKey(), schemaName);
+			} catch (Exception e) {
+				LOGGER.error("Recover_Transactional_Error", entry.getKey(), schemaName);
+				if (LOGGER.isDebugEnabled()) {
+					LOGGER.debug("Stack_Message_Error", e);
+				}
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.logLock.lock();
+		try {
+			if (this.recoveryLog != null) {
+				this.recoveryLog.close();
+				this.recoveryLog = null;
+			}
+		} finally {
+			this.logLock.unlock();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Retrieve the recovery log, the log file will be opened and locked exclusively if not opened</h4>
+	 * <h4 class="zh-CN">获取恢复日志，未打开时将打开并独占锁定日志文件</h4>
+	 *
+	 * @param create <span class="en-US">Create the log file if not exists</span>
+	 *               <span class="zh-CN">日志文件不存在时创建</span>
+	 * @return <span class="en-US">Recovery log instance, null if the log file not exists and create is false</span>
+	 * <span class="zh-CN">恢复日志实例对象，日志文件不存在且不创建时为null</span>
+	 * @throws SQLException <span class="en-US">If the log file could not be opened or was locked by others</span>
+	 *                      <span class="zh-CN">如果日志文件无法打开或已被其他程序锁定</span>
+	 */
+	private RecoveryLog recoveryLog(final boolean create) throws SQLException {
+		RecoveryLog currentLog = this.recoveryLog;
+		if (currentLog != null) {
+			return currentLog;
+		}
+		this.logLock.lock();
+		try {
+			if (this.recoveryLog == null) {
+				if (!create && Files.notExists(Path.of(this.logPath))) {
+					return null;
+				}
+				try {
+					this.recoveryLog = new RecoveryLog(this.logPath, this.logSize);
+				} catch (IOException e) {
+					throw new MultilingualSQLException(0x00DB00000040L, e, this.logPath);
+				}
+			}
+			return this.recoveryLog;
+		} finally {
+			this.logLock.unlock();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Write the finished record of transactional</h4>
+	 * <h4 class="zh-CN">写入事务完成记录</h4>
+	 *
+	 * @param currentLog        <span class="en-US">Recovery log instance, null if the transactional was not logged</span>
+	 *                          <span class="zh-CN">恢复日志实例对象，事务未记录日志时为null</span>
+	 * @param transactionalCode <span class="en-US">Transactional identify code</span>
+	 *                          <span class="zh-CN">事务识别代码</span>
+	 */
+	private void end(final RecoveryLog currentLog, final long transactionalCode) {
+		if (currentLog == null) {
+			return;
+		}
+		try {
+			currentLog.end(transactionalCode);
+		} catch (Exception e) {
+			LOGGER.error("Recovery_Log_Write_Error", transactionalCode);
+			if (LOGGER.isDebugEnabled()) {
+				LOGGER.debug("Stack_Message_Error", e);
+			}
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Execute the phase operation on given participants in parallel and wait for all finished</h4>
+	 * <h4 class="zh-CN">在给定参与者上并行执行阶段操作并等待全部完成</h4>
+	 *
+	 * @param participants <span class="en-US">Participants of transactional</span>
+	 *                     <span class="zh-CN">事务的参与者</span>
+	 * @param operation    <span class="en-US">Phase operation</span>
+	 *                     <span class="zh-CN">阶段操作</span>
+	 * @throws Exception <span class="en-US">The first error of participants</span>
+	 *                   <span class="zh-CN">参与者的第一个错误</span>
+	 */
+	private void execute(@Nonnull final List<? extends TransactionalParticipant> participants,
+	                     @Nonnull final PhaseOperation operation) throws Exception {
+		if (participants.isEmpty()) {
+			return;
+		}
+		if (participants.size() == 1) {
+			operation.execute(participants.get(0));
+			return;
+		}
+		List<CompletableFuture<Void>> futures = new ArrayList<>(participants.size());
+		for (TransactionalParticipant participant : participants) {
+			futures.add(CompletableFuture.runAsync(() -> {
+				try {
+					operation.execute(participant);
+				} catch (Exception e) {
+					throw new CompletionException(e);
+				}
+			}, this.executor));
+		}
+		Exception exception = null;
+		for (CompletableFuture<Void> future : futures) {
+			try {
+				future.join();
+			} catch (CompletionException e) {
+				if (exception == null) {
+					exception = (e.getCause() instanceof Exception) ? (Exception) e.getCause() : e;
+				}
+			}
+		}
+		if (exception != null) {
+			throw exception;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Phase operation of participant</h2>
+	 * <h2 class="zh-CN">参与者的阶段操作</h2>
+	 */
+	@FunctionalInterface
+	private interface PhaseOperation {
+
+		/**
+		 * <h4 class="en-US">Execute operation on given participant</h4>
+		 * <h4 class="zh-CN">在给定的参与者上执行操作</h4>
+		 *
+		 * @param participant <span class="en-US">Participant of transactional</span>
+		 *                    <span class="zh-CN">事务的参与者</span>
+		 * @throws Exception <span class="en-US">An error occurred during execution</span>
+		 *                   <span class="zh-CN">执行过程中出错</span>
+		 */
+		void execute(@Nonnull final TransactionalParticipant participant) throws Exception;
+	}
+}
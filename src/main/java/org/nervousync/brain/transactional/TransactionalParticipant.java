@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.brain.transactional;
+
+import java.util.List;
+
+/**
+ * <h2 class="en-US">Participant of the coordinated transactional</h2>
+ * <p class="en-US">
+ *     The methods of participant will be invoked by the worker threads of coordinator,
+ *     so the implementation must not depend on the thread local resources of the caller.
+ * </p>
+ * <h2 class="zh-CN">协调事务的参与者</h2>
+ * <p class="zh-CN">
+ *     参与者的方法由协调器的工作线程调用，实现类不能依赖调用者的线程本地资源。
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 09:12:36 $
+ */
+public interface TransactionalParticipant {
+
+	/**
+	 * <h4 class="en-US">Name of the participant, the schema name which recovers the in-doubt transactional</h4>
+	 * <h4 class="zh-CN">参与者名称，即恢复未决事务的数据源名称</h4>
+	 *
+	 * @return <span class="en-US">Participant name</span>
+	 * <span class="zh-CN">参与者名称</span>
+	 */
+	String participantName();
+
+	/**
+	 * <h4 class="en-US">Names of the resource branches of the participant</h4>
+	 * <p class="en-US">
+	 *     The branch names were written to the begin record of recovery log, and given back to the schema when
+	 *     recovering, so the schema could find the prepared branches again, e.g. the server and sharding database
+	 *     of each prepared connection.
+	 * </p>
+	 * <h4 class="zh-CN">参与者的资源分支名称</h4>
+	 * <p class="zh-CN">
+	 *     分支名称写入恢复日志的开始记录，并在恢复时交还给数据源，以便数据源再次找到已预提交的分支，例如每个预提交连接的服务器和分片数据库。
+	 * </p>
+	 *
+	 * @return <span class="en-US">Branch name list, empty list if the participant has no branch to recover</span>
+	 * <span class="zh-CN">分支名称列表，参与者没有需要恢复的分支时为空列表</span>
+	 */
+	default List<String> branchNames() {
+		return List.of();
+	}
+
+	/**
+	 * <h4 class="en-US">Check the participant supports preparing transactional</h4>
+	 * <h4 class="zh-CN">检查参与者是否支持预提交事务</h4>
+	 *
+	 * @return <span class="en-US">Check result</span>
+	 * <span class="zh-CN">检查结果</span>
+	 */
+	boolean preparable();
+
+	/**
+	 * <h4 class="en-US">Prepare transactional, the first phase of two-phase commit</h4>
+	 * <h4 class="zh-CN">预提交事务，两阶段提交的第一阶段</h4>
+	 *
+	 * @throws Exception <span class="en-US">If an error occurs during execution</span>
+	 *                   <span class="zh-CN">如果执行过程中出错</span>
+	 */
+	void prepare() throws Exception;
+
+	/**
+	 * <h4 class="en-US">Submit transactional, submit the prepared transactional if the participant was prepared</h4>
+	 * <h4 class="zh-CN">提交事务，参与者已预提交时提交预提交的事务</h4>
+	 *
+	 * @throws Exception <span class="en-US">If an error occurs during execution</span>
+	 *                   <span class="zh-CN">如果执行过程中出错</span>
+	 */
+	void commit() throws Exception;
+
+	/**
+	 * <h4 class="en-US">Rollback transactional, rollback the prepared transactional if the participant was prepared</h4>
+	 * <h4 class="zh-CN">回滚事务，参与者已预提交时回滚预提交的事务</h4>
+	 *
+	 * @throws Exception <span class="en-US">If an error occurs during execution</span>
+	 *                   <span class="zh-CN">如果执行过程中出错</span>
+	 */
+	void rollback() throws Exception;
+}
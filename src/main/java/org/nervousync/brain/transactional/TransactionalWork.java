@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.nervousync.brain.transactional;
+
+/**
+ * <h2 class="en-US">Unit of work executed in the transactional</h2>
+ * <p class="en-US">
+ *     The unit of work may be executed more than once when the retry configure was enabled,
+ *     so it must not keep the side effects outside the transactional.
+ * </p>
+ * <h2 class="zh-CN">在事务中执行的工作单元</h2>
+ * <p class="zh-CN">
+ *     启用重试配置时工作单元可能被执行多次，所以不能在事务之外保留副作用。
+ * </p>
+ *
+ * @param <T> <span class="en-US">Result type of the unit of work</span>
+ *            <span class="zh-CN">工作单元的结果类型</span>
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 16:45:03 $
+ */
+@FunctionalInterface
+public interface TransactionalWork<T> {
+
+	/**
+	 * <h4 class="en-US">Execute the unit of work</h4>
+	 * <h4 class="zh-CN">执行工作单元</h4>
+	 *
+	 * @return <span class="en-US">Result of the unit of work</span>
+	 * <span class="zh-CN">工作单元的结果</span>
+	 * @throws Exception <span class="en-US">If an error occurs during execution</span>
+	 *                   <span class="zh-CN">如果执行过程中出错</span>
+	 */
+	T execute() throws Exception;
+}
@@ -0,0 +1,425 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.brain.dialects.jdbc;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.nervousync.brain.annotations.dialect.DataType;
+import org.nervousync.brain.annotations.dialect.SchemaDialect;
+import org.nervousync.brain.configs.auth.Authentication;
+import org.nervousync.brain.configs.secure.TrustStore;
+import org.nervousync.brain.defines.ColumnDefine;
+import org.nervousync.brain.defines.GeneratorDefine;
+import org.nervousync.brain.defines.TableDefine;
+import org.nervousync.brain.enumerations.ddl.GenerationType;
+import org.nervousync.brain.enumerations.query.UpsertType;
+import org.nervousync.brain.exceptions.dialects.DialectException;
+
+import java.io.Serializable;
+import java.lang.reflect.Constructor;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * <h2 class="en-US">Test cases of insert and upsert commands generated by JDBC dialect</h2>
+ * <p class="en-US">
+ *     Every syntax of the upsert command was generated by a stub dialect, the whitespaces of generated command were
+ *     collapsed before comparing.
+ * </p>
+ * <h2 class="zh-CN">JDBC方言生成的插入和插入或更新命令的测试用例</h2>
+ * <p class="zh-CN">每种插入或更新命令语法由一个桩方言生成，比较前合并生成命令中的空白字符。</p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 23:52:17 $
+ */
+public final class JdbcDialectTest {
+
+	/**
+	 * <span class="en-US">Test table name</span>
+	 * <span class="zh-CN">测试数据表名</span>
+	 */
+	private static final String TABLE_NAME = "T_USER";
+
+	/**
+	 * <h4 class="en-US">The insert command lists the columns and values in parentheses, and skips the auto increment column</h4>
+	 * <h4 class="zh-CN">插入命令在括号中列出数据列和值，并跳过自增列</h4>
+	 *
+	 * @throws Exception <span class="en-US">An error occurred during testing</span>
+	 *                   <span class="zh-CN">测试过程中出错</span>
+	 */
+	@Test
+	public void insertCommand() throws Exception {
+		JdbcDialect.SQLCommand sqlCommand = new MergeDialect().insertCommand(tableDefine(Boolean.TRUE), TABLE_NAME,
+				dataMap(Boolean.TRUE));
+		Assertions.assertEquals("INSERT INTO T_USER(ID, NAME, VERSION) VALUES ( ? , ? , ? )",
+				collapse(sqlCommand.getSql()));
+		Assertions.assertEquals(List.of(1L, "Alice", 3), sqlCommand.getValues());
+	}
+
+	/**
+	 * <h4 class="en-US">The ON CONFLICT command updates the non-key columns from the excluded row and increases the version</h4>
+	 * <h4 class="zh-CN">ON CONFLICT命令使用被排除行更新非键列并递增版本</h4>
+	 *
+	 * @throws Exception <span class="en-US">An error occurred during testing</span>
+	 *                   <span class="zh-CN">测试过程中出错</span>
+	 */
+	@Test
+	public void onConflict() throws Exception {
+		JdbcDialect jdbcDialect = new ConflictDialect();
+		Assertions.assertEquals(UpsertType.ON_CONFLICT, jdbcDialect.upsertType());
+		JdbcDialect.SQLCommand sqlCommand =
+				jdbcDialect.upsertCommand(tableDefine(Boolean.TRUE), TABLE_NAME, dataMap(Boolean.TRUE), null);
+		Assertions.assertEquals("INSERT INTO T_USER(ID, NAME, VERSION) VALUES ( ? , ? , ? ) "
+						+ "ON CONFLICT (ID) DO UPDATE SET NAME = EXCLUDED.NAME, VERSION = T_USER.VERSION + 1",
+				collapse(sqlCommand.getSql()));
+		Assertions.assertEquals(List.of(1L, "Alice", 3), sqlCommand.getValues());
+		//  Nothing to update if only the conflict column was given
+		sqlCommand = jdbcDialect.upsertCommand(tableDefine(Boolean.FALSE), TABLE_NAME,
+				new LinkedHashMap<>(Map.of("ID", 1L)), null);
+		Assertions.assertEquals("INSERT INTO T_USER(ID) VALUES ( ? ) ON CONFLICT (ID) DO NOTHING",
+				collapse(sqlCommand.getSql()));
+		//  No primary key and no conflict columns
+		TableDefine noKeyDefine = new TableDefine(TABLE_NAME, null,
+				List.of(columnDefine("NAME", Boolean.FALSE, null)), List.of());
+		Assertions.assertThrows(SQLException.class, () -> jdbcDialect.upsertCommand(noKeyDefine, TABLE_NAME,
+				new LinkedHashMap<>(Map.of("NAME", "Alice")), List.of()));
+	}
+
+	/**
+	 * <h4 class="en-US">The ON DUPLICATE KEY command updates the non-key columns from the inserted values and increases the version</h4>
+	 * <h4 class="zh-CN">ON DUPLICATE KEY命令使用插入值更新非键列并递增版本</h4>
+	 *
+	 * @throws Exception <span class="en-US">An error occurred during testing</span>
+	 *                   <span class="zh-CN">测试过程中出错</span>
+	 */
+	@Test
+	public void onDuplicateKey() throws Exception {
+		JdbcDialect jdbcDialect = new DuplicateDialect();
+		Assertions.assertEquals(UpsertType.ON_DUPLICATE_KEY, jdbcDialect.upsertType());
+		JdbcDialect.SQLCommand sqlCommand =
+				jdbcDialect.upsertCommand(tableDefine(Boolean.TRUE), TABLE_NAME, dataMap(Boolean.TRUE), null);
+		Assertions.assertEquals("INSERT INTO T_USER(ID, NAME, VERSION) VALUES ( ? , ? , ? ) "
+						+ "ON DUPLICATE KEY UPDATE NAME = VALUES(NAME), VERSION = VERSION + 1",
+				collapse(sqlCommand.getSql()));
+		Assertions.assertEquals(List.of(1L, "Alice", 3), sqlCommand.getValues());
+		//  Nothing to update, the existing record was kept by assigning the same value
+		sqlCommand = jdbcDialect.upsertCommand(tableDefine(Boolean.FALSE), TABLE_NAME,
+				new LinkedHashMap<>(Map.of("ID", 1L)), null);
+		Assertions.assertEquals("INSERT INTO T_USER(ID) VALUES ( ? ) ON DUPLICATE KEY UPDATE ID = ID",
+				collapse(sqlCommand.getSql()));
+	}
+
+	/**
+	 * <h4 class="en-US">The MERGE command matches the conflict columns and uses the default table clause and terminator</h4>
+	 * <h4 class="zh-CN">MERGE命令匹配冲突列并使用默认的数据表子句和终止符</h4>
+	 *
+	 * @throws Exception <span class="en-US">An error occurred during testing</span>
+	 *                   <span class="zh-CN">测试过程中出错</span>
+	 */
+	@Test
+	public void merge() throws Exception {
+		JdbcDialect jdbcDialect = new MergeDialect();
+		Assertions.assertEquals(UpsertType.MERGE, jdbcDialect.upsertType());
+		JdbcDialect.SQLCommand sqlCommand =
+				jdbcDialect.upsertCommand(tableDefine(Boolean.TRUE), TABLE_NAME, dataMap(Boolean.TRUE), null);
+		Assertions.assertEquals("MERGE INTO T_USER TGT USING (SELECT ? AS ID, ? AS NAME, ? AS VERSION) SRC "
+						+ "ON (TGT.ID = SRC.ID) WHEN MATCHED THEN UPDATE SET NAME = SRC.NAME, VERSION = TGT.VERSION + 1 "
+						+ "WHEN NOT MATCHED THEN INSERT (ID, NAME, VERSION) VALUES (SRC.ID, SRC.NAME, SRC.VERSION)",
+				collapse(sqlCommand.getSql()));
+		Assertions.assertEquals(List.of(1L, "Alice", 3), sqlCommand.getValues());
+		//  The given conflict column was not updated
+		sqlCommand = jdbcDialect.upsertCommand(tableDefine(Boolean.TRUE), TABLE_NAME, dataMap(Boolean.TRUE),
+				List.of("NAME"));
+		Assertions.assertEquals("MERGE INTO T_USER TGT USING (SELECT ? AS ID, ? AS NAME, ? AS VERSION) SRC "
+						+ "ON (TGT.NAME = SRC.NAME) WHEN MATCHED THEN UPDATE SET VERSION = TGT.VERSION + 1 "
+						+ "WHEN NOT MATCHED THEN INSERT (ID, NAME, VERSION) VALUES (SRC.ID, SRC.NAME, SRC.VERSION)",
+				collapse(sqlCommand.getSql()));
+		//  The conflict column must be given in data mapping
+		Assertions.assertThrows(SQLException.class, () -> jdbcDialect.upsertCommand(tableDefine(Boolean.FALSE),
+				TABLE_NAME, new LinkedHashMap<>(Map.of("NAME", "Alice")), null));
+	}
+
+	/**
+	 * <h4 class="en-US">The MERGE command appends the table clause of dialect after the source values, and the terminator at the end</h4>
+	 * <h4 class="zh-CN">MERGE命令在源值之后追加方言的数据表子句，并在末尾追加终止符</h4>
+	 *
+	 * @throws Exception <span class="en-US">An error occurred during testing</span>
+	 *                   <span class="zh-CN">测试过程中出错</span>
+	 */
+	@Test
+	public void mergeHooks() throws Exception {
+		JdbcDialect.SQLCommand sqlCommand = new DualMergeDialect().upsertCommand(tableDefine(Boolean.FALSE),
+				TABLE_NAME, dataMap(Boolean.FALSE), null);
+		Assertions.assertEquals("MERGE INTO T_USER TGT USING (SELECT ? AS ID, ? AS NAME FROM DUAL) SRC "
+						+ "ON (TGT.ID = SRC.ID) WHEN MATCHED THEN UPDATE SET NAME = SRC.NAME "
+						+ "WHEN NOT MATCHED THEN INSERT (ID, NAME) VALUES (SRC.ID, SRC.NAME);",
+				collapse(sqlCommand.getSql()));
+		Assertions.assertEquals(List.of(1L, "Alice"), sqlCommand.getValues());
+	}
+
+	/**
+	 * <h4 class="en-US">Collapse the whitespaces of generated SQL command</h4>
+	 * <h4 class="zh-CN">合并生成的SQL命令中的空白字符</h4>
+	 *
+	 * @param sql <span class="en-US">Generated SQL command</span>
+	 *            <span class="zh-CN">生成的SQL命令</span>
+	 * @return <span class="en-US">Collapsed SQL command</span>
+	 * <span class="zh-CN">合并后的SQL命令</span>
+	 */
+	private static String collapse(final String sql) {
+		return sql.replaceAll("\\s+", " ").trim();
+	}
+
+	/**
+	 * <h4 class="en-US">Generate the test table define, the auto increment column SERIAL was always defined</h4>
+	 * <h4 class="zh-CN">生成测试数据表定义，始终定义自增列SERIAL</h4>
+	 *
+	 * @param versioned <span class="en-US">Define the optimistic lock version column</span>
+	 *                  <span class="zh-CN">定义乐观锁版本列</span>
+	 * @return <span class="en-US">Generated table define</span>
+	 * <span class="zh-CN">生成的数据表定义</span>
+	 * @throws Exception <span class="en-US">An error occurred while creating the column define</span>
+	 *                   <span class="zh-CN">创建数据列定义时出错</span>
+	 */
+	private static TableDefine tableDefine(final boolean versioned) throws Exception {
+		List<ColumnDefine> columnDefines = versioned
+				? List.of(columnDefine("ID", Boolean.TRUE, null),
+				columnDefine("SERIAL", Boolean.FALSE, GenerationType.AUTO_INCREMENT),
+				columnDefine("NAME", Boolean.FALSE, null),
+				columnDefine("VERSION", Boolean.FALSE, GenerationType.VERSION))
+				: List.of(columnDefine("ID", Boolean.TRUE, null),
+				columnDefine("SERIAL", Boolean.FALSE, GenerationType.AUTO_INCREMENT),
+				columnDefine("NAME", Boolean.FALSE, null));
+		return new TableDefine(TABLE_NAME, null, columnDefines, List.of());
+	}
+
+	/**
+	 * <h4 class="en-US">Generate the test data mapping, the value of auto increment column was ignored</h4>
+	 * <h4 class="zh-CN">生成测试数据映射表，自增列的值被忽略</h4>
+	 *
+	 * @param versioned <span class="en-US">Put the optimistic lock version value</span>
+	 *                  <span class="zh-CN">写入乐观锁版本值</span>
+	 * @return <span class="en-US">Generated data mapping</span>
+	 * <span class="zh-CN">生成的数据映射表</span>
+	 */
+	private static Map<String, Serializable> dataMap(final boolean versioned) {
+		Map<String, Serializable> dataMap = new LinkedHashMap<>();
+		dataMap.put("ID", 1L);
+		dataMap.put("SERIAL", 9L);
+		dataMap.put("NAME", "Alice");
+		if (versioned) {
+			dataMap.put("VERSION", 3);
+		}
+		return dataMap;
+	}
+
+	/**
+	 * <h4 class="en-US">Create the column define, the define was read from the database metadata in runtime</h4>
+	 * <h4 class="zh-CN">创建数据列定义，运行时定义从数据库元数据读取</h4>
+	 *
+	 * @param columnName     <span class="en-US">Data column name</span>
+	 *                       <span class="zh-CN">数据列名</span>
+	 * @param primaryKey     <span class="en-US">Column is primary key</span>
+	 *                       <span class="zh-CN">数据列是主键</span>
+	 * @param generationType <span class="en-US">Value generation type, null if the value was assigned by caller</span>
+	 *                       <span class="zh-CN">值生成类型，值由调用者指定时为null</span>
+	 * @return <span class="en-US">Created column define</span>
+	 * <span class="zh-CN">创建的数据列定义</span>
+	 * @throws Exception <span class="en-US">An error occurred while invoking the constructor</span>
+	 *                   <span class="zh-CN">调用构造方法时出错</span>
+	 */
+	private static ColumnDefine columnDefine(final String columnName, final boolean primaryKey,
+	                                         final GenerationType generationType) throws Exception {
+		GeneratorDefine generatorDefine = null;
+		if (generationType != null) {
+			generatorDefine = new GeneratorDefine();
+			generatorDefine.setGenerationType(generationType);
+		}
+		Constructor<ColumnDefine> constructor = ColumnDefine.class.getDeclaredConstructor(String.class, int.class,
+				boolean.class, int.class, int.class, int.class, String.class, boolean.class, boolean.class,
+				GeneratorDefine.class);
+		constructor.setAccessible(Boolean.TRUE);
+		return constructor.newInstance(columnName, Types.INTEGER, !primaryKey, 0, 0, 0, null, primaryKey,
+				Boolean.FALSE, generatorDefine);
+	}
+
+	/**
+	 * <h2 class="en-US">Abstract stub dialect without database connection</h2>
+	 * <h2 class="zh-CN">无数据库连接的抽象桩方言</h2>
+	 */
+	private abstract static class StubDialect extends JdbcDialect {
+
+		/**
+		 * <h4 class="en-US">Constructor method for abstract stub dialect</h4>
+		 * <h4 class="zh-CN">抽象桩方言的构造方法</h4>
+		 *
+		 * @throws DialectException <span class="en-US">If the dialect annotation not found</span>
+		 *                          <span class="zh-CN">如果方言注解未找到</span>
+		 */
+		StubDialect() throws DialectException {
+			super();
+		}
+
+		@Override
+		public <T> T unwrap(final Class<T> clazz) throws SQLException {
+			try {
+				return clazz.cast(this);
+			} catch (ClassCastException e) {
+				throw new SQLException(e);
+			}
+		}
+
+		@Override
+		public boolean isWrapperFor(final Class<?> clazz) {
+			return clazz.isInstance(this);
+		}
+
+		@Override
+		public String nameCase(final String name) {
+			return name;
+		}
+
+		@Override
+		public Properties properties(final TrustStore trustStore, final Authentication authentication) {
+			return new Properties();
+		}
+
+		@Override
+		protected String databaseCommand() {
+			return "";
+		}
+
+		@Override
+		public String currentDate() {
+			return "CURRENT_DATE";
+		}
+
+		@Override
+		public String currentTime() {
+			return "CURRENT_TIME";
+		}
+
+		@Override
+		public String currentTimestamp() {
+			return "CURRENT_TIMESTAMP";
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Stub dialect using the ON CONFLICT syntax, e.g. PostgreSQL</h2>
+	 * <h2 class="zh-CN">使用ON CONFLICT语法的桩方言，例如PostgreSQL</h2>
+	 */
+	@SchemaDialect(name = "ConflictDialect", supportJoin = false,
+			types = {@DataType(code = Types.INTEGER, type = "INT")})
+	private static final class ConflictDialect extends StubDialect {
+
+		/**
+		 * <h4 class="en-US">Constructor method for stub dialect using the ON CONFLICT syntax</h4>
+		 * <h4 class="zh-CN">使用ON CONFLICT语法的桩方言的构造方法</h4>
+		 *
+		 * @throws DialectException <span class="en-US">If the dialect annotation not found</span>
+		 *                          <span class="zh-CN">如果方言注解未找到</span>
+		 */
+		ConflictDialect() throws DialectException {
+			super();
+		}
+
+		@Override
+		public UpsertType upsertType() {
+			return UpsertType.ON_CONFLICT;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Stub dialect using the ON DUPLICATE KEY syntax, e.g. MySQL</h2>
+	 * <h2 class="zh-CN">使用ON DUPLICATE KEY语法的桩方言，例如MySQL</h2>
+	 */
+	@SchemaDialect(name = "DuplicateDialect", supportJoin = false,
+			types = {@DataType(code = Types.INTEGER, type = "INT")})
+	private static final class DuplicateDialect extends StubDialect {
+
+		/**
+		 * <h4 class="en-US">Constructor method for stub dialect using the ON DUPLICATE KEY syntax</h4>
+		 * <h4 class="zh-CN">使用ON DUPLICATE KEY语法的桩方言的构造方法</h4>
+		 *
+		 * @throws DialectException <span class="en-US">If the dialect annotation not found</span>
+		 *                          <span class="zh-CN">如果方言注解未找到</span>
+		 */
+		DuplicateDialect() throws DialectException {
+			super();
+		}
+
+		@Override
+		public UpsertType upsertType() {
+			return UpsertType.ON_DUPLICATE_KEY;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Stub dialect using the default MERGE syntax</h2>
+	 * <h2 class="zh-CN">使用默认MERGE语法的桩方言</h2>
+	 */
+	@SchemaDialect(name = "MergeDialect", supportJoin = false,
+			types = {@DataType(code = Types.INTEGER, type = "INT")})
+	private static final class MergeDialect extends StubDialect {
+
+		/**
+		 * <h4 class="en-US">Constructor method for stub dialect using the default MERGE syntax</h4>
+		 * <h4 class="zh-CN">使用默认MERGE语法的桩方言的构造方法</h4>
+		 *
+		 * @throws DialectException <span class="en-US">If the dialect annotation not found</span>
+		 *                          <span class="zh-CN">如果方言注解未找到</span>
+		 */
+		MergeDialect() throws DialectException {
+			super();
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Stub dialect using the MERGE syntax with table clause and terminator, e.g. Oracle and SQL Server</h2>
+	 * <h2 class="zh-CN">使用带数据表子句和终止符的MERGE语法的桩方言，例如Oracle和SQL Server</h2>
+	 */
+	@SchemaDialect(name = "DualMergeDialect", supportJoin = false,
+			types = {@DataType(code = Types.INTEGER, type = "INT")})
+	private static final class DualMergeDialect extends StubDialect {
+
+		/**
+		 * <h4 class="en-US">Constructor method for stub dialect using the MERGE syntax with table clause and terminator</h4>
+		 * <h4 class="zh-CN">使用带数据表子句和终止符的MERGE语法的桩方言的构造方法</h4>
+		 *
+		 * @throws DialectException <span class="en-US">If the dialect annotation not found</span>
+		 *                          <span class="zh-CN">如果方言注解未找到</span>
+		 */
+		DualMergeDialect() throws DialectException {
+			super();
+		}
+
+		@Override
+		protected String dualTable() {
+			return " FROM DUAL";
+		}
+
+		@Override
+		protected String mergeTerminator() {
+			return ";";
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.brain.listeners;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.nervousync.brain.enumerations.execution.ExecutionPhase;
+import org.nervousync.commons.Globals;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * <h2 class="en-US">Test cases of execution listener factory</h2>
+ * <h2 class="zh-CN">执行监听器工厂的测试用例</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 16:02:17 $
+ */
+public final class ListenerFactoryTest {
+
+	/**
+	 * <span class="en-US">Invocation count of each measurement</span>
+	 * <span class="zh-CN">每次测量的调用次数</span>
+	 */
+	private static final int INVOCATIONS = 1_000_000;
+
+	/**
+	 * <h4 class="en-US">The begin and end methods allocate nothing when no listener was registered</h4>
+	 * <h4 class="zh-CN">未注册监听器时begin和end方法不分配任何内存</h4>
+	 */
+	@Test
+	public void disabledWithoutAllocation() {
+		Assumptions.assumeFalse(ListenerFactory.enabled(), "Execution listeners were registered by SPI");
+		Assumptions.assumeTrue(ManagementFactory.getThreadMXBean()
+				instanceof com.sun.management.ThreadMXBean, "Thread allocated bytes not supported");
+		com.sun.management.ThreadMXBean threadMXBean =
+				(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		Assumptions.assumeTrue(threadMXBean.isThreadAllocatedMemorySupported(),
+				"Thread allocated bytes not supported");
+		threadMXBean.setThreadAllocatedMemoryEnabled(Boolean.TRUE);
+		long threadId = Thread.currentThread().getId();
+
+		//  Warm up the class initialization, the interpreter and the measurement itself
+		invoke(INVOCATIONS);
+		threadMXBean.getThreadAllocatedBytes(threadId);
+
+		long beginBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+		long checksum = invoke(INVOCATIONS);
+		long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - beginBytes;
+		Assertions.assertEquals(INVOCATIONS * Globals.DEFAULT_VALUE_LONG, checksum);
+		Assertions.assertEquals(0L, allocatedBytes,
+				"Disabled listener factory allocated " + allocatedBytes + " bytes");
+	}
+
+	/**
+	 * <h4 class="en-US">Invoke the begin and end methods for the given times</h4>
+	 * <h4 class="zh-CN">调用begin和end方法给定的次数</h4>
+	 *
+	 * @param invocations <span class="en-US">Invocation count</span>
+	 *                    <span class="zh-CN">调用次数</span>
+	 * @return <span class="en-US">Sum of the begin time, keep the invocations from eliminated</span>
+	 * <span class="zh-CN">开始时间之和，防止调用被消除</span>
+	 */
+	private static long invoke(final int invocations) {
+		long checksum = 0L;
+		for (int i = 0; i < invocations; i++) {
+			long beginTime = ListenerFactory.begin(ExecutionPhase.EXECUTE, "SELECT 1");
+			ListenerFactory.end(ExecutionPhase.EXECUTE, "SELECT 1", beginTime, null);
+			checksum += beginTime;
+		}
+		return checksum;
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.brain.schemas.jdbc;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2 class="en-US">Benchmark of the transactional connections spanning 1 to 1,000 shards</h2>
+ * <p class="en-US">
+ *     Every invocation was one transactional, each operation looks up the connection of the shard and registers
+ *     the connection at the first operation on the shard, every shard was operated twice. Compares the
+ *     open-addressing connection map with the scanning of the connection list replaced by the map.
+ *     Run after the test classes were compiled: java -cp &lt;test classpath&gt; org.openjdk.jmh.Main ConnectionMapBenchmark
+ * </p>
+ * <h2 class="zh-CN">跨越1到1,000个分片的事务连接基准测试</h2>
+ * <p class="zh-CN">
+ *     每次调用为一个事务，每次操作查找分片的连接，并在分片的第一次操作时注册连接，每个分片操作两次。
+ *     比较开放寻址连接映射表与被映射表替换的连接列表扫描。
+ *     测试类编译后运行：java -cp &lt;测试类路径&gt; org.openjdk.jmh.Main ConnectionMapBenchmark
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 20, 2026 01:12:35 $
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConnectionMapBenchmark {
+
+	/**
+	 * <span class="en-US">Count of shards in one transactional</span>
+	 * <span class="zh-CN">一个事务中的分片数量</span>
+	 */
+	@Param({"1", "10", "100", "1000"})
+	int shards;
+
+	/**
+	 * <span class="en-US">JDBC data source instance of the pools</span>
+	 * <span class="zh-CN">连接池的JDBC数据源实例</span>
+	 */
+	private JdbcSchema jdbcSchema = null;
+	/**
+	 * <span class="en-US">Identify keys of the shard connection pools</span>
+	 * <span class="zh-CN">分片连接池的识别键</span>
+	 */
+	private PoolKey[] poolKeys;
+	/**
+	 * <span class="en-US">Connections of the shards</span>
+	 * <span class="zh-CN">分片的连接</span>
+	 */
+	private JdbcConnection[] connections;
+
+	/**
+	 * <h4 class="en-US">Run the benchmark</h4>
+	 * <h4 class="zh-CN">运行基准测试</h4>
+	 *
+	 * @param args <span class="en-US">Command arguments</span>
+	 *             <span class="zh-CN">命令参数</span>
+	 * @throws RunnerException <span class="en-US">An error occurred during running</span>
+	 *                         <span class="zh-CN">运行过程中出错</span>
+	 */
+	public static void main(final String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(ConnectionMapBenchmark.class.getSimpleName()).build()).run();
+	}
+
+	/**
+	 * <h4 class="en-US">Create the connection of each shard on the stub connection</h4>
+	 * <h4 class="zh-CN">在桩连接上创建每个分片的连接</h4>
+	 *
+	 * @throws Exception <span class="en-US">An error occurred while creating the connections</span>
+	 *                   <span class="zh-CN">创建连接时出错</span>
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		this.jdbcSchema = PoolRegistryBenchmark.stubSchema();
+		List<JdbcConnectionPool> connectionPools = PoolRegistryBenchmark.stubPools(this.jdbcSchema, this.shards);
+		this.poolKeys = new PoolKey[this.shards];
+		this.connections = new JdbcConnection[this.shards];
+		for (int i = 0; i < this.shards; i++) {
+			JdbcConnectionPool connectionPool = connectionPools.get(i);
+			this.poolKeys[i] = connectionPool.getPoolKey();
+			this.connections[i] = new JdbcConnection(connectionPool, stubConnection(), 0L, 0, 0L);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Close the JDBC data source</h4>
+	 * <h4 class="zh-CN">关闭JDBC数据源</h4>
+	 *
+	 * @throws SQLException <span class="en-US">An error occurred while closing the data source</span>
+	 *                      <span class="zh-CN">关闭数据源时出错</span>
+	 */
+	@TearDown(Level.Trial)
+	public void close() throws SQLException {
+		this.jdbcSchema.close();
+	}
+
+	/**
+	 * <h4 class="en-US">Operate the shards in the open-addressing connection map, the same way as the JDBC data source</h4>
+	 * <h4 class="zh-CN">与JDBC数据源相同地在开放寻址连接映射表中操作分片</h4>
+	 *
+	 * @return <span class="en-US">Count of transactional connections</span>
+	 * <span class="zh-CN">事务连接的数量</span>
+	 */
+	@Benchmark
+	public int connectionMap() {
+		ConnectionMap connectionMap = new ConnectionMap();
+		for (int round = 0; round < 2; round++) {
+			for (int i = 0; i < this.shards; i++) {
+				if (connectionMap.get(this.poolKeys[i]) == null) {
+					connectionMap.put(this.connections[i]);
+				}
+			}
+		}
+		return connectionMap.size();
+	}
+
+	/**
+	 * <h4 class="en-US">Operate the shards by scanning the connection list, the replaced implementation</h4>
+	 * <h4 class="zh-CN">通过扫描连接列表操作分片，即被替换的实现</h4>
+	 *
+	 * @return <span class="en-US">Count of transactional connections</span>
+	 * <span class="zh-CN">事务连接的数量</span>
+	 */
+	@Benchmark
+	public int connectionList() {
+		List<JdbcConnection> connectionList = new ArrayList<>();
+		for (int round = 0; round < 2; round++) {
+			for (int i = 0; i < this.shards; i++) {
+				PoolKey poolKey = this.poolKeys[i];
+				if (connectionList.stream().noneMatch(connection -> connection.poolKey().equals(poolKey))) {
+					connectionList.add(this.connections[i]);
+				}
+			}
+		}
+		return connectionList.size();
+	}
+
+	/**
+	 * <h4 class="en-US">Create the stub connection, the methods return the default values</h4>
+	 * <h4 class="zh-CN">创建桩连接，方法返回默认值</h4>
+	 *
+	 * @return <span class="en-US">Stub connection instance</span>
+	 * <span class="zh-CN">桩连接实例</span>
+	 */
+	private static Connection stubConnection() {
+		return (Connection) Proxy.newProxyInstance(ConnectionMapBenchmark.class.getClassLoader(),
+				new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+					Class<?> returnType = method.getReturnType();
+					if (returnType == boolean.class) {
+						return Boolean.FALSE;
+					}
+					if (returnType == int.class) {
+						return 0;
+					}
+					if (returnType == long.class) {
+						return 0L;
+					}
+					return null;
+				});
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.brain.schemas.jdbc;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <h2 class="en-US">Test cases of the branch identify of database connection participant</h2>
+ * <h2 class="zh-CN">数据库连接参与者分支识别的测试用例</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 23:27:14 $
+ */
+public final class ConnectionParticipantTest {
+
+	/**
+	 * <h4 class="en-US">The branch name was parsed back to the same connection pool identify key</h4>
+	 * <h4 class="zh-CN">分支名称解析回相同的连接池识别键</h4>
+	 *
+	 * @throws SQLException <span class="en-US">If the branch name was invalid</span>
+	 *                      <span class="zh-CN">如果分支名称无效</span>
+	 */
+	@Test
+	public void branchName() throws SQLException {
+		List<PoolKey> poolKeys = List.of(new PoolKey("", "shard_1"), new PoolKey("db:5432", ""),
+				new PoolKey("db:5432", "shard_1"), new PoolKey("db:5432s", "hard_1"), new PoolKey("1:db", "1:x"));
+		Set<String> branchNames = new HashSet<>();
+		for (PoolKey poolKey : poolKeys) {
+			Assertions.assertEquals(poolKey, PoolKey.parse(poolKey.branchName()));
+			branchNames.add(poolKey.branchName());
+		}
+		Assertions.assertEquals(poolKeys.size(), branchNames.size());
+		Assertions.assertThrows(SQLException.class, () -> PoolKey.parse("invalid"));
+		Assertions.assertThrows(SQLException.class, () -> PoolKey.parse("99:short"));
+	}
+
+	/**
+	 * <h4 class="en-US">The different schema names or branch indexes never generate the same global identify</h4>
+	 * <h4 class="zh-CN">不同的数据源名称或分支索引不会生成相同的全局识别</h4>
+	 */
+	@Test
+	public void transactionalId() {
+		Set<String> transactionalIds = new HashSet<>();
+		List<String> schemaNames = List.of("orders", "orders_1", "orders-1", "orders_2d_1", "orders1", "订单");
+		for (String schemaName : schemaNames) {
+			for (int branchIndex = 0; branchIndex < 12; branchIndex++) {
+				String transactionalId = ConnectionParticipant.transactionalId(42L, schemaName, branchIndex);
+				Assertions.assertTrue(transactionalId.matches("brain_42_[A-Za-z0-9_]+"), transactionalId);
+				Assertions.assertTrue(transactionalIds.add(transactionalId), transactionalId);
+			}
+		}
+		Assertions.assertNotEquals(ConnectionParticipant.transactionalId(42L, "orders", 0),
+				ConnectionParticipant.transactionalId(43L, "orders", 0));
+	}
+}
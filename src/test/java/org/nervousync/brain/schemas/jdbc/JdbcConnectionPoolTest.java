@@ -0,0 +1,355 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.brain.schemas.jdbc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.nervousync.brain.annotations.dialect.DataType;
+import org.nervousync.brain.annotations.dialect.SchemaDialect;
+import org.nervousync.brain.configs.auth.Authentication;
+import org.nervousync.brain.configs.schema.impl.JdbcSchemaConfig;
+import org.nervousync.brain.configs.secure.TrustStore;
+import org.nervousync.brain.dialects.DialectFactory;
+import org.nervousync.brain.dialects.jdbc.JdbcDialect;
+import org.nervousync.brain.exceptions.dialects.DialectException;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * <h2 class="en-US">Stress test cases of JDBC connection pool</h2>
+ * <p class="en-US">
+ *     The connections were created by a stub JDBC driver, no database server was required.
+ *     The borrowers run on a bounded platform thread pool if the JDK does not support virtual threads.
+ * </p>
+ * <h2 class="zh-CN">JDBC连接池的压力测试用例</h2>
+ * <p class="zh-CN">连接由桩JDBC驱动创建，不需要数据库服务器。JDK不支持虚拟线程时借用者在有界的平台线程池中运行。</p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 16:38:52 $
+ */
+public final class JdbcConnectionPoolTest {
+
+	/**
+	 * <span class="en-US">Count of concurrent borrowers</span>
+	 * <span class="zh-CN">并发借用者的数量</span>
+	 */
+	private static final int BORROWERS = 10_000;
+	/**
+	 * <span class="en-US">Maximum connections of the pool</span>
+	 * <span class="zh-CN">连接池的最大连接数</span>
+	 */
+	private static final int MAX_CONNECTIONS = 16;
+	/**
+	 * <span class="en-US">Maximum waiting time of all borrowers (Unit: seconds)</span>
+	 * <span class="zh-CN">所有借用者的最长等待时间（单位：秒）</span>
+	 */
+	private static final long WAIT_TIME = 120L;
+	/**
+	 * <span class="en-US">Thread count of the platform thread pool if virtual threads not supported</span>
+	 * <span class="zh-CN">不支持虚拟线程时平台线程池的线程数</span>
+	 */
+	private static final int PLATFORM_THREADS = 256;
+
+	/**
+	 * <span class="en-US">Stub JDBC driver</span>
+	 * <span class="zh-CN">桩JDBC驱动</span>
+	 */
+	private final StubDriver stubDriver = new StubDriver();
+	/**
+	 * <span class="en-US">JDBC data source instance</span>
+	 * <span class="zh-CN">JDBC数据源实例</span>
+	 */
+	private JdbcSchema jdbcSchema = null;
+
+	/**
+	 * <h4 class="en-US">Close the data source and deregister the stub driver</h4>
+	 * <h4 class="zh-CN">关闭数据源并注销桩驱动</h4>
+	 *
+	 * @throws SQLException <span class="en-US">An error occurred while deregister the driver</span>
+	 *                      <span class="zh-CN">注销驱动时出错</span>
+	 */
+	@AfterEach
+	public void close() throws SQLException {
+		if (this.jdbcSchema != null) {
+			this.jdbcSchema.close();
+		}
+		DriverManager.deregisterDriver(this.stubDriver);
+	}
+
+	/**
+	 * <h4 class="en-US">Ten thousand virtual threads (or bounded platform threads) borrow and return the connections at the same time</h4>
+	 * <p class="en-US">
+	 *     Every borrower must obtain a connection, no connection was lent to two borrowers at the same time,
+	 *     and every connection was returned. After the borrowers finished, the pool keeps at most the maximum
+	 *     connections, and no physical connection was left open after the pool was closed.
+	 * </p>
+	 * <h4 class="zh-CN">一万个虚拟线程（或有界的平台线程）同时借用和归还连接</h4>
+	 * <p class="zh-CN">
+	 *     每个借用者都必须获得连接，任何连接都不会同时借给两个借用者，并且所有连接都被归还。
+	 *     借用者结束后，连接池最多保留最大连接数的连接，连接池关闭后没有遗留打开的物理连接。
+	 * </p>
+	 *
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	@Test
+	public void concurrentBorrowers() throws Exception {
+		ExecutorService executorService = Optional.ofNullable(virtualThreadExecutor())
+				.orElseGet(() -> Executors.newFixedThreadPool(PLATFORM_THREADS));
+		DriverManager.registerDriver(this.stubDriver);
+		DialectFactory.register(new StubDialect());
+
+		JdbcSchemaConfig schemaConfig = new JdbcSchemaConfig();
+		schemaConfig.setSchemaName("StubSchema");
+		schemaConfig.setDialectName(StubDialect.DIALECT_NAME);
+		schemaConfig.setJdbcUrl(StubDriver.JDBC_URL);
+		schemaConfig.setPooled(Boolean.TRUE);
+		schemaConfig.setMinConnections(2);
+		schemaConfig.setMaxConnections(MAX_CONNECTIONS);
+		schemaConfig.setConnectTimeout((int) WAIT_TIME);
+		this.jdbcSchema = new JdbcSchema(schemaConfig);
+		this.jdbcSchema.initialize();
+		Assertions.assertTrue(this.jdbcSchema.isInitialized());
+
+		CountDownLatch startSignal = new CountDownLatch(1);
+		List<Future<Boolean>> futures = new ArrayList<>(BORROWERS);
+		try {
+			for (int i = 0; i < BORROWERS; i++) {
+				futures.add(executorService.submit(() -> {
+					startSignal.await();
+					try (JdbcConnection connection = this.jdbcSchema.obtainConnection(Boolean.FALSE, null)) {
+						return connection.isValid(1);
+					}
+				}));
+			}
+			startSignal.countDown();
+			for (Future<Boolean> future : futures) {
+				Assertions.assertTrue(future.get(WAIT_TIME, TimeUnit.SECONDS), "Connection was shared by borrowers");
+			}
+		} finally {
+			executorService.shutdownNow();
+			Assertions.assertTrue(executorService.awaitTermination(WAIT_TIME, TimeUnit.SECONDS));
+		}
+
+		Assertions.assertEquals(0, this.jdbcSchema.getActiveCount());
+		Assertions.assertEquals(0, this.jdbcSchema.getWaitCount());
+		Assertions.assertTrue(this.jdbcSchema.getPoolCount() <= MAX_CONNECTIONS,
+				"Pooled " + this.jdbcSchema.getPoolCount() + " connections");
+		this.jdbcSchema.close();
+		this.jdbcSchema = null;
+		Assertions.assertEquals(0, this.stubDriver.openedCount.get(), "Physical connections leaked");
+	}
+
+	/**
+	 * <h4 class="en-US">Create the virtual thread per task executor by reflection, the tests compile on JDK 17</h4>
+	 * <h4 class="zh-CN">通过反射创建每任务一个虚拟线程的执行器，测试在JDK 17上编译</h4>
+	 *
+	 * @return <span class="en-US">Executor instance, null if virtual threads not supported</span>
+	 * <span class="zh-CN">执行器实例，不支持虚拟线程时返回null</span>
+	 */
+	private static ExecutorService virtualThreadExecutor() {
+		try {
+			Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) method.invoke(null);
+		} catch (ReflectiveOperationException | UnsupportedOperationException e) {
+			//  Preview feature not enabled or the JDK was older than 19
+			return null;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Stub JDBC driver, the connection detects concurrent using</h2>
+	 * <h2 class="zh-CN">桩JDBC驱动，连接检测并发使用</h2>
+	 */
+	private static final class StubDriver implements Driver {
+
+		/**
+		 * <span class="en-US">JDBC connection string accepted by the stub driver</span>
+		 * <span class="zh-CN">桩驱动接受的JDBC连接字符串</span>
+		 */
+		static final String JDBC_URL = "jdbc:brain-stub:pool";
+		/**
+		 * <span class="en-US">Count of opened physical connections</span>
+		 * <span class="zh-CN">打开的物理连接数</span>
+		 */
+		final AtomicInteger openedCount = new AtomicInteger(0);
+
+		@Override
+		public Connection connect(final String url, final Properties info) {
+			if (!this.acceptsURL(url)) {
+				return null;
+			}
+			this.openedCount.incrementAndGet();
+			AtomicInteger users = new AtomicInteger(0);
+			boolean[] closed = new boolean[]{Boolean.FALSE};
+			return (Connection) Proxy.newProxyInstance(StubDriver.class.getClassLoader(),
+					new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+						switch (method.getName()) {
+							case "isValid":
+								//  The borrower must be the only user of the connection
+								boolean exclusive = users.incrementAndGet() == 1;
+								Thread.yield();
+								users.decrementAndGet();
+								return exclusive && !closed[0];
+							case "close":
+							case "abort":
+								synchronized (closed) {
+									if (!closed[0]) {
+										closed[0] = Boolean.TRUE;
+										this.openedCount.decrementAndGet();
+									}
+								}
+								return null;
+							case "isClosed":
+								return closed[0];
+							case "getAutoCommit":
+								return Boolean.TRUE;
+							case "getTransactionIsolation":
+								return Connection.TRANSACTION_READ_COMMITTED;
+							case "hashCode":
+								return System.identityHashCode(proxy);
+							case "equals":
+								return proxy == args[0];
+							case "toString":
+								return "StubConnection@" + Integer.toHexString(System.identityHashCode(proxy));
+							default:
+								Class<?> returnType = method.getReturnType();
+								if (returnType == boolean.class) {
+									return Boolean.FALSE;
+								}
+								if (returnType == int.class) {
+									return 0;
+								}
+								if (returnType == long.class) {
+									return 0L;
+								}
+								return null;
+						}
+					});
+		}
+
+		@Override
+		public boolean acceptsURL(final String url) {
+			return JDBC_URL.equals(url);
+		}
+
+		@Override
+		public DriverPropertyInfo[] getPropertyInfo(final String url, final Properties info) {
+			return new DriverPropertyInfo[0];
+		}
+
+		@Override
+		public int getMajorVersion() {
+			return 1;
+		}
+
+		@Override
+		public int getMinorVersion() {
+			return 0;
+		}
+
+		@Override
+		public boolean jdbcCompliant() {
+			return Boolean.FALSE;
+		}
+
+		@Override
+		public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+			throw new SQLFeatureNotSupportedException();
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Stub dialect of the stub JDBC driver</h2>
+	 * <h2 class="zh-CN">桩JDBC驱动的桩方言</h2>
+	 */
+	@SchemaDialect(name = StubDialect.DIALECT_NAME, supportJoin = false,
+			types = {@DataType(code = Types.INTEGER, type = "INT")})
+	public static final class StubDialect extends JdbcDialect {
+
+		/**
+		 * <span class="en-US">Dialect name</span>
+		 * <span class="zh-CN">方言名称</span>
+		 */
+		static final String DIALECT_NAME = "StubDialect";
+
+		/**
+		 * <h4 class="en-US">Constructor method for stub dialect</h4>
+		 * <h4 class="zh-CN">桩方言的构造方法</h4>
+		 *
+		 * @throws DialectException <span class="en-US">If the dialect annotation not found</span>
+		 *                          <span class="zh-CN">如果方言注解未找到</span>
+		 */
+		public StubDialect() throws DialectException {
+			super();
+		}
+
+		@Override
+		public <T> T unwrap(final Class<T> clazz) throws SQLException {
+			try {
+				return clazz.cast(this);
+			} catch (ClassCastException e) {
+				throw new SQLException(e);
+			}
+		}
+
+		@Override
+		public boolean isWrapperFor(final Class<?> clazz) {
+			return clazz.isInstance(this);
+		}
+
+		@Override
+		public String nameCase(final String name) {
+			return name;
+		}
+
+		@Override
+		public Properties properties(final TrustStore trustStore, final Authentication authentication) {
+			return new Properties();
+		}
+
+		@Override
+		protected String databaseCommand() {
+			return "";
+		}
+
+		@Override
+		public String currentDate() {
+			return "CURRENT_DATE";
+		}
+
+		@Override
+		public String currentTime() {
+			return "CURRENT_TIME";
+		}
+
+		@Override
+		public String currentTimestamp() {
+			return "CURRENT_TIMESTAMP";
+		}
+	}
+}
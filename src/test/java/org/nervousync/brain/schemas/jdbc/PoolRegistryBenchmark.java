@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.brain.schemas.jdbc;
+
+import org.nervousync.brain.configs.schema.impl.JdbcSchemaConfig;
+import org.nervousync.brain.dialects.DialectFactory;
+import org.nervousync.commons.Globals;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2 class="en-US">Benchmark of the connection pool registry keyed by server and shard</h2>
+ * <p class="en-US">
+ *     Compares the lookup of the registry map used by JDBC data source with the linear scanning of the pool list
+ *     replaced by the map, from 1 to 1,000 shards. The pools were created without any database connection.
+ *     Run after the test classes were compiled: java -cp &lt;test classpath&gt; org.openjdk.jmh.Main PoolRegistryBenchmark
+ * </p>
+ * <h2 class="zh-CN">以服务器和分片为键的连接池注册表的基准测试</h2>
+ * <p class="zh-CN">
+ *     在1到1,000个分片下，比较JDBC数据源使用的注册表映射的查找与被映射替换的连接池列表线性扫描。连接池创建时不建立数据库连接。
+ *     测试类编译后运行：java -cp &lt;测试类路径&gt; org.openjdk.jmh.Main PoolRegistryBenchmark
+ * </p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 20, 2026 00:36:48 $
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PoolRegistryBenchmark {
+
+	/**
+	 * <span class="en-US">Count of registered shards</span>
+	 * <span class="zh-CN">已注册的分片数量</span>
+	 */
+	@Param({"1", "10", "100", "1000"})
+	int shards;
+
+	/**
+	 * <span class="en-US">JDBC data source instance of the pools</span>
+	 * <span class="zh-CN">连接池的JDBC数据源实例</span>
+	 */
+	private JdbcSchema jdbcSchema = null;
+	/**
+	 * <span class="en-US">Registered connection pools mapping</span>
+	 * <span class="zh-CN">已注册的连接池映射表</span>
+	 */
+	private final Map<PoolKey, JdbcConnectionPool> registeredPools = new ConcurrentHashMap<>();
+	/**
+	 * <span class="en-US">Registered connection pools list</span>
+	 * <span class="zh-CN">已注册的连接池列表</span>
+	 */
+	private final List<JdbcConnectionPool> poolList = new ArrayList<>();
+	/**
+	 * <span class="en-US">Sharding values of the registered pools</span>
+	 * <span class="zh-CN">已注册连接池的分片值</span>
+	 */
+	private String[] shardingKeys;
+	/**
+	 * <span class="en-US">Index of the next looked up sharding value</span>
+	 * <span class="zh-CN">下一个查找的分片值索引</span>
+	 */
+	private int index = 0;
+
+	/**
+	 * <h4 class="en-US">Run the benchmark</h4>
+	 * <h4 class="zh-CN">运行基准测试</h4>
+	 *
+	 * @param args <span class="en-US">Command arguments</span>
+	 *             <span class="zh-CN">命令参数</span>
+	 * @throws RunnerException <span class="en-US">An error occurred during running</span>
+	 *                         <span class="zh-CN">运行过程中出错</span>
+	 */
+	public static void main(final String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(PoolRegistryBenchmark.class.getSimpleName()).build()).run();
+	}
+
+	/**
+	 * <h4 class="en-US">Create the JDBC data source of the stub dialect, no database connection was created</h4>
+	 * <h4 class="zh-CN">创建桩方言的JDBC数据源，不创建数据库连接</h4>
+	 *
+	 * @return <span class="en-US">JDBC data source instance</span>
+	 * <span class="zh-CN">JDBC数据源实例</span>
+	 * @throws Exception <span class="en-US">An error occurred while creating the data source</span>
+	 *                   <span class="zh-CN">创建数据源时出错</span>
+	 */
+	static JdbcSchema stubSchema() throws Exception {
+		DialectFactory.register(new JdbcConnectionPoolTest.StubDialect());
+		JdbcSchemaConfig schemaConfig = new JdbcSchemaConfig();
+		schemaConfig.setSchemaName("BenchmarkSchema");
+		schemaConfig.setDialectName(JdbcConnectionPoolTest.StubDialect.DIALECT_NAME);
+		schemaConfig.setJdbcUrl("jdbc:brain-stub:benchmark");
+		schemaConfig.setPooled(Boolean.FALSE);
+		return new JdbcSchema(schemaConfig);
+	}
+
+	/**
+	 * <h4 class="en-US">Create the connection pools of the given shard count</h4>
+	 * <h4 class="zh-CN">创建给定分片数量的连接池</h4>
+	 *
+	 * @param jdbcSchema <span class="en-US">JDBC data source instance</span>
+	 *                   <span class="zh-CN">JDBC数据源实例</span>
+	 * @param shards     <span class="en-US">Count of shards</span>
+	 *                   <span class="zh-CN">分片数量</span>
+	 * @return <span class="en-US">Created connection pools list</span>
+	 * <span class="zh-CN">创建的连接池列表</span>
+	 */
+	static List<JdbcConnectionPool> stubPools(final JdbcSchema jdbcSchema, final int shards) {
+		List<JdbcConnectionPool> connectionPools = new ArrayList<>(shards);
+		for (int i = 0; i < shards; i++) {
+			PoolKey poolKey = new PoolKey(Globals.DEFAULT_VALUE_STRING, "shard_" + i);
+			connectionPools.add(new JdbcConnectionPool(jdbcSchema, Boolean.FALSE, poolKey,
+					"jdbc:brain-stub:benchmark/" + poolKey.shardingKey()));
+		}
+		return connectionPools;
+	}
+
+	/**
+	 * <h4 class="en-US">Register the connection pools</h4>
+	 * <h4 class="zh-CN">注册连接池</h4>
+	 *
+	 * @throws Exception <span class="en-US">An error occurred while creating the data source</span>
+	 *                   <span class="zh-CN">创建数据源时出错</span>
+	 */
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		this.jdbcSchema = stubSchema();
+		this.shardingKeys = new String[this.shards];
+		for (JdbcConnectionPool connectionPool : stubPools(this.jdbcSchema, this.shards)) {
+			PoolKey poolKey = connectionPool.getPoolKey();
+			this.shardingKeys[this.registeredPools.size()] = poolKey.shardingKey();
+			this.registeredPools.put(poolKey, connectionPool);
+			this.poolList.add(connectionPool);
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Close the JDBC data source</h4>
+	 * <h4 class="zh-CN">关闭JDBC数据源</h4>
+	 *
+	 * @throws SQLException <span class="en-US">An error occurred while closing the data source</span>
+	 *                      <span class="zh-CN">关闭数据源时出错</span>
+	 */
+	@TearDown(Level.Trial)
+	public void close() throws SQLException {
+		this.registeredPools.clear();
+		this.poolList.clear();
+		this.jdbcSchema.close();
+	}
+
+	/**
+	 * <h4 class="en-US">Look up the connection pool in the registry map, the same way as the JDBC data source</h4>
+	 * <h4 class="zh-CN">与JDBC数据源相同地在注册表映射中查找连接池</h4>
+	 *
+	 * @return <span class="en-US">Found connection pool</span>
+	 * <span class="zh-CN">找到的连接池</span>
+	 */
+	@Benchmark
+	public JdbcConnectionPool mapLookup() {
+		return this.registeredPools.get(new PoolKey(Globals.DEFAULT_VALUE_STRING, this.nextKey()));
+	}
+
+	/**
+	 * <h4 class="en-US">Look up the connection pool by scanning the pool list, the replaced implementation</h4>
+	 * <h4 class="zh-CN">通过扫描连接池列表查找连接池，即被替换的实现</h4>
+	 *
+	 * @return <span class="en-US">Found connection pool</span>
+	 * <span class="zh-CN">找到的连接池</span>
+	 */
+	@Benchmark
+	public JdbcConnectionPool linearLookup() {
+		PoolKey poolKey = new PoolKey(Globals.DEFAULT_VALUE_STRING, this.nextKey());
+		return this.poolList.stream()
+				.filter(connectionPool -> connectionPool.getPoolKey().equals(poolKey))
+				.findFirst()
+				.orElse(null);
+	}
+
+	/**
+	 * <h4 class="en-US">Read the next looked up sharding value, the values were looked up in turn</h4>
+	 * <h4 class="zh-CN">读取下一个查找的分片值，分片值依次查找</h4>
+	 *
+	 * @return <span class="en-US">Sharding value</span>
+	 * <span class="zh-CN">分片值</span>
+	 */
+	private String nextKey() {
+		String shardingKey = this.shardingKeys[this.index];
+		this.index = (this.index + 1) % this.shards;
+		return shardingKey;
+	}
+}
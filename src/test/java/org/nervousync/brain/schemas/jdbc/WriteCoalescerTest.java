@@ -0,0 +1,576 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.brain.schemas.jdbc;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.nervousync.brain.configs.schema.impl.JdbcSchemaConfig;
+import org.nervousync.brain.dialects.DialectFactory;
+import org.nervousync.brain.dialects.jdbc.JdbcDialect;
+
+import java.lang.reflect.Proxy;
+import java.sql.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * <h2 class="en-US">Test cases of the group commit coalescer of the small writes</h2>
+ * <p class="en-US">
+ *     The batches were executed by a stub JDBC driver, no database server was required.
+ *     The driver records every executed batch and fails the rows whose bound value starts with "fail".
+ * </p>
+ * <h2 class="zh-CN">小型写入的组提交合并器的测试用例</h2>
+ * <p class="zh-CN">批处理由桩JDBC驱动执行，不需要数据库服务器。驱动记录每个执行的批处理，并使绑定值以"fail"开头的行失败。</p>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 23:58:06 $
+ */
+public final class WriteCoalescerTest {
+
+	/**
+	 * <span class="en-US">Maximum waiting time of the write result (Unit: seconds)</span>
+	 * <span class="zh-CN">写入结果的最长等待时间（单位：秒）</span>
+	 */
+	private static final long WAIT_TIME = 10L;
+	/**
+	 * <span class="en-US">Maximum delay of the first coalesced write, never reached by the tests (Unit: microseconds)</span>
+	 * <span class="zh-CN">第一个合并写入的最大延迟，测试中不会达到（单位：微秒）</span>
+	 */
+	private static final long MAX_DELAY = TimeUnit.MINUTES.toMicros(10L);
+
+	/**
+	 * <span class="en-US">Stub JDBC driver</span>
+	 * <span class="zh-CN">桩JDBC驱动</span>
+	 */
+	private final StubDriver stubDriver = new StubDriver();
+	/**
+	 * <span class="en-US">Scheduler captures the timeout tasks, the tasks were run by the test cases</span>
+	 * <span class="zh-CN">捕获超时任务的调度器，任务由测试用例运行</span>
+	 */
+	private final CapturedScheduler scheduler = new CapturedScheduler();
+	/**
+	 * <span class="en-US">Executor of the timeout batches</span>
+	 * <span class="zh-CN">超时批处理的执行器</span>
+	 */
+	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+	/**
+	 * <span class="en-US">JDBC data source instance</span>
+	 * <span class="zh-CN">JDBC数据源实例</span>
+	 */
+	private JdbcSchema jdbcSchema = null;
+	/**
+	 * <span class="en-US">Stub dialect instance</span>
+	 * <span class="zh-CN">桩方言实例</span>
+	 */
+	private JdbcDialect dialect = null;
+
+	/**
+	 * <h4 class="en-US">Register the stub driver and initialize the data source</h4>
+	 * <h4 class="zh-CN">注册桩驱动并初始化数据源</h4>
+	 *
+	 * @throws Exception <span class="en-US">An error occurred during initialize</span>
+	 *                   <span class="zh-CN">初始化过程中出错</span>
+	 */
+	@BeforeEach
+	public void initialize() throws Exception {
+		DriverManager.registerDriver(this.stubDriver);
+		this.dialect = new JdbcConnectionPoolTest.StubDialect();
+		DialectFactory.register(this.dialect);
+
+		JdbcSchemaConfig schemaConfig = new JdbcSchemaConfig();
+		schemaConfig.setSchemaName("CoalesceSchema");
+		schemaConfig.setDialectName(JdbcConnectionPoolTest.StubDialect.DIALECT_NAME);
+		schemaConfig.setJdbcUrl(StubDriver.JDBC_URL);
+		schemaConfig.setPooled(Boolean.TRUE);
+		schemaConfig.setMinConnections(1);
+		schemaConfig.setMaxConnections(4);
+		schemaConfig.setConnectTimeout((int) WAIT_TIME);
+		this.jdbcSchema = new JdbcSchema(schemaConfig);
+		this.jdbcSchema.initialize();
+	}
+
+	/**
+	 * <h4 class="en-US">Close the data source and deregister the stub driver</h4>
+	 * <h4 class="zh-CN">关闭数据源并注销桩驱动</h4>
+	 *
+	 * @throws SQLException <span class="en-US">An error occurred while deregister the driver</span>
+	 *                      <span class="zh-CN">注销驱动时出错</span>
+	 */
+	@AfterEach
+	public void close() throws SQLException {
+		this.executor.shutdownNow();
+		this.scheduler.shutdownNow();
+		if (this.jdbcSchema != null) {
+			this.jdbcSchema.close();
+		}
+		DriverManager.deregisterDriver(this.stubDriver);
+	}
+
+	/**
+	 * <h4 class="en-US">Every caller receives the update count and generated keys of its own row</h4>
+	 * <h4 class="zh-CN">每个调用者收到其自身行的更新数量和生成的主键</h4>
+	 *
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	@Test
+	public void resultMapping() throws Exception {
+		WriteCoalescer writeCoalescer = this.coalescer(3);
+		Map<String, CompletableFuture<WriteCoalescer.WriteResult>> futures = this.submit(writeCoalescer,
+				"row-1", "row-2", "row-3");
+		Assertions.assertEquals(List.of(List.of("row-1", "row-2", "row-3")), this.stubDriver.batches);
+		for (Map.Entry<String, CompletableFuture<WriteCoalescer.WriteResult>> entry : futures.entrySet()) {
+			WriteCoalescer.WriteResult writeResult = entry.getValue().get(WAIT_TIME, TimeUnit.SECONDS);
+			Assertions.assertEquals(1, writeResult.updateCount());
+			Assertions.assertEquals(Map.of(StubDriver.KEY_COLUMN, "key-" + entry.getKey()),
+					writeResult.generatedKeys());
+		}
+		Assertions.assertEquals(1, this.stubDriver.commitCount.get());
+		Assertions.assertEquals(0, this.stubDriver.rollbackCount.get());
+	}
+
+	/**
+	 * <h4 class="en-US">The row marked failed by the driver fails, the other rows were executed again</h4>
+	 * <h4 class="zh-CN">驱动标记失败的行失败，其他行被再次执行</h4>
+	 *
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	@Test
+	public void failedMarked() throws Exception {
+		this.stubDriver.failMode = FailMode.MARKED;
+		this.assertSplit();
+	}
+
+	/**
+	 * <h4 class="en-US">The driver stopped at the failed row, the failed row fails and the other rows were executed again</h4>
+	 * <h4 class="zh-CN">驱动在失败的行处停止，失败的行失败，其他行被再次执行</h4>
+	 *
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	@Test
+	public void failedStopped() throws Exception {
+		this.stubDriver.failMode = FailMode.STOPPED;
+		this.assertSplit();
+	}
+
+	/**
+	 * <h4 class="en-US">Every row fails if the failed row can not be located, the batch was not executed again</h4>
+	 * <h4 class="zh-CN">无法定位失败的行时所有行失败，批处理不会被再次执行</h4>
+	 *
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	@Test
+	public void failedUnknown() throws Exception {
+		this.stubDriver.failMode = FailMode.UNKNOWN;
+		WriteCoalescer writeCoalescer = this.coalescer(3);
+		Map<String, CompletableFuture<WriteCoalescer.WriteResult>> futures = this.submit(writeCoalescer,
+				"row-1", "fail-2", "row-3");
+		Assertions.assertEquals(List.of(List.of("row-1", "fail-2", "row-3")), this.stubDriver.batches);
+		for (CompletableFuture<WriteCoalescer.WriteResult> future : futures.values()) {
+			assertFailed(future);
+		}
+		Assertions.assertEquals(0, this.stubDriver.commitCount.get());
+	}
+
+	/**
+	 * <h4 class="en-US">The timeout of an executed generation does not execute the next batch early</h4>
+	 * <p class="en-US">
+	 *     The first batch was executed when it was full, the timeout task scheduled by its first write must not
+	 *     drain the write of the next generation, which was executed by its own timeout task.
+	 * </p>
+	 * <h4 class="zh-CN">已执行批次的超时不会提前执行下一个批处理</h4>
+	 * <p class="zh-CN">
+	 *     第一个批处理在写满时执行，其第一个写入调度的超时任务不能取出下一批次的写入，该写入由其自身的超时任务执行。
+	 * </p>
+	 *
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	@Test
+	public void generationTimeout() throws Exception {
+		WriteCoalescer writeCoalescer = this.coalescer(2);
+		Map<String, CompletableFuture<WriteCoalescer.WriteResult>> futures = this.submit(writeCoalescer,
+				"row-1", "row-2", "row-3");
+		Assertions.assertEquals(List.of(List.of("row-1", "row-2")), this.stubDriver.batches);
+		Assertions.assertEquals(2, this.scheduler.tasks.size());
+
+		//  Timeout of the executed generation
+		this.scheduler.tasks.get(0).run();
+		Assertions.assertFalse(futures.get("row-3").isDone());
+		Assertions.assertEquals(1, this.stubDriver.batches.size());
+
+		this.scheduler.tasks.get(1).run();
+		Assertions.assertEquals(1, futures.get("row-3").get(WAIT_TIME, TimeUnit.SECONDS).updateCount());
+		Assertions.assertEquals(List.of(List.of("row-1", "row-2"), List.of("row-3")), this.stubDriver.batches);
+	}
+
+	/**
+	 * <h4 class="en-US">Submit three writes, the second one fails, check the batch was split and executed again</h4>
+	 * <h4 class="zh-CN">提交三个写入，第二个写入失败，检查批处理被拆分并再次执行</h4>
+	 *
+	 * @throws Exception <span class="en-US">An error occurred during execution</span>
+	 *                   <span class="zh-CN">执行过程中出错</span>
+	 */
+	private void assertSplit() throws Exception {
+		WriteCoalescer writeCoalescer = this.coalescer(3);
+		Map<String, CompletableFuture<WriteCoalescer.WriteResult>> futures = this.submit(writeCoalescer,
+				"row-1", "fail-2", "row-3");
+		Assertions.assertEquals(List.of(List.of("row-1", "fail-2", "row-3"), List.of("row-1", "row-3")),
+				this.stubDriver.batches);
+		assertFailed(futures.get("fail-2"));
+		for (String value : List.of("row-1", "row-3")) {
+			WriteCoalescer.WriteResult writeResult = futures.get(value).get(WAIT_TIME, TimeUnit.SECONDS);
+			Assertions.assertEquals(1, writeResult.updateCount());
+			Assertions.assertEquals(Map.of(StubDriver.KEY_COLUMN, "key-" + value), writeResult.generatedKeys());
+		}
+		Assertions.assertEquals(1, this.stubDriver.rollbackCount.get());
+		Assertions.assertEquals(1, this.stubDriver.commitCount.get());
+	}
+
+	/**
+	 * <h4 class="en-US">Create the coalescer of the data source with the captured scheduler</h4>
+	 * <h4 class="zh-CN">使用捕获的调度器创建数据源的合并器</h4>
+	 *
+	 * @param batchSize <span class="en-US">Maximum rows of the coalesced write batch</span>
+	 *                  <span class="zh-CN">合并写入批处理的最大行数</span>
+	 * @return <span class="en-US">Coalescer instance</span>
+	 * <span class="zh-CN">合并器实例</span>
+	 */
+	private WriteCoalescer coalescer(final int batchSize) {
+		return new WriteCoalescer(this.jdbcSchema, batchSize, MAX_DELAY, this.scheduler, this.executor);
+	}
+
+	/**
+	 * <h4 class="en-US">Submit the delete writes of the given bound values in order</h4>
+	 * <h4 class="zh-CN">按顺序提交给定绑定值的删除写入</h4>
+	 *
+	 * @param writeCoalescer <span class="en-US">Coalescer instance</span>
+	 *                       <span class="zh-CN">合并器实例</span>
+	 * @param values         <span class="en-US">Bound values</span>
+	 *                       <span class="zh-CN">绑定值</span>
+	 * @return <span class="en-US">Write result future mapping, key is the bound value</span>
+	 * <span class="zh-CN">写入结果的映射表，键值为绑定值</span>
+	 * @throws SQLException <span class="en-US">An error occurred while generating the SQL command</span>
+	 *                      <span class="zh-CN">生成SQL命令时出错</span>
+	 */
+	private Map<String, CompletableFuture<WriteCoalescer.WriteResult>> submit(
+			final WriteCoalescer writeCoalescer, final String... values) throws SQLException {
+		Map<String, CompletableFuture<WriteCoalescer.WriteResult>> futures = new LinkedHashMap<>();
+		for (String value : values) {
+			futures.put(value, writeCoalescer.submit(null,
+					this.dialect.deleteCommand("coalesce_record", Map.of("identify", value)), Boolean.TRUE));
+		}
+		return futures;
+	}
+
+	/**
+	 * <h4 class="en-US">Check the write failed by the batch update exception</h4>
+	 * <h4 class="zh-CN">检查写入因批量更新异常而失败</h4>
+	 *
+	 * @param future <span class="en-US">Write result future</span>
+	 *               <span class="zh-CN">写入结果</span>
+	 */
+	private static void assertFailed(final CompletableFuture<WriteCoalescer.WriteResult> future) {
+		ExecutionException exception = Assertions.assertThrows(ExecutionException.class,
+				() -> future.get(WAIT_TIME, TimeUnit.SECONDS));
+		Assertions.assertTrue(exception.getCause() instanceof BatchUpdateException, String.valueOf(exception));
+	}
+
+	/**
+	 * <h2 class="en-US">Enumeration of the batch failure reported by the stub driver</h2>
+	 * <h2 class="zh-CN">桩驱动报告的批处理失败的枚举</h2>
+	 */
+	private enum FailMode {
+		/**
+		 * <span class="en-US">Every row was executed, the failed rows were marked EXECUTE_FAILED</span>
+		 * <span class="zh-CN">所有行都被执行，失败的行被标记为EXECUTE_FAILED</span>
+		 */
+		MARKED,
+		/**
+		 * <span class="en-US">The execution stopped at the first failed row</span>
+		 * <span class="zh-CN">执行在第一个失败的行处停止</span>
+		 */
+		STOPPED,
+		/**
+		 * <span class="en-US">Every row reported success, the failed row can not be located</span>
+		 * <span class="zh-CN">所有行报告成功，无法定位失败的行</span>
+		 */
+		UNKNOWN
+	}
+
+	/**
+	 * <h2 class="en-US">Scheduler captures the scheduled tasks instead of running them</h2>
+	 * <h2 class="zh-CN">捕获调度任务而不运行的调度器</h2>
+	 */
+	private static final class CapturedScheduler extends ScheduledThreadPoolExecutor {
+
+		/**
+		 * <span class="en-US">Captured tasks in the scheduled order</span>
+		 * <span class="zh-CN">按调度顺序捕获的任务</span>
+		 */
+		final List<Runnable> tasks = new CopyOnWriteArrayList<>();
+
+		/**
+		 * <h4 class="en-US">Constructor method for captured scheduler</h4>
+		 * <h4 class="zh-CN">捕获调度器的构造方法</h4>
+		 */
+		CapturedScheduler() {
+			super(1);
+		}
+
+		@Override
+		public ScheduledFuture<?> schedule(final Runnable command, final long delay, final TimeUnit unit) {
+			this.tasks.add(command);
+			return null;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Stub JDBC driver, records the executed batches and generates one key for each row</h2>
+	 * <h2 class="zh-CN">桩JDBC驱动，记录执行的批处理并为每一行生成一个主键</h2>
+	 */
+	private static final class StubDriver implements Driver {
+
+		/**
+		 * <span class="en-US">JDBC connection string accepted by the stub driver</span>
+		 * <span class="zh-CN">桩驱动接受的JDBC连接字符串</span>
+		 */
+		static final String JDBC_URL = "jdbc:brain-stub:coalesce";
+		/**
+		 * <span class="en-US">Column label of the generated key</span>
+		 * <span class="zh-CN">生成主键的列标签</span>
+		 */
+		static final String KEY_COLUMN = "ID";
+		/**
+		 * <span class="en-US">Bound values of the executed batches in the executed order</span>
+		 * <span class="zh-CN">按执行顺序保存的已执行批处理的绑定值</span>
+		 */
+		final List<List<Object>> batches = new CopyOnWriteArrayList<>();
+		/**
+		 * <span class="en-US">Count of commits</span>
+		 * <span class="zh-CN">提交次数</span>
+		 */
+		final AtomicInteger commitCount = new AtomicInteger(0);
+		/**
+		 * <span class="en-US">Count of rollbacks</span>
+		 * <span class="zh-CN">回滚次数</span>
+		 */
+		final AtomicInteger rollbackCount = new AtomicInteger(0);
+		/**
+		 * <span class="en-US">Batch failure reported by the driver</span>
+		 * <span class="zh-CN">驱动报告的批处理失败</span>
+		 */
+		volatile FailMode failMode = FailMode.MARKED;
+
+		@Override
+		public Connection connect(final String url, final Properties info) {
+			if (!this.acceptsURL(url)) {
+				return null;
+			}
+			boolean[] autoCommit = new boolean[]{Boolean.TRUE};
+			boolean[] closed = new boolean[]{Boolean.FALSE};
+			return (Connection) Proxy.newProxyInstance(StubDriver.class.getClassLoader(),
+					new Class<?>[]{Connection.class}, (proxy, method, args) -> switch (method.getName()) {
+						case "prepareStatement" -> this.statement();
+						case "getAutoCommit" -> autoCommit[0];
+						case "setAutoCommit" -> {
+							autoCommit[0] = (Boolean) args[0];
+							yield null;
+						}
+						case "commit" -> {
+							this.commitCount.incrementAndGet();
+							yield null;
+						}
+						case "rollback" -> {
+							if (args == null) {
+								this.rollbackCount.incrementAndGet();
+							}
+							yield null;
+						}
+						case "isValid" -> !closed[0];
+						case "close", "abort" -> {
+							closed[0] = Boolean.TRUE;
+							yield null;
+						}
+						case "isClosed" -> closed[0];
+						case "getTransactionIsolation" -> Connection.TRANSACTION_READ_COMMITTED;
+						case "hashCode" -> System.identityHashCode(proxy);
+						case "equals" -> proxy == args[0];
+						case "toString" -> "StubConnection@" + Integer.toHexString(System.identityHashCode(proxy));
+						default -> defaultValue(method.getReturnType());
+					});
+		}
+
+		/**
+		 * <h4 class="en-US">Create the stub prepared statement, the first bound value identifies the row</h4>
+		 * <h4 class="zh-CN">创建桩预编译查询分析器，第一个绑定值标识行</h4>
+		 *
+		 * @return <span class="en-US">Stub prepared statement</span>
+		 * <span class="zh-CN">桩预编译查询分析器</span>
+		 */
+		private PreparedStatement statement() {
+			Object[] current = new Object[1];
+			List<Object> rows = new ArrayList<>();
+			List<Object> executed = new ArrayList<>();
+			return (PreparedStatement) Proxy.newProxyInstance(StubDriver.class.getClassLoader(),
+					new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> switch (method.getName()) {
+						case "setObject" -> {
+							if ((Integer) args[0] == 1) {
+								current[0] = args[1];
+							}
+							yield null;
+						}
+						case "addBatch" -> {
+							rows.add(current[0]);
+							yield null;
+						}
+						case "clearBatch" -> {
+							rows.clear();
+							yield null;
+						}
+						case "executeBatch" -> {
+							List<Object> batch = List.copyOf(rows);
+							rows.clear();
+							this.batches.add(batch);
+							executed.clear();
+							executed.addAll(batch);
+							yield this.execute(batch);
+						}
+						case "getGeneratedKeys" -> generatedKeys(executed);
+						case "hashCode" -> System.identityHashCode(proxy);
+						case "equals" -> proxy == args[0];
+						default -> defaultValue(method.getReturnType());
+					});
+		}
+
+		/**
+		 * <h4 class="en-US">Execute the batch, throw the batch update exception if any row fails</h4>
+		 * <h4 class="zh-CN">执行批处理，任意行失败时抛出批量更新异常</h4>
+		 *
+		 * @param batch <span class="en-US">Bound values of the batch rows</span>
+		 *              <span class="zh-CN">批处理行的绑定值</span>
+		 * @return <span class="en-US">Update counts</span>
+		 * <span class="zh-CN">更新数量</span>
+		 * @throws BatchUpdateException <span class="en-US">If any row fails</span>
+		 *                              <span class="zh-CN">如果任意行失败</span>
+		 */
+		private int[] execute(final List<Object> batch) throws BatchUpdateException {
+			int[] updateCounts = new int[batch.size()];
+			int failedIndex = -1;
+			for (int i = 0; i < batch.size(); i++) {
+				boolean failed = String.valueOf(batch.get(i)).startsWith("fail");
+				if (failed && failedIndex == -1) {
+					failedIndex = i;
+				}
+				updateCounts[i] = (failed && this.failMode == FailMode.MARKED) ? Statement.EXECUTE_FAILED : 1;
+			}
+			if (failedIndex == -1) {
+				return updateCounts;
+			}
+			if (this.failMode == FailMode.STOPPED) {
+				updateCounts = Arrays.copyOf(updateCounts, failedIndex);
+			}
+			throw new BatchUpdateException("Row " + failedIndex + " failed", updateCounts);
+		}
+
+		/**
+		 * <h4 class="en-US">Generate the result set of generated keys, one row for each executed row</h4>
+		 * <h4 class="zh-CN">生成主键的结果集，每个已执行的行一行</h4>
+		 *
+		 * @param executed <span class="en-US">Bound values of the executed rows</span>
+		 *                 <span class="zh-CN">已执行行的绑定值</span>
+		 * @return <span class="en-US">Stub result set</span>
+		 * <span class="zh-CN">桩结果集</span>
+		 */
+		private static ResultSet generatedKeys(final List<Object> executed) {
+			int[] cursor = new int[]{-1};
+			ResultSetMetaData metaData = (ResultSetMetaData) Proxy.newProxyInstance(
+					StubDriver.class.getClassLoader(), new Class<?>[]{ResultSetMetaData.class},
+					(proxy, method, args) -> switch (method.getName()) {
+						case "getColumnCount" -> 1;
+						case "getColumnLabel" -> KEY_COLUMN;
+						default -> defaultValue(method.getReturnType());
+					});
+			return (ResultSet) Proxy.newProxyInstance(StubDriver.class.getClassLoader(),
+					new Class<?>[]{ResultSet.class}, (proxy, method, args) -> switch (method.getName()) {
+						case "getMetaData" -> metaData;
+						case "next" -> ++cursor[0] < executed.size();
+						case "getObject" -> "key-" + executed.get(cursor[0]);
+						default -> defaultValue(method.getReturnType());
+					});
+		}
+
+		/**
+		 * <h4 class="en-US">Default return value of the methods not simulated</h4>
+		 * <h4 class="zh-CN">未模拟方法的默认返回值</h4>
+		 *
+		 * @param returnType <span class="en-US">Return type of the method</span>
+		 *                   <span class="zh-CN">方法的返回类型</span>
+		 * @return <span class="en-US">Default value</span>
+		 * <span class="zh-CN">默认值</span>
+		 */
+		private static Object defaultValue(final Class<?> returnType) {
+			if (returnType == boolean.class) {
+				return Boolean.FALSE;
+			}
+			if (returnType == int.class) {
+				return 0;
+			}
+			if (returnType == long.class) {
+				return 0L;
+			}
+			return null;
+		}
+
+		@Override
+		public boolean acceptsURL(final String url) {
+			return JDBC_URL.equals(url);
+		}
+
+		@Override
+		public DriverPropertyInfo[] getPropertyInfo(final String url, final Properties info) {
+			return new DriverPropertyInfo[0];
+		}
+
+		@Override
+		public int getMajorVersion() {
+			return 1;
+		}
+
+		@Override
+		public int getMinorVersion() {
+			return 0;
+		}
+
+		@Override
+		public boolean jdbcCompliant() {
+			return Boolean.FALSE;
+		}
+
+		@Override
+		public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+			throw new SQLFeatureNotSupportedException();
+		}
+	}
+}
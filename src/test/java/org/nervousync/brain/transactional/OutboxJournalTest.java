@@ -0,0 +1,447 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.brain.transactional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.nervousync.brain.enumerations.transactional.OutboxType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * <h2 class="en-US">Test cases of write-behind outbox journal</h2>
+ * <h2 class="zh-CN">后写发件箱日志的测试用例</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 22:08:41 $
+ */
+public final class OutboxJournalTest {
+
+	/**
+	 * <span class="en-US">Mapped size of segment file, holds a few records only so the segments roll over quickly</span>
+	 * <span class="zh-CN">分段文件的映射大小，只能容纳少量记录以便分段快速滚动</span>
+	 */
+	private static final int SEGMENT_SIZE = 4096;
+	/**
+	 * <span class="en-US">Record header length, includes payload length and checksum</span>
+	 * <span class="zh-CN">记录头长度，包含载荷长度和校验值</span>
+	 */
+	private static final int HEADER_LENGTH = Integer.BYTES * 2;
+
+	/**
+	 * <span class="en-US">Temporary journal directory</span>
+	 * <span class="zh-CN">临时日志目录</span>
+	 */
+	@TempDir
+	Path tempDir;
+
+	/**
+	 * <h4 class="en-US">The pending writes were replayed in the accepted order, the applied writes were not</h4>
+	 * <h4 class="zh-CN">待处理的写入按接受顺序重放，已应用的写入不被重放</h4>
+	 *
+	 * @throws Exception <span class="en-US">If the journal could not be written</span>
+	 *                   <span class="zh-CN">如果日志无法写入</span>
+	 */
+	@Test
+	public void replayPending() throws Exception {
+		try (OutboxJournal outboxJournal = this.open()) {
+			Assertions.assertTrue(outboxJournal.accept(entry("key-1")));
+			Assertions.assertTrue(outboxJournal.accept(entry("key-2")));
+			Assertions.assertTrue(outboxJournal.accept(entry("key-3")));
+			Assertions.assertFalse(outboxJournal.accept(entry("key-2")));
+			outboxJournal.applied(List.of("key-2"));
+			Assertions.assertEquals(List.of("key-1", "key-3"), keys(outboxJournal));
+		}
+		try (OutboxJournal outboxJournal = this.open()) {
+			Assertions.assertEquals(List.of("key-1", "key-3"), keys(outboxJournal));
+			Assertions.assertEquals(entry("key-3"), outboxJournal.pending(1,
+					outboxEntry -> outboxEntry.idempotencyKey().equals("key-3")).get(0).outboxEntry());
+			outboxJournal.pending(Integer.MAX_VALUE, outboxEntry -> Boolean.TRUE)
+					.forEach(pendingRecord -> Assertions.assertTrue(pendingRecord.recovered()));
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">The record failed the checksum at the tail was dropped and overwritten by the next write</h4>
+	 * <h4 class="zh-CN">尾部校验失败的记录被丢弃并被下一次写入覆盖</h4>
+	 *
+	 * @throws Exception <span class="en-US">If the journal could not be written</span>
+	 *                   <span class="zh-CN">如果日志无法写入</span>
+	 */
+	@Test
+	public void tornTail() throws Exception {
+		try (OutboxJournal outboxJournal = this.open()) {
+			outboxJournal.accept(entry("key-1"));
+			outboxJournal.accept(entry("key-2"));
+		}
+		Path segmentPath = this.segments().get(0);
+		ByteBuffer byteBuffer = ByteBuffer.wrap(Files.readAllBytes(segmentPath));
+		int position = HEADER_LENGTH + byteBuffer.getInt(0);
+		int length = byteBuffer.getInt(position);
+		//  Flip the last payload byte of the second record, as if the write was torn
+		int corrupt = position + HEADER_LENGTH + length - 1;
+		byteBuffer.put(corrupt, (byte) ~byteBuffer.get(corrupt));
+		Files.write(segmentPath, byteBuffer.array());
+
+		try (OutboxJournal outboxJournal = this.open()) {
+			Assertions.assertEquals(List.of("key-1"), keys(outboxJournal));
+			outboxJournal.accept(entry("key-3"));
+		}
+		try (OutboxJournal outboxJournal = this.open()) {
+			Assertions.assertEquals(List.of("key-1", "key-3"), keys(outboxJournal));
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">The record length exceeds the segment was treated as torn</h4>
+	 * <h4 class="zh-CN">记录长度超过分段时视为不完整的记录</h4>
+	 *
+	 * @throws Exception <span class="en-US">If the journal could not be written</span>
+	 *                   <span class="zh-CN">如果日志无法写入</span>
+	 */
+	@Test
+	public void tornLength() throws Exception {
+		try (OutboxJournal outboxJournal = this.open()) {
+			outboxJournal.accept(entry("key-1"));
+			outboxJournal.accept(entry("key-2"));
+		}
+		Path segmentPath = this.segments().get(0);
+		ByteBuffer byteBuffer = ByteBuffer.wrap(Files.readAllBytes(segmentPath));
+		byteBuffer.putInt(HEADER_LENGTH + byteBuffer.getInt(0), SEGMENT_SIZE);
+		Files.write(segmentPath, byteBuffer.array());
+
+		try (OutboxJournal outboxJournal = this.open()) {
+			Assertions.assertEquals(List.of("key-1"), keys(outboxJournal));
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">A new segment was created when full, the oldest segments were deleted when all their writes were applied</h4>
+	 * <h4 class="zh-CN">写满时创建新的分段，最旧的分段在其所有写入都已应用后删除</h4>
+	 *
+	 * @throws Exception <span class="en-US">If the journal could not be written</span>
+	 *                   <span class="zh-CN">如果日志无法写入</span>
+	 */
+	@Test
+	public void rolloverAndPurge() throws Exception {
+		List<String> keyList = new ArrayList<>();
+		List<String> pendingKeys;
+		try (OutboxJournal outboxJournal = this.open()) {
+			for (int i = 0; i < 32; i++) {
+				keyList.add("key-" + i);
+				outboxJournal.accept(entry("key-" + i));
+			}
+			Map<Long, List<String>> segmentKeys = new TreeMap<>();
+			outboxJournal.pending(Integer.MAX_VALUE, outboxEntry -> Boolean.TRUE)
+					.forEach(pendingRecord -> segmentKeys.computeIfAbsent(pendingRecord.segmentId(),
+							key -> new ArrayList<>()).add(pendingRecord.outboxEntry().idempotencyKey()));
+			Assertions.assertTrue(segmentKeys.size() > 2, "Segments not rolled over");
+			Assertions.assertEquals(segmentKeys.size(), this.segments().size());
+
+			List<List<String>> keysList = new ArrayList<>(segmentKeys.values());
+			//  The second segment was kept while the first segment still has pending writes
+			outboxJournal.applied(keysList.get(1));
+			Assertions.assertEquals(segmentKeys.size(), this.segments().size());
+			outboxJournal.applied(keysList.get(0).subList(0, keysList.get(0).size() - 1));
+			Assertions.assertEquals(segmentKeys.size(), this.segments().size());
+			//  Both segments were deleted once the last write of the first segment was applied
+			outboxJournal.applied(keysList.get(0));
+			Assertions.assertEquals(segmentKeys.size() - 2, this.segments().size());
+			pendingKeys = keys(outboxJournal);
+		}
+		try (OutboxJournal outboxJournal = this.open()) {
+			Assertions.assertEquals(pendingKeys, keys(outboxJournal));
+			outboxJournal.applied(keyList);
+			Assertions.assertEquals(0, outboxJournal.size());
+			Assertions.assertEquals(1, this.segments().size());
+		}
+		try (OutboxJournal outboxJournal = this.open()) {
+			Assertions.assertEquals(0, outboxJournal.size());
+			Assertions.assertEquals(1, this.segments().size());
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">The applied record written to a later segment removes the write accepted in an earlier segment</h4>
+	 * <h4 class="zh-CN">写入之后分段的已应用记录移除在之前分段接受的写入</h4>
+	 *
+	 * @throws Exception <span class="en-US">If the journal could not be written</span>
+	 *                   <span class="zh-CN">如果日志无法写入</span>
+	 */
+	@Test
+	public void appliedInLaterSegment() throws Exception {
+		try (OutboxJournal outboxJournal = this.open()) {
+			outboxJournal.accept(entry("first"));
+			outboxJournal.accept(entry("second"));
+			long firstSegment = this.segmentId(outboxJournal, "first");
+			int index = 0;
+			String fillerKey;
+			do {
+				fillerKey = "filler-" + index++;
+				outboxJournal.accept(entry(fillerKey));
+			} while (this.segmentId(outboxJournal, fillerKey) == firstSegment);
+			//  The applied record was written to the active segment, the first segment keeps the second write
+			outboxJournal.applied(List.of("first"));
+			Assertions.assertEquals(firstSegment, this.segmentId(outboxJournal, "second"));
+		}
+		try (OutboxJournal outboxJournal = this.open()) {
+			List<String> keyList = keys(outboxJournal);
+			Assertions.assertFalse(keyList.contains("first"));
+			Assertions.assertEquals("second", keyList.get(0));
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">The writes moved to the dead-letter file were removed from the journal and kept after reopening</h4>
+	 * <h4 class="zh-CN">移入死信文件的写入从日志中移除，并在重新打开后保留</h4>
+	 *
+	 * @throws Exception <span class="en-US">If the journal could not be written</span>
+	 *                   <span class="zh-CN">如果日志无法写入</span>
+	 */
+	@Test
+	public void deadLetter() throws Exception {
+		try (OutboxJournal outboxJournal = this.open()) {
+			outboxJournal.accept(entry("key-1"));
+			outboxJournal.accept(entry("key-2"));
+			outboxJournal.accept(entry("key-3"));
+			outboxJournal.deadLetter(List.of("key-1", "missing"));
+			Assertions.assertEquals(List.of("key-2", "key-3"), keys(outboxJournal));
+			Assertions.assertEquals(List.of(entry("key-1")), outboxJournal.deadLetters());
+		}
+		//  Append a torn record to the dead-letter file, it was truncated before the next write
+		Files.write(this.tempDir.resolve("dead-letter.journal"), new byte[]{0, 0, 1, 0, 7},
+				StandardOpenOption.APPEND);
+		try (OutboxJournal outboxJournal = this.open()) {
+			Assertions.assertEquals(List.of("key-2", "key-3"), keys(outboxJournal));
+			outboxJournal.deadLetter(List.of("key-3"));
+			Assertions.assertEquals(List.of(entry("key-1"), entry("key-3")), outboxJournal.deadLetters());
+		}
+		try (OutboxJournal outboxJournal = this.open()) {
+			Assertions.assertEquals(List.of("key-2"), keys(outboxJournal));
+			Assertions.assertEquals(List.of(entry("key-1"), entry("key-3")), outboxJournal.deadLetters());
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">The write contains the class not allowed by the serialization filter was rejected when accepting</h4>
+	 * <h4 class="zh-CN">包含序列化过滤器不允许的类的写入在接受时被拒绝</h4>
+	 *
+	 * @throws Exception <span class="en-US">If the journal could not be written</span>
+	 *                   <span class="zh-CN">如果日志无法写入</span>
+	 */
+	@Test
+	public void filterRejected() throws Exception {
+		try (OutboxJournal outboxJournal = this.open()) {
+			outboxJournal.accept(entry("key-1"));
+			Assertions.assertThrows(SQLException.class, () -> outboxJournal.accept(unsupported("key-2")));
+			Assertions.assertEquals(List.of("key-1"), keys(outboxJournal));
+		}
+		try (OutboxJournal outboxJournal = this.open()) {
+			Assertions.assertEquals(List.of("key-1"), keys(outboxJournal));
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">The replayed record rejected by the serialization filter was moved to the dead-letter file, the later records were still replayed</h4>
+	 * <h4 class="zh-CN">重放时被序列化过滤器拒绝的记录被移入死信文件，之后的记录仍然被重放</h4>
+	 *
+	 * @throws Exception <span class="en-US">If the journal could not be written</span>
+	 *                   <span class="zh-CN">如果日志无法写入</span>
+	 */
+	@Test
+	public void replayRejected() throws Exception {
+		try (OutboxJournal outboxJournal = this.open()) {
+			outboxJournal.accept(entry("key-1"));
+		}
+		//  Written by an older version without the check when accepting, followed by the later records
+		Path segmentPath = this.segments().get(0);
+		ByteBuffer byteBuffer = ByteBuffer.wrap(Files.readAllBytes(segmentPath));
+		int position = HEADER_LENGTH + byteBuffer.getInt(0);
+		for (OutboxEntry outboxEntry : List.of(unsupported("key-2"), entry("key-3"), entry("key-4"))) {
+			byte[] payload = payload(outboxEntry);
+			CRC32 crc32 = new CRC32();
+			crc32.update(payload);
+			byteBuffer.putInt(position, payload.length)
+					.putInt(position + Integer.BYTES, (int) crc32.getValue())
+					.put(position + HEADER_LENGTH, payload);
+			position += HEADER_LENGTH + payload.length;
+		}
+		Files.write(segmentPath, byteBuffer.array());
+
+		try (OutboxJournal outboxJournal = this.open()) {
+			Assertions.assertEquals(List.of("key-1", "key-3", "key-4"), keys(outboxJournal));
+			Assertions.assertTrue(Files.size(this.tempDir.resolve("dead-letter.journal")) > 0);
+			Assertions.assertEquals(0, outboxJournal.deadLetters().size());
+			outboxJournal.applied(List.of("key-3"));
+			outboxJournal.deadLetter(List.of("key-1"));
+		}
+		try (OutboxJournal outboxJournal = this.open()) {
+			Assertions.assertEquals(List.of("key-4"), keys(outboxJournal));
+			Assertions.assertEquals(List.of("key-1"), outboxJournal.deadLetters()
+					.stream()
+					.map(OutboxEntry::idempotencyKey)
+					.toList());
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">The write exceeds the segment size or written after closed was rejected</h4>
+	 * <h4 class="zh-CN">超过分段大小或关闭后的写入被拒绝</h4>
+	 *
+	 * @throws Exception <span class="en-US">If the journal could not be opened</span>
+	 *                   <span class="zh-CN">如果日志无法打开</span>
+	 */
+	@Test
+	public void rejected() throws Exception {
+		OutboxJournal outboxJournal = this.open();
+		HashMap<String, Serializable> dataMap = new HashMap<>();
+		dataMap.put("value", "x".repeat(SEGMENT_SIZE));
+		Assertions.assertThrows(SQLException.class, () -> outboxJournal.accept(
+				new OutboxEntry("key-1", OutboxType.INSERT, "schema", "table", dataMap, new HashMap<>())));
+		outboxJournal.close();
+		Assertions.assertThrows(SQLException.class, () -> outboxJournal.accept(entry("key-2")));
+		Assertions.assertEquals(0, outboxJournal.size());
+	}
+
+	/**
+	 * <h4 class="en-US">Open the outbox journal in the temporary directory</h4>
+	 * <h4 class="zh-CN">在临时目录中打开发件箱日志</h4>
+	 *
+	 * @return <span class="en-US">Outbox journal instance</span>
+	 * <span class="zh-CN">发件箱日志实例</span>
+	 * @throws IOException <span class="en-US">If the journal could not be opened</span>
+	 *                     <span class="zh-CN">如果日志无法打开</span>
+	 */
+	private OutboxJournal open() throws IOException {
+		return new OutboxJournal(this.tempDir.toString(), SEGMENT_SIZE);
+	}
+
+	/**
+	 * <h4 class="en-US">List the segment files in the temporary directory</h4>
+	 * <h4 class="zh-CN">列出临时目录中的分段文件</h4>
+	 *
+	 * @return <span class="en-US">Sorted segment file path list</span>
+	 * <span class="zh-CN">排序后的分段文件路径列表</span>
+	 * @throws IOException <span class="en-US">If the directory could not be listed</span>
+	 *                     <span class="zh-CN">如果目录无法列出</span>
+	 */
+	private List<Path> segments() throws IOException {
+		try (Stream<Path> stream = Files.list(this.tempDir)) {
+			return stream.filter(path -> path.getFileName().toString().startsWith("outbox-"))
+					.sorted()
+					.toList();
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Read the identify of segment contains the given pending write</h4>
+	 * <h4 class="zh-CN">读取包含给定待处理写入的分段标识</h4>
+	 *
+	 * @param outboxJournal  <span class="en-US">Outbox journal instance</span>
+	 *                       <span class="zh-CN">发件箱日志实例</span>
+	 * @param idempotencyKey <span class="en-US">Idempotency key</span>
+	 *                       <span class="zh-CN">幂等键</span>
+	 * @return <span class="en-US">Segment identify, the first segment if the write was not pending</span>
+	 * <span class="zh-CN">分段标识，写入不在待处理中时为第一个分段</span>
+	 */
+	private long segmentId(final OutboxJournal outboxJournal, final String idempotencyKey) {
+		return outboxJournal.pending(1, outboxEntry -> outboxEntry.idempotencyKey().equals(idempotencyKey))
+				.stream()
+				.mapToLong(OutboxJournal.PendingRecord::segmentId)
+				.findFirst()
+				.orElse(0L);
+	}
+
+	/**
+	 * <h4 class="en-US">Read the idempotency keys of pending writes in the accepted order</h4>
+	 * <h4 class="zh-CN">按接受顺序读取待处理写入的幂等键</h4>
+	 *
+	 * @param outboxJournal <span class="en-US">Outbox journal instance</span>
+	 *                      <span class="zh-CN">发件箱日志实例</span>
+	 * @return <span class="en-US">Idempotency key list</span>
+	 * <span class="zh-CN">幂等键列表</span>
+	 */
+	private static List<String> keys(final OutboxJournal outboxJournal) {
+		return outboxJournal.pending(Integer.MAX_VALUE, outboxEntry -> Boolean.TRUE)
+				.stream()
+				.map(pendingRecord -> pendingRecord.outboxEntry().idempotencyKey())
+				.toList();
+	}
+
+	/**
+	 * <h4 class="en-US">Generate the insert operation of given idempotency key</h4>
+	 * <h4 class="zh-CN">生成给定幂等键的插入操作</h4>
+	 *
+	 * @param idempotencyKey <span class="en-US">Idempotency key</span>
+	 *                       <span class="zh-CN">幂等键</span>
+	 * @return <span class="en-US">Write-behind operation</span>
+	 * <span class="zh-CN">后写操作</span>
+	 */
+	private static OutboxEntry entry(final String idempotencyKey) {
+		HashMap<String, Serializable> dataMap = new HashMap<>();
+		dataMap.put("identify", idempotencyKey);
+		dataMap.put("amount", 1024L);
+		return new OutboxEntry(idempotencyKey, OutboxType.INSERT, "schema", "table", dataMap, new HashMap<>());
+	}
+
+	/**
+	 * <h4 class="en-US">Generate the insert operation contains the column value type not allowed by the serialization filter</h4>
+	 * <h4 class="zh-CN">生成包含序列化过滤器不允许的数据列值类型的插入操作</h4>
+	 *
+	 * @param idempotencyKey <span class="en-US">Idempotency key</span>
+	 *                       <span class="zh-CN">幂等键</span>
+	 * @return <span class="en-US">Write-behind operation</span>
+	 * <span class="zh-CN">后写操作</span>
+	 */
+	private static OutboxEntry unsupported(final String idempotencyKey) {
+		HashMap<String, Serializable> dataMap = new HashMap<>();
+		dataMap.put("value", new ArrayList<>(List.of("rejected")));
+		return new OutboxEntry(idempotencyKey, OutboxType.INSERT, "schema", "table", dataMap, new HashMap<>());
+	}
+
+	/**
+	 * <h4 class="en-US">Serialize the write-behind operation to the payload of accepted record</h4>
+	 * <h4 class="zh-CN">将后写操作序列化为接受记录的载荷</h4>
+	 *
+	 * @param outboxEntry <span class="en-US">Write-behind operation</span>
+	 *                    <span class="zh-CN">后写操作</span>
+	 * @return <span class="en-US">Payload bytes, the first byte is the record type</span>
+	 * <span class="zh-CN">载荷字节数组，第一个字节为记录类型</span>
+	 * @throws IOException <span class="en-US">If the write-behind operation could not be serialized</span>
+	 *                     <span class="zh-CN">如果后写操作无法序列化</span>
+	 */
+	private static byte[] payload(final OutboxEntry outboxEntry) throws IOException {
+		ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		byteArrayOutputStream.write(1);
+		try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+			objectOutputStream.writeObject(outboxEntry);
+		}
+		return byteArrayOutputStream.toByteArray();
+	}
+}
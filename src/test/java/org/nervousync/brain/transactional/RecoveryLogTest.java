@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.brain.transactional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.*;
+
+/**
+ * <h2 class="en-US">Test cases of coordinated transactional recovery log</h2>
+ * <h2 class="zh-CN">协调事务恢复日志的测试用例</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 19, 2026 22:41:06 $
+ */
+public final class RecoveryLogTest {
+
+	/**
+	 * <span class="en-US">Mapped size of log file</span>
+	 * <span class="zh-CN">日志文件的映射大小</span>
+	 */
+	private static final int LOG_SIZE = 4096;
+	/**
+	 * <span class="en-US">Record header length, includes payload length and checksum</span>
+	 * <span class="zh-CN">记录头长度，包含载荷长度和校验值</span>
+	 */
+	private static final int HEADER_LENGTH = Integer.BYTES * 2;
+
+	/**
+	 * <span class="en-US">Temporary log directory</span>
+	 * <span class="zh-CN">临时日志目录</span>
+	 */
+	@TempDir
+	Path tempDir;
+
+	/**
+	 * <h4 class="en-US">The unfinished transactional were replayed as in-doubt with their commit decision</h4>
+	 * <h4 class="zh-CN">未完成的事务作为未决事务连同提交决定一起重放</h4>
+	 *
+	 * @throws Exception <span class="en-US">If the log could not be written</span>
+	 *                   <span class="zh-CN">如果日志无法写入</span>
+	 */
+	@Test
+	public void replayInDoubt() throws Exception {
+		try (RecoveryLog recoveryLog = this.open()) {
+			recoveryLog.begin(1L, participants("first", "second"), Boolean.FALSE);
+			recoveryLog.commit(1L);
+			recoveryLog.begin(2L, participants("first"), Boolean.FALSE);
+			recoveryLog.begin(3L, participants("second"), Boolean.FALSE);
+			recoveryLog.commit(3L);
+			recoveryLog.end(3L);
+			//  The transactional of current session were not in-doubt
+			Assertions.assertTrue(recoveryLog.inDoubt("first").isEmpty());
+		}
+		try (RecoveryLog recoveryLog = this.open()) {
+			Assertions.assertEquals(Map.of(1L, Boolean.TRUE, 2L, Boolean.FALSE), recoveryLog.inDoubt("first"));
+			Assertions.assertEquals(Map.of(1L, Boolean.TRUE), recoveryLog.inDoubt("second"));
+			recoveryLog.begin(4L, participants("first"), Boolean.FALSE);
+			Assertions.assertFalse(recoveryLog.inDoubt("first").containsKey(4L));
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">The transactional was finished when all participants were recovered</h4>
+	 * <h4 class="zh-CN">所有参与者恢复后事务完成</h4>
+	 *
+	 * @throws Exception <span class="en-US">If the log could not be written</span>
+	 *                   <span class="zh-CN">如果日志无法写入</span>
+	 */
+	@Test
+	public void recovered() throws Exception {
+		try (RecoveryLog recoveryLog = this.open()) {
+			recoveryLog.begin(1L, participants("first", "second"), Boolean.FALSE);
+			recoveryLog.commit(1L);
+		}
+		try (RecoveryLog recoveryLog = this.open()) {
+			recoveryLog.recovered(1L, "first");
+			Assertions.assertEquals(Map.of(1L, Boolean.TRUE), recoveryLog.inDoubt("second"));
+			recoveryLog.recovered(1L, "second");
+			Assertions.assertTrue(recoveryLog.inDoubt("second").isEmpty());
+		}
+		try (RecoveryLog recoveryLog = this.open()) {
+			Assertions.assertTrue(recoveryLog.inDoubt("first").isEmpty());
+			Assertions.assertTrue(recoveryLog.inDoubt("second").isEmpty());
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">The branch names of each participant were replayed and compacted in the logged order</h4>
+	 * <h4 class="zh-CN">各参与者的分支名称按记录顺序重放和压缩</h4>
+	 *
+	 * @throws Exception <span class="en-US">If the log could not be written</span>
+	 *                   <span class="zh-CN">如果日志无法写入</span>
+	 */
+	@Test
+	public void branchNames() throws Exception {
+		Map<String, List<String>> participantBranches = new LinkedHashMap<>();
+		participantBranches.put("first", List.of("9:localhost", "9:localhostshard_1"));
+		participantBranches.put("second", List.of());
+		try (RecoveryLog recoveryLog = this.open()) {
+			recoveryLog.begin(1L, participantBranches, Boolean.FALSE);
+			Assertions.assertEquals(participantBranches.get("first"), recoveryLog.branchNames(1L, "first"));
+		}
+		//  Open twice, the second open replays the compacted records
+		for (int i = 0; i < 2; i++) {
+			try (RecoveryLog recoveryLog = this.open()) {
+				Assertions.assertEquals(Map.of(1L, Boolean.FALSE), recoveryLog.inDoubt("second"));
+				Assertions.assertEquals(participantBranches.get("first"), recoveryLog.branchNames(1L, "first"));
+				Assertions.assertEquals(List.of(), recoveryLog.branchNames(1L, "second"));
+				Assertions.assertEquals(List.of(), recoveryLog.branchNames(2L, "first"));
+			}
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">The outcome of last resource transactional without commit decision was unknown</h4>
+	 * <h4 class="zh-CN">没有提交决定的最后资源事务结果未知</h4>
+	 *
+	 * @throws Exception <span class="en-US">If the log could not be written</span>
+	 *                   <span class="zh-CN">如果日志无法写入</span>
+	 */
+	@Test
+	public void lastResource() throws Exception {
+		try (RecoveryLog recoveryLog = this.open()) {
+			recoveryLog.begin(1L, participants("resource"), Boolean.TRUE);
+			recoveryLog.begin(2L, participants("resource"), Boolean.TRUE);
+			recoveryLog.commit(2L);
+			recoveryLog.begin(3L, participants("resource"), Boolean.FALSE);
+		}
+		try (RecoveryLog recoveryLog = this.open()) {
+			Map<Long, Boolean> inDoubtMap = recoveryLog.inDoubt("resource");
+			Assertions.assertEquals(List.of(1L, 2L, 3L), new ArrayList<>(inDoubtMap.keySet()));
+			Assertions.assertNull(inDoubtMap.get(1L));
+			Assertions.assertEquals(Boolean.TRUE, inDoubtMap.get(2L));
+			Assertions.assertEquals(Boolean.FALSE, inDoubtMap.get(3L));
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">The record failed the checksum at the tail was dropped</h4>
+	 * <h4 class="zh-CN">尾部校验失败的记录被丢弃</h4>
+	 *
+	 * @throws Exception <span class="en-US">If the log could not be written</span>
+	 *                   <span class="zh-CN">如果日志无法写入</span>
+	 */
+	@Test
+	public void tornTail() throws Exception {
+		try (RecoveryLog recoveryLog = this.open()) {
+			recoveryLog.begin(1L, participants("first"), Boolean.FALSE);
+			recoveryLog.begin(2L, participants("first"), Boolean.FALSE);
+		}
+		Path logPath = this.logPath();
+		ByteBuffer byteBuffer = ByteBuffer.wrap(Files.readAllBytes(logPath));
+		int position = HEADER_LENGTH + byteBuffer.getInt(0);
+		//  Flip the checksum of the second record, as if the write was torn
+		byteBuffer.putInt(position + Integer.BYTES, ~byteBuffer.getInt(position + Integer.BYTES));
+		Files.write(logPath, byteBuffer.array());
+
+		try (RecoveryLog recoveryLog = this.open()) {
+			Assertions.assertEquals(Map.of(1L, Boolean.FALSE), recoveryLog.inDoubt("first"));
+			recoveryLog.begin(3L, participants("first"), Boolean.FALSE);
+		}
+		try (RecoveryLog recoveryLog = this.open()) {
+			Assertions.assertEquals(List.of(1L, 3L), new ArrayList<>(recoveryLog.inDoubt("first").keySet()));
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">The finished records were compacted when full, the log was full when the active records fill it</h4>
+	 * <h4 class="zh-CN">写满时压缩已完成的记录，活动记录填满日志时日志已满</h4>
+	 *
+	 * @throws Exception <span class="en-US">If the log could not be opened</span>
+	 *                   <span class="zh-CN">如果日志无法打开</span>
+	 */
+	@Test
+	public void compact() throws Exception {
+		try (RecoveryLog recoveryLog = new RecoveryLog(this.logPath().toString(), 256)) {
+			for (long transactionalCode = 1L; transactionalCode <= 1024L; transactionalCode++) {
+				recoveryLog.begin(transactionalCode, participants("first"), Boolean.FALSE);
+				recoveryLog.commit(transactionalCode);
+				recoveryLog.end(transactionalCode);
+			}
+			Assertions.assertThrows(SQLException.class, () -> {
+				for (long transactionalCode = 1L; transactionalCode <= 1024L; transactionalCode++) {
+					recoveryLog.begin(transactionalCode, participants("first"), Boolean.FALSE);
+				}
+			});
+		}
+		Assertions.assertFalse(Files.exists(Path.of(this.logPath() + ".compact")));
+	}
+
+	/**
+	 * <h4 class="en-US">The log opened by others can not be opened again until it was closed</h4>
+	 * <h4 class="zh-CN">已被其他程序打开的日志在关闭前不能再次打开</h4>
+	 *
+	 * @throws Exception <span class="en-US">If the log could not be opened</span>
+	 *                   <span class="zh-CN">如果日志无法打开</span>
+	 */
+	@Test
+	public void exclusiveLock() throws Exception {
+		try (RecoveryLog recoveryLog = this.open()) {
+			recoveryLog.begin(1L, participants("first"), Boolean.FALSE);
+			Assertions.assertThrows(SQLException.class, this::open);
+		}
+		try (RecoveryLog recoveryLog = this.open()) {
+			Assertions.assertEquals(Map.of(1L, Boolean.FALSE), recoveryLog.inDoubt("first"));
+		}
+	}
+
+	/**
+	 * <h4 class="en-US">Open the recovery log in the temporary directory</h4>
+	 * <h4 class="zh-CN">在临时目录中打开恢复日志</h4>
+	 *
+	 * @return <span class="en-US">Recovery log instance</span>
+	 * <span class="zh-CN">恢复日志实例</span>
+	 * @throws IOException  <span class="en-US">If the log could not be opened</span>
+	 *                      <span class="zh-CN">如果日志无法打开</span>
+	 * @throws SQLException <span class="en-US">If the log was locked by others</span>
+	 *                      <span class="zh-CN">如果日志已被其他程序锁定</span>
+	 */
+	private RecoveryLog open() throws IOException, SQLException {
+		return new RecoveryLog(this.logPath().toString(), LOG_SIZE);
+	}
+
+	/**
+	 * <h4 class="en-US">Generate the participant branches mapping of given participants, each has one branch</h4>
+	 * <h4 class="zh-CN">生成给定参与者的参与者分支映射表，每个参与者包含一个分支</h4>
+	 *
+	 * @param participantNames <span class="en-US">Participant names</span>
+	 *                         <span class="zh-CN">参与者名称</span>
+	 * @return <span class="en-US">Participant branches mapping</span>
+	 * <span class="zh-CN">参与者分支映射表</span>
+	 */
+	private static Map<String, List<String>> participants(final String... participantNames) {
+		Map<String, List<String>> participantBranches = new LinkedHashMap<>();
+		for (String participantName : participantNames) {
+			participantBranches.put(participantName, List.of(participantName + "-branch"));
+		}
+		return participantBranches;
+	}
+
+	/**
+	 * <h4 class="en-US">Generate the log file path in the temporary directory</h4>
+	 * <h4 class="zh-CN">生成临时目录中的日志文件路径</h4>
+	 *
+	 * @return <span class="en-US">Log file path</span>
+	 * <span class="zh-CN">日志文件路径</span>
+	 */
+	private Path logPath() {
+		return this.tempDir.resolve("recovery.log");
+	}
+}